@@ -0,0 +1,313 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.agent.builder.AgentBuilder;
+import net.bytebuddy.benchmark.specimen.ClassFileCorpus;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.instrumentation.MethodDelegation;
+import net.bytebuddy.instrumentation.method.MethodDescription;
+import net.bytebuddy.instrumentation.method.bytecode.bind.annotation.RuntimeType;
+import net.bytebuddy.instrumentation.method.bytecode.bind.annotation.SuperCall;
+import net.bytebuddy.instrumentation.type.TypeDescription;
+import net.bytebuddy.matcher.ElementMatcher;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.lang.instrument.ClassFileTransformer;
+import java.lang.instrument.IllegalClassFormatException;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.security.ProtectionDomain;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import static net.bytebuddy.matcher.ElementMatchers.*;
+
+/**
+ * <p>
+ * This benchmark measures the throughput of a {@link java.lang.instrument.ClassFileTransformer} that is created by an
+ * {@link net.bytebuddy.agent.builder.AgentBuilder.Default}. Each benchmark invocation transforms a single type of a
+ * {@link net.bytebuddy.benchmark.specimen.ClassFileCorpus} such that the measured throughput and, when running with
+ * the JMH's garbage collection profiler, the measured allocation rate relate to a single type. The benchmark
+ * measures:
+ * </p>
+ * <ol>
+ * <li>A transformer which ignores all types but which needs to describe each type for matching it.</li>
+ * <li>A transformer which ignores all types by a pre-filter on their names such that no type is described.</li>
+ * <li>A transformer which rebases all concrete types of the corpus by delegating to a static method.</li>
+ * <li>A transformer which rebases all concrete types of the corpus by delegating to a static method which invokes
+ * the original method such that auxiliary types are injected into the instrumented type's class loader.</li>
+ * </ol>
+ * <p>
+ * Types of the {@code java.*} packages are never rebased as their auxiliary types could not be injected. All types
+ * of the corpus must be visible to the system class loader. Self-initialization of the instrumented types is disabled.
+ * </p>
+ * <p>
+ * Note that this class defines all values that are accessed by benchmark methods as instance fields. This way, the JIT
+ * compiler's capability of constant folding is limited in order to produce more comparable test results.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AgentBuilderTransformationBenchmark {
+
+    /**
+     * Represents a class that is loaded for the first time and not redefined.
+     */
+    private static final Class<?> NOT_REDEFINED = null;
+
+    /**
+     * Represents the absence of a protection domain.
+     */
+    private static final ProtectionDomain NO_PROTECTION_DOMAIN = null;
+
+    /**
+     * The internal names of all types of the corpus.
+     */
+    private String[] internalNames;
+
+    /**
+     * The binary representations of all types of the corpus.
+     */
+    private byte[][] binaryRepresentations;
+
+    /**
+     * The class loader that is presented as the defining class loader of the transformed types.
+     */
+    private ClassLoader classLoader;
+
+    /**
+     * A transformer that ignores all types after describing them.
+     */
+    private ClassFileTransformer ignoringTransformer;
+
+    /**
+     * A transformer that ignores all types by a name pre-filter.
+     */
+    private ClassFileTransformer prefilteringTransformer;
+
+    /**
+     * A transformer that rebases all concrete types by a method delegation.
+     */
+    private ClassFileTransformer delegatingTransformer;
+
+    /**
+     * A transformer that rebases all concrete types by a method delegation which requires auxiliary types.
+     */
+    private ClassFileTransformer auxiliaryTransformer;
+
+    /**
+     * The index of the next type to transform.
+     */
+    private int index;
+
+    /**
+     * Reads the class file corpus.
+     *
+     * @throws IOException If the class file corpus cannot be read.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        ClassFileCorpus classFileCorpus = ClassFileCorpus.ofDefault();
+        List<String> typeNames = classFileCorpus.getTypeNames();
+        internalNames = new String[typeNames.size()];
+        for (int index = 0; index < internalNames.length; index++) {
+            internalNames[index] = typeNames.get(index).replace('.', '/');
+        }
+        binaryRepresentations = classFileCorpus.getBinaryRepresentations().toArray(new byte[internalNames.length][]);
+    }
+
+    /**
+     * Creates a new class loader and new transformers for each iteration such that the injected auxiliary types and the
+     * cached type descriptions of a previous iteration can be garbage collected.
+     */
+    @Setup(Level.Iteration)
+    public void setUpIteration() {
+        classLoader = new URLClassLoader(new URL[0], ClassLoader.getSystemClassLoader());
+        ignoringTransformer = new AgentBuilder.Default()
+                .disableSelfInitialization()
+                .rebase(none()).transform(new DelegatingTransformer(DelegationInterceptor.class))
+                .makeRaw();
+        prefilteringTransformer = new AgentBuilder.Default()
+                .disableSelfInitialization()
+                .rebase(new AgentBuilder.RawMatcher.ForNameAndClassLoader(none(), any()))
+                .transform(new DelegatingTransformer(DelegationInterceptor.class))
+                .makeRaw();
+        delegatingTransformer = new AgentBuilder.Default()
+                .disableSelfInitialization()
+                .rebase(ConcreteTypeMatcher.INSTANCE).transform(new DelegatingTransformer(DelegationInterceptor.class))
+                .makeRaw();
+        auxiliaryTransformer = new AgentBuilder.Default()
+                .disableSelfInitialization()
+                .rebase(ConcreteTypeMatcher.INSTANCE).transform(new DelegatingTransformer(SuperCallInterceptor.class))
+                .makeRaw();
+    }
+
+    /**
+     * Applies a class file transformer to the next type of the corpus.
+     *
+     * @param classFileTransformer The class file transformer to apply.
+     * @return The transformed class file or {@code null} if the type was not transformed.
+     * @throws IllegalClassFormatException If the transformer throws this exception.
+     */
+    private byte[] transformNext(ClassFileTransformer classFileTransformer) throws IllegalClassFormatException {
+        if (index == internalNames.length) {
+            index = 0;
+        }
+        byte[] transformed = classFileTransformer.transform(classLoader,
+                internalNames[index],
+                NOT_REDEFINED,
+                NO_PROTECTION_DOMAIN,
+                binaryRepresentations[index]);
+        index++;
+        return transformed;
+    }
+
+    /**
+     * Performs a benchmark of a transformer that describes and ignores each type.
+     *
+     * @param blackHole A black hole for avoiding JIT erasure.
+     * @throws IllegalClassFormatException If the transformer throws this exception.
+     */
+    @Benchmark
+    public void benchmarkIgnored(Blackhole blackHole) throws IllegalClassFormatException {
+        blackHole.consume(transformNext(ignoringTransformer));
+    }
+
+    /**
+     * Performs a benchmark of a transformer that ignores each type by a pre-filter.
+     *
+     * @param blackHole A black hole for avoiding JIT erasure.
+     * @throws IllegalClassFormatException If the transformer throws this exception.
+     */
+    @Benchmark
+    public void benchmarkPrefiltered(Blackhole blackHole) throws IllegalClassFormatException {
+        blackHole.consume(transformNext(prefilteringTransformer));
+    }
+
+    /**
+     * Performs a benchmark of a transformer that rebases each concrete type by a method delegation.
+     *
+     * @param blackHole A black hole for avoiding JIT erasure.
+     * @throws IllegalClassFormatException If the transformer throws this exception.
+     */
+    @Benchmark
+    public void benchmarkDelegation(Blackhole blackHole) throws IllegalClassFormatException {
+        blackHole.consume(transformNext(delegatingTransformer));
+    }
+
+    /**
+     * Performs a benchmark of a transformer that rebases each concrete type by a method delegation which requires
+     * the injection of auxiliary types.
+     *
+     * @param blackHole A black hole for avoiding JIT erasure.
+     * @throws IllegalClassFormatException If the transformer throws this exception.
+     */
+    @Benchmark
+    public void benchmarkAuxiliaryTypes(Blackhole blackHole) throws IllegalClassFormatException {
+        blackHole.consume(transformNext(auxiliaryTransformer));
+    }
+
+    /**
+     * A raw matcher that matches any concrete class outside of the {@code java.*} packages.
+     */
+    protected enum ConcreteTypeMatcher implements AgentBuilder.RawMatcher {
+
+        /**
+         * The singleton instance.
+         */
+        INSTANCE;
+
+        /**
+         * The prefix of packages into which no auxiliary types can be injected.
+         */
+        private static final String PROHIBITED_PACKAGE = "java.";
+
+        @Override
+        public boolean matches(TypeDescription typeDescription,
+                               ClassLoader classLoader,
+                               Class<?> classBeingRedefined,
+                               ProtectionDomain protectionDomain) {
+            return !typeDescription.isInterface()
+                    && !Modifier.isAbstract(typeDescription.getModifiers())
+                    && !typeDescription.getName().startsWith(PROHIBITED_PACKAGE);
+        }
+    }
+
+    /**
+     * A transformer that delegates all non-native methods that are declared by an instrumented type to an interceptor.
+     */
+    protected static class DelegatingTransformer implements AgentBuilder.Transformer {
+
+        /**
+         * The interceptor type to delegate to.
+         */
+        private final Class<?> interceptor;
+
+        /**
+         * Creates a new delegating transformer.
+         *
+         * @param interceptor The interceptor type to delegate to.
+         */
+        protected DelegatingTransformer(Class<?> interceptor) {
+            this.interceptor = interceptor;
+        }
+
+        @Override
+        public DynamicType.Builder<?> transform(DynamicType.Builder<?> builder, TypeDescription typeDescription) {
+            ElementMatcher.Junction<MethodDescription> declaredMethod = isDeclaredBy(typeDescription);
+            return builder.method(declaredMethod.and(not(isNative()))).intercept(MethodDelegation.to(interceptor));
+        }
+    }
+
+    /**
+     * An interceptor that does not invoke the intercepted method.
+     */
+    public static class DelegationInterceptor {
+
+        /**
+         * The interceptor's constructor is not supposed to be invoked.
+         */
+        private DelegationInterceptor() {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Intercepts a method without invoking it.
+         *
+         * @return A {@code null} value.
+         */
+        @RuntimeType
+        public static Object intercept() {
+            return null;
+        }
+    }
+
+    /**
+     * An interceptor that invokes the intercepted method by an auxiliary type.
+     */
+    public static class SuperCallInterceptor {
+
+        /**
+         * The interceptor's constructor is not supposed to be invoked.
+         */
+        private SuperCallInterceptor() {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Call the intercepted method.
+         *
+         * @param zuper A proxy for invoking the intercepted method.
+         * @return The return value of the intercepted method.
+         * @throws Exception As declared by {@link java.util.concurrent.Callable}'s contract.
+         */
+        @RuntimeType
+        public static Object intercept(@SuperCall Callable<?> zuper) throws Exception {
+            return zuper.call();
+        }
+    }
+}
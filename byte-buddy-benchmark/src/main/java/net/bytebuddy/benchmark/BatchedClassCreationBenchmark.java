@@ -0,0 +1,139 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.benchmark.specimen.ExampleClass;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.DynamicTypeBatch;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.instrumentation.SuperMethodCall;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static net.bytebuddy.matcher.ElementMatchers.isDeclaredBy;
+
+/**
+ * <p>
+ * This benchmark creates a number of subclasses of {@link ExampleClass} which override all methods to invoke the
+ * direct super class's implementation. The benchmark compares making and loading each type one after another to
+ * making all types concurrently by a {@link net.bytebuddy.dynamic.DynamicTypeBatch} that loads all types by a single
+ * application of a class loading strategy. The batch is executed by a thread pool of the size of the available
+ * processors.
+ * </p>
+ * <p>
+ * Note that this class defines all values that are accessed by benchmark methods as instance fields. This way, the JIT
+ * compiler's capability of constant folding is limited in order to produce more comparable test results.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BatchedClassCreationBenchmark {
+
+    /**
+     * The number of types that are created by each benchmark.
+     */
+    public static final int TYPE_COUNT = 100;
+
+    /**
+     * The base class to be subclassed in all benchmarks.
+     */
+    private Class<? extends ExampleClass> baseClass = ExampleClass.class;
+
+    /**
+     * The number of types that are created by each benchmark.
+     */
+    private int typeCount = TYPE_COUNT;
+
+    /**
+     * The zero-length of the class loader's URL.
+     */
+    private int urlLength = 0;
+
+    /**
+     * The executor service that runs the batched type creation.
+     */
+    private ExecutorService executorService;
+
+    /**
+     * The batch for the batched type creation.
+     */
+    private DynamicTypeBatch dynamicTypeBatch;
+
+    /**
+     * Creates the thread pool of this benchmark.
+     */
+    @Setup
+    public void setUp() {
+        executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        dynamicTypeBatch = new DynamicTypeBatch(executorService);
+    }
+
+    /**
+     * Shuts down the thread pool of this benchmark.
+     */
+    @TearDown
+    public void tearDown() {
+        executorService.shutdown();
+    }
+
+    /**
+     * Creates a new class loader. By using a fresh class loader for each creation, we avoid name space issues.
+     * A class loader's creation is part of the benchmark but since any test creates a class loader exactly once,
+     * the benchmark remains valid.
+     *
+     * @return A new class loader.
+     */
+    private ClassLoader newClassLoader() {
+        return new URLClassLoader(new URL[urlLength]);
+    }
+
+    /**
+     * Creates the builders of all types that are created by a benchmark.
+     *
+     * @return A list of builders.
+     */
+    private List<DynamicType.Builder<?>> builders() {
+        List<DynamicType.Builder<?>> builders = new ArrayList<DynamicType.Builder<?>>(typeCount);
+        for (int index = 0; index < typeCount; index++) {
+            builders.add(new ByteBuddy()
+                    .subclass(baseClass)
+                    .method(isDeclaredBy(baseClass)).intercept(SuperMethodCall.INSTANCE));
+        }
+        return builders;
+    }
+
+    /**
+     * Performs a benchmark of making and loading a number of types one after another.
+     *
+     * @return The created types, in order to avoid JIT removal.
+     */
+    @Benchmark
+    public List<Class<?>> benchmarkSequential() {
+        ClassLoader classLoader = newClassLoader();
+        List<Class<?>> types = new ArrayList<Class<?>>(typeCount);
+        for (DynamicType.Builder<?> builder : builders()) {
+            types.add(builder.make().load(classLoader, ClassLoadingStrategy.Default.INJECTION).getLoaded());
+        }
+        return types;
+    }
+
+    /**
+     * Performs a benchmark of making a number of types concurrently and loading them at once.
+     *
+     * @return The created types, in order to avoid JIT removal.
+     */
+    @Benchmark
+    public Collection<Class<?>> benchmarkBatched() {
+        return dynamicTypeBatch.load(dynamicTypeBatch.make(builders()),
+                newClassLoader(),
+                ClassLoadingStrategy.Default.INJECTION).values();
+    }
+}
@@ -0,0 +1,96 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.instrumentation.StubMethod;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import static net.bytebuddy.matcher.ElementMatchers.*;
+
+/**
+ * <p>
+ * This benchmark measures the creation of a class that implements a large interface where each method name of the
+ * interface is intercepted by a separate rule. The created class implements {@link java.sql.ResultSet} which declares
+ * about two hundred methods. The benchmark measures:
+ * </p>
+ * <ol>
+ * <li>Rules that match methods by their exact name such that the rules that apply to a method can be looked up by
+ * the method's name.</li>
+ * <li>Rules that match methods by their name while ignoring its case such that each rule is applied to each method.</li>
+ * </ol>
+ * <p>
+ * Note that this class defines all values that are accessed by benchmark methods as instance fields. This way, the JIT
+ * compiler's capability of constant folding is limited in order to produce more comparable test results.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ClassByRulesBenchmark {
+
+    /**
+     * The interface to be implemented in all benchmarks.
+     */
+    public static final Class<?> BASE_TYPE = ResultSet.class;
+
+    /**
+     * The interface to be implemented in all benchmarks. This reference is held in an instance field in order to
+     * avoid constant folding.
+     */
+    private Class<?> baseType;
+
+    /**
+     * The names of all methods that are declared by the implemented interface.
+     */
+    private List<String> methodNames;
+
+    /**
+     * Locates the names of all methods of the implemented interface.
+     */
+    @Setup
+    public void setUp() {
+        baseType = BASE_TYPE;
+        Set<String> methodNames = new TreeSet<String>();
+        for (Method method : baseType.getDeclaredMethods()) {
+            methodNames.add(method.getName());
+        }
+        this.methodNames = new ArrayList<String>(methodNames);
+    }
+
+    /**
+     * Performs a benchmark of a class creation with a rule for each method name where each rule matches a name exactly.
+     *
+     * @return The binary representation of the created class, in order to avoid JIT removal.
+     */
+    @Benchmark
+    public byte[] benchmarkIndexedRules() {
+        DynamicType.Builder<?> builder = new ByteBuddy().subclass(baseType);
+        for (String methodName : methodNames) {
+            builder = builder.method(named(methodName)).intercept(StubMethod.INSTANCE);
+        }
+        return builder.make().getBytes();
+    }
+
+    /**
+     * Performs a benchmark of a class creation with a rule for each method name where each rule matches a name while
+     * ignoring its case.
+     *
+     * @return The binary representation of the created class, in order to avoid JIT removal.
+     */
+    @Benchmark
+    public byte[] benchmarkUnindexedRules() {
+        DynamicType.Builder<?> builder = new ByteBuddy().subclass(baseType);
+        for (String methodName : methodNames) {
+            builder = builder.method(namedIgnoreCase(methodName)).intercept(StubMethod.INSTANCE);
+        }
+        return builder.make().getBytes();
+    }
+}
@@ -0,0 +1,82 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.benchmark.specimen.ExampleClass;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.instrumentation.SuperMethodCall;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static net.bytebuddy.matcher.ElementMatchers.any;
+import static net.bytebuddy.matcher.ElementMatchers.isDeclaredBy;
+import static net.bytebuddy.matcher.ElementMatchers.none;
+
+/**
+ * <p>
+ * A benchmark for making dynamic types without loading them. It is meant to be run with JMH's garbage collection
+ * profiler ({@code -prof gc}) for measuring the allocation that Byte Buddy causes when creating a class file, for
+ * example by computing names, descriptors and hash codes of the described types and methods. The benchmark makes:
+ * </p>
+ * <ol>
+ * <li>A subclass of {@link Object} that does not override any methods.</li>
+ * <li>A subclass of {@link net.bytebuddy.benchmark.specimen.ExampleClass} that overrides all of its methods for
+ * invoking their super methods.</li>
+ * </ol>
+ * <p>
+ * Note that this class defines all values that are accessed by benchmark methods as instance fields. This way, the JIT
+ * compiler's capability of constant folding is limited in order to produce more comparable test results.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ClassCreationAllocationBenchmark {
+
+    /**
+     * The base class of the trivial subclass.
+     */
+    public static final Class<?> TRIVIAL_BASE_CLASS = Object.class;
+
+    /**
+     * The base class of the subclass that overrides all of its methods.
+     */
+    public static final Class<? extends ExampleClass> BASE_CLASS = ExampleClass.class;
+
+    /**
+     * The base class of the trivial subclass.
+     */
+    private Class<?> trivialBaseClass = TRIVIAL_BASE_CLASS;
+
+    /**
+     * The base class of the subclass that overrides all of its methods.
+     */
+    private Class<? extends ExampleClass> baseClass = BASE_CLASS;
+
+    /**
+     * Performs a benchmark for making a subclass that does not override any methods.
+     *
+     * @return The unloaded dynamic type, in order to avoid JIT removal.
+     */
+    @Benchmark
+    public DynamicType.Unloaded<?> benchmarkTrivialSubclass() {
+        return new ByteBuddy()
+                .withIgnoredMethods(any())
+                .subclass(trivialBaseClass)
+                .make();
+    }
+
+    /**
+     * Performs a benchmark for making a subclass that overrides all methods of its super class.
+     *
+     * @return The unloaded dynamic type, in order to avoid JIT removal.
+     */
+    @Benchmark
+    public DynamicType.Unloaded<? extends ExampleClass> benchmarkOverridingSubclass() {
+        return new ByteBuddy()
+                .withIgnoredMethods(none())
+                .subclass(baseClass)
+                .method(isDeclaredBy(ExampleClass.class)).intercept(SuperMethodCall.INSTANCE)
+                .make();
+    }
+}
@@ -0,0 +1,146 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.dynamic.loading.ClassInjector;
+import net.bytebuddy.instrumentation.type.TypeDescription;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>
+ * This benchmark measures the injection of a batch of types into a class loader by a
+ * {@link net.bytebuddy.dynamic.loading.ClassInjector.UsingReflection} for each of its
+ * {@link net.bytebuddy.dynamic.loading.ClassInjector.UsingReflection.Synchronization}s. The benchmark is run by
+ * several threads concurrently where each thread injects its own batch of types. A batch consists of a number of
+ * types which resembles a generated type together with its auxiliary types. The benchmark measures:
+ * </p>
+ * <ol>
+ * <li>The injection of a batch into a class loader that is shared by all threads. Apart from the first invocation,
+ * the types of a batch are already loaded such that this benchmark measures the contention on the class loader's
+ * locks and the cost of looking up previously loaded types.</li>
+ * <li>The injection of a batch into a new class loader such that all types of a batch are defined by each
+ * invocation.</li>
+ * </ol>
+ * <p>
+ * Both class loaders are {@link java.net.URLClassLoader}s that are registered as parallel capable on a Java 7 virtual
+ * machine or any later version.
+ * </p>
+ * <p>
+ * Note that this class defines all values that are accessed by benchmark methods as instance fields. This way, the JIT
+ * compiler's capability of constant folding is limited in order to produce more comparable test results.
+ * </p>
+ */
+@State(Scope.Thread)
+@Threads(4)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ClassInjectionBenchmark {
+
+    /**
+     * The number of types of a batch.
+     */
+    private static final int BATCH_SIZE = 5;
+
+    /**
+     * The prefix of the names of the injected types.
+     */
+    private static final String PREFIX = "net.bytebuddy.benchmark.generated.Injected";
+
+    /**
+     * A counter for creating a unique batch for each benchmark thread.
+     */
+    private static final AtomicInteger BATCH_INDEX = new AtomicInteger();
+
+    /**
+     * The name of the synchronization to use as defined by
+     * {@link net.bytebuddy.dynamic.loading.ClassInjector.UsingReflection.Synchronization}.
+     */
+    @Param({"CLASS_LOADER", "CLASS_LOADING_LOCK"})
+    public String synchronization;
+
+    /**
+     * The synchronization to apply by the class injectors.
+     */
+    private ClassInjector.UsingReflection.Synchronization resolvedSynchronization;
+
+    /**
+     * A class injector for the class loader that is shared by all threads.
+     */
+    private ClassInjector sharedClassInjector;
+
+    /**
+     * The batch of types of this benchmark thread.
+     */
+    private Map<TypeDescription, byte[]> types;
+
+    /**
+     * Creates the batch of types of this benchmark thread.
+     *
+     * @param sharedClassLoader The class loader that is shared by all threads.
+     */
+    @Setup
+    public void setUp(SharedClassLoader sharedClassLoader) {
+        resolvedSynchronization = ClassInjector.UsingReflection.Synchronization.valueOf(synchronization);
+        sharedClassInjector = new ClassInjector.UsingReflection(sharedClassLoader.classLoader,
+                ClassInjector.DEFAULT_PROTECTION_DOMAIN,
+                resolvedSynchronization);
+        types = new HashMap<TypeDescription, byte[]>(BATCH_SIZE);
+        int batchIndex = BATCH_INDEX.getAndIncrement();
+        for (int index = 0; index < BATCH_SIZE; index++) {
+            types.putAll(new ByteBuddy()
+                    .subclass(Object.class)
+                    .name(PREFIX + batchIndex + "$" + index)
+                    .make()
+                    .getAllTypes());
+        }
+    }
+
+    /**
+     * Performs a benchmark of injecting a batch into a class loader that is shared by all threads.
+     *
+     * @param blackHole A black hole for avoiding JIT erasure.
+     */
+    @Benchmark
+    public void benchmarkSharedClassLoader(Blackhole blackHole) {
+        blackHole.consume(sharedClassInjector.inject(types));
+    }
+
+    /**
+     * Performs a benchmark of injecting a batch into a new class loader.
+     *
+     * @param blackHole A black hole for avoiding JIT erasure.
+     */
+    @Benchmark
+    public void benchmarkNewClassLoader(Blackhole blackHole) {
+        blackHole.consume(new ClassInjector.UsingReflection(new URLClassLoader(new URL[0], null),
+                ClassInjector.DEFAULT_PROTECTION_DOMAIN,
+                resolvedSynchronization).inject(types));
+    }
+
+    /**
+     * A state that holds a class loader that is shared by all benchmark threads.
+     */
+    @State(Scope.Benchmark)
+    public static class SharedClassLoader {
+
+        /**
+         * The class loader that is shared by all benchmark threads.
+         */
+        private ClassLoader classLoader;
+
+        /**
+         * Creates the shared class loader.
+         */
+        @Setup
+        public void setUp() {
+            classLoader = new URLClassLoader(new URL[0], null);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.instrumentation.type.TypeDescription;
+import net.bytebuddy.matcher.ElementMatcher;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static net.bytebuddy.matcher.ElementMatchers.compile;
+import static net.bytebuddy.matcher.ElementMatchers.nameStartsWith;
+
+/**
+ * <p>
+ * This benchmark measures the matching of type names against a large disjunction of package prefixes as it is
+ * typically used for excluding packages from an instrumentation. The benchmark measures:
+ * </p>
+ * <ol>
+ * <li>A disjunction of name matchers that applies one prefix after another.</li>
+ * <li>The same disjunction after it was compiled by {@link net.bytebuddy.matcher.ElementMatchers#compile(ElementMatcher)}
+ * such that all prefixes are matched in a single pass.</li>
+ * </ol>
+ * <p>
+ * Note that this class defines all values that are accessed by benchmark methods as instance fields. This way, the JIT
+ * compiler's capability of constant folding is limited in order to produce more comparable test results.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NameMatcherCompilationBenchmark {
+
+    /**
+     * The number of package prefixes that are matched.
+     */
+    public static final int PREFIX_COUNT = 200;
+
+    /**
+     * The types that are matched against the package prefixes.
+     */
+    private TypeDescription[] typeDescriptions;
+
+    /**
+     * A disjunction of name matchers for all package prefixes.
+     */
+    private ElementMatcher<? super TypeDescription> chainedMatcher;
+
+    /**
+     * A compiled disjunction of name matchers for all package prefixes.
+     */
+    private ElementMatcher<? super TypeDescription> compiledMatcher;
+
+    /**
+     * Creates the matched types and the matchers of this benchmark. The last prefix matches the package of this
+     * benchmark such that one type is only matched by the last matcher of the disjunction.
+     */
+    @Setup
+    public void setUp() {
+        typeDescriptions = new TypeDescription[]{
+                new TypeDescription.ForLoadedType(Object.class),
+                new TypeDescription.ForLoadedType(TimeUnit.class),
+                new TypeDescription.ForLoadedType(NameMatcherCompilationBenchmark.class)
+        };
+        ElementMatcher.Junction<TypeDescription> chainedMatcher = nameStartsWith("net.bytebuddy.benchmark.");
+        for (int index = 1; index < PREFIX_COUNT; index++) {
+            chainedMatcher = nameStartsWith("com.example.package" + index + ".").or(chainedMatcher);
+        }
+        this.chainedMatcher = chainedMatcher;
+        compiledMatcher = compile(chainedMatcher);
+    }
+
+    /**
+     * Performs a benchmark of matching all types against a disjunction of name matchers.
+     *
+     * @return The number of matched types, in order to avoid JIT removal.
+     */
+    @Benchmark
+    public int benchmarkChained() {
+        int matches = 0;
+        for (TypeDescription typeDescription : typeDescriptions) {
+            if (chainedMatcher.matches(typeDescription)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Performs a benchmark of matching all types against a compiled disjunction of name matchers.
+     *
+     * @return The number of matched types, in order to avoid JIT removal.
+     */
+    @Benchmark
+    public int benchmarkCompiled() {
+        int matches = 0;
+        for (TypeDescription typeDescription : typeDescriptions) {
+            if (compiledMatcher.matches(typeDescription)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,174 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.benchmark.specimen.ClassFileCorpus;
+import net.bytebuddy.utility.StreamDrainer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * This benchmark measures the time that is required for draining a class file from an {@link java.io.InputStream} by
+ * a {@link net.bytebuddy.utility.StreamDrainer}. Each benchmark invocation drains a single class file of a
+ * {@link net.bytebuddy.benchmark.specimen.ClassFileCorpus}. The benchmark compares:
+ * </p>
+ * <ol>
+ * <li>Draining a stream into linked chunks of a fixed size which are copied into a single array afterwards.</li>
+ * <li>Draining a stream of a known size.</li>
+ * <li>Draining a stream that reports its remaining size as the number of available bytes.</li>
+ * <li>Draining a stream that does not report its remaining size.</li>
+ * </ol>
+ * <p>
+ * Note that this class defines all values that are accessed by benchmark methods as instance fields. This way, the JIT
+ * compiler's capability of constant folding is limited in order to produce more comparable test results.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StreamDrainerBenchmark {
+
+    /**
+     * The size of the chunks for draining a stream into linked chunks.
+     */
+    private static final int CHUNK_SIZE = StreamDrainer.DEFAULT_BUFFER_SIZE;
+
+    /**
+     * The binary representations of all types of the corpus.
+     */
+    private List<byte[]> binaryRepresentations;
+
+    /**
+     * The stream drainer to benchmark.
+     */
+    private StreamDrainer streamDrainer;
+
+    /**
+     * The index of the next class file to drain.
+     */
+    private int index;
+
+    /**
+     * Reads the class file corpus.
+     *
+     * @throws IOException If the class file corpus cannot be read.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        binaryRepresentations = ClassFileCorpus.ofDefault().getBinaryRepresentations();
+        streamDrainer = new StreamDrainer();
+    }
+
+    /**
+     * Returns the next class file to drain.
+     *
+     * @return The next class file to drain.
+     */
+    private byte[] nextBinaryRepresentation() {
+        if (index == binaryRepresentations.size()) {
+            index = 0;
+        }
+        return binaryRepresentations.get(index++);
+    }
+
+    /**
+     * Drains an input stream into linked chunks of a fixed size which are copied into a single array afterwards.
+     *
+     * @param inputStream The input stream to drain.
+     * @return A byte array containing the content of the input stream.
+     * @throws IOException If the stream reading causes an error.
+     */
+    private static byte[] drainChunked(InputStream inputStream) throws IOException {
+        List<byte[]> previousBytes = new LinkedList<byte[]>();
+        byte[] currentArray = new byte[CHUNK_SIZE];
+        int currentIndex = 0;
+        int currentRead;
+        do {
+            currentRead = inputStream.read(currentArray, currentIndex, CHUNK_SIZE - currentIndex);
+            currentIndex += currentRead > 0 ? currentRead : 0;
+            if (currentIndex == CHUNK_SIZE) {
+                previousBytes.add(currentArray);
+                currentArray = new byte[CHUNK_SIZE];
+                currentIndex = 0;
+            }
+        } while (currentRead != -1);
+        byte[] result = new byte[previousBytes.size() * CHUNK_SIZE + currentIndex];
+        int arrayIndex = 0;
+        for (byte[] previousByte : previousBytes) {
+            System.arraycopy(previousByte, 0, result, arrayIndex++ * CHUNK_SIZE, CHUNK_SIZE);
+        }
+        System.arraycopy(currentArray, 0, result, arrayIndex * CHUNK_SIZE, currentIndex);
+        return result;
+    }
+
+    /**
+     * Performs a benchmark of draining a stream into linked chunks.
+     *
+     * @param blackHole A black hole for avoiding JIT erasure.
+     * @throws IOException If the stream reading causes an error.
+     */
+    @Benchmark
+    public void benchmarkChunked(Blackhole blackHole) throws IOException {
+        blackHole.consume(drainChunked(new ByteArrayInputStream(nextBinaryRepresentation())));
+    }
+
+    /**
+     * Performs a benchmark of draining a stream of a known size.
+     *
+     * @param blackHole A black hole for avoiding JIT erasure.
+     * @throws IOException If the stream reading causes an error.
+     */
+    @Benchmark
+    public void benchmarkKnownSize(Blackhole blackHole) throws IOException {
+        byte[] binaryRepresentation = nextBinaryRepresentation();
+        blackHole.consume(streamDrainer.drain(new ByteArrayInputStream(binaryRepresentation), binaryRepresentation.length));
+    }
+
+    /**
+     * Performs a benchmark of draining a stream that reports its remaining size.
+     *
+     * @param blackHole A black hole for avoiding JIT erasure.
+     * @throws IOException If the stream reading causes an error.
+     */
+    @Benchmark
+    public void benchmarkAvailableSize(Blackhole blackHole) throws IOException {
+        blackHole.consume(streamDrainer.drain(new ByteArrayInputStream(nextBinaryRepresentation())));
+    }
+
+    /**
+     * Performs a benchmark of draining a stream that does not report its remaining size.
+     *
+     * @param blackHole A black hole for avoiding JIT erasure.
+     * @throws IOException If the stream reading causes an error.
+     */
+    @Benchmark
+    public void benchmarkUnknownSize(Blackhole blackHole) throws IOException {
+        blackHole.consume(streamDrainer.drain(new UnknownSizeInputStream(nextBinaryRepresentation())));
+    }
+
+    /**
+     * An input stream that does not report the number of its available bytes.
+     */
+    protected static class UnknownSizeInputStream extends ByteArrayInputStream {
+
+        /**
+         * Creates a new input stream of unknown size.
+         *
+         * @param binaryRepresentation The content of the input stream.
+         */
+        protected UnknownSizeInputStream(byte[] binaryRepresentation) {
+            super(binaryRepresentation);
+        }
+
+        @Override
+        public synchronized int available() {
+            return 0;
+        }
+    }
+}
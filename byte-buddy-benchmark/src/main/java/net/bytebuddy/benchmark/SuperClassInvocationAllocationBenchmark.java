@@ -0,0 +1,203 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.instrumentation.MethodDelegation;
+import net.bytebuddy.instrumentation.SuperMethodCall;
+import net.bytebuddy.instrumentation.method.bytecode.bind.annotation.Pipe;
+import net.bytebuddy.instrumentation.method.bytecode.bind.annotation.RuntimeType;
+import net.bytebuddy.instrumentation.method.bytecode.bind.annotation.SuperCall;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import static net.bytebuddy.matcher.ElementMatchers.isDeclaredBy;
+
+/**
+ * <p>
+ * This benchmark is a variant of the {@link net.bytebuddy.benchmark.SuperClassInvocationBenchmark} that intercepts a
+ * method without parameters. It is meant to be run with JMH's garbage collection profiler ({@code -prof gc}) for
+ * measuring the allocation rate of an intercepted invocation in addition to its duration. The benchmark measures the
+ * invocation of:
+ * </p>
+ * <ol>
+ * <li>A method that is delegated to an interceptor that binds a {@link net.bytebuddy.instrumentation.method.bytecode.bind.annotation.SuperCall}
+ * proxy. This proxy references the intercepted instance such that a new proxy is created for each invocation.</li>
+ * <li>A method that is delegated to an interceptor that binds a {@link net.bytebuddy.instrumentation.method.bytecode.bind.annotation.Pipe}
+ * proxy. As the intercepted method does not take any arguments, this proxy does not capture any values such that a
+ * single proxy instance is shared for all invocations.</li>
+ * <li>A method that invokes its super method directly without any interception as a baseline.</li>
+ * </ol>
+ * <p>
+ * Note that this class defines all values that are accessed by benchmark methods as instance fields. This way, the JIT
+ * compiler's capability of constant folding is limited in order to produce more comparable test results.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SuperClassInvocationAllocationBenchmark {
+
+    /**
+     * An instance that delegates to an interceptor using a super call proxy.
+     */
+    private Specimen byteBuddySuperCallInstance;
+
+    /**
+     * An instance that delegates to an interceptor using a pipe proxy.
+     */
+    private Specimen byteBuddyPipeInstance;
+
+    /**
+     * An instance that invokes its super method directly.
+     */
+    private Specimen byteBuddySpecializedInstance;
+
+    /**
+     * Creates the instrumented instances of this benchmark.
+     *
+     * @throws Exception If an instance cannot be created.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        byteBuddySuperCallInstance = new ByteBuddy()
+                .subclass(Specimen.class)
+                .method(isDeclaredBy(Specimen.class)).intercept(MethodDelegation.to(SuperCallInterceptor.class))
+                .make()
+                .load(getClass().getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded()
+                .newInstance();
+        byteBuddyPipeInstance = new ByteBuddy()
+                .subclass(Specimen.class)
+                .method(isDeclaredBy(Specimen.class)).intercept(MethodDelegation.to(new PipeInterceptor(new Specimen()))
+                        .defineParameterBinder(Pipe.Binder.install(Forwarding.class)))
+                .make()
+                .load(getClass().getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded()
+                .newInstance();
+        byteBuddySpecializedInstance = new ByteBuddy()
+                .subclass(Specimen.class)
+                .method(isDeclaredBy(Specimen.class)).intercept(SuperMethodCall.INSTANCE)
+                .make()
+                .load(getClass().getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded()
+                .newInstance();
+    }
+
+    /**
+     * Performs a benchmark of an intercepted method that binds a super call proxy.
+     *
+     * @param blackHole A black hole for avoiding JIT erasure.
+     */
+    @Benchmark
+    public void benchmarkByteBuddySuperCall(Blackhole blackHole) {
+        blackHole.consume(byteBuddySuperCallInstance.method());
+    }
+
+    /**
+     * Performs a benchmark of an intercepted method that binds a pipe proxy.
+     *
+     * @param blackHole A black hole for avoiding JIT erasure.
+     */
+    @Benchmark
+    public void benchmarkByteBuddyPipe(Blackhole blackHole) {
+        blackHole.consume(byteBuddyPipeInstance.method());
+    }
+
+    /**
+     * Performs a benchmark of a method that invokes its super method directly.
+     *
+     * @param blackHole A black hole for avoiding JIT erasure.
+     */
+    @Benchmark
+    public void benchmarkByteBuddySpecialized(Blackhole blackHole) {
+        blackHole.consume(byteBuddySpecializedInstance.method());
+    }
+
+    /**
+     * A class with a method without parameters that is intercepted by this benchmark.
+     */
+    public static class Specimen {
+
+        /**
+         * A method without parameters.
+         *
+         * @return A constant value.
+         */
+        public Object method() {
+            return null;
+        }
+    }
+
+    /**
+     * A forwarding type for the {@link net.bytebuddy.instrumentation.method.bytecode.bind.annotation.Pipe} annotation.
+     */
+    public interface Forwarding {
+
+        /**
+         * Forwards the intercepted invocation to the given target.
+         *
+         * @param target The target of the forwarded invocation.
+         * @return The return value of the forwarded invocation.
+         */
+        Object forward(Object target);
+    }
+
+    /**
+     * An interceptor that invokes the super method by a super call proxy.
+     */
+    public static class SuperCallInterceptor {
+
+        /**
+         * The interceptor's constructor is not supposed to be invoked.
+         */
+        private SuperCallInterceptor() {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Calls the super method.
+         *
+         * @param zuper A proxy for invoking the super method.
+         * @return The return value of the super method invocation.
+         * @throws Exception As declared by {@link java.util.concurrent.Callable}'s contract.
+         */
+        @RuntimeType
+        public static Object intercept(@SuperCall Callable<?> zuper) throws Exception {
+            return zuper.call();
+        }
+    }
+
+    /**
+     * An interceptor that forwards an invocation to a delegate by a pipe proxy.
+     */
+    public static class PipeInterceptor {
+
+        /**
+         * The delegate to forward invocations to.
+         */
+        private final Specimen delegate;
+
+        /**
+         * Creates a new pipe interceptor.
+         *
+         * @param delegate The delegate to forward invocations to.
+         */
+        public PipeInterceptor(Specimen delegate) {
+            this.delegate = delegate;
+        }
+
+        /**
+         * Forwards an invocation to the delegate.
+         *
+         * @param pipe A proxy for forwarding the invocation.
+         * @return The return value of the forwarded invocation.
+         */
+        @RuntimeType
+        public Object intercept(@Pipe Forwarding pipe) {
+            return pipe.forward(delegate);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.benchmark.specimen.ClassFileCorpus;
+import net.bytebuddy.pool.TypePool;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * This benchmark measures the time that is required for parsing a class file into a
+ * {@link net.bytebuddy.instrumentation.type.TypeDescription} by a {@link net.bytebuddy.pool.TypePool.Default} for each
+ * of its {@link net.bytebuddy.pool.TypePool.Default.ReaderMode}s. Each benchmark invocation parses a single type of a
+ * {@link net.bytebuddy.benchmark.specimen.ClassFileCorpus} such that the measured time and, when running with the
+ * JMH's garbage collection profiler, the measured allocation rate relate to a single type.
+ * </p>
+ * <p>
+ * Note that this class defines all values that are accessed by benchmark methods as instance fields. This way, the JIT
+ * compiler's capability of constant folding is limited in order to produce more comparable test results.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TypePoolReaderModeBenchmark {
+
+    /**
+     * The names of all types of the corpus.
+     */
+    private List<String> typeNames;
+
+    /**
+     * A type pool that parses class files in the extended reader mode without caching.
+     */
+    private TypePool extendedTypePool;
+
+    /**
+     * A type pool that parses class files in the fast reader mode without caching.
+     */
+    private TypePool fastTypePool;
+
+    /**
+     * The index of the next type to parse.
+     */
+    private int index;
+
+    /**
+     * Reads the class file corpus and creates the type pools to benchmark.
+     *
+     * @throws IOException If the class file corpus cannot be read.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        ClassFileCorpus classFileCorpus = ClassFileCorpus.ofDefault();
+        typeNames = classFileCorpus.getTypeNames();
+        extendedTypePool = new TypePool.Default(TypePool.CacheProvider.NoOp.INSTANCE,
+                classFileCorpus.toClassFileLocator(),
+                TypePool.Default.ReaderMode.EXTENDED);
+        fastTypePool = new TypePool.Default(TypePool.CacheProvider.NoOp.INSTANCE,
+                classFileCorpus.toClassFileLocator(),
+                TypePool.Default.ReaderMode.FAST);
+    }
+
+    /**
+     * Returns the name of the next type to parse.
+     *
+     * @return The name of the next type to parse.
+     */
+    private String nextTypeName() {
+        if (index == typeNames.size()) {
+            index = 0;
+        }
+        return typeNames.get(index++);
+    }
+
+    /**
+     * Performs a benchmark of parsing a class file in the extended reader mode.
+     *
+     * @param blackHole A black hole for avoiding JIT erasure.
+     */
+    @Benchmark
+    public void benchmarkExtended(Blackhole blackHole) {
+        blackHole.consume(extendedTypePool.describe(nextTypeName()).resolve());
+    }
+
+    /**
+     * Performs a benchmark of parsing a class file in the fast reader mode.
+     *
+     * @param blackHole A black hole for avoiding JIT erasure.
+     */
+    @Benchmark
+    public void benchmarkFast(Blackhole blackHole) {
+        blackHole.consume(fastTypePool.describe(nextTypeName()).resolve());
+    }
+}
@@ -0,0 +1,254 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.benchmark.specimen.ClassFileCorpus;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.instrumentation.attribute.annotation.AnnotationDescription;
+import net.bytebuddy.instrumentation.method.MethodDescription;
+import net.bytebuddy.instrumentation.type.TypeDescription;
+import net.bytebuddy.pool.TypePool;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * This benchmark measures the resolution of type descriptions by a {@link net.bytebuddy.pool.TypePool.Default} for
+ * each type of a {@link net.bytebuddy.benchmark.specimen.ClassFileCorpus} and for each
+ * {@link net.bytebuddy.pool.TypePool.CacheProvider}. Each benchmark invocation processes a single type such that
+ * the measured time and, when running with the JMH's garbage collection profiler, the measured allocation rate relate
+ * to a single type. The benchmark measures:
+ * </p>
+ * <ol>
+ * <li>The resolution of a type by a newly created type pool such that no type is cached.</li>
+ * <li>The resolution of a type by a type pool that is shared for the entire benchmark.</li>
+ * <li>The navigation of a type's super type, interfaces and declared methods by a shared type pool.</li>
+ * <li>The loading of a type's annotation by a shared type pool. Only types with an annotation that is visible to the
+ * system class loader are considered.</li>
+ * </ol>
+ * <p>
+ * Note that this class defines all values that are accessed by benchmark methods as instance fields. This way, the JIT
+ * compiler's capability of constant folding is limited in order to produce more comparable test results.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TypePoolResolutionBenchmark {
+
+    /**
+     * The name of the cache provider to use as defined by {@link TypePoolResolutionBenchmark.CacheProviderFactory}.
+     */
+    @Param({"NO_OP", "SIMPLE", "BOUNDED"})
+    public String cacheProvider;
+
+    /**
+     * The factory for the cache provider of each type pool.
+     */
+    private CacheProviderFactory cacheProviderFactory;
+
+    /**
+     * The class file locator for the types of the corpus.
+     */
+    private ClassFileLocator classFileLocator;
+
+    /**
+     * The names of all types of the corpus.
+     */
+    private List<String> typeNames;
+
+    /**
+     * The names of all types of the corpus that declare a loadable annotation.
+     */
+    private List<String> annotatedTypeNames;
+
+    /**
+     * The loadable annotation types of the types of {@link TypePoolResolutionBenchmark#annotatedTypeNames}.
+     */
+    private List<Class<? extends Annotation>> annotationTypes;
+
+    /**
+     * A type pool that is shared for the entire benchmark.
+     */
+    private TypePool typePool;
+
+    /**
+     * The index of the next type to process.
+     */
+    private int index;
+
+    /**
+     * The index of the next annotated type to process.
+     */
+    private int annotatedIndex;
+
+    /**
+     * Reads the class file corpus, creates the shared type pool and locates all types with a loadable annotation.
+     *
+     * @throws IOException If the class file corpus cannot be read.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        ClassFileCorpus classFileCorpus = ClassFileCorpus.ofDefault();
+        cacheProviderFactory = CacheProviderFactory.valueOf(cacheProvider);
+        classFileLocator = classFileCorpus.toClassFileLocator();
+        typeNames = classFileCorpus.getTypeNames();
+        typePool = new TypePool.Default(cacheProviderFactory.make(), classFileLocator);
+        annotatedTypeNames = new ArrayList<String>();
+        annotationTypes = new ArrayList<Class<? extends Annotation>>();
+        for (String typeName : typeNames) {
+            for (AnnotationDescription annotationDescription : typePool.describe(typeName).resolve().getDeclaredAnnotations()) {
+                Class<? extends Annotation> annotationType = load(annotationDescription.getAnnotationType());
+                if (annotationType != null) {
+                    annotatedTypeNames.add(typeName);
+                    annotationTypes.add(annotationType);
+                    break;
+                }
+            }
+        }
+        if (annotatedTypeNames.isEmpty()) {
+            throw new IllegalStateException("The class file corpus does not contain a type with a loadable annotation");
+        }
+    }
+
+    /**
+     * Attempts to load an annotation type by the system class loader.
+     *
+     * @param typeDescription The description of the annotation type.
+     * @return The loaded annotation type or {@code null} if the annotation type cannot be loaded.
+     */
+    private static Class<? extends Annotation> load(TypeDescription typeDescription) {
+        try {
+            Class<?> type = Class.forName(typeDescription.getName(), false, ClassLoader.getSystemClassLoader());
+            return type.isAnnotation()
+                    ? type.asSubclass(Annotation.class)
+                    : null;
+        } catch (ClassNotFoundException ignored) {
+            return null;
+        } catch (LinkageError ignored) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the name of the next type to process.
+     *
+     * @return The name of the next type to process.
+     */
+    private String nextTypeName() {
+        if (index == typeNames.size()) {
+            index = 0;
+        }
+        return typeNames.get(index++);
+    }
+
+    /**
+     * Performs a benchmark of resolving a type by a newly created type pool.
+     *
+     * @param blackHole A black hole for avoiding JIT erasure.
+     */
+    @Benchmark
+    public void benchmarkCold(Blackhole blackHole) {
+        blackHole.consume(new TypePool.Default(cacheProviderFactory.make(), classFileLocator).describe(nextTypeName()).resolve());
+    }
+
+    /**
+     * Performs a benchmark of resolving a type by a shared type pool.
+     *
+     * @param blackHole A black hole for avoiding JIT erasure.
+     */
+    @Benchmark
+    public void benchmarkWarm(Blackhole blackHole) {
+        blackHole.consume(typePool.describe(nextTypeName()).resolve());
+    }
+
+    /**
+     * Performs a benchmark of navigating a type that is resolved by a shared type pool.
+     *
+     * @param blackHole A black hole for avoiding JIT erasure.
+     */
+    @Benchmark
+    public void benchmarkNavigation(Blackhole blackHole) {
+        TypeDescription typeDescription = typePool.describe(nextTypeName()).resolve();
+        TypeDescription superType = typeDescription.getSupertype();
+        blackHole.consume(superType == null ? 0 : superType.getModifiers());
+        for (TypeDescription interfaceType : typeDescription.getInterfaces()) {
+            blackHole.consume(interfaceType.getModifiers());
+        }
+        for (MethodDescription methodDescription : typeDescription.getDeclaredMethods()) {
+            blackHole.consume(methodDescription.getReturnType());
+            blackHole.consume(methodDescription.getParameters().asTypeList());
+        }
+    }
+
+    /**
+     * Performs a benchmark of loading an annotation of a type that is resolved by a shared type pool.
+     *
+     * @param blackHole A black hole for avoiding JIT erasure.
+     */
+    @Benchmark
+    public void benchmarkAnnotationLoading(Blackhole blackHole) {
+        if (annotatedIndex == annotatedTypeNames.size()) {
+            annotatedIndex = 0;
+        }
+        Annotation annotation = typePool.describe(annotatedTypeNames.get(annotatedIndex))
+                .resolve()
+                .getDeclaredAnnotations()
+                .ofType(annotationTypes.get(annotatedIndex))
+                .loadSilent();
+        annotatedIndex++;
+        blackHole.consume(annotation.hashCode());
+    }
+
+    /**
+     * A factory for the cache providers that are benchmarked.
+     */
+    protected enum CacheProviderFactory {
+
+        /**
+         * Creates a {@link net.bytebuddy.pool.TypePool.CacheProvider.NoOp} cache provider.
+         */
+        NO_OP {
+            @Override
+            protected TypePool.CacheProvider make() {
+                return TypePool.CacheProvider.NoOp.INSTANCE;
+            }
+        },
+
+        /**
+         * Creates a {@link net.bytebuddy.pool.TypePool.CacheProvider.Simple} cache provider.
+         */
+        SIMPLE {
+            @Override
+            protected TypePool.CacheProvider make() {
+                return new TypePool.CacheProvider.Simple();
+            }
+        },
+
+        /**
+         * Creates a {@link net.bytebuddy.pool.TypePool.CacheProvider.Bounded} cache provider.
+         */
+        BOUNDED {
+            @Override
+            protected TypePool.CacheProvider make() {
+                return new TypePool.CacheProvider.Bounded(MAXIMUM_SIZE);
+            }
+        };
+
+        /**
+         * The maximum size of a bounded cache provider.
+         */
+        private static final int MAXIMUM_SIZE = 1024;
+
+        /**
+         * Creates a new cache provider.
+         *
+         * @return A new cache provider.
+         */
+        protected abstract TypePool.CacheProvider make();
+    }
+}
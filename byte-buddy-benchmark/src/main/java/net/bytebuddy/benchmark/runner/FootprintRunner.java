@@ -0,0 +1,85 @@
+package net.bytebuddy.benchmark.runner;
+
+import net.bytebuddy.benchmark.specimen.ClassFileCorpus;
+import net.bytebuddy.instrumentation.type.TypeDescription;
+import net.bytebuddy.pool.TypePool;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A runner for measuring the memory footprint of the type descriptions that are retained by a
+ * {@link net.bytebuddy.pool.TypePool.Default}. For each {@link net.bytebuddy.pool.TypePool.Default.ReaderMode}, all
+ * types of a {@link net.bytebuddy.benchmark.specimen.ClassFileCorpus} are resolved and retained before the number of
+ * heap bytes per resolved type is reported. As this measurement relies on the heap usage that is reported by the
+ * runtime after a garbage collection, the results are only an approximation and should be compared among runs on the
+ * same virtual machine.
+ */
+public class FootprintRunner {
+
+    /**
+     * The number of garbage collections to request before measuring the heap usage.
+     */
+    private static final int GARBAGE_COLLECTIONS = 5;
+
+    /**
+     * This class is not supposed to be constructed.
+     */
+    private FootprintRunner() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Executes the footprint measurement.
+     *
+     * @param args Unused arguments.
+     * @throws IOException If the class file corpus cannot be read.
+     */
+    public static void main(String[] args) throws IOException {
+        ClassFileCorpus classFileCorpus = ClassFileCorpus.ofDefault();
+        System.out.println("Measuring footprint of " + classFileCorpus);
+        for (TypePool.Default.ReaderMode readerMode : TypePool.Default.ReaderMode.values()) {
+            System.out.println(readerMode + ": " + measure(classFileCorpus, readerMode) + " bytes per resolved type");
+        }
+    }
+
+    /**
+     * Measures the number of heap bytes that are retained per type of a class file corpus when resolving all
+     * of its types by a caching type pool.
+     *
+     * @param classFileCorpus The class file corpus to resolve.
+     * @param readerMode      The reader mode to use for parsing the corpus's class files.
+     * @return The approximate number of retained heap bytes per resolved type.
+     */
+    public static long measure(ClassFileCorpus classFileCorpus, TypePool.Default.ReaderMode readerMode) {
+        List<TypeDescription> typeDescriptions = new ArrayList<TypeDescription>(classFileCorpus.size());
+        long before = usedMemory();
+        TypePool typePool = new TypePool.Default(new TypePool.CacheProvider.Simple(),
+                classFileCorpus.toClassFileLocator(),
+                readerMode);
+        for (String typeName : classFileCorpus.getTypeNames()) {
+            typeDescriptions.add(typePool.describe(typeName).resolve());
+        }
+        long after = usedMemory();
+        for (int index = 0; index < typeDescriptions.size(); index++) {
+            if (typePool.describe(classFileCorpus.getTypeNames().get(index)).resolve() != typeDescriptions.get(index)) {
+                throw new IllegalStateException("Type pool did not retain " + typeDescriptions.get(index));
+            }
+        }
+        return (after - before) / Math.max(1, typeDescriptions.size());
+    }
+
+    /**
+     * Returns the currently used heap memory after requesting several garbage collections.
+     *
+     * @return The currently used heap memory in bytes.
+     */
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int index = 0; index < GARBAGE_COLLECTIONS; index++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
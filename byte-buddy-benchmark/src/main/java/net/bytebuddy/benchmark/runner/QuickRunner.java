@@ -36,7 +36,12 @@ public class QuickRunner {
                 .include(WILDCARD + StubInvocationBenchmark.class.getSimpleName() + WILDCARD)
                 .include(WILDCARD + ClassByImplementationBenchmark.class.getSimpleName() + WILDCARD)
                 .include(WILDCARD + ClassByExtensionBenchmark.class.getSimpleName() + WILDCARD)
+                .include(WILDCARD + ClassByRulesBenchmark.class.getSimpleName() + WILDCARD)
                 .include(WILDCARD + TrivialClassCreationBenchmark.class.getSimpleName() + WILDCARD)
+                .include(WILDCARD + TypePoolReaderModeBenchmark.class.getSimpleName() + WILDCARD)
+                .include(WILDCARD + AgentBuilderTransformationBenchmark.class.getSimpleName() + WILDCARD)
+                .include(WILDCARD + TypePoolResolutionBenchmark.class.getSimpleName() + WILDCARD)
+                .include(WILDCARD + StreamDrainerBenchmark.class.getSimpleName() + WILDCARD)
                 .forks(0) // Should rather be 1 but there seems to be a bug in JMH.
                 .build()).run();
     }
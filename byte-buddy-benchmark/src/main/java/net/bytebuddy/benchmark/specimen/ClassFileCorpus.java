@@ -0,0 +1,274 @@
+package net.bytebuddy.benchmark.specimen;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.utility.StreamDrainer;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.util.*;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * <p>
+ * A corpus of class files that is read from a jar file or from a folder of class files. This corpus is used by
+ * benchmarks that process real class files such as those of a Java agent.
+ * </p>
+ * <p>
+ * The location of the corpus can be specified by the {@code net.bytebuddy.benchmark.corpus} system property. If this
+ * property is not set, the Java runtime's {@code rt.jar} is used if it exists. Otherwise, the class files of Byte
+ * Buddy itself are used as a corpus.
+ * </p>
+ */
+public class ClassFileCorpus {
+
+    /**
+     * The name of the system property for specifying the location of a class file corpus.
+     */
+    public static final String CORPUS_PROPERTY = "net.bytebuddy.benchmark.corpus";
+
+    /**
+     * The name of the system property that contains the Java runtime's home folder.
+     */
+    private static final String JAVA_HOME_PROPERTY = "java.home";
+
+    /**
+     * The location of the {@code rt.jar} relative to the Java runtime's home folder.
+     */
+    private static final String RUNTIME_JAR = "lib" + File.separatorChar + "rt.jar";
+
+    /**
+     * The file extension of a jar file.
+     */
+    private static final String JAR_FILE_EXTENSION = ".jar";
+
+    /**
+     * The suffix of class files that represent meta information of a package or a module which are excluded.
+     */
+    private static final String META_INFORMATION_SUFFIX = "-info" + ClassFileLocator.CLASS_FILE_EXTENSION;
+
+    /**
+     * The folder of a jar file that contains meta information which is excluded.
+     */
+    private static final String META_INFORMATION_FOLDER = "META-INF/";
+
+    /**
+     * The binary representations of all types of this corpus by their binary names in their iteration order.
+     */
+    private final Map<String, byte[]> binaryRepresentations;
+
+    /**
+     * Creates a new class file corpus.
+     *
+     * @param binaryRepresentations The binary representations of all types of this corpus by their binary names.
+     */
+    protected ClassFileCorpus(Map<String, byte[]> binaryRepresentations) {
+        this.binaryRepresentations = binaryRepresentations;
+    }
+
+    /**
+     * Creates the default class file corpus.
+     *
+     * @return The default class file corpus.
+     * @throws IOException If the corpus cannot be read.
+     */
+    public static ClassFileCorpus ofDefault() throws IOException {
+        String location = System.getProperty(CORPUS_PROPERTY);
+        if (location != null) {
+            return of(new File(location));
+        }
+        File runtimeJar = new File(System.getProperty(JAVA_HOME_PROPERTY), RUNTIME_JAR);
+        if (runtimeJar.isFile()) {
+            return of(runtimeJar);
+        }
+        try {
+            return of(new File(ByteBuddy.class.getProtectionDomain().getCodeSource().getLocation().toURI()));
+        } catch (URISyntaxException e) {
+            throw new IOException("Cannot locate Byte Buddy's class files", e);
+        }
+    }
+
+    /**
+     * Creates a class file corpus of a jar file or a folder of class files.
+     *
+     * @param file A jar file or a folder containing class files.
+     * @return A corpus of the class files that are contained by the given file.
+     * @throws IOException If the corpus cannot be read.
+     */
+    public static ClassFileCorpus of(File file) throws IOException {
+        Map<String, byte[]> binaryRepresentations = new LinkedHashMap<String, byte[]>();
+        if (file.isDirectory()) {
+            readFolder(file, "", binaryRepresentations);
+        } else if (file.isFile() && file.getName().endsWith(JAR_FILE_EXTENSION)) {
+            readJar(file, binaryRepresentations);
+        } else {
+            throw new IOException("Neither a folder nor a jar file: " + file);
+        }
+        return new ClassFileCorpus(binaryRepresentations);
+    }
+
+    /**
+     * Reads all class files of a jar file.
+     *
+     * @param file                  The jar file to read.
+     * @param binaryRepresentations The map to which the read class files are added.
+     * @throws IOException If the jar file cannot be read.
+     */
+    private static void readJar(File file, Map<String, byte[]> binaryRepresentations) throws IOException {
+        JarFile jarFile = new JarFile(file);
+        try {
+            Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                JarEntry jarEntry = entries.nextElement();
+                if (isClassFile(jarEntry.getName())) {
+                    InputStream inputStream = jarFile.getInputStream(jarEntry);
+                    try {
+                        binaryRepresentations.put(toTypeName(jarEntry.getName()), new StreamDrainer().drain(inputStream));
+                    } finally {
+                        inputStream.close();
+                    }
+                }
+            }
+        } finally {
+            jarFile.close();
+        }
+    }
+
+    /**
+     * Reads all class files of a folder and its sub folders.
+     *
+     * @param folder                The folder to read.
+     * @param prefix                The resource name prefix of the folder.
+     * @param binaryRepresentations The map to which the read class files are added.
+     * @throws IOException If the folder cannot be read.
+     */
+    private static void readFolder(File folder, String prefix, Map<String, byte[]> binaryRepresentations) throws IOException {
+        File[] files = folder.listFiles();
+        if (files == null) {
+            throw new IOException("Cannot list files of " + folder);
+        }
+        Arrays.sort(files);
+        for (File file : files) {
+            String name = prefix + file.getName();
+            if (file.isDirectory()) {
+                readFolder(file, name + "/", binaryRepresentations);
+            } else if (isClassFile(name)) {
+                InputStream inputStream = new FileInputStream(file);
+                try {
+                    binaryRepresentations.put(toTypeName(name), new StreamDrainer().drain(inputStream));
+                } finally {
+                    inputStream.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if a resource name represents a class file of a type.
+     *
+     * @param name The resource name.
+     * @return {@code true} if the resource represents a class file of a type.
+     */
+    private static boolean isClassFile(String name) {
+        return name.endsWith(ClassFileLocator.CLASS_FILE_EXTENSION)
+                && !name.endsWith(META_INFORMATION_SUFFIX)
+                && !name.startsWith(META_INFORMATION_FOLDER);
+    }
+
+    /**
+     * Converts a class file's resource name into a binary type name.
+     *
+     * @param name The resource name.
+     * @return The binary name of the represented type.
+     */
+    private static String toTypeName(String name) {
+        return name.substring(0, name.length() - ClassFileLocator.CLASS_FILE_EXTENSION.length()).replace('/', '.');
+    }
+
+    /**
+     * Returns the binary names of all types of this corpus.
+     *
+     * @return The binary names of all types of this corpus.
+     */
+    public List<String> getTypeNames() {
+        return new ArrayList<String>(binaryRepresentations.keySet());
+    }
+
+    /**
+     * Returns the binary representations of all types of this corpus.
+     *
+     * @return The binary representations of all types of this corpus.
+     */
+    public List<byte[]> getBinaryRepresentations() {
+        return new ArrayList<byte[]>(binaryRepresentations.values());
+    }
+
+    /**
+     * Returns the number of types in this corpus.
+     *
+     * @return The number of types in this corpus.
+     */
+    public int size() {
+        return binaryRepresentations.size();
+    }
+
+    /**
+     * Returns a class file locator that locates the class files of this corpus.
+     *
+     * @return A class file locator that locates the class files of this corpus.
+     */
+    public ClassFileLocator toClassFileLocator() {
+        return new ForCorpus(binaryRepresentations);
+    }
+
+    @Override
+    public String toString() {
+        return "ClassFileCorpus{size=" + binaryRepresentations.size() + '}';
+    }
+
+    /**
+     * A class file locator that locates the class files of a corpus.
+     */
+    protected static class ForCorpus implements ClassFileLocator {
+
+        /**
+         * The binary representations of all types of the corpus by their binary names.
+         */
+        private final Map<String, byte[]> binaryRepresentations;
+
+        /**
+         * The class file locator to query for types that are not contained by the corpus.
+         */
+        private final ClassFileLocator fallback;
+
+        /**
+         * Creates a new class file locator for a corpus.
+         *
+         * @param binaryRepresentations The binary representations of all types of the corpus by their binary names.
+         */
+        protected ForCorpus(Map<String, byte[]> binaryRepresentations) {
+            this.binaryRepresentations = binaryRepresentations;
+            fallback = ClassFileLocator.ForClassLoader.ofClassPath();
+        }
+
+        @Override
+        public Resolution locate(String typeName) throws IOException {
+            byte[] binaryRepresentation = binaryRepresentations.get(typeName);
+            return binaryRepresentation == null
+                    ? fallback.locate(typeName)
+                    : new Resolution.Explicit(binaryRepresentation);
+        }
+
+        @Override
+        public String toString() {
+            return "ClassFileCorpus.ForCorpus{" +
+                    "binaryRepresentations=<" + binaryRepresentations.size() + " types>" +
+                    ", fallback=" + fallback +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package net.bytebuddy.benchmark;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class AgentBuilderTransformationBenchmarkTest extends AbstractBlackHoleTest {
+
+    private AgentBuilderTransformationBenchmark agentBuilderTransformationBenchmark;
+
+    @Before
+    public void setUp() throws Exception {
+        agentBuilderTransformationBenchmark = new AgentBuilderTransformationBenchmark();
+        agentBuilderTransformationBenchmark.setUp();
+        agentBuilderTransformationBenchmark.setUpIteration();
+    }
+
+    @Test
+    public void testIgnoredBenchmark() throws Exception {
+        agentBuilderTransformationBenchmark.benchmarkIgnored(blackHole);
+    }
+
+    @Test
+    public void testPrefilteredBenchmark() throws Exception {
+        agentBuilderTransformationBenchmark.benchmarkPrefiltered(blackHole);
+    }
+
+    @Test
+    public void testDelegationBenchmark() throws Exception {
+        agentBuilderTransformationBenchmark.benchmarkDelegation(blackHole);
+    }
+
+    @Test
+    public void testAuxiliaryTypesBenchmark() throws Exception {
+        agentBuilderTransformationBenchmark.benchmarkAuxiliaryTypes(blackHole);
+    }
+}
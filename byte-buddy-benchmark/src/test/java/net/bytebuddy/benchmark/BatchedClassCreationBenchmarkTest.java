@@ -0,0 +1,46 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.benchmark.specimen.ExampleClass;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class BatchedClassCreationBenchmarkTest {
+
+    private BatchedClassCreationBenchmark batchedClassCreationBenchmark;
+
+    @Before
+    public void setUp() throws Exception {
+        batchedClassCreationBenchmark = new BatchedClassCreationBenchmark();
+        batchedClassCreationBenchmark.setUp();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        batchedClassCreationBenchmark.tearDown();
+    }
+
+    @Test
+    public void testSequentialClassCreation() throws Exception {
+        List<Class<?>> types = batchedClassCreationBenchmark.benchmarkSequential();
+        assertThat(types.size(), is(BatchedClassCreationBenchmark.TYPE_COUNT));
+        for (Class<?> type : types) {
+            assertThat(type.getSuperclass() == ExampleClass.class, is(true));
+        }
+    }
+
+    @Test
+    public void testBatchedClassCreation() throws Exception {
+        Collection<Class<?>> types = batchedClassCreationBenchmark.benchmarkBatched();
+        assertThat(types.size(), is(BatchedClassCreationBenchmark.TYPE_COUNT));
+        for (Class<?> type : types) {
+            assertThat(type.getSuperclass() == ExampleClass.class, is(true));
+        }
+    }
+}
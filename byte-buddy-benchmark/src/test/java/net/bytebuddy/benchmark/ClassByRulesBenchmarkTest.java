@@ -0,0 +1,35 @@
+package net.bytebuddy.benchmark;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ClassByRulesBenchmarkTest {
+
+    private ClassByRulesBenchmark classByRulesBenchmark;
+
+    @Before
+    public void setUp() throws Exception {
+        classByRulesBenchmark = new ClassByRulesBenchmark();
+        classByRulesBenchmark.setUp();
+    }
+
+    @Test
+    public void testIndexedRules() throws Exception {
+        assertThat(classByRulesBenchmark.benchmarkIndexedRules(), not(nullValue(byte[].class)));
+    }
+
+    @Test
+    public void testUnindexedRules() throws Exception {
+        assertThat(classByRulesBenchmark.benchmarkUnindexedRules(), not(nullValue(byte[].class)));
+    }
+
+    @Test
+    public void testRulesCreateEqualClasses() throws Exception {
+        assertThat(classByRulesBenchmark.benchmarkIndexedRules().length, is(classByRulesBenchmark.benchmarkUnindexedRules().length));
+    }
+}
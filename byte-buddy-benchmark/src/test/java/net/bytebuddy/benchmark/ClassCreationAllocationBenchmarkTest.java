@@ -0,0 +1,30 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.dynamic.DynamicType;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ClassCreationAllocationBenchmarkTest {
+
+    private ClassCreationAllocationBenchmark classCreationAllocationBenchmark;
+
+    @Before
+    public void setUp() throws Exception {
+        classCreationAllocationBenchmark = new ClassCreationAllocationBenchmark();
+    }
+
+    @Test
+    public void testTrivialSubclass() throws Exception {
+        DynamicType.Unloaded<?> dynamicType = classCreationAllocationBenchmark.benchmarkTrivialSubclass();
+        assertThat(dynamicType.getTypeDescription().getSupertype().represents(ClassCreationAllocationBenchmark.TRIVIAL_BASE_CLASS), is(true));
+    }
+
+    @Test
+    public void testOverridingSubclass() throws Exception {
+        DynamicType.Unloaded<?> dynamicType = classCreationAllocationBenchmark.benchmarkOverridingSubclass();
+        assertThat(dynamicType.getTypeDescription().getSupertype().represents(ClassCreationAllocationBenchmark.BASE_CLASS), is(true));
+    }
+}
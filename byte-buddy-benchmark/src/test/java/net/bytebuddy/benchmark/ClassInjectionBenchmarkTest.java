@@ -0,0 +1,47 @@
+package net.bytebuddy.benchmark;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+@RunWith(Parameterized.class)
+public class ClassInjectionBenchmarkTest extends AbstractBlackHoleTest {
+
+    private final String synchronization;
+
+    public ClassInjectionBenchmarkTest(String synchronization) {
+        this.synchronization = synchronization;
+    }
+
+    @Parameterized.Parameters
+    public static Collection<Object[]> data() {
+        return Arrays.asList(new Object[][]{
+                {"CLASS_LOADER"},
+                {"CLASS_LOADING_LOCK"}
+        });
+    }
+
+    private ClassInjectionBenchmark makeBenchmark() throws Exception {
+        ClassInjectionBenchmark.SharedClassLoader sharedClassLoader = new ClassInjectionBenchmark.SharedClassLoader();
+        sharedClassLoader.setUp();
+        ClassInjectionBenchmark classInjectionBenchmark = new ClassInjectionBenchmark();
+        classInjectionBenchmark.synchronization = synchronization;
+        classInjectionBenchmark.setUp(sharedClassLoader);
+        return classInjectionBenchmark;
+    }
+
+    @Test
+    public void testSharedClassLoaderBenchmark() throws Exception {
+        ClassInjectionBenchmark classInjectionBenchmark = makeBenchmark();
+        classInjectionBenchmark.benchmarkSharedClassLoader(blackHole);
+        classInjectionBenchmark.benchmarkSharedClassLoader(blackHole);
+    }
+
+    @Test
+    public void testNewClassLoaderBenchmark() throws Exception {
+        makeBenchmark().benchmarkNewClassLoader(blackHole);
+    }
+}
@@ -0,0 +1,28 @@
+package net.bytebuddy.benchmark;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class NameMatcherCompilationBenchmarkTest {
+
+    private NameMatcherCompilationBenchmark nameMatcherCompilationBenchmark;
+
+    @Before
+    public void setUp() throws Exception {
+        nameMatcherCompilationBenchmark = new NameMatcherCompilationBenchmark();
+        nameMatcherCompilationBenchmark.setUp();
+    }
+
+    @Test
+    public void testChained() throws Exception {
+        assertThat(nameMatcherCompilationBenchmark.benchmarkChained(), is(1));
+    }
+
+    @Test
+    public void testCompiled() throws Exception {
+        assertThat(nameMatcherCompilationBenchmark.benchmarkCompiled(), is(1));
+    }
+}
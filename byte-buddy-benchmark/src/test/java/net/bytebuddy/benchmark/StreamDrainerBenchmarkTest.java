@@ -0,0 +1,35 @@
+package net.bytebuddy.benchmark;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class StreamDrainerBenchmarkTest extends AbstractBlackHoleTest {
+
+    private StreamDrainerBenchmark streamDrainerBenchmark;
+
+    @Before
+    public void setUp() throws Exception {
+        streamDrainerBenchmark = new StreamDrainerBenchmark();
+        streamDrainerBenchmark.setUp();
+    }
+
+    @Test
+    public void testChunkedBenchmark() throws Exception {
+        streamDrainerBenchmark.benchmarkChunked(blackHole);
+    }
+
+    @Test
+    public void testKnownSizeBenchmark() throws Exception {
+        streamDrainerBenchmark.benchmarkKnownSize(blackHole);
+    }
+
+    @Test
+    public void testAvailableSizeBenchmark() throws Exception {
+        streamDrainerBenchmark.benchmarkAvailableSize(blackHole);
+    }
+
+    @Test
+    public void testUnknownSizeBenchmark() throws Exception {
+        streamDrainerBenchmark.benchmarkUnknownSize(blackHole);
+    }
+}
@@ -0,0 +1,30 @@
+package net.bytebuddy.benchmark;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class SuperClassInvocationAllocationBenchmarkTest extends AbstractBlackHoleTest {
+
+    private SuperClassInvocationAllocationBenchmark superClassInvocationAllocationBenchmark;
+
+    @Before
+    public void setUp() throws Exception {
+        superClassInvocationAllocationBenchmark = new SuperClassInvocationAllocationBenchmark();
+        superClassInvocationAllocationBenchmark.setUp();
+    }
+
+    @Test
+    public void testByteBuddySuperCallBenchmark() throws Exception {
+        superClassInvocationAllocationBenchmark.benchmarkByteBuddySuperCall(blackHole);
+    }
+
+    @Test
+    public void testByteBuddyPipeBenchmark() throws Exception {
+        superClassInvocationAllocationBenchmark.benchmarkByteBuddyPipe(blackHole);
+    }
+
+    @Test
+    public void testByteBuddySpecializedBenchmark() throws Exception {
+        superClassInvocationAllocationBenchmark.benchmarkByteBuddySpecialized(blackHole);
+    }
+}
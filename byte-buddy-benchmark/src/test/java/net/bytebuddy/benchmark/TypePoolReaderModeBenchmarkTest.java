@@ -0,0 +1,25 @@
+package net.bytebuddy.benchmark;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class TypePoolReaderModeBenchmarkTest extends AbstractBlackHoleTest {
+
+    private TypePoolReaderModeBenchmark typePoolReaderModeBenchmark;
+
+    @Before
+    public void setUp() throws Exception {
+        typePoolReaderModeBenchmark = new TypePoolReaderModeBenchmark();
+        typePoolReaderModeBenchmark.setUp();
+    }
+
+    @Test
+    public void testExtendedBenchmark() throws Exception {
+        typePoolReaderModeBenchmark.benchmarkExtended(blackHole);
+    }
+
+    @Test
+    public void testFastBenchmark() throws Exception {
+        typePoolReaderModeBenchmark.benchmarkFast(blackHole);
+    }
+}
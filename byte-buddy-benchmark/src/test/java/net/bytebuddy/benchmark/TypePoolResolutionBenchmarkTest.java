@@ -0,0 +1,54 @@
+package net.bytebuddy.benchmark;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+@RunWith(Parameterized.class)
+public class TypePoolResolutionBenchmarkTest extends AbstractBlackHoleTest {
+
+    private final String cacheProvider;
+
+    public TypePoolResolutionBenchmarkTest(String cacheProvider) {
+        this.cacheProvider = cacheProvider;
+    }
+
+    @Parameterized.Parameters
+    public static Collection<Object[]> data() {
+        return Arrays.asList(new Object[][]{
+                {"NO_OP"},
+                {"SIMPLE"},
+                {"BOUNDED"}
+        });
+    }
+
+    private TypePoolResolutionBenchmark makeBenchmark() throws Exception {
+        TypePoolResolutionBenchmark typePoolResolutionBenchmark = new TypePoolResolutionBenchmark();
+        typePoolResolutionBenchmark.cacheProvider = cacheProvider;
+        typePoolResolutionBenchmark.setUp();
+        return typePoolResolutionBenchmark;
+    }
+
+    @Test
+    public void testColdBenchmark() throws Exception {
+        makeBenchmark().benchmarkCold(blackHole);
+    }
+
+    @Test
+    public void testWarmBenchmark() throws Exception {
+        makeBenchmark().benchmarkWarm(blackHole);
+    }
+
+    @Test
+    public void testNavigationBenchmark() throws Exception {
+        makeBenchmark().benchmarkNavigation(blackHole);
+    }
+
+    @Test
+    public void testAnnotationLoadingBenchmark() throws Exception {
+        makeBenchmark().benchmarkAnnotationLoading(blackHole);
+    }
+}
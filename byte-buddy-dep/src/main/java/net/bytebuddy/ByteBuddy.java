@@ -95,6 +95,11 @@ public class ByteBuddy {
      */
     protected final MethodLookupEngine.Factory methodLookupEngineFactory;
 
+    /**
+     * The instrumentation context factory to apply to any type that is generated by this configuration.
+     */
+    protected final Instrumentation.Context.Factory instrumentationContextFactory;
+
     /**
      * The type attribute appender factory to apply to any type that is generated by this configuration.
      */
@@ -136,6 +141,7 @@ public class ByteBuddy {
                 new Definable.Undefined<Integer>(),
                 TypeAttributeAppender.NoOp.INSTANCE,
                 MethodLookupEngine.Default.Factory.INSTANCE,
+                Instrumentation.Context.Default.Factory.SUFFIXING_RANDOM,
                 FieldAttributeAppender.NoOp.INSTANCE,
                 MethodAttributeAppender.NoOp.INSTANCE);
     }
@@ -156,6 +162,7 @@ public class ByteBuddy {
      * @param modifiers                             The modifiers to define for any instrumentation process.
      * @param typeAttributeAppender                 The type attribute appender to apply to any instrumentation process.
      * @param methodLookupEngineFactory             The method lookup engine factory to apply to this configuration.
+     * @param instrumentationContextFactory         The instrumentation context factory to apply to this configuration.
      * @param defaultFieldAttributeAppenderFactory  The field attribute appender to apply as a default for any field
      *                                              definition.
      * @param defaultMethodAttributeAppenderFactory The method attribute appender to apply as a default for any
@@ -171,6 +178,7 @@ public class ByteBuddy {
                         Definable<Integer> modifiers,
                         TypeAttributeAppender typeAttributeAppender,
                         MethodLookupEngine.Factory methodLookupEngineFactory,
+                        Instrumentation.Context.Factory instrumentationContextFactory,
                         FieldAttributeAppender.Factory defaultFieldAttributeAppenderFactory,
                         MethodAttributeAppender.Factory defaultMethodAttributeAppenderFactory) {
         this.classFileVersion = classFileVersion;
@@ -183,6 +191,7 @@ public class ByteBuddy {
         this.modifiers = modifiers;
         this.typeAttributeAppender = typeAttributeAppender;
         this.methodLookupEngineFactory = methodLookupEngineFactory;
+        this.instrumentationContextFactory = instrumentationContextFactory;
         this.defaultFieldAttributeAppenderFactory = defaultFieldAttributeAppenderFactory;
         this.defaultMethodAttributeAppenderFactory = defaultMethodAttributeAppenderFactory;
     }
@@ -268,6 +277,15 @@ public class ByteBuddy {
         return methodLookupEngineFactory;
     }
 
+    /**
+     * Returns the instrumentation context factory to apply to any type that is generated by this configuration.
+     *
+     * @return The instrumentation context factory to apply to any type that is generated by this configuration.
+     */
+    public Instrumentation.Context.Factory getInstrumentationContextFactory() {
+        return instrumentationContextFactory;
+    }
+
     /**
      * Returns the type attribute appender factory to apply to any type that is generated by this configuration.
      *
@@ -364,6 +382,7 @@ public class ByteBuddy {
                 new FieldRegistry.Default(),
                 methodRegistry,
                 methodLookupEngineFactory,
+                instrumentationContextFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory,
                 nonNull(constructorStrategy));
@@ -413,6 +432,7 @@ public class ByteBuddy {
                 new FieldRegistry.Default(),
                 methodRegistry,
                 methodLookupEngineFactory,
+                instrumentationContextFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory,
                 ConstructorStrategy.Default.NO_CONSTRUCTORS);
@@ -436,6 +456,7 @@ public class ByteBuddy {
                 new FieldRegistry.Default(),
                 methodRegistry,
                 methodLookupEngineFactory,
+                instrumentationContextFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory,
                 ConstructorStrategy.Default.NO_CONSTRUCTORS);
@@ -509,6 +530,7 @@ public class ByteBuddy {
                 new FieldRegistry.Default(),
                 methodRegistry,
                 methodLookupEngineFactory,
+                instrumentationContextFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory,
                 nonNull(classFileLocator),
@@ -637,6 +659,7 @@ public class ByteBuddy {
                 new FieldRegistry.Default(),
                 methodRegistry,
                 methodLookupEngineFactory,
+                instrumentationContextFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory,
                 nonNull(classFileLocator),
@@ -660,6 +683,7 @@ public class ByteBuddy {
                 modifiers,
                 typeAttributeAppender,
                 methodLookupEngineFactory,
+                instrumentationContextFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory);
     }
@@ -681,6 +705,7 @@ public class ByteBuddy {
                 modifiers,
                 typeAttributeAppender,
                 methodLookupEngineFactory,
+                instrumentationContextFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory);
     }
@@ -714,6 +739,7 @@ public class ByteBuddy {
                         resolveModifierContributors(TYPE_MODIFIER_MASK, nonNull(modifierContributor))),
                 typeAttributeAppender,
                 methodLookupEngineFactory,
+                instrumentationContextFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory);
     }
@@ -736,6 +762,7 @@ public class ByteBuddy {
                 modifiers,
                 nonNull(typeAttributeAppender),
                 methodLookupEngineFactory,
+                instrumentationContextFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory);
     }
@@ -759,6 +786,7 @@ public class ByteBuddy {
                 modifiers,
                 new TypeAttributeAppender.ForAnnotation(new AnnotationList.ForLoadedAnnotation(nonNull(annotation))),
                 methodLookupEngineFactory,
+                instrumentationContextFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory);
     }
@@ -782,6 +810,7 @@ public class ByteBuddy {
                 modifiers,
                 new TypeAttributeAppender.ForAnnotation(new AnnotationList.Explicit(Arrays.asList(nonNull(annotation)))),
                 methodLookupEngineFactory,
+                instrumentationContextFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory);
     }
@@ -820,6 +849,7 @@ public class ByteBuddy {
                 modifiers,
                 typeAttributeAppender,
                 methodLookupEngineFactory,
+                instrumentationContextFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory,
                 isDeclaredBy(anyOf((Object[]) type)));
@@ -847,6 +877,7 @@ public class ByteBuddy {
                 modifiers,
                 typeAttributeAppender,
                 methodLookupEngineFactory,
+                instrumentationContextFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory);
     }
@@ -873,6 +904,7 @@ public class ByteBuddy {
                 modifiers,
                 typeAttributeAppender,
                 methodLookupEngineFactory,
+                instrumentationContextFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory);
     }
@@ -896,6 +928,7 @@ public class ByteBuddy {
                 modifiers,
                 typeAttributeAppender,
                 methodLookupEngineFactory,
+                instrumentationContextFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory);
     }
@@ -908,6 +941,7 @@ public class ByteBuddy {
      * by providing additional caching or by providing precomputed results.
      *
      * @param methodLookupEngineFactory The method lookup engine factory to apply to this configuration.
+     * @param instrumentationContextFactory The instrumentation context factory to apply to this configuration.
      * @return The same configuration with the method lookup engine factory.
      */
     public ByteBuddy withMethodLookupEngine(MethodLookupEngine.Factory methodLookupEngineFactory) {
@@ -921,6 +955,34 @@ public class ByteBuddy {
                 modifiers,
                 typeAttributeAppender,
                 nonNull(methodLookupEngineFactory),
+                instrumentationContextFactory,
+                defaultFieldAttributeAppenderFactory,
+                defaultMethodAttributeAppenderFactory);
+    }
+
+    /**
+     * Defines a new {@link net.bytebuddy.instrumentation.Instrumentation.Context.Factory} to be used for creating
+     * the instrumentation context when writing a type that is created by this configuration. By default, auxiliary
+     * types are named randomly. With
+     * {@link net.bytebuddy.instrumentation.Instrumentation.Context.Default.Factory#ENUMERATING}, auxiliary types are
+     * enumerated such that identical instrumentations, in combination with a deterministic naming strategy such as
+     * {@link net.bytebuddy.NamingStrategy.SuffixingSequence}, result in identical class files.
+     *
+     * @param instrumentationContextFactory The instrumentation context factory to apply to this configuration.
+     * @return The same configuration with the instrumentation context factory.
+     */
+    public ByteBuddy withInstrumentationContext(Instrumentation.Context.Factory instrumentationContextFactory) {
+        return new ByteBuddy(classFileVersion,
+                namingStrategy,
+                interfaceTypes,
+                ignoredMethods,
+                bridgeMethodResolverFactory,
+                classVisitorWrapperChain,
+                methodRegistry,
+                modifiers,
+                typeAttributeAppender,
+                methodLookupEngineFactory,
+                nonNull(instrumentationContextFactory),
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory);
     }
@@ -945,6 +1007,7 @@ public class ByteBuddy {
                 modifiers,
                 typeAttributeAppender,
                 methodLookupEngineFactory,
+                instrumentationContextFactory,
                 nonNull(attributeAppenderFactory),
                 defaultMethodAttributeAppenderFactory);
     }
@@ -969,6 +1032,7 @@ public class ByteBuddy {
                 modifiers,
                 typeAttributeAppender,
                 methodLookupEngineFactory,
+                instrumentationContextFactory,
                 defaultFieldAttributeAppenderFactory,
                 nonNull(attributeAppenderFactory));
     }
@@ -1018,6 +1082,7 @@ public class ByteBuddy {
                 && ignoredMethods.equals(byteBuddy.ignoredMethods)
                 && interfaceTypes.equals(byteBuddy.interfaceTypes)
                 && methodLookupEngineFactory.equals(byteBuddy.methodLookupEngineFactory)
+                && instrumentationContextFactory.equals(byteBuddy.instrumentationContextFactory)
                 && methodRegistry.equals(byteBuddy.methodRegistry)
                 && modifiers.equals(byteBuddy.modifiers)
                 && namingStrategy.equals(byteBuddy.namingStrategy)
@@ -1035,6 +1100,7 @@ public class ByteBuddy {
         result = 31 * result + methodRegistry.hashCode();
         result = 31 * result + modifiers.hashCode();
         result = 31 * result + methodLookupEngineFactory.hashCode();
+        result = 31 * result + instrumentationContextFactory.hashCode();
         result = 31 * result + typeAttributeAppender.hashCode();
         result = 31 * result + defaultFieldAttributeAppenderFactory.hashCode();
         result = 31 * result + defaultMethodAttributeAppenderFactory.hashCode();
@@ -1053,6 +1119,7 @@ public class ByteBuddy {
                 ", methodRegistry=" + methodRegistry +
                 ", modifiers=" + modifiers +
                 ", methodLookupEngineFactory=" + methodLookupEngineFactory +
+                ", instrumentationContextFactory=" + instrumentationContextFactory +
                 ", typeAttributeAppender=" + typeAttributeAppender +
                 ", defaultFieldAttributeAppenderFactory=" + defaultFieldAttributeAppenderFactory +
                 ", defaultMethodAttributeAppenderFactory=" + defaultMethodAttributeAppenderFactory +
@@ -1226,6 +1293,7 @@ public class ByteBuddy {
          * @param modifiers                             The modifiers to define for any instrumentation process.
          * @param typeAttributeAppender                 The type attribute appender to apply to any instrumentation process.
          * @param methodLookupEngineFactory             The method lookup engine factory to apply to this configuration.
+         * @param instrumentationContextFactory         The instrumentation context factory to apply to this configuration.
          * @param defaultFieldAttributeAppenderFactory  The field attribute appender to apply as a default for any field
          *                                              definition.
          * @param defaultMethodAttributeAppenderFactory The method attribute appender to apply as a default for any
@@ -1246,6 +1314,7 @@ public class ByteBuddy {
                                          Definable<Integer> modifiers,
                                          TypeAttributeAppender typeAttributeAppender,
                                          MethodLookupEngine.Factory methodLookupEngineFactory,
+                                         Instrumentation.Context.Factory instrumentationContextFactory,
                                          FieldAttributeAppender.Factory defaultFieldAttributeAppenderFactory,
                                          MethodAttributeAppender.Factory defaultMethodAttributeAppenderFactory,
                                          ElementMatcher<? super MethodDescription> methodMatcher,
@@ -1261,6 +1330,7 @@ public class ByteBuddy {
                     modifiers,
                     typeAttributeAppender,
                     methodLookupEngineFactory,
+                    instrumentationContextFactory,
                     defaultFieldAttributeAppenderFactory,
                     defaultMethodAttributeAppenderFactory);
             this.methodMatcher = methodMatcher;
@@ -1287,6 +1357,7 @@ public class ByteBuddy {
                     modifiers,
                     typeAttributeAppender,
                     methodLookupEngineFactory,
+                    instrumentationContextFactory,
                     defaultFieldAttributeAppenderFactory,
                     defaultMethodAttributeAppenderFactory,
                     methodMatcher,
@@ -1359,6 +1430,7 @@ public class ByteBuddy {
                     modifiers,
                     typeAttributeAppender,
                     methodLookupEngineFactory,
+                    instrumentationContextFactory,
                     defaultFieldAttributeAppenderFactory,
                     defaultMethodAttributeAppenderFactory
             );
@@ -1424,6 +1496,7 @@ public class ByteBuddy {
          * @param modifiers                             The modifiers to define for any instrumentation process.
          * @param typeAttributeAppender                 The type attribute appender to apply to any instrumentation process.
          * @param methodLookupEngineFactory             The method lookup engine factory to apply to this configuration.
+         * @param instrumentationContextFactory         The instrumentation context factory to apply to this configuration.
          * @param defaultFieldAttributeAppenderFactory  The field attribute appender to apply as a default for any field
          *                                              definition.
          * @param defaultMethodAttributeAppenderFactory The method attribute appender to apply as a default for any
@@ -1440,6 +1513,7 @@ public class ByteBuddy {
                                              Definable<Integer> modifiers,
                                              TypeAttributeAppender typeAttributeAppender,
                                              MethodLookupEngine.Factory methodLookupEngineFactory,
+                                             Instrumentation.Context.Factory instrumentationContextFactory,
                                              FieldAttributeAppender.Factory defaultFieldAttributeAppenderFactory,
                                              MethodAttributeAppender.Factory defaultMethodAttributeAppenderFactory,
                                              ElementMatcher<? super MethodDescription> methodMatcher) {
@@ -1453,6 +1527,7 @@ public class ByteBuddy {
                     modifiers,
                     typeAttributeAppender,
                     methodLookupEngineFactory,
+                    instrumentationContextFactory,
                     defaultFieldAttributeAppenderFactory,
                     defaultMethodAttributeAppenderFactory);
             this.methodMatcher = methodMatcher;
@@ -1491,6 +1566,7 @@ public class ByteBuddy {
                     ", methodRegistry=" + methodRegistry +
                     ", modifiers=" + modifiers +
                     ", methodLookupEngineFactory=" + methodLookupEngineFactory +
+                    ", instrumentationContextFactory=" + instrumentationContextFactory +
                     ", typeAttributeAppender=" + typeAttributeAppender +
                     ", defaultFieldAttributeAppenderFactory=" + defaultFieldAttributeAppenderFactory +
                     ", defaultMethodAttributeAppenderFactory=" + defaultMethodAttributeAppenderFactory +
@@ -1522,6 +1598,7 @@ public class ByteBuddy {
          * @param typeAttributeAppender                 The type attribute appender to apply to any instrumentation
          *                                              process.
          * @param methodLookupEngineFactory             The method lookup engine factory to apply to this configuration.
+         * @param instrumentationContextFactory         The instrumentation context factory to apply to this configuration.
          * @param defaultFieldAttributeAppenderFactory  The field attribute appender to apply as a default for any
          *                                              field definition.
          * @param defaultMethodAttributeAppenderFactory The method attribute appender to apply as a default for any
@@ -1537,6 +1614,7 @@ public class ByteBuddy {
                         Definable<Integer> modifiers,
                         TypeAttributeAppender typeAttributeAppender,
                         MethodLookupEngine.Factory methodLookupEngineFactory,
+                        Instrumentation.Context.Factory instrumentationContextFactory,
                         FieldAttributeAppender.Factory defaultFieldAttributeAppenderFactory,
                         MethodAttributeAppender.Factory defaultMethodAttributeAppenderFactory) {
             super(classFileVersion,
@@ -1549,6 +1627,7 @@ public class ByteBuddy {
                     modifiers,
                     typeAttributeAppender,
                     methodLookupEngineFactory,
+                    instrumentationContextFactory,
                     defaultFieldAttributeAppenderFactory,
                     defaultMethodAttributeAppenderFactory);
         }
@@ -1598,6 +1677,11 @@ public class ByteBuddy {
             return materialize().getMethodLookupEngineFactory();
         }
 
+        @Override
+        public Instrumentation.Context.Factory getInstrumentationContextFactory() {
+            return materialize().getInstrumentationContextFactory();
+        }
+
         @Override
         public TypeAttributeAppender getTypeAttributeAppender() {
             return materialize().getTypeAttributeAppender();
@@ -1742,6 +1826,11 @@ public class ByteBuddy {
             return materialize().withMethodLookupEngine(methodLookupEngineFactory);
         }
 
+        @Override
+        public ByteBuddy withInstrumentationContext(Instrumentation.Context.Factory instrumentationContextFactory) {
+            return materialize().withInstrumentationContext(instrumentationContextFactory);
+        }
+
         @Override
         public ByteBuddy withDefaultFieldAttributeAppender(FieldAttributeAppender.Factory attributeAppenderFactory) {
             return materialize().withDefaultFieldAttributeAppender(attributeAppenderFactory);
@@ -1806,6 +1895,7 @@ public class ByteBuddy {
                     modifiers,
                     typeAttributeAppender,
                     methodLookupEngineFactory,
+                    instrumentationContextFactory,
                     defaultFieldAttributeAppenderFactory,
                     defaultMethodAttributeAppenderFactory,
                     methodMatcher,
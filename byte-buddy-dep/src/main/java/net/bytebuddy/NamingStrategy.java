@@ -13,6 +13,9 @@ import org.objectweb.asm.Opcodes;
 import java.lang.reflect.Modifier;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * A naming strategy for finding a fully qualified name for a Java type.
@@ -621,6 +624,133 @@ public interface NamingStrategy {
         }
     }
 
+    /**
+     * <p>
+     * A naming strategy that creates a name by concatenating a base name, a given suffix and the index of the named
+     * type. The index is counted for each base name such that the {@code n}-th type that is named for a given base name
+     * is always named identically, independently of the types that are named for other base names. This way, repeated
+     * builds of the same types result in identical names which allows for caching the created class files. Also, this
+     * strategy does not require a random number generator where the naming of types for different base names by
+     * concurrent threads does not contend on any shared value. Types that subclass classes from the {@code java.**}
+     * packages are prefixed with a given package.
+     * </p>
+     * <p>
+     * As the names of types are only unique for a single instance of this strategy, the same instance must be used for
+     * naming all types that are loaded by a given class loader. This strategy retains a counter for each base name.
+     * </p>
+     */
+    class SuffixingSequence implements NamingStrategy {
+
+        /**
+         * The package prefix of the {@code java.**} packages for which the definition of non-bootstrap types is
+         * illegal.
+         */
+        private static final String JAVA_PACKAGE = "java.";
+
+        /**
+         * The suffix to attach to a super type name.
+         */
+        private final String suffix;
+
+        /**
+         * The renaming location for types of the {@link net.bytebuddy.NamingStrategy.SuffixingSequence#JAVA_PACKAGE}.
+         */
+        private final String javaLangPackagePrefix;
+
+        /**
+         * A resolver for the base name for naming the unnamed type.
+         */
+        private final SuffixingRandom.BaseNameResolver baseNameResolver;
+
+        /**
+         * A map of base names to the index of the next type that is named for this base name.
+         */
+        private final ConcurrentMap<String, AtomicLong> indices;
+
+        /**
+         * Creates an immutable naming strategy with a given suffix but moves types that subclass types within
+         * the {@code java.lang} package into Byte Buddy's package namespace. All names are derived from the
+         * unnamed type's super type.
+         *
+         * @param suffix The suffix for the generated class.
+         */
+        public SuffixingSequence(String suffix) {
+            this(suffix, SuffixingRandom.BaseNameResolver.ForUnnamedType.INSTANCE, SuffixingRandom.BYTE_BUDDY_RENAME_PACKAGE);
+        }
+
+        /**
+         * Creates an immutable naming strategy with a given suffix but moves types that subclass types within
+         * the {@code java.lang} package into Byte Buddy's package namespace.
+         *
+         * @param suffix           The suffix for the generated class.
+         * @param baseNameResolver The base name resolver that is queried for locating the base name.
+         */
+        public SuffixingSequence(String suffix, SuffixingRandom.BaseNameResolver baseNameResolver) {
+            this(suffix, baseNameResolver, SuffixingRandom.BYTE_BUDDY_RENAME_PACKAGE);
+        }
+
+        /**
+         * Creates an immutable naming strategy with a given suffix but moves types that subclass types within
+         * the {@code java.lang} package into a given namespace.
+         *
+         * @param suffix                The suffix for the generated class.
+         * @param baseNameResolver      The base name resolver that is queried for locating the base name.
+         * @param javaLangPackagePrefix The fallback namespace for type's that subclass types within the
+         *                              {@code java.lang} namespace.
+         */
+        public SuffixingSequence(String suffix, SuffixingRandom.BaseNameResolver baseNameResolver, String javaLangPackagePrefix) {
+            this.suffix = suffix;
+            this.baseNameResolver = baseNameResolver;
+            this.javaLangPackagePrefix = javaLangPackagePrefix;
+            indices = new ConcurrentHashMap<String, AtomicLong>();
+        }
+
+        @Override
+        public String name(UnnamedType unnamedType) {
+            String baseName = baseNameResolver.resolve(unnamedType);
+            if (baseName.startsWith(JAVA_PACKAGE)) {
+                baseName = javaLangPackagePrefix + "." + baseName;
+            }
+            AtomicLong index = indices.get(baseName);
+            if (index == null) {
+                index = new AtomicLong();
+                AtomicLong previous = indices.putIfAbsent(baseName, index);
+                if (previous != null) {
+                    index = previous;
+                }
+            }
+            return String.format("%s$%s$%d", baseName, suffix, index.getAndIncrement());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) return true;
+            if (other == null || getClass() != other.getClass()) return false;
+            SuffixingSequence that = (SuffixingSequence) other;
+            return javaLangPackagePrefix.equals(that.javaLangPackagePrefix)
+                    && suffix.equals(that.suffix)
+                    && baseNameResolver.equals(that.baseNameResolver);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = suffix.hashCode();
+            result = 31 * result + javaLangPackagePrefix.hashCode();
+            result = 31 * result + baseNameResolver.hashCode();
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return "NamingStrategy.SuffixingSequence{" +
+                    "suffix='" + suffix + '\'' +
+                    ", javaLangPackagePrefix='" + javaLangPackagePrefix + '\'' +
+                    ", baseNameResolver=" + baseNameResolver +
+                    ", indices=" + indices +
+                    '}';
+        }
+    }
+
     /**
      * A naming strategy that creates a name by prefixing a given class and its package with another package and
      * by appending a random number to the class's simple name.
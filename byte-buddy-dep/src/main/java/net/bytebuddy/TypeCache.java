@@ -0,0 +1,429 @@
+package net.bytebuddy;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p>
+ * A thread-safe cache for dynamically created types. Types are stored by the class loader they are made available to
+ * and by a user-defined key which must describe the created type, for example by the type's super class and the
+ * configuration of its instrumentation. Class loaders are only referenced weakly such that all types that are stored
+ * for a class loader become eligible for garbage collection once the class loader is no longer used. The types
+ * themselves are only referenced as determined by this cache's {@link net.bytebuddy.TypeCache.Sort}.
+ * </p>
+ * <p>
+ * <b>Important</b>: The keys of this cache are referenced strongly. A key must therefore never reference a type that
+ * is loaded by the class loader it is stored for or the class loader itself as this would prevent the class loader
+ * from being garbage collected. A {@link net.bytebuddy.TypeCache.SimpleKey} only references the names of types.
+ * </p>
+ * <p>
+ * Types are created by {@link net.bytebuddy.TypeCache#findOrInsert(ClassLoader, Object, java.util.concurrent.Callable)}
+ * at most once per class loader and key. For this purpose, creations are synchronized on one of a fixed number of
+ * locks that is chosen by the class loader and the key such that neither the cache as a whole nor the class loader
+ * is locked.
+ * </p>
+ *
+ * @param <T> The type of the keys of this cache.
+ */
+public class TypeCache<T> {
+
+    /**
+     * The default number of locks that are used for synchronizing the creation of types.
+     */
+    public static final int DEFAULT_LOCK_STRIPES = 64;
+
+    /**
+     * Represents a type that is not stored by this cache.
+     */
+    private static final Class<?> NOT_FOUND = null;
+
+    /**
+     * Indicates that no type was previously stored for a key.
+     */
+    private static final Reference<Class<?>> NO_PREVIOUS_REFERENCE = null;
+
+    /**
+     * The reference sort to use for storing types.
+     */
+    private final Sort sort;
+
+    /**
+     * A map of all stored types by their class loaders and by their keys.
+     */
+    private final ConcurrentMap<StorageKey, ConcurrentMap<T, Reference<Class<?>>>> cache;
+
+    /**
+     * The reference queue that is notified when a class loader is garbage collected.
+     */
+    private final ReferenceQueue<ClassLoader> referenceQueue;
+
+    /**
+     * The locks that are used for synchronizing the creation of types.
+     */
+    private final Object[] locks;
+
+    /**
+     * Creates a new type cache with a default number of locks.
+     *
+     * @param sort The reference sort to use for storing types.
+     */
+    public TypeCache(Sort sort) {
+        this(sort, DEFAULT_LOCK_STRIPES);
+    }
+
+    /**
+     * Creates a new type cache.
+     *
+     * @param sort        The reference sort to use for storing types.
+     * @param lockStripes The minimal number of locks that are used for synchronizing the creation of types.
+     */
+    public TypeCache(Sort sort, int lockStripes) {
+        if (lockStripes < 1) {
+            throw new IllegalArgumentException("The number of locks must be positive: " + lockStripes);
+        }
+        this.sort = sort;
+        cache = new ConcurrentHashMap<StorageKey, ConcurrentMap<T, Reference<Class<?>>>>();
+        referenceQueue = new ReferenceQueue<ClassLoader>();
+        int size = 1;
+        while (size < lockStripes) {
+            size <<= 1;
+        }
+        locks = new Object[size];
+        for (int index = 0; index < size; index++) {
+            locks[index] = new Object();
+        }
+    }
+
+    /**
+     * Finds a stored type.
+     *
+     * @param classLoader The class loader for which the type was stored or {@code null} for the bootstrap class loader.
+     * @param key         The key of the type.
+     * @return The stored type or {@code null} if no type is stored for the given class loader and key.
+     */
+    public Class<?> find(ClassLoader classLoader, T key) {
+        ConcurrentMap<T, Reference<Class<?>>> storage = cache.get(new LookupKey(classLoader));
+        if (storage == null) {
+            return NOT_FOUND;
+        }
+        Reference<Class<?>> reference = storage.get(key);
+        return reference == null
+                ? NOT_FOUND
+                : reference.get();
+    }
+
+    /**
+     * Stores a type unless another type is already stored for the given class loader and key.
+     *
+     * @param classLoader The class loader for which the type is stored or {@code null} for the bootstrap class loader.
+     * @param key         The key of the type.
+     * @param type        The type to store.
+     * @return The stored type which is the given type unless another type was already stored.
+     */
+    public Class<?> insert(ClassLoader classLoader, T key, Class<?> type) {
+        expungeStaleEntries();
+        ConcurrentMap<T, Reference<Class<?>>> storage = cache.get(new LookupKey(classLoader));
+        if (storage == null) {
+            storage = new ConcurrentHashMap<T, Reference<Class<?>>>();
+            ConcurrentMap<T, Reference<Class<?>>> previousStorage = cache.putIfAbsent(new StorageKey(classLoader, referenceQueue), storage);
+            if (previousStorage != null) {
+                storage = previousStorage;
+            }
+        }
+        Reference<Class<?>> reference = sort.wrap(type);
+        while (true) {
+            Reference<Class<?>> previousReference = storage.putIfAbsent(key, reference);
+            if (previousReference == NO_PREVIOUS_REFERENCE) {
+                return type;
+            }
+            Class<?> previousType = previousReference.get();
+            if (previousType != NOT_FOUND) {
+                return previousType;
+            } else if (storage.replace(key, previousReference, reference)) {
+                return type;
+            }
+        }
+    }
+
+    /**
+     * Finds a stored type or creates and stores a type if no type is stored for the given class loader and key. A type
+     * is only created once for each class loader and key, even if this method is called concurrently.
+     *
+     * @param classLoader The class loader for which the type is stored or {@code null} for the bootstrap class loader.
+     * @param key         The key of the type.
+     * @param lazy        A callable that creates the type if it is not yet stored.
+     * @return The stored type.
+     */
+    public Class<?> findOrInsert(ClassLoader classLoader, T key, Callable<Class<?>> lazy) {
+        Class<?> type = find(classLoader, key);
+        if (type != NOT_FOUND) {
+            return type;
+        }
+        synchronized (locks[(spread(System.identityHashCode(classLoader)) * 31 + spread(key.hashCode())) & (locks.length - 1)]) {
+            type = find(classLoader, key);
+            if (type != NOT_FOUND) {
+                return type;
+            }
+            try {
+                return insert(classLoader, key, lazy.call());
+            } catch (RuntimeException exception) {
+                throw exception;
+            } catch (Exception exception) {
+                throw new IllegalStateException("Could not create type for " + key, exception);
+            }
+        }
+    }
+
+    /**
+     * Spreads the bits of a hash code such that its higher bits contribute to the choice of a lock.
+     *
+     * @param hashCode The hash code to spread.
+     * @return The spread hash code.
+     */
+    private static int spread(int hashCode) {
+        hashCode ^= (hashCode >>> 20) ^ (hashCode >>> 12);
+        return hashCode ^ (hashCode >>> 7) ^ (hashCode >>> 4);
+    }
+
+    /**
+     * Removes all types that are stored for class loaders that were garbage collected. This method is invoked
+     * whenever a type is inserted into this cache.
+     */
+    public void expungeStaleEntries() {
+        Reference<? extends ClassLoader> reference;
+        while ((reference = referenceQueue.poll()) != null) {
+            cache.remove(reference);
+        }
+    }
+
+    /**
+     * Returns the number of class loaders for which types are stored.
+     *
+     * @return The number of class loaders for which types are stored.
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Removes all types from this cache.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "TypeCache{" +
+                "sort=" + sort +
+                ", cache=" + cache +
+                ", lockStripes=" + locks.length +
+                '}';
+    }
+
+    /**
+     * Determines how a type cache references its stored types.
+     */
+    public enum Sort {
+
+        /**
+         * Stores types by weak references. As a class loader references all types it loaded, a type is retained as
+         * long as its class loader is in use. This is the preferred sort if types are stored for the class loader
+         * that loaded them.
+         */
+        WEAK {
+            @Override
+            protected Reference<Class<?>> wrap(Class<?> type) {
+                return new WeakReference<Class<?>>(type);
+            }
+        },
+
+        /**
+         * Stores types by soft references such that a type is retained until the memory of the virtual machine
+         * becomes scarce, even if it is not referenced otherwise.
+         */
+        SOFT {
+            @Override
+            protected Reference<Class<?>> wrap(Class<?> type) {
+                return new SoftReference<Class<?>>(type);
+            }
+        };
+
+        /**
+         * Wraps a type in a reference of this sort.
+         *
+         * @param type The type to wrap.
+         * @return A reference of this sort to the given type.
+         */
+        protected abstract Reference<Class<?>> wrap(Class<?> type);
+
+        @Override
+        public String toString() {
+            return "TypeCache.Sort." + name();
+        }
+    }
+
+    /**
+     * A key for looking up the types of a class loader which references the class loader strongly. A lookup key is
+     * equal to a {@link net.bytebuddy.TypeCache.StorageKey} of the same class loader.
+     */
+    protected static class LookupKey {
+
+        /**
+         * The represented class loader or {@code null} for the bootstrap class loader.
+         */
+        private final ClassLoader classLoader;
+
+        /**
+         * The identity hash code of the represented class loader.
+         */
+        private final int hashCode;
+
+        /**
+         * Creates a new lookup key.
+         *
+         * @param classLoader The represented class loader or {@code null} for the bootstrap class loader.
+         */
+        protected LookupKey(ClassLoader classLoader) {
+            this.classLoader = classLoader;
+            hashCode = System.identityHashCode(classLoader);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) return true;
+            if (other instanceof LookupKey) {
+                return classLoader == ((LookupKey) other).classLoader;
+            } else if (other instanceof StorageKey) {
+                StorageKey storageKey = (StorageKey) other;
+                return hashCode == storageKey.hashCode && classLoader == storageKey.get();
+            } else {
+                return false;
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public String toString() {
+            return "TypeCache.LookupKey{" +
+                    "classLoader=" + classLoader +
+                    ", hashCode=" + hashCode +
+                    '}';
+        }
+    }
+
+    /**
+     * A key for storing the types of a class loader which references the class loader weakly. A storage key is
+     * equal to a {@link net.bytebuddy.TypeCache.LookupKey} of the same class loader.
+     */
+    protected static class StorageKey extends WeakReference<ClassLoader> {
+
+        /**
+         * The identity hash code of the represented class loader.
+         */
+        private final int hashCode;
+
+        /**
+         * Creates a new storage key.
+         *
+         * @param classLoader    The represented class loader or {@code null} for the bootstrap class loader.
+         * @param referenceQueue The reference queue to notify when the class loader is garbage collected.
+         */
+        protected StorageKey(ClassLoader classLoader, ReferenceQueue<? super ClassLoader> referenceQueue) {
+            super(classLoader, referenceQueue);
+            hashCode = System.identityHashCode(classLoader);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) return true;
+            if (other instanceof LookupKey) {
+                LookupKey lookupKey = (LookupKey) other;
+                return hashCode == lookupKey.hashCode && get() == lookupKey.classLoader;
+            } else if (other instanceof StorageKey) {
+                StorageKey storageKey = (StorageKey) other;
+                return hashCode == storageKey.hashCode && get() == storageKey.get();
+            } else {
+                return false;
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public String toString() {
+            return "TypeCache.StorageKey{" +
+                    "classLoader=" + get() +
+                    ", hashCode=" + hashCode +
+                    '}';
+        }
+    }
+
+    /**
+     * A key that describes a type by the names of a type and of any number of additional types, for example a super
+     * class and the interfaces it implements. As only names are referenced, a simple key never prevents the garbage
+     * collection of a class loader.
+     */
+    public static class SimpleKey {
+
+        /**
+         * The names of the represented types.
+         */
+        private final Set<String> types;
+
+        /**
+         * Creates a new simple key.
+         *
+         * @param type           A type that is represented by this key.
+         * @param additionalType Any number of additional types that are represented by this key.
+         */
+        public SimpleKey(Class<?> type, Class<?>... additionalType) {
+            this(type, Arrays.asList(additionalType));
+        }
+
+        /**
+         * Creates a new simple key.
+         *
+         * @param type            A type that is represented by this key.
+         * @param additionalTypes Any number of additional types that are represented by this key.
+         */
+        public SimpleKey(Class<?> type, Collection<? extends Class<?>> additionalTypes) {
+            types = new HashSet<String>();
+            types.add(type.getName());
+            for (Class<?> additionalType : additionalTypes) {
+                types.add(additionalType.getName());
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || !(other == null || getClass() != other.getClass())
+                    && types.equals(((SimpleKey) other).types);
+        }
+
+        @Override
+        public int hashCode() {
+            return types.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "TypeCache.SimpleKey{" +
+                    "types=" + types +
+                    '}';
+        }
+    }
+}
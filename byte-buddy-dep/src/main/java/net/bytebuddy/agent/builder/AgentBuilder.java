@@ -22,6 +22,10 @@ import net.bytebuddy.pool.TypePool;
 import net.bytebuddy.utility.StreamDrainer;
 import org.objectweb.asm.MethodVisitor;
 
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectInstance;
+import javax.management.ObjectName;
 import java.io.File;
 import java.io.IOException;
 import java.lang.instrument.ClassFileTransformer;
@@ -29,12 +33,16 @@ import java.lang.instrument.Instrumentation;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.security.ProtectionDomain;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 import static net.bytebuddy.matcher.ElementMatchers.*;
 import static net.bytebuddy.utility.ByteBuddyCommons.join;
@@ -120,6 +128,17 @@ public interface AgentBuilder {
      */
     AgentBuilder withListener(Listener listener);
 
+    /**
+     * Defines the given {@link net.bytebuddy.agent.builder.AgentBuilder.Monitor} to be notified about the phases of
+     * any transformation that is applied by the created agent. Any previously defined monitor is replaced. By default,
+     * a {@link net.bytebuddy.agent.builder.AgentBuilder.Monitor.Disabled} monitor is used such that no time is measured.
+     *
+     * @param monitor The monitor to be notified.
+     * @return A new instance of this agent builder which creates an agent that informs the given monitor about
+     * the phases of transformations.
+     */
+    AgentBuilder withMonitor(Monitor monitor);
+
     /**
      * Defines the use of the given binary locator for locating binary data to given class names.
      *
@@ -175,6 +194,16 @@ public interface AgentBuilder {
      */
     AgentBuilder enableBootstrapInjection(File folder, Instrumentation instrumentation);
 
+    /**
+     * Enables class injection of auxiliary classes into the bootstrap class loader by the {@code sun.misc.Unsafe}
+     * class. Other than {@link AgentBuilder#enableBootstrapInjection(File, Instrumentation)}, no jar file is appended
+     * to the bootstrap class path for any injection. The {@code sun.misc.Unsafe} class is not part of the Java API
+     * such that its availability should be checked by {@link net.bytebuddy.dynamic.loading.ClassInjector.UsingUnsafe#isAvailable()}.
+     *
+     * @return An agent builder with bootstrap class loader class injection enabled.
+     */
+    AgentBuilder enableUnsafeBootstrapInjection();
+
     /**
      * Creates a {@link java.lang.instrument.ClassFileTransformer} that implements the configuration of this
      * agent builder.
@@ -251,12 +280,42 @@ public interface AgentBuilder {
                         Class<?> classBeingRedefined,
                         ProtectionDomain protectionDomain);
 
+        /**
+         * A raw matcher that is able to exclude a type from instrumentation by only considering its name and its
+         * class loader. Such a pre-filter is applied before a type is described such that a type that is not a
+         * candidate for an instrumentation does not need to be parsed. The pre-filter must never exclude a type
+         * for which this raw matcher would indicate a match.
+         */
+        interface Prefiltering extends RawMatcher {
+
+            /**
+             * Decides if the type of the given name is a candidate for the entailed
+             * {@link net.bytebuddy.agent.builder.AgentBuilder.Transformer}s such that it should be described and
+             * matched by {@link net.bytebuddy.agent.builder.AgentBuilder.RawMatcher#matches(TypeDescription, ClassLoader, Class, ProtectionDomain)}.
+             *
+             * @param typeName            The binary name of the type to be instrumented.
+             * @param classLoader         The class loader of the instrumented type. Might be {@code null} if this class
+             *                            loader represents the bootstrap class loader.
+             * @param classBeingRedefined The class being redefined which is only not {@code null} if a retransofmration
+             *                            is applied.
+             * @param protectionDomain    The protection domain of the type being transformed.
+             * @return {@code true} if the type should be described and matched. If this method returns {@code false},
+             * the type is never matched by this raw matcher.
+             */
+            boolean isCandidate(String typeName,
+                                ClassLoader classLoader,
+                                Class<?> classBeingRedefined,
+                                ProtectionDomain protectionDomain);
+        }
+
         /**
          * A raw matcher implementation that checks a {@link net.bytebuddy.instrumentation.type.TypeDescription}
          * and its {@link java.lang.ClassLoader} against two suitable matchers in order to determine if the matched
-         * type should be instrumented.
+         * type should be instrumented. The class loader matcher and any name matcher that the type matcher is composed
+         * of by conjunctions and disjunctions are already applied as a pre-filter such that types of a class loader or
+         * of a name that is not matched are never described.
          */
-        class ForElementMatcherPair implements RawMatcher {
+        class ForElementMatcherPair implements Prefiltering {
 
             /**
              * The type matcher to apply to a {@link net.bytebuddy.instrumentation.type.TypeDescription}.
@@ -284,6 +343,14 @@ public interface AgentBuilder {
                 this.classLoaderMatcher = classLoaderMatcher;
             }
 
+            @Override
+            public boolean isCandidate(String typeName,
+                                       ClassLoader classLoader,
+                                       Class<?> classBeingRedefined,
+                                       ProtectionDomain protectionDomain) {
+                return classLoaderMatcher.matches(classLoader) && isNameCandidate(typeMatcher, typeName);
+            }
+
             @Override
             public boolean matches(TypeDescription typeDescription,
                                    ClassLoader classLoader,
@@ -314,6 +381,103 @@ public interface AgentBuilder {
                         '}';
             }
         }
+
+        /**
+         * A raw matcher that applies a matcher to the binary name of a type and a matcher to the type's
+         * {@link java.lang.ClassLoader} before the type is described. Only if both matchers indicate a match,
+         * the type is described and matched by a delegate raw matcher. As most types that are loaded by a
+         * virtual machine are not instrumented, excluding types by their name avoids parsing their class files.
+         */
+        class ForNameAndClassLoader implements Prefiltering {
+
+            /**
+             * The matcher to apply to the binary name of a type.
+             */
+            private final ElementMatcher<? super String> nameMatcher;
+
+            /**
+             * The matcher to apply to the class loader of a type.
+             */
+            private final ElementMatcher<? super ClassLoader> classLoaderMatcher;
+
+            /**
+             * The raw matcher to apply to a type that was matched by both the name and the class loader matcher.
+             */
+            private final RawMatcher rawMatcher;
+
+            /**
+             * Creates a new raw matcher that matches a type only by its name and by its class loader.
+             *
+             * @param nameMatcher        The matcher to apply to the binary name of a type.
+             * @param classLoaderMatcher The matcher to apply to the class loader of a type.
+             */
+            public ForNameAndClassLoader(ElementMatcher<? super String> nameMatcher,
+                                         ElementMatcher<? super ClassLoader> classLoaderMatcher) {
+                this(nameMatcher, classLoaderMatcher, new ForElementMatcherPair(any(), any()));
+            }
+
+            /**
+             * Creates a new raw matcher that pre-filters types by their name and their class loader.
+             *
+             * @param nameMatcher        The matcher to apply to the binary name of a type.
+             * @param classLoaderMatcher The matcher to apply to the class loader of a type.
+             * @param rawMatcher         The raw matcher to apply to a type that was matched by both the name and
+             *                           the class loader matcher.
+             */
+            public ForNameAndClassLoader(ElementMatcher<? super String> nameMatcher,
+                                         ElementMatcher<? super ClassLoader> classLoaderMatcher,
+                                         RawMatcher rawMatcher) {
+                this.nameMatcher = nameMatcher;
+                this.classLoaderMatcher = classLoaderMatcher;
+                this.rawMatcher = rawMatcher;
+            }
+
+            @Override
+            public boolean isCandidate(String typeName,
+                                       ClassLoader classLoader,
+                                       Class<?> classBeingRedefined,
+                                       ProtectionDomain protectionDomain) {
+                return classLoaderMatcher.matches(classLoader)
+                        && nameMatcher.matches(typeName)
+                        && (!(rawMatcher instanceof Prefiltering)
+                        || ((Prefiltering) rawMatcher).isCandidate(typeName, classLoader, classBeingRedefined, protectionDomain));
+            }
+
+            @Override
+            public boolean matches(TypeDescription typeDescription,
+                                   ClassLoader classLoader,
+                                   Class<?> classBeingRedefined,
+                                   ProtectionDomain protectionDomain) {
+                return classLoaderMatcher.matches(classLoader)
+                        && nameMatcher.matches(typeDescription.getName())
+                        && rawMatcher.matches(typeDescription, classLoader, classBeingRedefined, protectionDomain);
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                return this == other || !(other == null || getClass() != other.getClass())
+                        && nameMatcher.equals(((ForNameAndClassLoader) other).nameMatcher)
+                        && classLoaderMatcher.equals(((ForNameAndClassLoader) other).classLoaderMatcher)
+                        && rawMatcher.equals(((ForNameAndClassLoader) other).rawMatcher);
+            }
+
+            @Override
+            public int hashCode() {
+                int result = nameMatcher.hashCode();
+                result = 31 * result + classLoaderMatcher.hashCode();
+                result = 31 * result + rawMatcher.hashCode();
+                return result;
+            }
+
+            @Override
+            public String toString() {
+                return "AgentBuilder.RawMatcher.ForNameAndClassLoader{" +
+                        "nameMatcher=" + nameMatcher +
+                        ", classLoaderMatcher=" + classLoaderMatcher +
+                        ", rawMatcher=" + rawMatcher +
+                        '}';
+            }
+        }
     }
 
     /**
@@ -538,6 +702,207 @@ public interface AgentBuilder {
             }
         }
 
+        /**
+         * <p>
+         * A binary locator that retains a single {@link net.bytebuddy.pool.TypePool} per class loader such that
+         * types which are referenced by many instrumented types, as for example their common super types, are only
+         * parsed once. Each such type pool is backed by a {@link net.bytebuddy.pool.TypePool.CacheProvider.Bounded}
+         * cache such that the number of retained type descriptions is limited.
+         * </p>
+         * <p>
+         * Class loaders are only referenced weakly by this locator such that their type pools are discarded once
+         * a class loader becomes eligible for garbage collection. The type that is currently instrumented is never
+         * cached but always described explicitly as its binary representation might be altered by a
+         * {@link java.lang.instrument.ClassFileTransformer}.
+         * </p>
+         * <p>
+         * By default, the shared type pools parse class files in the
+         * {@link net.bytebuddy.pool.TypePool.Default.ReaderMode#FAST} mode as the described types are typically
+         * only matched but not instrumented. The instrumented type itself is always parsed in the
+         * {@link net.bytebuddy.pool.TypePool.Default.ReaderMode#EXTENDED} mode.
+         * </p>
+         */
+        class WithTypePoolCache implements BinaryLocator {
+
+            /**
+             * The default maximum number of type descriptions that are cached per class loader.
+             */
+            public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+            /**
+             * The maximum number of type descriptions that are cached per class loader.
+             */
+            private final int maximumSize;
+
+            /**
+             * The reader mode to apply by the shared type pools.
+             */
+            private final TypePool.Default.ReaderMode readerMode;
+
+            /**
+             * A map of type pools by the class loader they represent. The bootstrap class loader is represented by
+             * the {@code null} key. Any access to this map must be synchronized on the map instance.
+             */
+            private final Map<ClassLoader, TypePool> typePools;
+
+            /**
+             * Creates a new binary locator that caches type pools per class loader where each pool retains at most
+             * {@link net.bytebuddy.agent.builder.AgentBuilder.BinaryLocator.WithTypePoolCache#DEFAULT_MAXIMUM_SIZE}
+             * type descriptions.
+             */
+            public WithTypePoolCache() {
+                this(DEFAULT_MAXIMUM_SIZE);
+            }
+
+            /**
+             * Creates a new binary locator that caches type pools per class loader.
+             *
+             * @param maximumSize The maximum number of type descriptions that are cached per class loader.
+             */
+            public WithTypePoolCache(int maximumSize) {
+                this(maximumSize, TypePool.Default.ReaderMode.FAST);
+            }
+
+            /**
+             * Creates a new binary locator that caches type pools per class loader.
+             *
+             * @param maximumSize The maximum number of type descriptions that are cached per class loader.
+             * @param readerMode  The reader mode to apply by the shared type pools.
+             */
+            public WithTypePoolCache(int maximumSize, TypePool.Default.ReaderMode readerMode) {
+                if (maximumSize < 1) {
+                    throw new IllegalArgumentException("The maximum size of a cache must be positive: " + maximumSize);
+                }
+                this.maximumSize = maximumSize;
+                this.readerMode = nonNull(readerMode);
+                typePools = new WeakHashMap<ClassLoader, TypePool>();
+            }
+
+            @Override
+            public BinaryLocator.Initialized initialize(String typeName,
+                                                        byte[] binaryRepresentation,
+                                                        ClassLoader classLoader) {
+                return new Default.Initialized(typeName,
+                        binaryRepresentation,
+                        new CacheProvider(typeName, locate(classLoader)),
+                        ClassFileLocator.ForClassLoader.of(classLoader));
+            }
+
+            /**
+             * Locates the shared type pool of a given class loader or creates such a type pool if it does not yet exist.
+             *
+             * @param classLoader The class loader for which a type pool should be located. Might be {@code null} if this
+             *                    class loader represents the bootstrap class loader.
+             * @return The shared type pool of the given class loader.
+             */
+            protected TypePool locate(ClassLoader classLoader) {
+                synchronized (typePools) {
+                    TypePool typePool = typePools.get(classLoader);
+                    if (typePool == null) {
+                        typePool = new TypePool.Default(new TypePool.CacheProvider.Bounded(maximumSize),
+                                ClassFileLocator.ForClassLoader.WeaklyReferenced.of(classLoader),
+                                readerMode);
+                        typePools.put(classLoader, typePool);
+                    }
+                    return typePool;
+                }
+            }
+
+            /**
+             * Clears all type pools that are currently cached by this binary locator.
+             */
+            public void clear() {
+                synchronized (typePools) {
+                    typePools.clear();
+                }
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                return this == other || !(other == null || getClass() != other.getClass())
+                        && maximumSize == ((WithTypePoolCache) other).maximumSize
+                        && readerMode == ((WithTypePoolCache) other).readerMode;
+            }
+
+            @Override
+            public int hashCode() {
+                return 31 * maximumSize + readerMode.hashCode();
+            }
+
+            @Override
+            public String toString() {
+                return "AgentBuilder.BinaryLocator.WithTypePoolCache{" +
+                        "maximumSize=" + maximumSize +
+                        ", readerMode=" + readerMode +
+                        '}';
+            }
+
+            /**
+             * A cache provider for a single transformation that queries a class loader's shared type pool for any
+             * type but the instrumented type which is never cached.
+             */
+            protected static class CacheProvider implements TypePool.CacheProvider {
+
+                /**
+                 * The binary name of the instrumented type.
+                 */
+                private final String typeName;
+
+                /**
+                 * The shared type pool of the instrumented type's class loader.
+                 */
+                private final TypePool typePool;
+
+                /**
+                 * Creates a new cache provider for a single transformation.
+                 *
+                 * @param typeName The binary name of the instrumented type.
+                 * @param typePool The shared type pool of the instrumented type's class loader.
+                 */
+                protected CacheProvider(String typeName, TypePool typePool) {
+                    this.typeName = typeName;
+                    this.typePool = typePool;
+                }
+
+                @Override
+                public TypePool.Resolution find(String name) {
+                    return typeName.equals(name)
+                            ? NOTHING
+                            : typePool.describe(name);
+                }
+
+                @Override
+                public TypePool.Resolution register(String name, TypePool.Resolution resolution) {
+                    return resolution;
+                }
+
+                @Override
+                public void clear() {
+                    /* do nothing */
+                }
+
+                @Override
+                public boolean equals(Object other) {
+                    return this == other || !(other == null || getClass() != other.getClass())
+                            && typeName.equals(((CacheProvider) other).typeName)
+                            && typePool.equals(((CacheProvider) other).typePool);
+                }
+
+                @Override
+                public int hashCode() {
+                    return 31 * typeName.hashCode() + typePool.hashCode();
+                }
+
+                @Override
+                public String toString() {
+                    return "AgentBuilder.BinaryLocator.WithTypePoolCache.CacheProvider{" +
+                            "typeName='" + typeName + '\'' +
+                            ", typePool=" + typePool +
+                            '}';
+                }
+            }
+        }
+
         /**
          * A {@link net.bytebuddy.agent.builder.AgentBuilder.BinaryLocator} in initialized state.
          */
@@ -587,17 +952,228 @@ public interface AgentBuilder {
          */
         void onIgnored(String typeName);
 
-        /**
-         * Invoked after a class was attempted to be loaded, independently of its treatment.
-         *
-         * @param typeName The binary name of the instrumented type.
-         */
-        void onComplete(String typeName);
+        /**
+         * Invoked after a class was attempted to be loaded, independently of its treatment.
+         *
+         * @param typeName The binary name of the instrumented type.
+         */
+        void onComplete(String typeName);
+
+        /**
+         * A no-op implementation of a {@link net.bytebuddy.agent.builder.AgentBuilder.Listener}.
+         */
+        enum NoOp implements Listener {
+
+            /**
+             * The singleton instance.
+             */
+            INSTANCE;
+
+            @Override
+            public void onTransformation(TypeDescription typeDescription, DynamicType dynamicType) {
+                /* do nothing */
+            }
+
+            @Override
+            public void onError(String typeName, Throwable throwable) {
+                /* do nothing */
+            }
+
+            @Override
+            public void onIgnored(String typeName) {
+                /* do nothing */
+            }
+
+            @Override
+            public void onComplete(String typeName) {
+                /* do nothing */
+            }
+
+            @Override
+            public String toString() {
+                return "AgentBuilder.Listener.NoOp." + name();
+            }
+        }
+
+        /**
+         * A compound listener that allows to group several listeners in one instance.
+         */
+        class Compound implements Listener {
+
+            /**
+             * The listeners that are represented by this compound listener in their application order.
+             */
+            private final Listener[] listener;
+
+            /**
+             * Creates a new compound listener.
+             *
+             * @param listener The listeners to apply in their application order.
+             */
+            public Compound(Listener... listener) {
+                this.listener = listener;
+            }
+
+            @Override
+            public void onTransformation(TypeDescription typeDescription, DynamicType dynamicType) {
+                for (Listener listener : this.listener) {
+                    listener.onTransformation(typeDescription, dynamicType);
+                }
+            }
+
+            @Override
+            public void onError(String typeName, Throwable throwable) {
+                for (Listener listener : this.listener) {
+                    listener.onError(typeName, throwable);
+                }
+            }
+
+            @Override
+            public void onIgnored(String typeName) {
+                for (Listener listener : this.listener) {
+                    listener.onIgnored(typeName);
+                }
+            }
+
+            @Override
+            public void onComplete(String typeName) {
+                for (Listener listener : this.listener) {
+                    listener.onComplete(typeName);
+                }
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                return this == other || !(other == null || getClass() != other.getClass())
+                        && Arrays.equals(listener, ((Compound) other).listener);
+            }
+
+            @Override
+            public int hashCode() {
+                return Arrays.hashCode(listener);
+            }
+
+            @Override
+            public String toString() {
+                return "AgentBuilder.Listener.Compound{" +
+                        "listener=" + Arrays.toString(listener) +
+                        '}';
+            }
+        }
+    }
+
+    /**
+     * A monitor that is notified about the phases of a class file transformation that is applied by an
+     * {@link net.bytebuddy.agent.builder.AgentBuilder} together with the time each phase consumed. Other than a
+     * {@link net.bytebuddy.agent.builder.AgentBuilder.Listener}, a monitor is only notified if it is
+     * {@link net.bytebuddy.agent.builder.AgentBuilder.Monitor#isEnabled() enabled}. Otherwise, no time is
+     * measured such that a disabled monitor does not impose an overhead on the transformation.
+     */
+    interface Monitor {
+
+        /**
+         * Returns {@code true} if this monitor should be notified about transformations.
+         *
+         * @return {@code true} if this monitor should be notified about transformations.
+         */
+        boolean isEnabled();
+
+        /**
+         * Invoked after a phase of a transformation was completed.
+         *
+         * @param typeName The binary name of the instrumented type.
+         * @param phase    The phase that was completed.
+         * @param duration The time in nanoseconds that was consumed by the phase.
+         */
+        void onPhase(String typeName, Phase phase, long duration);
+
+        /**
+         * Invoked when a type was matched by a registered transformation.
+         *
+         * @param typeName The binary name of the instrumented type.
+         */
+        void onMatch(String typeName);
+
+        /**
+         * Invoked after a class was attempted to be loaded, independently of its treatment.
+         *
+         * @param typeName The binary name of the instrumented type.
+         * @param outcome  The outcome of the transformation.
+         * @param size     The size of the transformed class file in bytes or {@code 0} if the type was not transformed.
+         */
+        void onComplete(String typeName, Outcome outcome, int size);
+
+        /**
+         * Represents a phase of a class file transformation.
+         */
+        enum Phase {
+
+            /**
+             * The phase of applying all pre-filters of registered raw matchers to the name and class loader of a type.
+             */
+            PREFILTERING,
+
+            /**
+             * The phase of locating the binary representation of a type and of resolving its description.
+             */
+            RESOLUTION,
+
+            /**
+             * The phase of applying the registered raw matchers to a described type.
+             */
+            MATCHING,
+
+            /**
+             * The phase of applying the matched transformers and of creating the transformed class file.
+             */
+            GENERATION,
+
+            /**
+             * The phase of injecting the auxiliary types of a transformed type.
+             */
+            INJECTION,
+
+            /**
+             * The phase of registering the loaded type initializer of a transformed type.
+             */
+            REGISTRATION;
+
+            @Override
+            public String toString() {
+                return "AgentBuilder.Monitor.Phase." + name();
+            }
+        }
+
+        /**
+         * Represents the outcome of a class file transformation.
+         */
+        enum Outcome {
+
+            /**
+             * Indicates that a type was not transformed.
+             */
+            IGNORED,
+
+            /**
+             * Indicates that a type was transformed.
+             */
+            TRANSFORMED,
+
+            /**
+             * Indicates that an error occurred during the transformation of a type.
+             */
+            FAILED;
+
+            @Override
+            public String toString() {
+                return "AgentBuilder.Monitor.Outcome." + name();
+            }
+        }
 
         /**
-         * A no-op implementation of a {@link net.bytebuddy.agent.builder.AgentBuilder.Listener}.
+         * A disabled monitor that is never notified.
          */
-        enum NoOp implements Listener {
+        enum Disabled implements Monitor {
 
             /**
              * The singleton instance.
@@ -605,93 +1181,349 @@ public interface AgentBuilder {
             INSTANCE;
 
             @Override
-            public void onTransformation(TypeDescription typeDescription, DynamicType dynamicType) {
-                /* do nothing */
+            public boolean isEnabled() {
+                return false;
             }
 
             @Override
-            public void onError(String typeName, Throwable throwable) {
+            public void onPhase(String typeName, Phase phase, long duration) {
                 /* do nothing */
             }
 
             @Override
-            public void onIgnored(String typeName) {
+            public void onMatch(String typeName) {
                 /* do nothing */
             }
 
             @Override
-            public void onComplete(String typeName) {
+            public void onComplete(String typeName, Outcome outcome, int size) {
                 /* do nothing */
             }
 
             @Override
             public String toString() {
-                return "AgentBuilder.Listener.NoOp." + name();
+                return "AgentBuilder.Monitor.Disabled." + name();
             }
         }
 
         /**
-         * A compound listener that allows to group several listeners in one instance.
+         * The management interface of a {@link net.bytebuddy.agent.builder.AgentBuilder.Monitor.Statistics} monitor
+         * which allows for its registration as a standard MBean. All durations are reported in nanoseconds.
          */
-        class Compound implements Listener {
+        interface StatisticsMBean {
 
             /**
-             * The listeners that are represented by this compound listener in their application order.
+             * Returns the number of types that were presented to the transformer.
+             *
+             * @return The number of types that were presented to the transformer.
              */
-            private final Listener[] listener;
+            long getTypesSeen();
 
             /**
-             * Creates a new compound listener.
+             * Returns the number of types that were matched by a registered transformation.
              *
-             * @param listener The listeners to apply in their application order.
+             * @return The number of types that were matched by a registered transformation.
              */
-            public Compound(Listener... listener) {
-                this.listener = listener;
+            long getTypesMatched();
+
+            /**
+             * Returns the number of types that were transformed.
+             *
+             * @return The number of types that were transformed.
+             */
+            long getTypesTransformed();
+
+            /**
+             * Returns the number of types for which the transformation failed.
+             *
+             * @return The number of types for which the transformation failed.
+             */
+            long getTypesFailed();
+
+            /**
+             * Returns the total number of bytes of all transformed class files.
+             *
+             * @return The total number of bytes of all transformed class files.
+             */
+            long getBytesProduced();
+
+            /**
+             * Returns the total time that was spent for applying pre-filters.
+             *
+             * @return The total time that was spent for applying pre-filters.
+             */
+            long getPrefilteringTime();
+
+            /**
+             * Returns the total time that was spent for resolving type descriptions.
+             *
+             * @return The total time that was spent for resolving type descriptions.
+             */
+            long getResolutionTime();
+
+            /**
+             * Returns the total time that was spent for matching type descriptions.
+             *
+             * @return The total time that was spent for matching type descriptions.
+             */
+            long getMatchingTime();
+
+            /**
+             * Returns the total time that was spent for generating transformed class files.
+             *
+             * @return The total time that was spent for generating transformed class files.
+             */
+            long getGenerationTime();
+
+            /**
+             * Returns the total time that was spent for injecting auxiliary types.
+             *
+             * @return The total time that was spent for injecting auxiliary types.
+             */
+            long getInjectionTime();
+
+            /**
+             * Returns the total time that was spent for registering loaded type initializers.
+             *
+             * @return The total time that was spent for registering loaded type initializers.
+             */
+            long getRegistrationTime();
+
+            /**
+             * Returns a histogram of the durations of the phase of the given name. The value at index {@code i}
+             * represents the number of durations {@code d} with {@code 2^(i-1) <= d < 2^i} nanoseconds.
+             *
+             * @param phase The name of the phase as defined by {@link net.bytebuddy.agent.builder.AgentBuilder.Monitor.Phase}.
+             * @return A histogram of the durations of the given phase.
+             */
+            long[] histogram(String phase);
+
+            /**
+             * Resets all counters and timers of this monitor.
+             */
+            void reset();
+        }
+
+        /**
+         * A monitor that collects counters, total durations and histograms of durations of all transformation
+         * phases. This monitor is thread-safe and can be registered as a standard MBean, for example by
+         * {@link net.bytebuddy.agent.builder.AgentBuilder.Monitor.Statistics#registerOn(javax.management.MBeanServer, String)}.
+         */
+        class Statistics implements Monitor, StatisticsMBean {
+
+            /**
+             * The number of buckets of a histogram, one for each possible bit length of a duration.
+             */
+            private static final int BUCKETS = Long.SIZE + 1;
+
+            /**
+             * The number of types that were presented to the transformer.
+             */
+            private final AtomicLong typesSeen;
+
+            /**
+             * The number of types that were matched by a registered transformation.
+             */
+            private final AtomicLong typesMatched;
+
+            /**
+             * The number of types that were transformed.
+             */
+            private final AtomicLong typesTransformed;
+
+            /**
+             * The number of types for which the transformation failed.
+             */
+            private final AtomicLong typesFailed;
+
+            /**
+             * The total number of bytes of all transformed class files.
+             */
+            private final AtomicLong bytesProduced;
+
+            /**
+             * The total durations of all phases, indexed by their ordinal.
+             */
+            private final AtomicLongArray durations;
+
+            /**
+             * The histograms of all phases, indexed by their ordinal.
+             */
+            private final AtomicLongArray[] histograms;
+
+            /**
+             * Creates a new statistics monitor.
+             */
+            public Statistics() {
+                typesSeen = new AtomicLong();
+                typesMatched = new AtomicLong();
+                typesTransformed = new AtomicLong();
+                typesFailed = new AtomicLong();
+                bytesProduced = new AtomicLong();
+                durations = new AtomicLongArray(Phase.values().length);
+                histograms = new AtomicLongArray[Phase.values().length];
+                for (int index = 0; index < histograms.length; index++) {
+                    histograms[index] = new AtomicLongArray(BUCKETS);
+                }
             }
 
             @Override
-            public void onTransformation(TypeDescription typeDescription, DynamicType dynamicType) {
-                for (Listener listener : this.listener) {
-                    listener.onTransformation(typeDescription, dynamicType);
-                }
+            public boolean isEnabled() {
+                return true;
             }
 
             @Override
-            public void onError(String typeName, Throwable throwable) {
-                for (Listener listener : this.listener) {
-                    listener.onError(typeName, throwable);
-                }
+            public void onPhase(String typeName, Phase phase, long duration) {
+                durations.addAndGet(phase.ordinal(), duration);
+                histograms[phase.ordinal()].incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(Math.max(0L, duration)));
             }
 
             @Override
-            public void onIgnored(String typeName) {
-                for (Listener listener : this.listener) {
-                    listener.onIgnored(typeName);
-                }
+            public void onMatch(String typeName) {
+                typesMatched.incrementAndGet();
             }
 
             @Override
-            public void onComplete(String typeName) {
-                for (Listener listener : this.listener) {
-                    listener.onComplete(typeName);
+            public void onComplete(String typeName, Outcome outcome, int size) {
+                typesSeen.incrementAndGet();
+                switch (outcome) {
+                    case TRANSFORMED:
+                        typesTransformed.incrementAndGet();
+                        bytesProduced.addAndGet(size);
+                        break;
+                    case FAILED:
+                        typesFailed.incrementAndGet();
+                        break;
+                    default:
+                        break;
                 }
             }
 
             @Override
-            public boolean equals(Object other) {
-                return this == other || !(other == null || getClass() != other.getClass())
-                        && Arrays.equals(listener, ((Compound) other).listener);
+            public long getTypesSeen() {
+                return typesSeen.get();
             }
 
             @Override
-            public int hashCode() {
-                return Arrays.hashCode(listener);
+            public long getTypesMatched() {
+                return typesMatched.get();
+            }
+
+            @Override
+            public long getTypesTransformed() {
+                return typesTransformed.get();
+            }
+
+            @Override
+            public long getTypesFailed() {
+                return typesFailed.get();
+            }
+
+            @Override
+            public long getBytesProduced() {
+                return bytesProduced.get();
+            }
+
+            @Override
+            public long getPrefilteringTime() {
+                return getDuration(Phase.PREFILTERING);
+            }
+
+            @Override
+            public long getResolutionTime() {
+                return getDuration(Phase.RESOLUTION);
+            }
+
+            @Override
+            public long getMatchingTime() {
+                return getDuration(Phase.MATCHING);
+            }
+
+            @Override
+            public long getGenerationTime() {
+                return getDuration(Phase.GENERATION);
+            }
+
+            @Override
+            public long getInjectionTime() {
+                return getDuration(Phase.INJECTION);
+            }
+
+            @Override
+            public long getRegistrationTime() {
+                return getDuration(Phase.REGISTRATION);
+            }
+
+            /**
+             * Returns the total time in nanoseconds that was spent in the given phase.
+             *
+             * @param phase The phase for which to return the total time.
+             * @return The total time in nanoseconds that was spent in the given phase.
+             */
+            public long getDuration(Phase phase) {
+                return durations.get(phase.ordinal());
+            }
+
+            @Override
+            public long[] histogram(String phase) {
+                return getHistogram(Phase.valueOf(phase));
+            }
+
+            /**
+             * Returns a histogram of the durations of the given phase. The value at index {@code i} represents the
+             * number of durations {@code d} with {@code 2^(i-1) <= d < 2^i} nanoseconds.
+             *
+             * @param phase The phase for which to return a histogram.
+             * @return A histogram of the durations of the given phase.
+             */
+            public long[] getHistogram(Phase phase) {
+                AtomicLongArray histogram = histograms[phase.ordinal()];
+                long[] values = new long[histogram.length()];
+                for (int index = 0; index < values.length; index++) {
+                    values[index] = histogram.get(index);
+                }
+                return values;
+            }
+
+            @Override
+            public void reset() {
+                typesSeen.set(0L);
+                typesMatched.set(0L);
+                typesTransformed.set(0L);
+                typesFailed.set(0L);
+                bytesProduced.set(0L);
+                for (int phase = 0; phase < histograms.length; phase++) {
+                    durations.set(phase, 0L);
+                    for (int index = 0; index < histograms[phase].length(); index++) {
+                        histograms[phase].set(index, 0L);
+                    }
+                }
+            }
+
+            /**
+             * Registers this monitor as a standard MBean on the given MBean server.
+             *
+             * @param mBeanServer The MBean server to register this monitor on.
+             * @param objectName  The object name to register this monitor under.
+             * @return The registered object instance.
+             */
+            public ObjectInstance registerOn(MBeanServer mBeanServer, String objectName) {
+                try {
+                    return mBeanServer.registerMBean(this, new ObjectName(objectName));
+                } catch (JMException e) {
+                    throw new IllegalStateException("Cannot register " + this + " as " + objectName, e);
+                }
             }
 
             @Override
             public String toString() {
-                return "AgentBuilder.Listener.Compound{" +
-                        "listener=" + Arrays.toString(listener) +
+                return "AgentBuilder.Monitor.Statistics{" +
+                        "typesSeen=" + typesSeen +
+                        ", typesMatched=" + typesMatched +
+                        ", typesTransformed=" + typesTransformed +
+                        ", typesFailed=" + typesFailed +
+                        ", bytesProduced=" + bytesProduced +
+                        ", durations=" + durations +
                         '}';
             }
         }
@@ -744,6 +1576,11 @@ public interface AgentBuilder {
          */
         private final Listener listener;
 
+        /**
+         * The monitor to notify about the phases of transformations.
+         */
+        private final Monitor monitor;
+
         /**
          * The native method prefix to use which might also represent
          * {@link net.bytebuddy.agent.builder.AgentBuilder.Default#NO_NATIVE_PREFIX} to indicate that no
@@ -788,8 +1625,9 @@ public interface AgentBuilder {
          */
         public Default(ByteBuddy byteBuddy) {
             this(nonNull(byteBuddy),
-                    BinaryLocator.Default.INSTANCE,
+                    new BinaryLocator.WithTypePoolCache(),
                     Listener.NoOp.INSTANCE,
+                    Monitor.Disabled.INSTANCE,
                     NO_NATIVE_PREFIX,
                     false,
                     false,
@@ -803,6 +1641,7 @@ public interface AgentBuilder {
          * @param byteBuddy                  The Byte Buddy instance to be used.
          * @param binaryLocator              The binary locator to use.
          * @param listener                   The listener to notify on transformations.
+         * @param monitor                    The monitor to notify about the phases of transformations.
          * @param nativeMethodPrefix         The native method prefix to use which might also represent
          *                                   {@link net.bytebuddy.agent.builder.AgentBuilder.Default#NO_NATIVE_PREFIX}
          *                                   to indicate that no prefix should be added but rather a random suffix.
@@ -819,6 +1658,7 @@ public interface AgentBuilder {
         protected Default(ByteBuddy byteBuddy,
                           BinaryLocator binaryLocator,
                           Listener listener,
+                          Monitor monitor,
                           String nativeMethodPrefix,
                           boolean disableSelfInitialization,
                           boolean retransformation,
@@ -827,6 +1667,7 @@ public interface AgentBuilder {
             this.byteBuddy = byteBuddy;
             this.binaryLocator = binaryLocator;
             this.listener = listener;
+            this.monitor = monitor;
             this.nativeMethodPrefix = nativeMethodPrefix;
             this.disableSelfInitialization = disableSelfInitialization;
             this.retransformation = retransformation;
@@ -855,6 +1696,7 @@ public interface AgentBuilder {
             return new Default(nonNull(byteBuddy),
                     binaryLocator,
                     listener,
+                    monitor,
                     nativeMethodPrefix,
                     disableSelfInitialization,
                     retransformation,
@@ -867,6 +1709,20 @@ public interface AgentBuilder {
             return new Default(byteBuddy,
                     binaryLocator,
                     new Listener.Compound(this.listener, nonNull(listener)),
+                    monitor,
+                    nativeMethodPrefix,
+                    disableSelfInitialization,
+                    retransformation,
+                    bootstrapInjectionStrategy,
+                    entries);
+        }
+
+        @Override
+        public AgentBuilder withMonitor(Monitor monitor) {
+            return new Default(byteBuddy,
+                    binaryLocator,
+                    listener,
+                    nonNull(monitor),
                     nativeMethodPrefix,
                     disableSelfInitialization,
                     retransformation,
@@ -879,6 +1735,7 @@ public interface AgentBuilder {
             return new Default(byteBuddy,
                     nonNull(binaryLocator),
                     listener,
+                    monitor,
                     nativeMethodPrefix,
                     disableSelfInitialization,
                     retransformation,
@@ -894,6 +1751,7 @@ public interface AgentBuilder {
             return new Default(byteBuddy,
                     binaryLocator,
                     listener,
+                    monitor,
                     prefix,
                     disableSelfInitialization,
                     retransformation,
@@ -906,6 +1764,7 @@ public interface AgentBuilder {
             return new Default(byteBuddy,
                     binaryLocator,
                     listener,
+                    monitor,
                     nativeMethodPrefix,
                     disableSelfInitialization,
                     true,
@@ -918,6 +1777,7 @@ public interface AgentBuilder {
             return new Default(byteBuddy,
                     binaryLocator,
                     listener,
+                    monitor,
                     nativeMethodPrefix,
                     true,
                     retransformation,
@@ -930,6 +1790,7 @@ public interface AgentBuilder {
             return new Default(byteBuddy,
                     binaryLocator,
                     listener,
+                    monitor,
                     nativeMethodPrefix,
                     true,
                     retransformation,
@@ -937,9 +1798,22 @@ public interface AgentBuilder {
                     entries);
         }
 
+        @Override
+        public AgentBuilder enableUnsafeBootstrapInjection() {
+            return new Default(byteBuddy,
+                    binaryLocator,
+                    listener,
+                    monitor,
+                    nativeMethodPrefix,
+                    true,
+                    retransformation,
+                    BootstrapInjectionStrategy.UsingUnsafe.INSTANCE,
+                    entries);
+        }
+
         @Override
         public ClassFileTransformer makeRaw() {
-            return new ExecutingTransformer();
+            return new ExecutingTransformer(monitor.isEnabled());
         }
 
         @Override
@@ -972,6 +1846,7 @@ public interface AgentBuilder {
             return binaryLocator.equals(aDefault.binaryLocator)
                     && byteBuddy.equals(aDefault.byteBuddy)
                     && listener.equals(aDefault.listener)
+                    && monitor.equals(aDefault.monitor)
                     && nativeMethodPrefix.equals(aDefault.nativeMethodPrefix)
                     && disableSelfInitialization == aDefault.disableSelfInitialization
                     && retransformation == aDefault.retransformation
@@ -985,6 +1860,7 @@ public interface AgentBuilder {
             int result = byteBuddy.hashCode();
             result = 31 * result + binaryLocator.hashCode();
             result = 31 * result + listener.hashCode();
+            result = 31 * result + monitor.hashCode();
             result = 31 * result + nativeMethodPrefix.hashCode();
             result = 31 * result + (disableSelfInitialization ? 1 : 0);
             result = 31 * result + (retransformation ? 1 : 0);
@@ -999,6 +1875,7 @@ public interface AgentBuilder {
                     "byteBuddy=" + byteBuddy +
                     ", binaryLocator=" + binaryLocator +
                     ", listener=" + listener +
+                    ", monitor=" + monitor +
                     ", nativeMethodPrefix=" + nativeMethodPrefix +
                     ", disableSelfInitialization=" + disableSelfInitialization +
                     ", retransformation=" + retransformation +
@@ -1457,6 +2334,34 @@ public interface AgentBuilder {
                             '}';
                 }
             }
+
+            /**
+             * A bootstrap injection strategy that defines classes by the {@code sun.misc.Unsafe} class without appending
+             * jar files to the bootstrap class path. The classes are defined with the default protection domain as the
+             * protection domain of an instrumented type does not apply to classes of the bootstrap class loader.
+             */
+            enum UsingUnsafe implements BootstrapInjectionStrategy {
+
+                /**
+                 * The singleton instance.
+                 */
+                INSTANCE;
+
+                /**
+                 * A representation of the bootstrap class loader.
+                 */
+                private static final ClassLoader BOOTSTRAP_CLASS_LOADER = null;
+
+                @Override
+                public ClassInjector make(ProtectionDomain protectionDomain) {
+                    return new ClassInjector.UsingUnsafe(BOOTSTRAP_CLASS_LOADER, ClassInjector.DEFAULT_PROTECTION_DOMAIN);
+                }
+
+                @Override
+                public String toString() {
+                    return "AgentBuilder.Default.BootstrapInjectionStrategy.UsingUnsafe." + name();
+                }
+            }
         }
 
         /**
@@ -1464,7 +2369,7 @@ public interface AgentBuilder {
          * {@link net.bytebuddy.agent.builder.AgentBuilder.RawMatcher} and a
          * {@link net.bytebuddy.agent.builder.AgentBuilder.Transformer}.
          */
-        protected static class Transformation implements RawMatcher, Transformer {
+        protected static class Transformation implements RawMatcher.Prefiltering, Transformer {
 
             /**
              * The raw matcher that is represented by this transformation.
@@ -1487,6 +2392,15 @@ public interface AgentBuilder {
                 this.transformer = transformer;
             }
 
+            @Override
+            public boolean isCandidate(String typeName,
+                                       ClassLoader classLoader,
+                                       Class<?> classBeingRedefined,
+                                       ProtectionDomain protectionDomain) {
+                return !(rawMatcher instanceof Prefiltering)
+                        || ((Prefiltering) rawMatcher).isCandidate(typeName, classLoader, classBeingRedefined, protectionDomain);
+            }
+
             @Override
             public boolean matches(TypeDescription typeDescription,
                                    ClassLoader classLoader,
@@ -1539,10 +2453,19 @@ public interface AgentBuilder {
              */
             private final InitializationStrategy initializationStrategy;
 
+            /**
+             * {@code true} if the monitor is enabled and should be notified about the phases of transformations.
+             */
+            private final boolean enabled;
+
             /**
              * Creates a new executing transformer that reflects the enclosing agent builder's configuration.
+             *
+             * @param enabled {@code true} if the monitor is enabled and should be notified about the phases of
+             *                transformations.
              */
-            public ExecutingTransformer() {
+            public ExecutingTransformer(boolean enabled) {
+                this.enabled = enabled;
                 methodNameTransformer = NO_NATIVE_PREFIX.equals(nativeMethodPrefix)
                         ? new MethodRebaseResolver.MethodNameTransformer.Suffixing()
                         : new MethodRebaseResolver.MethodNameTransformer.Prefixing(nativeMethodPrefix);
@@ -1558,15 +2481,30 @@ public interface AgentBuilder {
                                     ProtectionDomain protectionDomain,
                                     byte[] binaryRepresentation) {
                 String binaryTypeName = internalTypeName.replace('/', '.');
+                long time = enabled ? System.nanoTime() : 0L;
                 try {
+                    List<Transformation> candidates = candidates(binaryTypeName, classLoader, classBeingRedefined, protectionDomain);
+                    if (candidates.isEmpty()) {
+                        onPhase(binaryTypeName, Monitor.Phase.PREFILTERING, time);
+                        listener.onIgnored(binaryTypeName);
+                        onComplete(binaryTypeName, Monitor.Outcome.IGNORED, NO_TRANSFORMATION);
+                        return NO_TRANSFORMATION;
+                    }
+                    time = onPhase(binaryTypeName, Monitor.Phase.PREFILTERING, time);
                     BinaryLocator.Initialized initialized = binaryLocator.initialize(binaryTypeName, binaryRepresentation, classLoader);
                     TypeDescription typeDescription = initialized.getTypePool().describe(binaryTypeName).resolve();
-                    for (Transformation transformation : entries) {
+                    time = onPhase(binaryTypeName, Monitor.Phase.RESOLUTION, time);
+                    for (Transformation transformation : candidates) {
                         if (transformation.matches(typeDescription, classLoader, classBeingRedefined, protectionDomain)) {
+                            time = onPhase(binaryTypeName, Monitor.Phase.MATCHING, time);
+                            if (enabled) {
+                                monitor.onMatch(binaryTypeName);
+                            }
                             DynamicType.Unloaded<?> dynamicType = initializationStrategy.apply(
                                     transformation.transform(byteBuddy.rebase(typeDescription,
                                             initialized.getClassFileLocator(),
                                             methodNameTransformer), typeDescription)).make();
+                            time = onPhase(binaryTypeName, Monitor.Phase.GENERATION, time);
                             Map<TypeDescription, LoadedTypeInitializer> loadedTypeInitializers = dynamicType.getLoadedTypeInitializers();
                             if (loadedTypeInitializers.size() > 1) {
                                 ClassInjector classInjector = classLoader == null
@@ -1575,28 +2513,96 @@ public interface AgentBuilder {
                                 for (Map.Entry<TypeDescription, Class<?>> auxiliary : classInjector.inject(dynamicType.getRawAuxiliaryTypes()).entrySet()) {
                                     initializationStrategy.initialize(auxiliary.getValue(), loadedTypeInitializers.get(auxiliary.getKey()));
                                 }
+                                time = onPhase(binaryTypeName, Monitor.Phase.INJECTION, time);
                             }
                             initializationStrategy.register(binaryTypeName, classLoader, loadedTypeInitializers.get(dynamicType.getTypeDescription()));
+                            onPhase(binaryTypeName, Monitor.Phase.REGISTRATION, time);
                             listener.onTransformation(typeDescription, dynamicType);
-                            return dynamicType.getBytes();
+                            byte[] transformed = dynamicType.getBytes();
+                            onComplete(binaryTypeName, Monitor.Outcome.TRANSFORMED, transformed);
+                            return transformed;
                         }
                     }
+                    onPhase(binaryTypeName, Monitor.Phase.MATCHING, time);
                     listener.onIgnored(binaryTypeName);
+                    onComplete(binaryTypeName, Monitor.Outcome.IGNORED, NO_TRANSFORMATION);
                     return NO_TRANSFORMATION;
                 } catch (Throwable throwable) {
                     listener.onError(binaryTypeName, throwable);
+                    onComplete(binaryTypeName, Monitor.Outcome.FAILED, NO_TRANSFORMATION);
                     return NO_TRANSFORMATION;
                 } finally {
                     listener.onComplete(binaryTypeName);
                 }
             }
 
+            /**
+             * Notifies the monitor about the completion of a phase if the monitor is enabled.
+             *
+             * @param typeName The binary name of the instrumented type.
+             * @param phase    The phase that was completed.
+             * @param time     The value of {@link System#nanoTime()} when the phase was started.
+             * @return The value of {@link System#nanoTime()} when the phase was completed or {@code 0} if the
+             * monitor is disabled.
+             */
+            private long onPhase(String typeName, Monitor.Phase phase, long time) {
+                if (!enabled) {
+                    return 0L;
+                }
+                long now = System.nanoTime();
+                monitor.onPhase(typeName, phase, now - time);
+                return now;
+            }
+
+            /**
+             * Notifies the monitor about the completion of a transformation if the monitor is enabled.
+             *
+             * @param typeName    The binary name of the instrumented type.
+             * @param outcome     The outcome of the transformation.
+             * @param transformed The transformed class file or {@code null} if the type was not transformed.
+             */
+            private void onComplete(String typeName, Monitor.Outcome outcome, byte[] transformed) {
+                if (enabled) {
+                    monitor.onComplete(typeName, outcome, transformed == NO_TRANSFORMATION ? 0 : transformed.length);
+                }
+            }
+
+            /**
+             * Collects all registered transformations that consider a type a candidate for their transformation in
+             * their registration order. If no transformation considers a type a candidate, the type does not need to
+             * be described.
+             *
+             * @param typeName            The binary name of the type being loaded.
+             * @param classLoader         The class loader of the type being loaded.
+             * @param classBeingRedefined The class being redefined or {@code null} if the type is loaded for the first time.
+             * @param protectionDomain    The protection domain of the type being loaded.
+             * @return All transformations that consider the type a candidate.
+             */
+            private List<Transformation> candidates(String typeName,
+                                                    ClassLoader classLoader,
+                                                    Class<?> classBeingRedefined,
+                                                    ProtectionDomain protectionDomain) {
+                List<Transformation> candidates = null;
+                for (Transformation transformation : entries) {
+                    if (transformation.isCandidate(typeName, classLoader, classBeingRedefined, protectionDomain)) {
+                        if (candidates == null) {
+                            candidates = new ArrayList<Transformation>(entries.size());
+                        }
+                        candidates.add(transformation);
+                    }
+                }
+                return candidates == null
+                        ? Collections.<Transformation>emptyList()
+                        : candidates;
+            }
+
             @Override
             public String toString() {
                 return "AgentBuilder.Default.ExecutingTransformer{" +
                         "agentBuilder=" + Default.this +
                         ", methodNameTransformer=" + methodNameTransformer +
                         ", initializationStrategy=" + initializationStrategy +
+                        ", enabled=" + enabled +
                         '}';
             }
         }
@@ -1660,6 +2666,11 @@ public interface AgentBuilder {
                 return materialize().withListener(listener);
             }
 
+            @Override
+            public AgentBuilder withMonitor(Monitor monitor) {
+                return materialize().withMonitor(monitor);
+            }
+
             @Override
             public AgentBuilder withBinaryLocator(BinaryLocator binaryLocator) {
                 return materialize().withBinaryLocator(binaryLocator);
@@ -1685,6 +2696,11 @@ public interface AgentBuilder {
                 return materialize().enableBootstrapInjection(folder, instrumentation);
             }
 
+            @Override
+            public AgentBuilder enableUnsafeBootstrapInjection() {
+                return materialize().enableUnsafeBootstrapInjection();
+            }
+
             @Override
             public ClassFileTransformer makeRaw() {
                 return materialize().makeRaw();
@@ -1709,6 +2725,7 @@ public interface AgentBuilder {
                 return new Default(byteBuddy,
                         binaryLocator,
                         listener,
+                        monitor,
                         nativeMethodPrefix,
                         disableSelfInitialization,
                         retransformation,
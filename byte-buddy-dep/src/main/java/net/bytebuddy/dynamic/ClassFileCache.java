@@ -0,0 +1,399 @@
+package net.bytebuddy.dynamic;
+
+import net.bytebuddy.instrumentation.LoadedTypeInitializer;
+import net.bytebuddy.instrumentation.type.TypeDescription;
+import net.bytebuddy.pool.TypePool;
+
+import java.io.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static net.bytebuddy.utility.ByteBuddyCommons.nonNull;
+
+/**
+ * <p>
+ * A cache for the class files that are created by a {@link net.bytebuddy.dynamic.DynamicType.Builder}. When a builder
+ * is made via this cache, the cache first looks up a dynamic type that was previously created by an equal builder
+ * before the class files are written by the builder's type writer. Two builders are equal if they represent the
+ * same instrumented type, the same method and field registrations, the same class file version, the same class visitor
+ * wrappers and the same naming strategy.
+ * </p>
+ * <p>
+ * Optionally, created class files can be persisted to a {@link net.bytebuddy.dynamic.ClassFileCache.Storage} such
+ * that they can be reused by another virtual machine, for example after restarting an application. As the hash code
+ * of a builder is not stable among different runs of a virtual machine, such class files are stored by a key that
+ * is explicitly supplied by the user. This key must change whenever the class files that a builder creates might
+ * change, for example when the instrumented classes, the interceptors or the version of Byte Buddy are updated. Only
+ * dynamic types without any alive {@link net.bytebuddy.instrumentation.LoadedTypeInitializer}s are persisted as
+ * those initializers cannot be restored from a storage.
+ * </p>
+ * <p>
+ * <b>Note</b>: A builder that names its types by a random naming strategy creates a type of the same name whenever
+ * its dynamic type is retrieved from a cache. Such a type can only be loaded once by any class loader.
+ * </p>
+ */
+public class ClassFileCache {
+
+    /**
+     * The dynamic types that were created by this cache mapped by the builders that created them.
+     */
+    private final ConcurrentMap<DynamicType.Builder<?>, DynamicType.Unloaded<?>> dynamicTypes;
+
+    /**
+     * The storage for persisting class files among different runs of a virtual machine.
+     */
+    private final Storage storage;
+
+    /**
+     * Creates a new class file cache that only caches dynamic types in memory.
+     */
+    public ClassFileCache() {
+        this(Storage.NoOp.INSTANCE);
+    }
+
+    /**
+     * Creates a new class file cache.
+     *
+     * @param storage The storage for persisting class files among different runs of a virtual machine.
+     */
+    public ClassFileCache(Storage storage) {
+        this.storage = nonNull(storage);
+        dynamicTypes = new ConcurrentHashMap<DynamicType.Builder<?>, DynamicType.Unloaded<?>>();
+    }
+
+    /**
+     * Returns a dynamic type that was previously created by an equal builder or makes the given builder.
+     *
+     * @param builder The builder to make.
+     * @param <T>     The most specific known loaded type that is implemented by the created dynamic type.
+     * @return A dynamic type that represents the given builder.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> DynamicType.Unloaded<T> make(DynamicType.Builder<T> builder) {
+        DynamicType.Unloaded<?> dynamicType = dynamicTypes.get(builder);
+        if (dynamicType == null) {
+            dynamicType = builder.make();
+            DynamicType.Unloaded<?> previous = dynamicTypes.putIfAbsent(builder, dynamicType);
+            if (previous != null) {
+                dynamicType = previous;
+            }
+        }
+        return (DynamicType.Unloaded<T>) dynamicType;
+    }
+
+    /**
+     * Returns a dynamic type that was previously created by an equal builder, reads a dynamic type from this cache's
+     * storage or makes the given builder and persists its class files to this cache's storage.
+     *
+     * @param builder The builder to make.
+     * @param key     A key that identifies the class files that are created by the given builder among different
+     *                runs of a virtual machine.
+     * @param <T>     The most specific known loaded type that is implemented by the created dynamic type.
+     * @return A dynamic type that represents the given builder.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> DynamicType.Unloaded<T> make(DynamicType.Builder<T> builder, String key) {
+        DynamicType.Unloaded<?> dynamicType = dynamicTypes.get(builder);
+        if (dynamicType == null) {
+            dynamicType = storage.read(nonNull(key));
+            if (dynamicType == null) {
+                dynamicType = builder.make();
+                if (!dynamicType.hasAliveLoadedTypeInitializers()) {
+                    storage.write(key, dynamicType);
+                }
+            }
+            DynamicType.Unloaded<?> previous = dynamicTypes.putIfAbsent(builder, dynamicType);
+            if (previous != null) {
+                dynamicType = previous;
+            }
+        }
+        return (DynamicType.Unloaded<T>) dynamicType;
+    }
+
+    /**
+     * Returns the number of dynamic types that are currently cached in memory.
+     *
+     * @return The number of dynamic types that are currently cached in memory.
+     */
+    public int size() {
+        return dynamicTypes.size();
+    }
+
+    /**
+     * Removes all dynamic types that are cached in memory. This does not affect this cache's storage.
+     */
+    public void clear() {
+        dynamicTypes.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "ClassFileCache{" +
+                "dynamicTypes=" + dynamicTypes.size() +
+                ", storage=" + storage +
+                '}';
+    }
+
+    /**
+     * A storage for persisting the class files of dynamic types among different runs of a virtual machine.
+     */
+    public interface Storage {
+
+        /**
+         * Reads a dynamic type from this storage.
+         *
+         * @param key The key under which the dynamic type was stored.
+         * @return The stored dynamic type or {@code null} if no dynamic type is stored for the given key.
+         */
+        DynamicType.Unloaded<?> read(String key);
+
+        /**
+         * Writes a dynamic type to this storage.
+         *
+         * @param key         The key under which the dynamic type is stored.
+         * @param dynamicType The dynamic type to store which must not define any alive loaded type initializers.
+         */
+        void write(String key, DynamicType dynamicType);
+
+        /**
+         * A storage that does not persist any dynamic types.
+         */
+        enum NoOp implements Storage {
+
+            /**
+             * The singleton instance.
+             */
+            INSTANCE;
+
+            @Override
+            public DynamicType.Unloaded<?> read(String key) {
+                return null;
+            }
+
+            @Override
+            public void write(String key, DynamicType dynamicType) {
+                /* do nothing */
+            }
+
+            @Override
+            public String toString() {
+                return "ClassFileCache.Storage.NoOp." + name();
+            }
+        }
+
+        /**
+         * A storage that persists the class files of a dynamic type and its auxiliary types in a single file within
+         * a given folder. The file is named by a digest of the key under which a dynamic type is stored. A dynamic
+         * type is restored by describing its stored class files where any other type is located by a given class
+         * file locator. The folder must be cleared whenever the stored class files become stale.
+         */
+        class ForFolder implements Storage {
+
+            /**
+             * The file extension of a stored dynamic type.
+             */
+            private static final String FILE_EXTENSION = ".bbc";
+
+            /**
+             * A value that identifies the format of a stored dynamic type.
+             */
+            private static final int MAGIC = 0xB1EB0DD1;
+
+            /**
+             * The algorithm for computing a digest of a key.
+             */
+            private static final String DIGEST_ALGORITHM = "SHA-1";
+
+            /**
+             * The character encoding of a key.
+             */
+            private static final String KEY_ENCODING = "UTF-8";
+
+            /**
+             * A mask for the lower four bits of a byte.
+             */
+            private static final int HALF_BYTE = 0x0F;
+
+            /**
+             * The hexadecimal digits for naming a stored file.
+             */
+            private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+            /**
+             * The folder to which dynamic types are stored.
+             */
+            private final File folder;
+
+            /**
+             * The class file locator for locating types that are referenced by a stored dynamic type.
+             */
+            private final ClassFileLocator classFileLocator;
+
+            /**
+             * Creates a new storage within a folder that resolves references of stored types from the class path.
+             *
+             * @param folder The folder to which dynamic types are stored.
+             */
+            public ForFolder(File folder) {
+                this(folder, ClassFileLocator.ForClassLoader.ofClassPath());
+            }
+
+            /**
+             * Creates a new storage within a folder.
+             *
+             * @param folder           The folder to which dynamic types are stored.
+             * @param classFileLocator The class file locator for locating types that are referenced by a stored
+             *                         dynamic type.
+             */
+            public ForFolder(File folder, ClassFileLocator classFileLocator) {
+                this.folder = nonNull(folder);
+                this.classFileLocator = nonNull(classFileLocator);
+            }
+
+            @Override
+            public DynamicType.Unloaded<?> read(String key) {
+                File file = fileOf(key);
+                if (!file.isFile()) {
+                    return null;
+                }
+                Map<String, byte[]> classFiles = new LinkedHashMap<String, byte[]>();
+                try {
+                    DataInputStream inputStream = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+                    try {
+                        if (inputStream.readInt() != MAGIC || !inputStream.readUTF().equals(key)) {
+                            return null;
+                        }
+                        int count = inputStream.readInt();
+                        for (int index = 0; index < count; index++) {
+                            String name = inputStream.readUTF();
+                            byte[] binaryRepresentation = new byte[inputStream.readInt()];
+                            inputStream.readFully(binaryRepresentation);
+                            classFiles.put(name, binaryRepresentation);
+                        }
+                    } finally {
+                        inputStream.close();
+                    }
+                } catch (IOException ignored) {
+                    return null;
+                }
+                return restore(classFiles);
+            }
+
+            /**
+             * Restores a dynamic type from its class files.
+             *
+             * @param classFiles The class files of the dynamic type where the dynamic type's class file is the first
+             *                   entry, followed by the class files of all of its auxiliary types.
+             * @return A dynamic type that represents the given class files.
+             */
+            private DynamicType.Unloaded<?> restore(Map<String, byte[]> classFiles) {
+                TypePool typePool = new TypePool.Default(new TypePool.CacheProvider.Simple(),
+                        new ClassFileLocator.Compound(new ClassFileLocator.Simple(classFiles), classFileLocator));
+                Iterator<Map.Entry<String, byte[]>> iterator = classFiles.entrySet().iterator();
+                Map.Entry<String, byte[]> instrumentedType = iterator.next();
+                List<DynamicType> auxiliaryTypes = new ArrayList<DynamicType>(classFiles.size() - 1);
+                while (iterator.hasNext()) {
+                    Map.Entry<String, byte[]> auxiliaryType = iterator.next();
+                    auxiliaryTypes.add(new DynamicType.Default(typePool.describe(auxiliaryType.getKey()).resolve(),
+                            auxiliaryType.getValue(),
+                            LoadedTypeInitializer.NoOp.INSTANCE,
+                            Collections.<DynamicType>emptyList()));
+                }
+                return new DynamicType.Default.Unloaded<Object>(typePool.describe(instrumentedType.getKey()).resolve(),
+                        instrumentedType.getValue(),
+                        LoadedTypeInitializer.NoOp.INSTANCE,
+                        auxiliaryTypes);
+            }
+
+            @Override
+            public void write(String key, DynamicType dynamicType) {
+                Map<TypeDescription, byte[]> auxiliaryTypes = dynamicType.getRawAuxiliaryTypes();
+                try {
+                    if (!folder.isDirectory() && !folder.mkdirs()) {
+                        return;
+                    }
+                    File temporary = File.createTempFile(FILE_EXTENSION.substring(1), null, folder);
+                    DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporary)));
+                    try {
+                        outputStream.writeInt(MAGIC);
+                        outputStream.writeUTF(key);
+                        outputStream.writeInt(auxiliaryTypes.size() + 1);
+                        write(outputStream, dynamicType.getTypeDescription(), dynamicType.getBytes());
+                        for (Map.Entry<TypeDescription, byte[]> entry : auxiliaryTypes.entrySet()) {
+                            write(outputStream, entry.getKey(), entry.getValue());
+                        }
+                    } finally {
+                        outputStream.close();
+                    }
+                    File file = fileOf(key);
+                    if (!temporary.renameTo(file) && !(file.delete() && temporary.renameTo(file))) {
+                        temporary.delete();
+                    }
+                } catch (IOException ignored) {
+                    /* a storage is a best effort: a dynamic type that cannot be stored is created again */
+                }
+            }
+
+            /**
+             * Writes a single class file to an output stream.
+             *
+             * @param outputStream         The output stream to write to.
+             * @param typeDescription      A description of the written type.
+             * @param binaryRepresentation The binary representation of the written type.
+             * @throws IOException If an I/O error occurs.
+             */
+            private static void write(DataOutputStream outputStream,
+                                      TypeDescription typeDescription,
+                                      byte[] binaryRepresentation) throws IOException {
+                outputStream.writeUTF(typeDescription.getName());
+                outputStream.writeInt(binaryRepresentation.length);
+                outputStream.write(binaryRepresentation);
+            }
+
+            /**
+             * Returns the file in which a dynamic type of the given key is stored.
+             *
+             * @param key The key of the stored dynamic type.
+             * @return The file in which the dynamic type is stored.
+             */
+            private File fileOf(String key) {
+                try {
+                    byte[] digest = MessageDigest.getInstance(DIGEST_ALGORITHM).digest(key.getBytes(KEY_ENCODING));
+                    char[] name = new char[digest.length * 2];
+                    for (int index = 0; index < digest.length; index++) {
+                        name[index * 2] = HEX_DIGITS[(digest[index] >>> 4) & HALF_BYTE];
+                        name[index * 2 + 1] = HEX_DIGITS[digest[index] & HALF_BYTE];
+                    }
+                    return new File(folder, new String(name) + FILE_EXTENSION);
+                } catch (NoSuchAlgorithmException e) {
+                    throw new IllegalStateException("Cannot compute digest of " + key, e);
+                } catch (UnsupportedEncodingException e) {
+                    throw new IllegalStateException("Cannot encode " + key, e);
+                }
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                return this == other || !(other == null || getClass() != other.getClass())
+                        && folder.equals(((ForFolder) other).folder)
+                        && classFileLocator.equals(((ForFolder) other).classFileLocator);
+            }
+
+            @Override
+            public int hashCode() {
+                return 31 * folder.hashCode() + classFileLocator.hashCode();
+            }
+
+            @Override
+            public String toString() {
+                return "ClassFileCache.Storage.ForFolder{" +
+                        "folder=" + folder +
+                        ", classFileLocator=" + classFileLocator +
+                        '}';
+            }
+        }
+    }
+}
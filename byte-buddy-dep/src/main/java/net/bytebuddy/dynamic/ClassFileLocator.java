@@ -1,15 +1,18 @@
 package net.bytebuddy.dynamic;
 
+import net.bytebuddy.instrumentation.type.TypeDescription;
 import net.bytebuddy.utility.StreamDrainer;
 
-import java.io.IOException;
-import java.io.InputStream;
+import java.io.*;
 import java.lang.instrument.ClassFileTransformer;
 import java.lang.instrument.IllegalClassFormatException;
 import java.lang.instrument.Instrumentation;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
 import java.security.ProtectionDomain;
 import java.util.*;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import static net.bytebuddy.utility.ByteBuddyCommons.nonNull;
 
@@ -222,6 +225,75 @@ public interface ClassFileLocator {
                     "classLoader=" + classLoader +
                     '}';
         }
+
+        /**
+         * A class file locator that queries a class loader for binary representations of class files while only
+         * referencing this class loader weakly. This way, a long-lived locator does not prevent the garbage
+         * collection of the class loader it represents. Once the class loader is collected, any lookup is illegal.
+         */
+        public static class WeaklyReferenced implements ClassFileLocator {
+
+            /**
+             * A weak reference to the class loader to query.
+             */
+            private final WeakReference<ClassLoader> classLoader;
+
+            /**
+             * Creates a new weakly referencing class file locator for the given class loader.
+             *
+             * @param classLoader The class loader to query which must not be the bootstrap class loader, i.e. {@code null}.
+             */
+            protected WeaklyReferenced(ClassLoader classLoader) {
+                this.classLoader = new WeakReference<ClassLoader>(classLoader);
+            }
+
+            /**
+             * Creates a class file locator for a given class loader that only references this class loader weakly.
+             * The bootstrap class loader and the system class loader are never garbage collected such that a
+             * strongly referencing locator is returned for them.
+             *
+             * @param classLoader The class loader to be used. If this class loader represents the bootstrap class
+             *                    loader which is represented by the {@code null} value, this system class loader
+             *                    is used instead.
+             * @return A corresponding source locator.
+             */
+            public static ClassFileLocator of(ClassLoader classLoader) {
+                return classLoader == null || classLoader == ClassLoader.getSystemClassLoader()
+                        ? ForClassLoader.of(classLoader)
+                        : new WeaklyReferenced(classLoader);
+            }
+
+            @Override
+            public Resolution locate(String typeName) throws IOException {
+                ClassLoader classLoader = this.classLoader.get();
+                return classLoader == null
+                        ? Resolution.Illegal.INSTANCE
+                        : new ForClassLoader(classLoader).locate(typeName);
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                if (this == other) return true;
+                if (other == null || getClass() != other.getClass()) return false;
+                ClassLoader classLoader = this.classLoader.get();
+                return classLoader != null && classLoader == ((WeaklyReferenced) other).classLoader.get();
+            }
+
+            @Override
+            public int hashCode() {
+                ClassLoader classLoader = this.classLoader.get();
+                return classLoader == null
+                        ? 0
+                        : classLoader.hashCode();
+            }
+
+            @Override
+            public String toString() {
+                return "ClassFileLocator.ForClassLoader.WeaklyReferenced{" +
+                        "classLoader=" + classLoader.get() +
+                        '}';
+            }
+        }
     }
 
     /**
@@ -773,6 +845,491 @@ public interface ClassFileLocator {
         }
     }
 
+    /**
+     * A class file locator that reads class files directly from a class path of jar files and folders without
+     * querying a {@link java.lang.ClassLoader}. When this locator is created, all class files of the class path are
+     * indexed once such that locating a class file only requires a single look-up. Each class file is then read into
+     * an array of its exact size. If several elements of the class path contain a class file for the same type, the
+     * class file of the first element is located. Class files that are added to the class path after the creation of
+     * this locator are not located. This locator holds the jar files of the class path open until it is closed.
+     */
+    class ForClassPath implements ClassFileLocator, Closeable {
+
+        /**
+         * The name of the system property that contains the class path of the current virtual machine.
+         */
+        private static final String CLASS_PATH_PROPERTY = "java.class.path";
+
+        /**
+         * The file extension of a jar file.
+         */
+        private static final String JAR_FILE_EXTENSION = ".jar";
+
+        /**
+         * The name of a module descriptor which is stored in a class file but does not represent a type.
+         */
+        private static final String MODULE_INFO = "module-info";
+
+        /**
+         * The folder of a multi-release jar file that contains class files for specific versions of the Java platform
+         * which are not visible on the class path of a virtual machine that does not support such jar files.
+         */
+        private static final String VERSIONS_FOLDER = "META-INF/versions/";
+
+        /**
+         * The elements of the class path in their order.
+         */
+        private final List<Element> elements;
+
+        /**
+         * The indexed class files of the class path by the binary names of the types they represent.
+         */
+        private final Map<String, Element.ClassFile> classFiles;
+
+        /**
+         * Creates a new class file locator for a class path.
+         *
+         * @param elements   The elements of the class path in their order.
+         * @param classFiles The indexed class files of the class path by the binary names of the types they represent.
+         */
+        protected ForClassPath(List<Element> elements, Map<String, Element.ClassFile> classFiles) {
+            this.elements = elements;
+            this.classFiles = classFiles;
+        }
+
+        /**
+         * Creates a class file locator for the class path of the current virtual machine as it is defined by the
+         * {@code java.class.path} system property. Elements of this class path that do not exist are ignored.
+         *
+         * @return A class file locator for the class path of the current virtual machine.
+         * @throws IOException If the class path cannot be read.
+         */
+        public static ForClassPath ofClassPath() throws IOException {
+            List<File> files = new ArrayList<File>();
+            for (String element : System.getProperty(CLASS_PATH_PROPERTY).split(File.pathSeparator)) {
+                File file = new File(element);
+                if (file.exists()) {
+                    files.add(file);
+                }
+            }
+            return of(files);
+        }
+
+        /**
+         * Creates a class file locator for the given jar files and folders.
+         *
+         * @param file The jar files and folders that make up the class path in their order.
+         * @return A class file locator for the given class path.
+         * @throws IOException If the class path cannot be read.
+         */
+        public static ForClassPath of(File... file) throws IOException {
+            return of(Arrays.asList(file));
+        }
+
+        /**
+         * Creates a class file locator for the given jar files and folders.
+         *
+         * @param files The jar files and folders that make up the class path in their order.
+         * @return A class file locator for the given class path.
+         * @throws IOException If the class path cannot be read.
+         */
+        public static ForClassPath of(List<? extends File> files) throws IOException {
+            List<Element> elements = new ArrayList<Element>(files.size());
+            Map<String, Element.ClassFile> classFiles = new HashMap<String, Element.ClassFile>();
+            try {
+                for (File file : files) {
+                    Element element;
+                    if (file.isDirectory()) {
+                        element = new Element.ForFolder(file);
+                    } else if (file.isFile()) {
+                        element = new Element.ForJarFile(new ZipFile(file));
+                    } else {
+                        throw new IOException("Neither a folder nor a jar file: " + file);
+                    }
+                    elements.add(element);
+                    element.index(classFiles);
+                }
+            } catch (IOException e) {
+                for (Element element : elements) {
+                    element.close();
+                }
+                throw e;
+            }
+            return new ForClassPath(elements, classFiles);
+        }
+
+        @Override
+        public Resolution locate(String typeName) throws IOException {
+            Element.ClassFile classFile = classFiles.get(typeName);
+            return classFile == null
+                    ? Resolution.Illegal.INSTANCE
+                    : new Resolution.Explicit(classFile.read());
+        }
+
+        /**
+         * Returns the number of class files that are indexed by this class file locator.
+         *
+         * @return The number of class files that are indexed by this class file locator.
+         */
+        public int size() {
+            return classFiles.size();
+        }
+
+        @Override
+        public void close() throws IOException {
+            for (Element element : elements) {
+                element.close();
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || !(other == null || getClass() != other.getClass())
+                    && elements.equals(((ForClassPath) other).elements);
+        }
+
+        @Override
+        public int hashCode() {
+            return elements.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "ClassFileLocator.ForClassPath{" +
+                    "elements=" + elements +
+                    ", classFiles=<" + classFiles.size() + " types>" +
+                    '}';
+        }
+
+        /**
+         * An element of a class path.
+         */
+        protected interface Element extends Closeable {
+
+            /**
+             * Adds all class files of this element to the given index unless the index already contains a class file
+             * for the same type.
+             *
+             * @param classFiles The index of class files by the binary names of the types they represent.
+             * @throws IOException If this element cannot be read.
+             */
+            void index(Map<String, ClassFile> classFiles) throws IOException;
+
+            /**
+             * A class file that was indexed from an element of a class path.
+             */
+            interface ClassFile {
+
+                /**
+                 * Reads this class file.
+                 *
+                 * @return The binary representation of this class file.
+                 * @throws IOException If this class file cannot be read.
+                 */
+                byte[] read() throws IOException;
+            }
+
+            /**
+             * An element of a class path that represents a jar file.
+             */
+            class ForJarFile implements Element {
+
+                /**
+                 * The jar file that is represented by this element.
+                 */
+                private final ZipFile zipFile;
+
+                /**
+                 * Creates a new element for a jar file.
+                 *
+                 * @param zipFile The jar file that is represented by this element.
+                 */
+                protected ForJarFile(ZipFile zipFile) {
+                    this.zipFile = zipFile;
+                }
+
+                @Override
+                public void index(Map<String, ClassFile> classFiles) {
+                    Enumeration<? extends ZipEntry> entries = zipFile.entries();
+                    while (entries.hasMoreElements()) {
+                        ZipEntry zipEntry = entries.nextElement();
+                        String name = zipEntry.getName();
+                        if (!zipEntry.isDirectory() && name.endsWith(CLASS_FILE_EXTENSION) && !name.startsWith(VERSIONS_FOLDER)) {
+                            String typeName = name.substring(0, name.length() - CLASS_FILE_EXTENSION.length()).replace('/', '.');
+                            if (!typeName.equals(MODULE_INFO) && !classFiles.containsKey(typeName)) {
+                                classFiles.put(typeName, new Entry(zipFile, zipEntry));
+                            }
+                        }
+                    }
+                }
+
+                @Override
+                public void close() throws IOException {
+                    zipFile.close();
+                }
+
+                @Override
+                public boolean equals(Object other) {
+                    return this == other || !(other == null || getClass() != other.getClass())
+                            && zipFile.getName().equals(((ForJarFile) other).zipFile.getName());
+                }
+
+                @Override
+                public int hashCode() {
+                    return zipFile.getName().hashCode();
+                }
+
+                @Override
+                public String toString() {
+                    return "ClassFileLocator.ForClassPath.Element.ForJarFile{" +
+                            "zipFile=" + zipFile.getName() +
+                            '}';
+                }
+
+                /**
+                 * A class file that is contained by a jar file.
+                 */
+                protected static class Entry implements ClassFile {
+
+                    /**
+                     * The jar file that contains the class file.
+                     */
+                    private final ZipFile zipFile;
+
+                    /**
+                     * The jar file's entry of the class file.
+                     */
+                    private final ZipEntry zipEntry;
+
+                    /**
+                     * Creates a new class file of a jar file.
+                     *
+                     * @param zipFile  The jar file that contains the class file.
+                     * @param zipEntry The jar file's entry of the class file.
+                     */
+                    protected Entry(ZipFile zipFile, ZipEntry zipEntry) {
+                        this.zipFile = zipFile;
+                        this.zipEntry = zipEntry;
+                    }
+
+                    @Override
+                    public byte[] read() throws IOException {
+                        InputStream inputStream = zipFile.getInputStream(zipEntry);
+                        try {
+                            return new StreamDrainer().drain(inputStream, zipEntry.getSize());
+                        } finally {
+                            inputStream.close();
+                        }
+                    }
+
+                    @Override
+                    public boolean equals(Object other) {
+                        return this == other || !(other == null || getClass() != other.getClass())
+                                && zipFile.getName().equals(((Entry) other).zipFile.getName())
+                                && zipEntry.getName().equals(((Entry) other).zipEntry.getName());
+                    }
+
+                    @Override
+                    public int hashCode() {
+                        return 31 * zipFile.getName().hashCode() + zipEntry.getName().hashCode();
+                    }
+
+                    @Override
+                    public String toString() {
+                        return "ClassFileLocator.ForClassPath.Element.ForJarFile.Entry{" +
+                                "zipFile=" + zipFile.getName() +
+                                ", zipEntry=" + zipEntry.getName() +
+                                '}';
+                    }
+                }
+            }
+
+            /**
+             * An element of a class path that represents a folder.
+             */
+            class ForFolder implements Element {
+
+                /**
+                 * The folder that is represented by this element.
+                 */
+                private final File folder;
+
+                /**
+                 * Creates a new element for a folder.
+                 *
+                 * @param folder The folder that is represented by this element.
+                 */
+                protected ForFolder(File folder) {
+                    this.folder = folder;
+                }
+
+                @Override
+                public void index(Map<String, ClassFile> classFiles) throws IOException {
+                    index(folder, "", classFiles);
+                }
+
+                /**
+                 * Adds all class files of a folder and its sub folders to the given index.
+                 *
+                 * @param folder     The folder to index.
+                 * @param prefix     The package name prefix of the folder.
+                 * @param classFiles The index of class files by the binary names of the types they represent.
+                 * @throws IOException If the folder cannot be read.
+                 */
+                private static void index(File folder, String prefix, Map<String, ClassFile> classFiles) throws IOException {
+                    File[] files = folder.listFiles();
+                    if (files == null) {
+                        throw new IOException("Cannot list files of " + folder);
+                    }
+                    for (File file : files) {
+                        String name = file.getName();
+                        if (file.isDirectory()) {
+                            String folderPrefix = prefix + name + '.';
+                            if (!folderPrefix.equals(VERSIONS_FOLDER.replace('/', '.'))) {
+                                index(file, folderPrefix, classFiles);
+                            }
+                        } else if (name.endsWith(CLASS_FILE_EXTENSION)) {
+                            String typeName = prefix + name.substring(0, name.length() - CLASS_FILE_EXTENSION.length());
+                            if (!typeName.equals(MODULE_INFO) && !classFiles.containsKey(typeName)) {
+                                classFiles.put(typeName, new Entry(file));
+                            }
+                        }
+                    }
+                }
+
+                @Override
+                public void close() {
+                    /* do nothing */
+                }
+
+                @Override
+                public boolean equals(Object other) {
+                    return this == other || !(other == null || getClass() != other.getClass())
+                            && folder.equals(((ForFolder) other).folder);
+                }
+
+                @Override
+                public int hashCode() {
+                    return folder.hashCode();
+                }
+
+                @Override
+                public String toString() {
+                    return "ClassFileLocator.ForClassPath.Element.ForFolder{" +
+                            "folder=" + folder +
+                            '}';
+                }
+
+                /**
+                 * A class file that is contained by a folder.
+                 */
+                protected static class Entry implements ClassFile {
+
+                    /**
+                     * The class file.
+                     */
+                    private final File file;
+
+                    /**
+                     * Creates a new class file of a folder.
+                     *
+                     * @param file The class file.
+                     */
+                    protected Entry(File file) {
+                        this.file = file;
+                    }
+
+                    @Override
+                    public byte[] read() throws IOException {
+                        InputStream inputStream = new FileInputStream(file);
+                        try {
+                            return new StreamDrainer().drain(inputStream, file.length());
+                        } finally {
+                            inputStream.close();
+                        }
+                    }
+
+                    @Override
+                    public boolean equals(Object other) {
+                        return this == other || !(other == null || getClass() != other.getClass())
+                                && file.equals(((Entry) other).file);
+                    }
+
+                    @Override
+                    public int hashCode() {
+                        return file.hashCode();
+                    }
+
+                    @Override
+                    public String toString() {
+                        return "ClassFileLocator.ForClassPath.Element.ForFolder.Entry{" +
+                                "file=" + file +
+                                '}';
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * A class file locator that locates class files from an explicit map of binary representations, for example
+     * of types that were created by Byte Buddy and that are not visible to any class loader.
+     */
+    class Simple implements ClassFileLocator {
+
+        /**
+         * The binary representations of the located types mapped by their names.
+         */
+        private final Map<String, byte[]> classFiles;
+
+        /**
+         * Creates a new simple class file locator.
+         *
+         * @param classFiles The binary representations of the located types mapped by their names.
+         */
+        public Simple(Map<String, byte[]> classFiles) {
+            this.classFiles = classFiles;
+        }
+
+        /**
+         * Creates a class file locator for the binary representations of a dynamic type and all of its auxiliary types.
+         *
+         * @param dynamicType The dynamic type to locate.
+         * @return A class file locator for the given dynamic type.
+         */
+        public static ClassFileLocator of(DynamicType dynamicType) {
+            Map<String, byte[]> classFiles = new HashMap<String, byte[]>();
+            for (Map.Entry<TypeDescription, byte[]> entry : dynamicType.getAllTypes().entrySet()) {
+                classFiles.put(entry.getKey().getName(), entry.getValue());
+            }
+            return new Simple(classFiles);
+        }
+
+        @Override
+        public Resolution locate(String typeName) {
+            byte[] binaryRepresentation = classFiles.get(typeName);
+            return binaryRepresentation == null
+                    ? Resolution.Illegal.INSTANCE
+                    : new Resolution.Explicit(binaryRepresentation);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || !(other == null || getClass() != other.getClass())
+                    && classFiles.equals(((Simple) other).classFiles);
+        }
+
+        @Override
+        public int hashCode() {
+            return classFiles.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "ClassFileLocator.Simple{classFiles=" + classFiles.keySet() + '}';
+        }
+    }
+
     /**
      * A compound {@link ClassFileLocator} that chains several locators.
      * Any class file locator is queried in the supplied order until one locator is able to provide an input
@@ -298,6 +298,16 @@ public interface DynamicType {
          */
         Builder<T> methodLookupEngine(MethodLookupEngine.Factory methodLookupEngineFactory);
 
+        /**
+         * Defines the use of a specific factory for the {@link net.bytebuddy.instrumentation.Instrumentation.Context}
+         * that is used for writing the dynamic type. The instrumentation context determines the names of any
+         * auxiliary types that are registered when writing the dynamic type.
+         *
+         * @param instrumentationContextFactory The factory to be used.
+         * @return A builder that applies the given instrumentation context factory.
+         */
+        Builder<T> instrumentationContext(Instrumentation.Context.Factory instrumentationContextFactory);
+
         /**
          * Defines a new field for this type.
          *
@@ -1042,6 +1052,11 @@ public interface DynamicType {
              */
             protected final MethodLookupEngine.Factory methodLookupEngineFactory;
 
+            /**
+             * The instrumentation context factory to be used by this builder.
+             */
+            protected final Instrumentation.Context.Factory instrumentationContextFactory;
+
             /**
              * The default field attribute appender factory that is automatically added to any field that is
              * registered on this builder.
@@ -1079,6 +1094,7 @@ public interface DynamicType {
              * @param fieldRegistry                         The field registry to apply to the dynamic type creation.
              * @param methodRegistry                        The method registry to apply to the dynamic type creation.
              * @param methodLookupEngineFactory             The method lookup engine factory to apply to the dynamic type creation.
+             * @param instrumentationContextFactory         The instrumentation context factory to apply to the dynamic type creation.
              * @param defaultFieldAttributeAppenderFactory  The field attribute appender factory that should be applied by default if
              *                                              no specific appender was specified for a given field.
              * @param defaultMethodAttributeAppenderFactory The method attribute appender factory that should be applied by default
@@ -1100,6 +1116,7 @@ public interface DynamicType {
                                    FieldRegistry fieldRegistry,
                                    MethodRegistry methodRegistry,
                                    MethodLookupEngine.Factory methodLookupEngineFactory,
+                                   Instrumentation.Context.Factory instrumentationContextFactory,
                                    FieldAttributeAppender.Factory defaultFieldAttributeAppenderFactory,
                                    MethodAttributeAppender.Factory defaultMethodAttributeAppenderFactory,
                                    List<FieldToken> fieldTokens,
@@ -1116,6 +1133,7 @@ public interface DynamicType {
                 this.fieldRegistry = fieldRegistry;
                 this.methodRegistry = methodRegistry;
                 this.methodLookupEngineFactory = methodLookupEngineFactory;
+                this.instrumentationContextFactory = instrumentationContextFactory;
                 this.defaultFieldAttributeAppenderFactory = defaultFieldAttributeAppenderFactory;
                 this.defaultMethodAttributeAppenderFactory = defaultMethodAttributeAppenderFactory;
                 this.fieldTokens = fieldTokens;
@@ -1214,6 +1232,7 @@ public interface DynamicType {
                         fieldRegistry,
                         methodRegistry,
                         methodLookupEngineFactory,
+                        instrumentationContextFactory,
                         defaultFieldAttributeAppenderFactory,
                         defaultMethodAttributeAppenderFactory,
                         fieldTokens,
@@ -1234,6 +1253,7 @@ public interface DynamicType {
                         fieldRegistry,
                         methodRegistry,
                         methodLookupEngineFactory,
+                        instrumentationContextFactory,
                         defaultFieldAttributeAppenderFactory,
                         defaultMethodAttributeAppenderFactory,
                         fieldTokens,
@@ -1254,6 +1274,7 @@ public interface DynamicType {
                         fieldRegistry,
                         methodRegistry,
                         methodLookupEngineFactory,
+                        instrumentationContextFactory,
                         defaultFieldAttributeAppenderFactory,
                         defaultMethodAttributeAppenderFactory,
                         fieldTokens,
@@ -1274,6 +1295,7 @@ public interface DynamicType {
                         fieldRegistry,
                         methodRegistry,
                         methodLookupEngineFactory,
+                        instrumentationContextFactory,
                         defaultFieldAttributeAppenderFactory,
                         defaultMethodAttributeAppenderFactory,
                         fieldTokens,
@@ -1294,6 +1316,7 @@ public interface DynamicType {
                         fieldRegistry,
                         methodRegistry,
                         methodLookupEngineFactory,
+                        instrumentationContextFactory,
                         defaultFieldAttributeAppenderFactory,
                         defaultMethodAttributeAppenderFactory,
                         fieldTokens,
@@ -1315,6 +1338,7 @@ public interface DynamicType {
                         fieldRegistry,
                         methodRegistry,
                         methodLookupEngineFactory,
+                        instrumentationContextFactory,
                         defaultFieldAttributeAppenderFactory,
                         defaultMethodAttributeAppenderFactory,
                         fieldTokens,
@@ -1335,6 +1359,7 @@ public interface DynamicType {
                         fieldRegistry,
                         methodRegistry,
                         methodLookupEngineFactory,
+                        instrumentationContextFactory,
                         defaultFieldAttributeAppenderFactory,
                         defaultMethodAttributeAppenderFactory,
                         fieldTokens,
@@ -1365,6 +1390,7 @@ public interface DynamicType {
                         fieldRegistry,
                         methodRegistry,
                         methodLookupEngineFactory,
+                        instrumentationContextFactory,
                         defaultFieldAttributeAppenderFactory,
                         defaultMethodAttributeAppenderFactory,
                         fieldTokens,
@@ -1385,6 +1411,28 @@ public interface DynamicType {
                         fieldRegistry,
                         methodRegistry,
                         nonNull(methodLookupEngineFactory),
+                        instrumentationContextFactory,
+                        defaultFieldAttributeAppenderFactory,
+                        defaultMethodAttributeAppenderFactory,
+                        fieldTokens,
+                        methodTokens);
+            }
+
+            @Override
+            public Builder<S> instrumentationContext(Instrumentation.Context.Factory instrumentationContextFactory) {
+                return materialize(classFileVersion,
+                        namingStrategy,
+                        targetType,
+                        interfaceTypes,
+                        modifiers,
+                        attributeAppender,
+                        ignoredMethods,
+                        bridgeMethodResolverFactory,
+                        classVisitorWrapperChain,
+                        fieldRegistry,
+                        methodRegistry,
+                        methodLookupEngineFactory,
+                        nonNull(instrumentationContextFactory),
                         defaultFieldAttributeAppenderFactory,
                         defaultMethodAttributeAppenderFactory,
                         fieldTokens,
@@ -1405,6 +1453,7 @@ public interface DynamicType {
                         fieldRegistry,
                         methodRegistry,
                         methodLookupEngineFactory,
+                        instrumentationContextFactory,
                         defaultFieldAttributeAppenderFactory,
                         defaultMethodAttributeAppenderFactory,
                         fieldTokens,
@@ -1593,6 +1642,7 @@ public interface DynamicType {
              * @param fieldRegistry                         The field registry to apply to the dynamic type creation.
              * @param methodRegistry                        The method registry to apply to the dynamic type creation.
              * @param methodLookupEngineFactory             The method lookup engine factory to apply to the dynamic type creation.
+             * @param instrumentationContextFactory         The instrumentation context factory to apply to the dynamic type creation.
              * @param defaultFieldAttributeAppenderFactory  The field attribute appender factory that should be applied by default if
              *                                              no specific appender was specified for a given field.
              * @param defaultMethodAttributeAppenderFactory The method attribute appender factory that should be applied by default
@@ -1615,6 +1665,7 @@ public interface DynamicType {
                                                       FieldRegistry fieldRegistry,
                                                       MethodRegistry methodRegistry,
                                                       MethodLookupEngine.Factory methodLookupEngineFactory,
+                                                      Instrumentation.Context.Factory instrumentationContextFactory,
                                                       FieldAttributeAppender.Factory defaultFieldAttributeAppenderFactory,
                                                       MethodAttributeAppender.Factory defaultMethodAttributeAppenderFactory,
                                                       List<FieldToken> fieldTokens,
@@ -1640,6 +1691,7 @@ public interface DynamicType {
                         && interfaceTypes.equals(that.interfaceTypes)
                         && targetType.equals(that.targetType)
                         && methodLookupEngineFactory.equals(that.methodLookupEngineFactory)
+                        && instrumentationContextFactory.equals(that.instrumentationContextFactory)
                         && methodRegistry.equals(that.methodRegistry)
                         && methodTokens.equals(that.methodTokens)
                         && namingStrategy.equals(that.namingStrategy);
@@ -1659,6 +1711,7 @@ public interface DynamicType {
                 result = 31 * result + fieldRegistry.hashCode();
                 result = 31 * result + methodRegistry.hashCode();
                 result = 31 * result + methodLookupEngineFactory.hashCode();
+                result = 31 * result + instrumentationContextFactory.hashCode();
                 result = 31 * result + defaultFieldAttributeAppenderFactory.hashCode();
                 result = 31 * result + defaultMethodAttributeAppenderFactory.hashCode();
                 result = 31 * result + fieldTokens.hashCode();
@@ -2028,6 +2081,11 @@ public interface DynamicType {
                     return materialize().methodLookupEngine(methodLookupEngineFactory);
                 }
 
+                @Override
+                public Builder<U> instrumentationContext(Instrumentation.Context.Factory instrumentationContextFactory) {
+                    return materialize().instrumentationContext(instrumentationContextFactory);
+                }
+
                 @Override
                 public Builder<U> bridgeMethodResolverFactory(BridgeMethodResolver.Factory bridgeMethodResolverFactory) {
                     return materialize().bridgeMethodResolverFactory(bridgeMethodResolverFactory);
@@ -2247,6 +2305,7 @@ public interface DynamicType {
                             fieldRegistry.include(fieldToken, attributeAppenderFactory, defaultValue),
                             methodRegistry,
                             methodLookupEngineFactory,
+                            instrumentationContextFactory,
                             defaultFieldAttributeAppenderFactory,
                             defaultMethodAttributeAppenderFactory,
                             join(fieldTokens, fieldToken),
@@ -2609,6 +2668,7 @@ public interface DynamicType {
                             fieldRegistry,
                             methodRegistry.prepend(latentMethodMatcher, instrumentation, attributeAppenderFactory),
                             methodLookupEngineFactory,
+                            instrumentationContextFactory,
                             defaultFieldAttributeAppenderFactory,
                             defaultMethodAttributeAppenderFactory,
                             fieldTokens,
@@ -2735,6 +2795,7 @@ public interface DynamicType {
                             fieldRegistry,
                             methodRegistry,
                             methodLookupEngineFactory,
+                            instrumentationContextFactory,
                             defaultFieldAttributeAppenderFactory,
                             defaultMethodAttributeAppenderFactory,
                             fieldTokens,
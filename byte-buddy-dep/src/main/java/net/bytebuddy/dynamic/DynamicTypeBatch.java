@@ -0,0 +1,202 @@
+package net.bytebuddy.dynamic;
+
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.instrumentation.LoadedTypeInitializer;
+import net.bytebuddy.instrumentation.type.TypeDescription;
+
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import static net.bytebuddy.utility.ByteBuddyCommons.nonNull;
+
+/**
+ * <p>
+ * Creates and loads several dynamic types at once. The builders of a batch are made concurrently by an
+ * {@link java.util.concurrent.ExecutorService} and all resulting types, including their auxiliary types, are loaded
+ * by a single application of a {@link net.bytebuddy.dynamic.loading.ClassLoadingStrategy}. The types are handed to
+ * the class loading strategy in an order where any type is preceded by its super class and its interfaces if those
+ * types are part of the same batch such that the types can also be injected into an existing class loader.
+ * </p>
+ * <p>
+ * <b>Note</b>: Any builder of a batch is made on a thread of the executor service. The executor service is never
+ * shut down by a batch.
+ * </p>
+ */
+public class DynamicTypeBatch {
+
+    /**
+     * The executor service that makes the builders of this batch.
+     */
+    private final ExecutorService executorService;
+
+    /**
+     * Creates a new batch.
+     *
+     * @param executorService The executor service that makes the builders of this batch.
+     */
+    public DynamicTypeBatch(ExecutorService executorService) {
+        this.executorService = nonNull(executorService);
+    }
+
+    /**
+     * Makes all given builders concurrently. If any builder cannot be made, the making of all other builders of
+     * this batch is cancelled.
+     *
+     * @param builders The builders to make.
+     * @return A list of the unloaded dynamic types in the order of the given builders.
+     */
+    public List<DynamicType.Unloaded<?>> make(List<? extends DynamicType.Builder<?>> builders) {
+        List<Future<DynamicType.Unloaded<?>>> futures = new ArrayList<Future<DynamicType.Unloaded<?>>>(builders.size());
+        for (DynamicType.Builder<?> builder : builders) {
+            futures.add(executorService.submit(new Creation(builder)));
+        }
+        List<DynamicType.Unloaded<?>> dynamicTypes = new ArrayList<DynamicType.Unloaded<?>>(builders.size());
+        boolean completed = false;
+        try {
+            for (Future<DynamicType.Unloaded<?>> future : futures) {
+                dynamicTypes.add(future.get());
+            }
+            completed = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while making dynamic types", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            } else {
+                throw new IllegalStateException("Could not make dynamic type", e.getCause());
+            }
+        } finally {
+            if (!completed) {
+                for (Future<DynamicType.Unloaded<?>> future : futures) {
+                    future.cancel(true);
+                }
+            }
+        }
+        return dynamicTypes;
+    }
+
+    /**
+     * Loads all given dynamic types and their auxiliary types by a single application of the given class loading
+     * strategy and runs their loaded type initializers.
+     *
+     * @param dynamicTypes         The dynamic types to load.
+     * @param classLoader          The class loader to use for loading the dynamic types.
+     * @param classLoadingStrategy The class loading strategy to apply.
+     * @return A map of all loaded types, including all auxiliary types, by their descriptions.
+     */
+    public Map<TypeDescription, Class<?>> load(List<? extends DynamicType> dynamicTypes,
+                                               ClassLoader classLoader,
+                                               ClassLoadingStrategy classLoadingStrategy) {
+        Map<String, TypeDescription> typeDescriptions = new HashMap<String, TypeDescription>();
+        Map<TypeDescription, byte[]> binaryRepresentations = new LinkedHashMap<TypeDescription, byte[]>();
+        Map<TypeDescription, LoadedTypeInitializer> loadedTypeInitializers = new HashMap<TypeDescription, LoadedTypeInitializer>();
+        for (DynamicType dynamicType : dynamicTypes) {
+            for (Map.Entry<TypeDescription, byte[]> entry : dynamicType.getAllTypes().entrySet()) {
+                typeDescriptions.put(entry.getKey().getName(), entry.getKey());
+                binaryRepresentations.put(entry.getKey(), entry.getValue());
+            }
+            loadedTypeInitializers.putAll(dynamicType.getLoadedTypeInitializers());
+        }
+        Map<TypeDescription, byte[]> types = new LinkedHashMap<TypeDescription, byte[]>(binaryRepresentations.size());
+        for (TypeDescription typeDescription : binaryRepresentations.keySet()) {
+            order(typeDescription, typeDescriptions, binaryRepresentations, types);
+        }
+        Map<TypeDescription, Class<?>> loadedTypes = classLoadingStrategy.load(classLoader, types);
+        for (Map.Entry<TypeDescription, Class<?>> entry : loadedTypes.entrySet()) {
+            loadedTypeInitializers.get(entry.getKey()).onLoad(entry.getValue());
+        }
+        return new HashMap<TypeDescription, Class<?>>(loadedTypes);
+    }
+
+    /**
+     * Adds a type to an ordered map of types after adding its super class and its interfaces if those types are part
+     * of this batch.
+     *
+     * @param typeDescription       The type to add.
+     * @param typeDescriptions      All types of this batch mapped by their names.
+     * @param binaryRepresentations The binary representations of all types of this batch.
+     * @param types                 The ordered map of types to which the type is added.
+     */
+    private static void order(TypeDescription typeDescription,
+                              Map<String, TypeDescription> typeDescriptions,
+                              Map<TypeDescription, byte[]> binaryRepresentations,
+                              Map<TypeDescription, byte[]> types) {
+        if (types.containsKey(typeDescription)) {
+            return;
+        }
+        List<TypeDescription> superTypes = new ArrayList<TypeDescription>(typeDescription.getInterfaces());
+        if (typeDescription.getSupertype() != null) {
+            superTypes.add(typeDescription.getSupertype());
+        }
+        for (TypeDescription superType : superTypes) {
+            TypeDescription batchedType = typeDescriptions.get(superType.getName());
+            if (batchedType != null) {
+                order(batchedType, typeDescriptions, binaryRepresentations, types);
+            }
+        }
+        types.put(typeDescription, binaryRepresentations.get(typeDescription));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || !(other == null || getClass() != other.getClass())
+                && executorService.equals(((DynamicTypeBatch) other).executorService);
+    }
+
+    @Override
+    public int hashCode() {
+        return executorService.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "DynamicTypeBatch{executorService=" + executorService + '}';
+    }
+
+    /**
+     * A task that makes a single builder.
+     */
+    protected static class Creation implements Callable<DynamicType.Unloaded<?>> {
+
+        /**
+         * The builder to make.
+         */
+        private final DynamicType.Builder<?> builder;
+
+        /**
+         * Creates a new creation task.
+         *
+         * @param builder The builder to make.
+         */
+        protected Creation(DynamicType.Builder<?> builder) {
+            this.builder = builder;
+        }
+
+        @Override
+        public DynamicType.Unloaded<?> call() {
+            return builder.make();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || !(other == null || getClass() != other.getClass())
+                    && builder.equals(((Creation) other).builder);
+        }
+
+        @Override
+        public int hashCode() {
+            return builder.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "DynamicTypeBatch.Creation{builder=" + builder + '}';
+        }
+    }
+}
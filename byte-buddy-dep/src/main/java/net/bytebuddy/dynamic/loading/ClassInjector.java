@@ -8,6 +8,7 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.lang.instrument.Instrumentation;
+import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.security.*;
@@ -63,7 +64,15 @@ public interface ClassInjector {
                         int.class,
                         ProtectionDomain.class);
                 loadByteArrayMethod.setAccessible(true);
-                reflectionStore = new ReflectionStore.Resolved(findLoadedClassMethod, loadByteArrayMethod);
+                try {
+                    Method getClassLoadingLockMethod = ClassLoader.class.getDeclaredMethod("getClassLoadingLock", String.class);
+                    getClassLoadingLockMethod.setAccessible(true);
+                    reflectionStore = new ReflectionStore.Resolved.WithClassLoadingLock(findLoadedClassMethod,
+                            loadByteArrayMethod,
+                            getClassLoadingLockMethod);
+                } catch (NoSuchMethodException ignored) {
+                    reflectionStore = new ReflectionStore.Resolved(findLoadedClassMethod, loadByteArrayMethod);
+                }
             } catch (Exception e) {
                 reflectionStore = new ReflectionStore.Faulty(e);
             }
@@ -85,6 +94,11 @@ public interface ClassInjector {
          */
         private final AccessControlContext accessControlContext;
 
+        /**
+         * The synchronization that is applied when injecting classes.
+         */
+        private final Synchronization synchronization;
+
         /**
          * Creates a new injector for the given {@link java.lang.ClassLoader} and a default
          * {@link java.security.ProtectionDomain}.
@@ -102,38 +116,30 @@ public interface ClassInjector {
          * @param protectionDomain The protection domain to apply during class definition.
          */
         public UsingReflection(ClassLoader classLoader, ProtectionDomain protectionDomain) {
+            this(classLoader, protectionDomain, Synchronization.CLASS_LOADER);
+        }
+
+        /**
+         * Creates a new injector for the given {@link java.lang.ClassLoader} and {@link java.security.ProtectionDomain}.
+         *
+         * @param classLoader      The {@link java.lang.ClassLoader} into which new class definitions are to be injected.
+         * @param protectionDomain The protection domain to apply during class definition.
+         * @param synchronization  The synchronization that is applied when injecting classes.
+         */
+        public UsingReflection(ClassLoader classLoader, ProtectionDomain protectionDomain, Synchronization synchronization) {
             if (classLoader == null) {
                 throw new IllegalArgumentException("Cannot inject classes into the bootstrap class loader");
             }
             this.classLoader = classLoader;
             this.protectionDomain = protectionDomain;
+            this.synchronization = synchronization;
             accessControlContext = AccessController.getContext();
         }
 
         @Override
         public Map<TypeDescription, Class<?>> inject(Map<? extends TypeDescription, byte[]> types) {
             try {
-                Map<TypeDescription, Class<?>> loaded = new HashMap<TypeDescription, Class<?>>(types.size());
-                synchronized (classLoader) {
-                    for (Map.Entry<? extends TypeDescription, byte[]> entry : types.entrySet()) {
-                        Class<?> type = (Class<?>) REFLECTION_STORE.getFindLoadedClassMethod().invoke(classLoader, entry.getKey().getName());
-                        if (type == null) {
-                            try {
-                                type = AccessController.doPrivileged(new ClassLoadingAction(entry.getKey().getName(), entry.getValue()), accessControlContext);
-                            } catch (PrivilegedActionException e) {
-                                if (e.getCause() instanceof IllegalAccessException) {
-                                    throw (IllegalAccessException) e.getCause();
-                                } else if (e.getCause() instanceof InvocationTargetException) {
-                                    throw (InvocationTargetException) e.getCause();
-                                } else {
-                                    throw (RuntimeException) e.getCause();
-                                }
-                            }
-                        }
-                        loaded.put(entry.getKey(), type);
-                    }
-                }
-                return loaded;
+                return synchronization.inject(this, types);
             } catch (IllegalAccessException e) {
                 throw new IllegalStateException("Could not access injection method", e);
             } catch (InvocationTargetException e) {
@@ -141,6 +147,34 @@ public interface ClassInjector {
             }
         }
 
+        /**
+         * Returns a type of the given name that was already loaded by this injector's class loader or defines it
+         * if no such type was loaded. The caller is responsible for holding the appropriate lock.
+         *
+         * @param name                 The name of the type.
+         * @param binaryRepresentation The binary representation of the type.
+         * @return The loaded type.
+         * @throws IllegalAccessException    If the class loader's methods cannot be accessed.
+         * @throws InvocationTargetException If the class loader's methods throw an exception.
+         */
+        protected Class<?> define(String name, byte[] binaryRepresentation) throws IllegalAccessException, InvocationTargetException {
+            Class<?> type = (Class<?>) REFLECTION_STORE.getFindLoadedClassMethod().invoke(classLoader, name);
+            if (type == null) {
+                try {
+                    type = AccessController.doPrivileged(new ClassLoadingAction(name, binaryRepresentation), accessControlContext);
+                } catch (PrivilegedActionException e) {
+                    if (e.getCause() instanceof IllegalAccessException) {
+                        throw (IllegalAccessException) e.getCause();
+                    } else if (e.getCause() instanceof InvocationTargetException) {
+                        throw (InvocationTargetException) e.getCause();
+                    } else {
+                        throw (RuntimeException) e.getCause();
+                    }
+                }
+            }
+            return type;
+        }
+
         @Override
         public boolean equals(Object other) {
             if (this == other) return true;
@@ -148,6 +182,7 @@ public interface ClassInjector {
             UsingReflection that = (UsingReflection) other;
             return accessControlContext.equals(that.accessControlContext)
                     && classLoader.equals(that.classLoader)
+                    && synchronization == that.synchronization
                     && !(protectionDomain != null ? !protectionDomain.equals(that.protectionDomain) : that.protectionDomain != null);
         }
 
@@ -156,6 +191,7 @@ public interface ClassInjector {
             int result = classLoader.hashCode();
             result = 31 * result + (protectionDomain != null ? protectionDomain.hashCode() : 0);
             result = 31 * result + accessControlContext.hashCode();
+            result = 31 * result + synchronization.hashCode();
             return result;
         }
 
@@ -165,9 +201,77 @@ public interface ClassInjector {
                     "classLoader=" + classLoader +
                     ", protectionDomain=" + protectionDomain +
                     ", accessControlContext=" + accessControlContext +
+                    ", synchronization=" + synchronization +
                     '}';
         }
 
+        /**
+         * Determines the locks that are held when a batch of types is injected into a class loader. Any type of a
+         * batch is only defined if the class loader did not yet load a type of the same name.
+         */
+        public enum Synchronization {
+
+            /**
+             * Holds the class loader's monitor while injecting all types of a batch. This way, no other thread can
+             * load a type via a class loader that is not parallel capable before the entire batch is injected.
+             */
+            CLASS_LOADER {
+                @Override
+                protected Map<TypeDescription, Class<?>> inject(UsingReflection classInjector,
+                                                                Map<? extends TypeDescription, byte[]> types)
+                        throws IllegalAccessException, InvocationTargetException {
+                    Map<TypeDescription, Class<?>> loaded = new HashMap<TypeDescription, Class<?>>(types.size());
+                    synchronized (classInjector.classLoader) {
+                        for (Map.Entry<? extends TypeDescription, byte[]> entry : types.entrySet()) {
+                            loaded.put(entry.getKey(), classInjector.define(entry.getKey().getName(), entry.getValue()));
+                        }
+                    }
+                    return loaded;
+                }
+            },
+
+            /**
+             * Holds the lock that the class loader uses for loading a type of a given name while injecting this type.
+             * For a class loader that is registered as parallel capable, this lock is specific to the name of the type
+             * such that several threads can inject types into the class loader concurrently. For any other class loader,
+             * this lock is the class loader's monitor. On a Java 6 virtual machine, the class loader's monitor is
+             * always used. Other threads might load the types of a batch before the entire batch is injected.
+             */
+            CLASS_LOADING_LOCK {
+                @Override
+                protected Map<TypeDescription, Class<?>> inject(UsingReflection classInjector,
+                                                                Map<? extends TypeDescription, byte[]> types)
+                        throws IllegalAccessException, InvocationTargetException {
+                    Map<TypeDescription, Class<?>> loaded = new HashMap<TypeDescription, Class<?>>(types.size());
+                    for (Map.Entry<? extends TypeDescription, byte[]> entry : types.entrySet()) {
+                        String name = entry.getKey().getName();
+                        synchronized (REFLECTION_STORE.getClassLoadingLock(classInjector.classLoader, name)) {
+                            loaded.put(entry.getKey(), classInjector.define(name, entry.getValue()));
+                        }
+                    }
+                    return loaded;
+                }
+            };
+
+            /**
+             * Injects the given types into the class loader of the given class injector.
+             *
+             * @param classInjector The class injector to use.
+             * @param types         The types to inject.
+             * @return The loaded types that were passed as arguments.
+             * @throws IllegalAccessException    If the class loader's methods cannot be accessed.
+             * @throws InvocationTargetException If the class loader's methods throw an exception.
+             */
+            protected abstract Map<TypeDescription, Class<?>> inject(UsingReflection classInjector,
+                                                                     Map<? extends TypeDescription, byte[]> types)
+                    throws IllegalAccessException, InvocationTargetException;
+
+            @Override
+            public String toString() {
+                return "ClassInjector.UsingReflection.Synchronization." + name();
+            }
+        }
+
         /**
          * A storage for method representations in order to access a class loader reflectively.
          */
@@ -188,7 +292,19 @@ public interface ClassInjector {
             Method getLoadByteArrayMethod();
 
             /**
-             * Represents a successfully loaded method lookup.
+             * Returns the lock that the given class loader holds when loading a type of the given name.
+             *
+             * @param classLoader The class loader to lock.
+             * @param name        The name of the type to load.
+             * @return The lock to hold when loading a type of the given name.
+             * @throws IllegalAccessException    If the class loader's method cannot be accessed.
+             * @throws InvocationTargetException If the class loader's method throws an exception.
+             */
+            Object getClassLoadingLock(ClassLoader classLoader, String name) throws IllegalAccessException, InvocationTargetException;
+
+            /**
+             * Represents a successfully loaded method lookup on a virtual machine that does not support parallel
+             * capable class loaders such that the class loader's monitor is used as a lock.
              */
             class Resolved implements ReflectionStore {
 
@@ -223,6 +339,11 @@ public interface ClassInjector {
                     return loadByteArrayMethod;
                 }
 
+                @Override
+                public Object getClassLoadingLock(ClassLoader classLoader, String name) throws IllegalAccessException, InvocationTargetException {
+                    return classLoader;
+                }
+
                 @Override
                 public boolean equals(Object other) {
                     if (this == other) return true;
@@ -246,6 +367,57 @@ public interface ClassInjector {
                             ", loadByteArrayMethod=" + loadByteArrayMethod +
                             '}';
                 }
+
+                /**
+                 * Represents a successfully loaded method lookup on a virtual machine that supports parallel capable
+                 * class loaders where a class loader determines the lock to hold when loading a type.
+                 */
+                protected static class WithClassLoadingLock extends Resolved {
+
+                    /**
+                     * The method for looking up the lock of loading a class on a class loader.
+                     */
+                    private final Method getClassLoadingLockMethod;
+
+                    /**
+                     * Creates a new resolved reflection store that is aware of class loading locks.
+                     *
+                     * @param findLoadedClassMethod     The method for finding a class on a class loader.
+                     * @param loadByteArrayMethod       The method for loading a class into a class loader.
+                     * @param getClassLoadingLockMethod The method for looking up the lock of loading a class on a
+                     *                                  class loader.
+                     */
+                    protected WithClassLoadingLock(Method findLoadedClassMethod, Method loadByteArrayMethod, Method getClassLoadingLockMethod) {
+                        super(findLoadedClassMethod, loadByteArrayMethod);
+                        this.getClassLoadingLockMethod = getClassLoadingLockMethod;
+                    }
+
+                    @Override
+                    public Object getClassLoadingLock(ClassLoader classLoader, String name) throws IllegalAccessException, InvocationTargetException {
+                        return getClassLoadingLockMethod.invoke(classLoader, name);
+                    }
+
+                    @Override
+                    public boolean equals(Object other) {
+                        return this == other || !(other == null || getClass() != other.getClass())
+                                && super.equals(other)
+                                && getClassLoadingLockMethod.equals(((WithClassLoadingLock) other).getClassLoadingLockMethod);
+                    }
+
+                    @Override
+                    public int hashCode() {
+                        return 31 * super.hashCode() + getClassLoadingLockMethod.hashCode();
+                    }
+
+                    @Override
+                    public String toString() {
+                        return "ClassInjector.UsingReflection.ReflectionStore.Resolved.WithClassLoadingLock{" +
+                                "findLoadedClassMethod=" + getFindLoadedClassMethod() +
+                                ", loadByteArrayMethod=" + getLoadByteArrayMethod() +
+                                ", getClassLoadingLockMethod=" + getClassLoadingLockMethod +
+                                '}';
+                    }
+                }
             }
 
             /**
@@ -282,6 +454,11 @@ public interface ClassInjector {
                     throw new RuntimeException(MESSAGE, exception);
                 }
 
+                @Override
+                public Object getClassLoadingLock(ClassLoader classLoader, String name) {
+                    throw new RuntimeException(MESSAGE, exception);
+                }
+
                 @Override
                 public boolean equals(Object other) {
                     return this == other || !(other == null || getClass() != other.getClass())
@@ -526,4 +703,339 @@ public interface ClassInjector {
             }
         }
     }
+
+    /**
+     * <p>
+     * A class injector that defines classes by {@code sun.misc.Unsafe#defineClass}. Other than a
+     * {@link net.bytebuddy.dynamic.loading.ClassInjector.UsingInstrumentation}, this injector does not append a jar
+     * file to the bootstrap class path for each injection such that neither the length of the bootstrap class path nor
+     * the number of open file handles grows with the number of injections. This injector is also capable of injecting
+     * classes into the bootstrap class loader without requiring an {@link java.lang.instrument.Instrumentation}.
+     * </p>
+     * <p>
+     * <b>Important</b>: The {@code sun.misc.Unsafe} class is not part of the Java API and might not be available on
+     * any virtual machine. This can be queried by {@link net.bytebuddy.dynamic.loading.ClassInjector.UsingUnsafe#isAvailable()}.
+     * </p>
+     */
+    class UsingUnsafe implements ClassInjector {
+
+        /**
+         * The dispatcher for defining classes by the {@code sun.misc.Unsafe} class.
+         */
+        private static final Dispatcher DISPATCHER;
+
+        /**
+         * A lock that is held when injecting classes into the bootstrap class loader which cannot be locked otherwise.
+         */
+        private static final Object BOOTSTRAP_LOADER_LOCK = new Object();
+
+        /*
+         * Obtains the unsafe instance and its method for defining classes or a faulty dispatcher that throws the
+         * exception that occurred when attempting to obtain these instances.
+         */
+        static {
+            Dispatcher dispatcher;
+            try {
+                Class<?> unsafeType = Class.forName("sun.misc.Unsafe");
+                Field theUnsafe = unsafeType.getDeclaredField("theUnsafe");
+                theUnsafe.setAccessible(true);
+                Method findLoadedClassMethod = ClassLoader.class.getDeclaredMethod("findLoadedClass", String.class);
+                findLoadedClassMethod.setAccessible(true);
+                dispatcher = new Dispatcher.Resolved(theUnsafe.get(null), unsafeType.getDeclaredMethod("defineClass",
+                        String.class,
+                        byte[].class,
+                        int.class,
+                        int.class,
+                        ClassLoader.class,
+                        ProtectionDomain.class), findLoadedClassMethod);
+            } catch (Exception e) {
+                dispatcher = new Dispatcher.Faulty(e);
+            }
+            DISPATCHER = dispatcher;
+        }
+
+        /**
+         * The class loader into which the classes are to be injected or {@code null} for the bootstrap class loader.
+         */
+        private final ClassLoader classLoader;
+
+        /**
+         * The protection domain that is used when loading classes.
+         */
+        private final ProtectionDomain protectionDomain;
+
+        /**
+         * Creates a new injector for the given {@link java.lang.ClassLoader} and a default
+         * {@link java.security.ProtectionDomain}.
+         *
+         * @param classLoader The {@link java.lang.ClassLoader} into which new class definitions are to be injected or
+         *                    {@code null} for the bootstrap class loader.
+         */
+        public UsingUnsafe(ClassLoader classLoader) {
+            this(classLoader, DEFAULT_PROTECTION_DOMAIN);
+        }
+
+        /**
+         * Creates a new injector for the given {@link java.lang.ClassLoader} and {@link java.security.ProtectionDomain}.
+         *
+         * @param classLoader      The {@link java.lang.ClassLoader} into which new class definitions are to be injected
+         *                         or {@code null} for the bootstrap class loader.
+         * @param protectionDomain The protection domain to apply during class definition.
+         */
+        public UsingUnsafe(ClassLoader classLoader, ProtectionDomain protectionDomain) {
+            this.classLoader = classLoader;
+            this.protectionDomain = protectionDomain;
+        }
+
+        /**
+         * Checks if the {@code sun.misc.Unsafe} class is available on the current virtual machine such that this
+         * injector can be used.
+         *
+         * @return {@code true} if this injector is available on the current virtual machine.
+         */
+        public static boolean isAvailable() {
+            return DISPATCHER.isAvailable();
+        }
+
+        @Override
+        public Map<TypeDescription, Class<?>> inject(Map<? extends TypeDescription, byte[]> types) {
+            Map<TypeDescription, Class<?>> loaded = new HashMap<TypeDescription, Class<?>>(types.size());
+            synchronized (classLoader == null ? BOOTSTRAP_LOADER_LOCK : classLoader) {
+                for (Map.Entry<? extends TypeDescription, byte[]> entry : types.entrySet()) {
+                    Class<?> type = DISPATCHER.findLoadedClass(classLoader, entry.getKey().getName());
+                    if (type == null) {
+                        type = DISPATCHER.defineClass(classLoader, entry.getKey().getName(), entry.getValue(), protectionDomain);
+                    }
+                    loaded.put(entry.getKey(), type);
+                }
+            }
+            return loaded;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) return true;
+            if (other == null || getClass() != other.getClass()) return false;
+            UsingUnsafe that = (UsingUnsafe) other;
+            return !(classLoader != null ? !classLoader.equals(that.classLoader) : that.classLoader != null)
+                    && !(protectionDomain != null ? !protectionDomain.equals(that.protectionDomain) : that.protectionDomain != null);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = classLoader != null ? classLoader.hashCode() : 0;
+            result = 31 * result + (protectionDomain != null ? protectionDomain.hashCode() : 0);
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return "ClassInjector.UsingUnsafe{" +
+                    "classLoader=" + classLoader +
+                    ", protectionDomain=" + protectionDomain +
+                    '}';
+        }
+
+        /**
+         * A dispatcher for defining classes by the {@code sun.misc.Unsafe} class.
+         */
+        protected interface Dispatcher {
+
+            /**
+             * Checks if this dispatcher is capable of defining classes.
+             *
+             * @return {@code true} if this dispatcher is capable of defining classes.
+             */
+            boolean isAvailable();
+
+            /**
+             * Looks up a class that was already loaded by a class loader. As the bootstrap class loader cannot be queried
+             * for its loaded classes, a class is looked up by its name for the bootstrap class loader.
+             *
+             * @param classLoader The class loader to query or {@code null} for the bootstrap class loader.
+             * @param name        The name of the class.
+             * @return The loaded class or {@code null} if no such class was loaded.
+             */
+            Class<?> findLoadedClass(ClassLoader classLoader, String name);
+
+            /**
+             * Defines a class.
+             *
+             * @param classLoader          The class loader to define the class in or {@code null} for the bootstrap
+             *                             class loader.
+             * @param name                 The name of the class.
+             * @param binaryRepresentation The binary representation of the class.
+             * @param protectionDomain     The protection domain of the class.
+             * @return The defined class.
+             */
+            Class<?> defineClass(ClassLoader classLoader, String name, byte[] binaryRepresentation, ProtectionDomain protectionDomain);
+
+            /**
+             * A dispatcher for a successfully looked up {@code sun.misc.Unsafe} instance.
+             */
+            class Resolved implements Dispatcher {
+
+                /**
+                 * A convenience variable representing the first index of an array, to make the code more readable.
+                 */
+                private static final int FROM_BEGINNING = 0;
+
+                /**
+                 * A representation of the bootstrap class loader.
+                 */
+                private static final ClassLoader BOOTSTRAP_CLASS_LOADER = null;
+
+                /**
+                 * Indicates that a class was not yet loaded.
+                 */
+                private static final Class<?> UNDEFINED = null;
+
+                /**
+                 * The {@code sun.misc.Unsafe} instance.
+                 */
+                private final Object unsafe;
+
+                /**
+                 * The {@code sun.misc.Unsafe#defineClass} method.
+                 */
+                private final Method defineClassMethod;
+
+                /**
+                 * The {@code java.lang.ClassLoader#findLoadedClass} method.
+                 */
+                private final Method findLoadedClassMethod;
+
+                /**
+                 * Creates a new resolved dispatcher.
+                 *
+                 * @param unsafe                The {@code sun.misc.Unsafe} instance.
+                 * @param defineClassMethod     The {@code sun.misc.Unsafe#defineClass} method.
+                 * @param findLoadedClassMethod The {@code java.lang.ClassLoader#findLoadedClass} method.
+                 */
+                protected Resolved(Object unsafe, Method defineClassMethod, Method findLoadedClassMethod) {
+                    this.unsafe = unsafe;
+                    this.defineClassMethod = defineClassMethod;
+                    this.findLoadedClassMethod = findLoadedClassMethod;
+                }
+
+                @Override
+                public boolean isAvailable() {
+                    return true;
+                }
+
+                @Override
+                public Class<?> findLoadedClass(ClassLoader classLoader, String name) {
+                    if (classLoader == BOOTSTRAP_CLASS_LOADER) {
+                        try {
+                            return Class.forName(name, false, BOOTSTRAP_CLASS_LOADER);
+                        } catch (ClassNotFoundException ignored) {
+                            return UNDEFINED;
+                        }
+                    }
+                    try {
+                        return (Class<?>) findLoadedClassMethod.invoke(classLoader, name);
+                    } catch (IllegalAccessException e) {
+                        throw new IllegalStateException("Could not access ClassLoader#findLoadedClass", e);
+                    } catch (InvocationTargetException e) {
+                        throw new IllegalStateException("Exception on invoking ClassLoader#findLoadedClass", e.getCause());
+                    }
+                }
+
+                @Override
+                public Class<?> defineClass(ClassLoader classLoader, String name, byte[] binaryRepresentation, ProtectionDomain protectionDomain) {
+                    try {
+                        return (Class<?>) defineClassMethod.invoke(unsafe,
+                                name,
+                                binaryRepresentation,
+                                FROM_BEGINNING,
+                                binaryRepresentation.length,
+                                classLoader,
+                                protectionDomain);
+                    } catch (IllegalAccessException e) {
+                        throw new IllegalStateException("Could not access Unsafe#defineClass", e);
+                    } catch (InvocationTargetException e) {
+                        throw new IllegalStateException("Exception on invoking Unsafe#defineClass", e.getCause());
+                    }
+                }
+
+                @Override
+                public boolean equals(Object other) {
+                    if (this == other) return true;
+                    if (other == null || getClass() != other.getClass()) return false;
+                    Resolved resolved = (Resolved) other;
+                    return unsafe.equals(resolved.unsafe)
+                            && defineClassMethod.equals(resolved.defineClassMethod)
+                            && findLoadedClassMethod.equals(resolved.findLoadedClassMethod);
+                }
+
+                @Override
+                public int hashCode() {
+                    int result = unsafe.hashCode();
+                    result = 31 * result + defineClassMethod.hashCode();
+                    result = 31 * result + findLoadedClassMethod.hashCode();
+                    return result;
+                }
+
+                @Override
+                public String toString() {
+                    return "ClassInjector.UsingUnsafe.Dispatcher.Resolved{" +
+                            "unsafe=" + unsafe +
+                            ", defineClassMethod=" + defineClassMethod +
+                            ", findLoadedClassMethod=" + findLoadedClassMethod +
+                            '}';
+                }
+            }
+
+            /**
+             * A dispatcher for a virtual machine where the {@code sun.misc.Unsafe} class is not available.
+             */
+            class Faulty implements Dispatcher {
+
+                /**
+                 * The exception that occurred when looking up the {@code sun.misc.Unsafe} class.
+                 */
+                private final Exception exception;
+
+                /**
+                 * Creates a new faulty dispatcher.
+                 *
+                 * @param exception The exception that occurred when looking up the {@code sun.misc.Unsafe} class.
+                 */
+                protected Faulty(Exception exception) {
+                    this.exception = exception;
+                }
+
+                @Override
+                public boolean isAvailable() {
+                    return false;
+                }
+
+                @Override
+                public Class<?> findLoadedClass(ClassLoader classLoader, String name) {
+                    throw new IllegalStateException("Cannot access sun.misc.Unsafe", exception);
+                }
+
+                @Override
+                public Class<?> defineClass(ClassLoader classLoader, String name, byte[] binaryRepresentation, ProtectionDomain protectionDomain) {
+                    throw new IllegalStateException("Cannot access sun.misc.Unsafe", exception);
+                }
+
+                @Override
+                public boolean equals(Object other) {
+                    return this == other || !(other == null || getClass() != other.getClass())
+                            && exception.equals(((Faulty) other).exception);
+                }
+
+                @Override
+                public int hashCode() {
+                    return exception.hashCode();
+                }
+
+                @Override
+                public String toString() {
+                    return "ClassInjector.UsingUnsafe.Dispatcher.Faulty{exception=" + exception + '}';
+                }
+            }
+        }
+    }
 }
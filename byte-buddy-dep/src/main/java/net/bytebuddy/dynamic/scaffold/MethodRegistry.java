@@ -440,6 +440,13 @@ public interface MethodRegistry {
              */
             private final MethodRegistry.Compiled.Entry fallback;
 
+            /**
+             * An index of the compiled entries that allows to look up the entries that might match a method or
+             * {@code null} if the index was not yet created. As the index is immutable, it is safe to create it
+             * concurrently.
+             */
+            private Index index;
+
             /**
              * Creates a new compiled default method registry.
              *
@@ -487,12 +494,15 @@ public interface MethodRegistry {
 
             @Override
             public MethodRegistry.Compiled.Entry target(MethodDescription methodDescription) {
-                for (Entry entry : entries) {
-                    if (entry.matches(methodDescription)) {
-                        return entry;
-                    }
+                Index index = this.index;
+                if (index == null) {
+                    index = Index.of(entries);
+                    this.index = index;
                 }
-                return fallback;
+                Entry entry = index.target(methodDescription);
+                return entry == null
+                        ? fallback
+                        : entry;
             }
 
             @Override
@@ -581,6 +591,129 @@ public interface MethodRegistry {
                             '}';
                 }
             }
+
+            /**
+             * An index of compiled entries. Entries with a matcher that names a necessary
+             * {@link net.bytebuddy.matcher.ElementMatcher.Indexable.Condition} on a method's name, declaring type or
+             * return type are indexed by the condition's values such that they are only applied to methods with any of
+             * these values. All other entries are applied to any method. Entries are always applied in their
+             * registration order.
+             */
+            protected static class Index {
+
+                /**
+                 * The compiled entries in their registration order.
+                 */
+                private final Entry[] entries;
+
+                /**
+                 * The indices of all entries that are not indexed by a property value.
+                 */
+                private final BitSet unconditional;
+
+                /**
+                 * The indices of all entries by the property values that are required for these entries to match.
+                 */
+                private final Map<ElementMatcher.Indexable.Property, Map<Object, BitSet>> conditional;
+
+                /**
+                 * Creates a new index.
+                 *
+                 * @param entries       The compiled entries in their registration order.
+                 * @param unconditional The indices of all entries that are not indexed by a property value.
+                 * @param conditional   The indices of all entries by the property values that are required for
+                 *                      these entries to match.
+                 */
+                protected Index(Entry[] entries,
+                                BitSet unconditional,
+                                Map<ElementMatcher.Indexable.Property, Map<Object, BitSet>> conditional) {
+                    this.entries = entries;
+                    this.unconditional = unconditional;
+                    this.conditional = conditional;
+                }
+
+                /**
+                 * Creates an index of the given compiled entries.
+                 *
+                 * @param entries The compiled entries in their registration order.
+                 * @return An index of the given entries.
+                 */
+                protected static Index of(List<Entry> entries) {
+                    BitSet unconditional = new BitSet(entries.size());
+                    Map<ElementMatcher.Indexable.Property, Map<Object, BitSet>> conditional =
+                            new EnumMap<ElementMatcher.Indexable.Property, Map<Object, BitSet>>(ElementMatcher.Indexable.Property.class);
+                    int index = 0;
+                    for (Entry entry : entries) {
+                        ElementMatcher.Indexable.Condition condition = ElementMatcher.Indexable.Condition.of(entry.methodMatcher);
+                        if (condition == null || condition.getProperty() == ElementMatcher.Indexable.Property.VALUE) {
+                            unconditional.set(index);
+                        } else {
+                            Map<Object, BitSet> indices = conditional.get(condition.getProperty());
+                            if (indices == null) {
+                                indices = new HashMap<Object, BitSet>();
+                                conditional.put(condition.getProperty(), indices);
+                            }
+                            for (Object value : condition.getValues()) {
+                                BitSet bitSet = indices.get(value);
+                                if (bitSet == null) {
+                                    bitSet = new BitSet(entries.size());
+                                    indices.put(value, bitSet);
+                                }
+                                bitSet.set(index);
+                            }
+                        }
+                        index++;
+                    }
+                    return new Index(entries.toArray(new Entry[entries.size()]), unconditional, conditional);
+                }
+
+                /**
+                 * Locates the first entry that matches the given method.
+                 *
+                 * @param methodDescription The method for which to locate an entry.
+                 * @return The first matching entry or {@code null} if no entry matches the given method.
+                 */
+                protected Entry target(MethodDescription methodDescription) {
+                    BitSet candidates = unconditional;
+                    boolean shared = true;
+                    for (Map.Entry<ElementMatcher.Indexable.Property, Map<Object, BitSet>> property : conditional.entrySet()) {
+                        BitSet indices = property.getValue().get(property.getKey().resolve(methodDescription));
+                        if (indices != null) {
+                            if (shared) {
+                                candidates = (BitSet) candidates.clone();
+                                shared = false;
+                            }
+                            candidates.or(indices);
+                        }
+                    }
+                    for (int index = candidates.nextSetBit(0); index >= 0; index = candidates.nextSetBit(index + 1)) {
+                        if (entries[index].matches(methodDescription)) {
+                            return entries[index];
+                        }
+                    }
+                    return null;
+                }
+
+                @Override
+                public boolean equals(Object other) {
+                    return this == other || !(other == null || getClass() != other.getClass())
+                            && Arrays.equals(entries, ((Index) other).entries);
+                }
+
+                @Override
+                public int hashCode() {
+                    return Arrays.hashCode(entries);
+                }
+
+                @Override
+                public String toString() {
+                    return "MethodRegistry.Default.Compiled.Index{" +
+                            "entries=" + Arrays.toString(entries) +
+                            ", unconditional=" + unconditional +
+                            ", conditional=" + conditional +
+                            '}';
+                }
+            }
         }
 
         /**
@@ -598,7 +598,7 @@ public interface TypeWriter<T> {
                      */
                     private TypeInitializerInjection() {
                         injectorProxyMethod = new MethodDescription.Latent(
-                                String.format("%s$%s", TYPE_INITIALIZER_PROXY_PREFIX, RandomString.make()),
+                                String.format("%s$%s", TYPE_INITIALIZER_PROXY_PREFIX, RandomString.hashOf(instrumentedType.getName().hashCode())),
                                 instrumentedType,
                                 TypeDescription.VOID,
                                 new TypeList.Empty(),
@@ -1175,34 +1175,42 @@ public interface TypeWriter<T> {
          */
         private final Engine engine;
 
+        /**
+         * The factory for creating the instrumentation context of the written type.
+         */
+        private final Instrumentation.Context.Factory instrumentationContextFactory;
+
         /**
          * Creates a new immutable type writer.
          *
-         * @param instrumentedType       The instrumented type that is to be written.
-         * @param loadedTypeInitializer  The loaded type initializer of the instrumented type.
-         * @param typeInitializer        The type initializer of the instrumented type.
-         * @param explicitAuxiliaryTypes A list of explicit auxiliary types that are to be added to the created
-         *                               dynamic type.
-         * @param classFileVersion       The class file version of the type that is to be written.
-         * @param engine                 An engine for writing the actual class file for the instrumented type.
+         * @param instrumentedType              The instrumented type that is to be written.
+         * @param loadedTypeInitializer         The loaded type initializer of the instrumented type.
+         * @param typeInitializer               The type initializer of the instrumented type.
+         * @param explicitAuxiliaryTypes        A list of explicit auxiliary types that are to be added to the created
+         *                                      dynamic type.
+         * @param classFileVersion              The class file version of the type that is to be written.
+         * @param engine                        An engine for writing the actual class file for the instrumented type.
+         * @param instrumentationContextFactory The factory for creating the instrumentation context of the written type.
          */
         public Default(TypeDescription instrumentedType,
                        LoadedTypeInitializer loadedTypeInitializer,
                        InstrumentedType.TypeInitializer typeInitializer,
                        List<DynamicType> explicitAuxiliaryTypes,
                        ClassFileVersion classFileVersion,
-                       Engine engine) {
+                       Engine engine,
+                       Instrumentation.Context.Factory instrumentationContextFactory) {
             this.instrumentedType = instrumentedType;
             this.loadedTypeInitializer = loadedTypeInitializer;
             this.typeInitializer = typeInitializer;
             this.explicitAuxiliaryTypes = explicitAuxiliaryTypes;
             this.classFileVersion = classFileVersion;
             this.engine = engine;
+            this.instrumentationContextFactory = instrumentationContextFactory;
         }
 
         @Override
         public DynamicType.Unloaded<S> make() {
-            Instrumentation.Context.ExtractableView instrumentationContext = new Instrumentation.Context.Default(
+            Instrumentation.Context.ExtractableView instrumentationContext = instrumentationContextFactory.make(
                     instrumentedType,
                     typeInitializer,
                     classFileVersion);
@@ -1224,7 +1232,8 @@ public interface TypeWriter<T> {
                     && instrumentedType.equals(aDefault.instrumentedType)
                     && classFileVersion.equals(aDefault.classFileVersion)
                     && loadedTypeInitializer.equals(aDefault.loadedTypeInitializer)
-                    && typeInitializer.equals(aDefault.typeInitializer);
+                    && typeInitializer.equals(aDefault.typeInitializer)
+                    && instrumentationContextFactory.equals(aDefault.instrumentationContextFactory);
         }
 
         @Override
@@ -1235,6 +1244,7 @@ public interface TypeWriter<T> {
             result = 31 * result + explicitAuxiliaryTypes.hashCode();
             result = 31 * result + engine.hashCode();
             result = 31 * result + classFileVersion.hashCode();
+            result = 31 * result + instrumentationContextFactory.hashCode();
             return result;
         }
 
@@ -1247,6 +1257,7 @@ public interface TypeWriter<T> {
                     ", explicitAuxiliaryTypes=" + explicitAuxiliaryTypes +
                     ", classFileVersion=" + classFileVersion +
                     ", engine=" + engine +
+                    ", instrumentationContextFactory=" + instrumentationContextFactory +
                     '}';
         }
     }
@@ -67,6 +67,7 @@ public class InlineDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractBas
      * @param fieldRegistry                         The field registry to apply to the dynamic type creation.
      * @param methodRegistry                        The method registry to apply to the dynamic type creation.
      * @param methodLookupEngineFactory             The method lookup engine factory to apply to the dynamic type creation.
+     * @param instrumentationContextFactory         The instrumentation context factory to apply to the dynamic type creation.
      * @param defaultFieldAttributeAppenderFactory  The field attribute appender factory that should be applied by default if
      *                                              no specific appender was specified for a given field.
      * @param defaultMethodAttributeAppenderFactory The method attribute appender factory that should be applied by default
@@ -86,6 +87,7 @@ public class InlineDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractBas
                                     FieldRegistry fieldRegistry,
                                     MethodRegistry methodRegistry,
                                     MethodLookupEngine.Factory methodLookupEngineFactory,
+                                    Instrumentation.Context.Factory instrumentationContextFactory,
                                     FieldAttributeAppender.Factory defaultFieldAttributeAppenderFactory,
                                     MethodAttributeAppender.Factory defaultMethodAttributeAppenderFactory,
                                     ClassFileLocator classFileLocator,
@@ -101,6 +103,7 @@ public class InlineDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractBas
                 classVisitorWrapperChain,
                 fieldRegistry, methodRegistry,
                 methodLookupEngineFactory,
+                instrumentationContextFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory,
                 Collections.<FieldToken>emptyList(),
@@ -124,6 +127,7 @@ public class InlineDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractBas
      * @param fieldRegistry                         The field registry to apply to the dynamic type creation.
      * @param methodRegistry                        The method registry to apply to the dynamic type creation.
      * @param methodLookupEngineFactory             The method lookup engine factory to apply to the dynamic type creation.
+     * @param instrumentationContextFactory         The instrumentation context factory to apply to the dynamic type creation.
      * @param defaultFieldAttributeAppenderFactory  The field attribute appender factory that should be applied by default if
      *                                              no specific appender was specified for a given field.
      * @param defaultMethodAttributeAppenderFactory The method attribute appender factory that should be applied by default
@@ -147,6 +151,7 @@ public class InlineDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractBas
                                        FieldRegistry fieldRegistry,
                                        MethodRegistry methodRegistry,
                                        MethodLookupEngine.Factory methodLookupEngineFactory,
+                                       Instrumentation.Context.Factory instrumentationContextFactory,
                                        FieldAttributeAppender.Factory defaultFieldAttributeAppenderFactory,
                                        MethodAttributeAppender.Factory defaultMethodAttributeAppenderFactory,
                                        List<FieldToken> fieldTokens,
@@ -164,6 +169,7 @@ public class InlineDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractBas
                 classVisitorWrapperChain,
                 fieldRegistry, methodRegistry,
                 methodLookupEngineFactory,
+                instrumentationContextFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory,
                 fieldTokens,
@@ -185,6 +191,7 @@ public class InlineDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractBas
                                                  FieldRegistry fieldRegistry,
                                                  MethodRegistry methodRegistry,
                                                  MethodLookupEngine.Factory methodLookupEngineFactory,
+                                                 Instrumentation.Context.Factory instrumentationContextFactory,
                                                  FieldAttributeAppender.Factory defaultFieldAttributeAppenderFactory,
                                                  MethodAttributeAppender.Factory defaultMethodAttributeAppenderFactory,
                                                  List<FieldToken> fieldTokens,
@@ -201,6 +208,7 @@ public class InlineDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractBas
                 fieldRegistry,
                 methodRegistry,
                 methodLookupEngineFactory,
+                instrumentationContextFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory,
                 fieldTokens,
@@ -240,7 +248,8 @@ public class InlineDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractBas
                         fieldRegistry.prepare(compiledMethodRegistry.getInstrumentedType()).compile(TypeWriter.FieldPool.Entry.NoOp.INSTANCE),
                         compiledMethodRegistry,
                         classFileLocator,
-                        preparedTargetHandler.getMethodRebaseResolver()))
+                        preparedTargetHandler.getMethodRebaseResolver()),
+                instrumentationContextFactory)
                 .make();
     }
 
@@ -272,6 +281,7 @@ public class InlineDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractBas
                 ", fieldRegistry=" + fieldRegistry +
                 ", methodRegistry=" + methodRegistry +
                 ", methodLookupEngineFactory=" + methodLookupEngineFactory +
+                ", instrumentationContextFactory=" + instrumentationContextFactory +
                 ", defaultFieldAttributeAppenderFactory=" + defaultFieldAttributeAppenderFactory +
                 ", defaultMethodAttributeAppenderFactory=" + defaultMethodAttributeAppenderFactory +
                 ", classFileLocator=" + classFileLocator +
@@ -446,9 +456,8 @@ public class InlineDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractBas
                                           ClassFileVersion classFileVersion,
                                           TypeDescription instrumentedType,
                                           MethodRebaseResolver.MethodNameTransformer methodNameTransformer) {
-                    RandomString randomString = new RandomString();
                     return new ForRebaseInstrumentation(TrivialType.INSTANCE
-                            .make(trivialTypeNameFor(instrumentedType, randomString),
+                            .make(trivialTypeNameFor(instrumentedType),
                                     classFileVersion,
                                     AuxiliaryType.MethodAccessorFactory.Illegal.INSTANCE),
                             ignoredMethods,
@@ -456,17 +465,17 @@ public class InlineDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractBas
                 }
 
                 /**
-                 * Creates a trivial name for the instrumented type.
+                 * Creates a trivial name for the instrumented type. The name is derived from the instrumented type's name
+                 * such that rebasing the same type repeatedly results in the same name.
                  *
                  * @param instrumentedType The instrumented type.
-                 * @param randomString     A random string supplier.
                  * @return A trivial name that is derived from the supplied instrumented type.
                  */
-                private static String trivialTypeNameFor(TypeDescription instrumentedType, RandomString randomString) {
+                private static String trivialTypeNameFor(TypeDescription instrumentedType) {
                     return String.format("%s$%s$%s",
                             instrumentedType.getName(),
                             SUFFIX,
-                            randomString.nextString());
+                            RandomString.hashOf(instrumentedType.getName().hashCode()));
                 }
 
                 @Override
@@ -8,6 +8,7 @@ import net.bytebuddy.dynamic.scaffold.BridgeMethodResolver;
 import net.bytebuddy.dynamic.scaffold.FieldRegistry;
 import net.bytebuddy.dynamic.scaffold.MethodRegistry;
 import net.bytebuddy.dynamic.scaffold.TypeWriter;
+import net.bytebuddy.instrumentation.Instrumentation;
 import net.bytebuddy.instrumentation.attribute.FieldAttributeAppender;
 import net.bytebuddy.instrumentation.attribute.MethodAttributeAppender;
 import net.bytebuddy.instrumentation.attribute.TypeAttributeAppender;
@@ -50,6 +51,7 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
      * @param fieldRegistry                         The field registry to apply to the dynamic type creation.
      * @param methodRegistry                        The method registry to apply to the dynamic type creation.
      * @param methodLookupEngineFactory             The method lookup engine factory to apply to the dynamic type creation.
+     * @param instrumentationContextFactory         The instrumentation context factory to apply to the dynamic type creation.
      * @param defaultFieldAttributeAppenderFactory  The field attribute appender factory that should be applied by default if
      *                                              no specific appender was specified for a given field.
      * @param defaultMethodAttributeAppenderFactory The method attribute appender factory that should be applied by default
@@ -68,6 +70,7 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
                                       FieldRegistry fieldRegistry,
                                       MethodRegistry methodRegistry,
                                       MethodLookupEngine.Factory methodLookupEngineFactory,
+                                      Instrumentation.Context.Factory instrumentationContextFactory,
                                       FieldAttributeAppender.Factory defaultFieldAttributeAppenderFactory,
                                       MethodAttributeAppender.Factory defaultMethodAttributeAppenderFactory,
                                       ConstructorStrategy constructorStrategy) {
@@ -83,6 +86,7 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
                 fieldRegistry,
                 methodRegistry,
                 methodLookupEngineFactory,
+                instrumentationContextFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory,
                 Collections.<FieldToken>emptyList(),
@@ -105,6 +109,7 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
      * @param fieldRegistry                         The field registry to apply to the dynamic type creation.
      * @param methodRegistry                        The method registry to apply to the dynamic type creation.
      * @param methodLookupEngineFactory             The method lookup engine factory to apply to the dynamic type creation.
+     * @param instrumentationContextFactory         The instrumentation context factory to apply to the dynamic type creation.
      * @param defaultFieldAttributeAppenderFactory  The field attribute appender factory that should be applied by default if
      *                                              no specific appender was specified for a given field.
      * @param defaultMethodAttributeAppenderFactory The method attribute appender factory that should be applied by default
@@ -128,6 +133,7 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
                                          FieldRegistry fieldRegistry,
                                          MethodRegistry methodRegistry,
                                          MethodLookupEngine.Factory methodLookupEngineFactory,
+                                         Instrumentation.Context.Factory instrumentationContextFactory,
                                          FieldAttributeAppender.Factory defaultFieldAttributeAppenderFactory,
                                          MethodAttributeAppender.Factory defaultMethodAttributeAppenderFactory,
                                          List<FieldToken> fieldTokens,
@@ -145,6 +151,7 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
                 fieldRegistry,
                 methodRegistry,
                 methodLookupEngineFactory,
+                instrumentationContextFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory,
                 fieldTokens,
@@ -165,6 +172,7 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
                                                  FieldRegistry fieldRegistry,
                                                  MethodRegistry methodRegistry,
                                                  MethodLookupEngine.Factory methodLookupEngineFactory,
+                                                 Instrumentation.Context.Factory instrumentationContextFactory,
                                                  FieldAttributeAppender.Factory defaultFieldAttributeAppenderFactory,
                                                  MethodAttributeAppender.Factory defaultMethodAttributeAppenderFactory,
                                                  List<FieldToken> fieldTokens,
@@ -181,6 +189,7 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
                 fieldRegistry,
                 methodRegistry,
                 methodLookupEngineFactory,
+                instrumentationContextFactory,
                 defaultFieldAttributeAppenderFactory,
                 defaultMethodAttributeAppenderFactory,
                 fieldTokens,
@@ -216,7 +225,8 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
                         classVisitorWrapperChain,
                         attributeAppender,
                         fieldRegistry.prepare(compiledMethodRegistry.getInstrumentedType()).compile(TypeWriter.FieldPool.Entry.NoOp.INSTANCE),
-                        compiledMethodRegistry))
+                        compiledMethodRegistry),
+                instrumentationContextFactory)
                 .make();
     }
 
@@ -264,6 +274,7 @@ public class SubclassDynamicTypeBuilder<T> extends DynamicType.Builder.AbstractB
                 ", fieldRegistry=" + fieldRegistry +
                 ", methodRegistry=" + methodRegistry +
                 ", methodLookupEngineFactory=" + methodLookupEngineFactory +
+                ", instrumentationContextFactory=" + instrumentationContextFactory +
                 ", defaultFieldAttributeAppenderFactory=" + defaultFieldAttributeAppenderFactory +
                 ", defaultMethodAttributeAppenderFactory=" + defaultMethodAttributeAppenderFactory +
                 ", constructorStrategy=" + constructorStrategy +
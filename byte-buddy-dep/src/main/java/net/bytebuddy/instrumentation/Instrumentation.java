@@ -597,6 +597,25 @@ public interface Instrumentation {
             }
         }
 
+        /**
+         * A factory for creating the {@link net.bytebuddy.instrumentation.Instrumentation.Context} of an instrumented
+         * type. A new instrumentation context is created each time an instrumented type is written.
+         */
+        interface Factory {
+
+            /**
+             * Creates a new instrumentation context.
+             *
+             * @param instrumentedType The description of the type that is currently subject of creation.
+             * @param typeInitializer  The type initializer of the created instrumented type.
+             * @param classFileVersion The class file version of the created class.
+             * @return An instrumentation context for writing the given instrumented type.
+             */
+            ExtractableView make(TypeDescription instrumentedType,
+                                 InstrumentedType.TypeInitializer typeInitializer,
+                                 ClassFileVersion classFileVersion);
+        }
+
         /**
          * A default implementation of an {@link net.bytebuddy.instrumentation.Instrumentation.Context.ExtractableView}
          * which serves as its own {@link net.bytebuddy.instrumentation.type.auxiliary.AuxiliaryType.MethodAccessorFactory}.
@@ -674,9 +693,9 @@ public interface Instrumentation {
             private final Map<FieldCacheEntry, FieldDescription> registeredFieldCacheEntries;
 
             /**
-             * An instance for supporting the creation of random values.
+             * The index of the next name suffix that is created for an accessor method or a field cache.
              */
-            private final RandomString randomString;
+            private int suffixIndex;
 
             /**
              * Signals if this type extension delegate is still capable of registering field cache entries. Such entries
@@ -687,7 +706,11 @@ public interface Instrumentation {
 
             /**
              * Creates a new delegate. This constructor implicitly defines default naming strategies for created accessor
-             * method and registered auxiliary types.
+             * method and registered auxiliary types. The names of accessor methods and field caches are derived from the
+             * instrumented type's name and the order of their registration such that identical instrumentations result
+             * in identical members. Auxiliary types are named randomly as different instrumentations of a type with the
+             * same name might otherwise define auxiliary types of the same name but of a different shape within one
+             * class loader.
              *
              * @param instrumentedType The description of the type that is currently subject of creation.
              * @param typeInitializer  The type initializer of the created instrumented type.
@@ -733,7 +756,6 @@ public interface Instrumentation {
                 accessorMethodEntries = new HashMap<MethodDescription, TypeWriter.MethodPool.Entry>();
                 auxiliaryTypes = new HashMap<AuxiliaryType, DynamicType>();
                 registeredFieldCacheEntries = new HashMap<FieldCacheEntry, FieldDescription>();
-                randomString = new RandomString();
                 canRegisterFieldCache = true;
             }
 
@@ -743,7 +765,7 @@ public interface Instrumentation {
                 if (accessorMethod == null) {
                     String name = String.format("%s$%s$%s", specialMethodInvocation.getMethodDescription().getInternalName(),
                             accessorMethodSuffix,
-                            randomString.nextString());
+                            nextSuffix());
                     accessorMethod = new MethodDescription.Latent(name,
                             instrumentedType,
                             specialMethodInvocation.getMethodDescription().getReturnType(),
@@ -755,6 +777,16 @@ public interface Instrumentation {
                 return accessorMethod;
             }
 
+            /**
+             * Creates a new name suffix for an accessor method or a field cache. Each suffix that is created by this instance
+             * is unique and only depends on the instrumented type's name and the number of previously created suffixes.
+             *
+             * @return A new name suffix.
+             */
+            private String nextSuffix() {
+                return RandomString.hashOf(31 * instrumentedType.getName().hashCode() + suffixIndex++);
+            }
+
             /**
              * Resolves the modifier for an accessor method.
              *
@@ -783,7 +815,7 @@ public interface Instrumentation {
                 if (accessorMethod == null) {
                     String name = String.format("%s$%s$%s", fieldDescription.getName(),
                             accessorMethodSuffix,
-                            randomString.nextString());
+                            nextSuffix());
                     accessorMethod = new MethodDescription.Latent(name,
                             instrumentedType,
                             fieldDescription.getFieldType(),
@@ -813,7 +845,7 @@ public interface Instrumentation {
                 if (accessorMethod == null) {
                     String name = String.format("%s$%s$%s", fieldDescription.getName(),
                             accessorMethodSuffix,
-                            randomString.nextString());
+                            nextSuffix());
                     accessorMethod = new MethodDescription.Latent(name,
                             instrumentedType,
                             TypeDescription.VOID,
@@ -862,7 +894,7 @@ public interface Instrumentation {
                     return fieldCache;
                 }
                 validateFieldCacheAccessibility();
-                fieldCache = new FieldDescription.Latent(String.format("%s$%s", fieldCachePrefix, randomString.nextString()),
+                fieldCache = new FieldDescription.Latent(String.format("%s$%s", fieldCachePrefix, nextSuffix()),
                         instrumentedType,
                         fieldType,
                         FIELD_CACHE_MODIFIER);
@@ -919,11 +951,56 @@ public interface Instrumentation {
                         ", accessorMethodEntries=" + accessorMethodEntries +
                         ", auxiliaryTypes=" + auxiliaryTypes +
                         ", registeredFieldCacheEntries=" + registeredFieldCacheEntries +
-                        ", randomString=" + randomString +
+                        ", suffixIndex=" + suffixIndex +
                         ", canRegisterFieldCache=" + canRegisterFieldCache +
                         '}';
             }
 
+            /**
+             * A factory for creating a default instrumentation context which determines how the context names the
+             * auxiliary types that are registered.
+             */
+            public enum Factory implements Instrumentation.Context.Factory {
+
+                /**
+                 * A factory for instrumentation contexts that name auxiliary types randomly. This way, different
+                 * instrumentations of a type with the same name never define auxiliary types of the same name.
+                 */
+                SUFFIXING_RANDOM {
+                    @Override
+                    public Instrumentation.Context.ExtractableView make(TypeDescription instrumentedType,
+                                                                        InstrumentedType.TypeInitializer typeInitializer,
+                                                                        ClassFileVersion classFileVersion) {
+                        return new Default(instrumentedType, typeInitializer, classFileVersion);
+                    }
+                },
+
+                /**
+                 * A factory for instrumentation contexts that enumerate the auxiliary types of an instrumented type.
+                 * This way, identical instrumentations result in identical class files, including their auxiliary
+                 * types. This factory must only be used if no two instrumentations of a type with the same name
+                 * define their auxiliary types in the same class loader.
+                 */
+                ENUMERATING {
+                    @Override
+                    public Instrumentation.Context.ExtractableView make(TypeDescription instrumentedType,
+                                                                        InstrumentedType.TypeInitializer typeInitializer,
+                                                                        ClassFileVersion classFileVersion) {
+                        return new Default(instrumentedType,
+                                typeInitializer,
+                                classFileVersion,
+                                DEFAULT_ACCESSOR_METHOD_SUFFIX,
+                                DEFAULT_FIELD_CACHE_PREFIX,
+                                new AuxiliaryTypeNamingStrategy.Enumerating(DEFAULT_ACCESSOR_METHOD_SUFFIX));
+                    }
+                };
+
+                @Override
+                public String toString() {
+                    return "Instrumentation.Context.Default.Factory." + name();
+                }
+            }
+
             /**
              * Representation of a naming strategy for an auxiliary type.
              */
@@ -941,6 +1018,8 @@ public interface Instrumentation {
                 /**
                  * A naming strategy for an auxiliary type which returns the instrumented type's name with a fixed extension
                  * and a random number as a suffix. All generated names will be in the same package as the instrumented type.
+                 * The source of random values is only created when the first auxiliary type is named and it is seeded
+                 * explicitly such that creating a naming strategy does not access any state that is shared between threads.
                  */
                 class SuffixingRandom implements AuxiliaryTypeNamingStrategy {
 
@@ -950,9 +1029,9 @@ public interface Instrumentation {
                     private final String suffix;
 
                     /**
-                     * An instance for creating random values.
+                     * An instance for creating random values or {@code null} if no auxiliary type was named yet.
                      */
-                    private final RandomString randomString;
+                    private RandomString randomString;
 
                     /**
                      * Creates a new suffixing random naming strategy.
@@ -961,11 +1040,14 @@ public interface Instrumentation {
                      */
                     public SuffixingRandom(String suffix) {
                         this.suffix = suffix;
-                        randomString = new RandomString();
                     }
 
                     @Override
                     public String name(AuxiliaryType auxiliaryType, TypeDescription instrumentedType) {
+                        if (randomString == null) {
+                            randomString = new RandomString(RandomString.DEFAULT_LENGTH,
+                                    new Random(System.nanoTime() ^ System.identityHashCode(this)));
+                        }
                         return String.format("%s$%s$%s", instrumentedType.getName(), suffix, randomString.nextString());
                     }
 
@@ -985,6 +1067,62 @@ public interface Instrumentation {
                         return "Instrumentation.Context.Default.AuxiliaryTypeNamingStrategySuffixingRandom{suffix='" + suffix + '\'' + '}';
                     }
                 }
+
+                /**
+                 * A naming strategy for an auxiliary type which returns the instrumented type's name with a fixed extension
+                 * and an index as a suffix where the index is incremented for each named auxiliary type. All generated
+                 * names will be in the same package as the instrumented type. As the names only depend on the instrumented
+                 * type's name and the order in which auxiliary types are named, an instance of this strategy should only
+                 * be used for naming the auxiliary types of a single instrumented type. This strategy is not thread-safe.
+                 * As two instrumentations of a type with the same name result in the same names for their auxiliary types,
+                 * this strategy must only be used if no two such instrumentations define their auxiliary types in the same
+                 * class loader.
+                 */
+                class Enumerating implements AuxiliaryTypeNamingStrategy {
+
+                    /**
+                     * The suffix to append to the instrumented type for creating names for the auxiliary types.
+                     */
+                    private final String suffix;
+
+                    /**
+                     * The index of the next auxiliary type that is named.
+                     */
+                    private int index;
+
+                    /**
+                     * Creates a new enumerating naming strategy.
+                     *
+                     * @param suffix The suffix to extend to the instrumented type.
+                     */
+                    public Enumerating(String suffix) {
+                        this.suffix = suffix;
+                    }
+
+                    @Override
+                    public String name(AuxiliaryType auxiliaryType, TypeDescription instrumentedType) {
+                        return String.format("%s$%s$%d", instrumentedType.getName(), suffix, index++);
+                    }
+
+                    @Override
+                    public boolean equals(Object other) {
+                        return this == other || !(other == null || getClass() != other.getClass())
+                                && suffix.equals(((Enumerating) other).suffix);
+                    }
+
+                    @Override
+                    public int hashCode() {
+                        return suffix.hashCode();
+                    }
+
+                    @Override
+                    public String toString() {
+                        return "Instrumentation.Context.Default.AuxiliaryTypeNamingStrategy.Enumerating{" +
+                                "suffix='" + suffix + '\'' +
+                                ", index=" + index +
+                                '}';
+                    }
+                }
             }
 
             /**
@@ -470,7 +470,8 @@ public interface MethodDescription extends ByteCodeElement {
     }
 
     /**
-     * An implementation of a method description for a loaded constructor.
+     * An implementation of a method description for a loaded constructor. The descriptor, the unique signature and
+     * the hash code of the represented constructor are only computed once.
      */
     class ForLoadedConstructor extends AbstractMethodDescription {
 
@@ -479,6 +480,21 @@ public interface MethodDescription extends ByteCodeElement {
          */
         private final Constructor<?> constructor;
 
+        /**
+         * The descriptor of this method or {@code null} if it was not yet computed.
+         */
+        private String descriptor;
+
+        /**
+         * The unique signature of this method or {@code null} if it was not yet computed.
+         */
+        private String uniqueSignature;
+
+        /**
+         * The hash code of this method or {@code 0} if it was not yet computed.
+         */
+        private int hashCode;
+
         /**
          * Creates a new immutable method description for a loaded constructor.
          *
@@ -550,7 +566,32 @@ public interface MethodDescription extends ByteCodeElement {
 
         @Override
         public String getDescriptor() {
-            return Type.getConstructorDescriptor(constructor);
+            String descriptor = this.descriptor;
+            if (descriptor == null) {
+                descriptor = Type.getConstructorDescriptor(constructor);
+                this.descriptor = descriptor;
+            }
+            return descriptor;
+        }
+
+        @Override
+        public String getUniqueSignature() {
+            String uniqueSignature = this.uniqueSignature;
+            if (uniqueSignature == null) {
+                uniqueSignature = super.getUniqueSignature();
+                this.uniqueSignature = uniqueSignature;
+            }
+            return uniqueSignature;
+        }
+
+        @Override
+        public int hashCode() {
+            int hashCode = this.hashCode;
+            if (hashCode == 0) {
+                hashCode = super.hashCode();
+                this.hashCode = hashCode;
+            }
+            return hashCode;
         }
 
         @Override
@@ -565,7 +606,8 @@ public interface MethodDescription extends ByteCodeElement {
     }
 
     /**
-     * An implementation of a method description for a loaded method.
+     * An implementation of a method description for a loaded method. The descriptor, the unique signature and
+     * the hash code of the represented method are only computed once.
      */
     class ForLoadedMethod extends AbstractMethodDescription {
 
@@ -574,6 +616,21 @@ public interface MethodDescription extends ByteCodeElement {
          */
         private final Method method;
 
+        /**
+         * The descriptor of this method or {@code null} if it was not yet computed.
+         */
+        private String descriptor;
+
+        /**
+         * The unique signature of this method or {@code null} if it was not yet computed.
+         */
+        private String uniqueSignature;
+
+        /**
+         * The hash code of this method or {@code 0} if it was not yet computed.
+         */
+        private int hashCode;
+
         /**
          * Creates a new immutable method description for a loaded method.
          *
@@ -650,7 +707,32 @@ public interface MethodDescription extends ByteCodeElement {
 
         @Override
         public String getDescriptor() {
-            return Type.getMethodDescriptor(method);
+            String descriptor = this.descriptor;
+            if (descriptor == null) {
+                descriptor = Type.getMethodDescriptor(method);
+                this.descriptor = descriptor;
+            }
+            return descriptor;
+        }
+
+        @Override
+        public String getUniqueSignature() {
+            String uniqueSignature = this.uniqueSignature;
+            if (uniqueSignature == null) {
+                uniqueSignature = super.getUniqueSignature();
+                this.uniqueSignature = uniqueSignature;
+            }
+            return uniqueSignature;
+        }
+
+        @Override
+        public int hashCode() {
+            int hashCode = this.hashCode;
+            if (hashCode == 0) {
+                hashCode = super.hashCode();
+                this.hashCode = hashCode;
+            }
+            return hashCode;
         }
 
         /**
@@ -678,7 +760,8 @@ public interface MethodDescription extends ByteCodeElement {
 
     /**
      * A latent method description describes a method that is not attached to a declaring
-     * {@link net.bytebuddy.instrumentation.type.TypeDescription}.
+     * {@link net.bytebuddy.instrumentation.type.TypeDescription}. As a latent method description is immutable, its
+     * descriptor, its unique signature and its hash code are only computed once.
      */
     class Latent extends AbstractMethodDescription {
 
@@ -712,6 +795,21 @@ public interface MethodDescription extends ByteCodeElement {
          */
         private final List<? extends TypeDescription> exceptionTypes;
 
+        /**
+         * The descriptor of this method or {@code null} if it was not yet computed.
+         */
+        private String descriptor;
+
+        /**
+         * The unique signature of this method or {@code null} if it was not yet computed.
+         */
+        private String uniqueSignature;
+
+        /**
+         * The hash code of this method or {@code 0} if it was not yet computed.
+         */
+        private int hashCode;
+
         /**
          * Creates an immutable latent method description.
          *
@@ -786,6 +884,36 @@ public interface MethodDescription extends ByteCodeElement {
             return modifiers;
         }
 
+        @Override
+        public String getDescriptor() {
+            String descriptor = this.descriptor;
+            if (descriptor == null) {
+                descriptor = super.getDescriptor();
+                this.descriptor = descriptor;
+            }
+            return descriptor;
+        }
+
+        @Override
+        public String getUniqueSignature() {
+            String uniqueSignature = this.uniqueSignature;
+            if (uniqueSignature == null) {
+                uniqueSignature = super.getUniqueSignature();
+                this.uniqueSignature = uniqueSignature;
+            }
+            return uniqueSignature;
+        }
+
+        @Override
+        public int hashCode() {
+            int hashCode = this.hashCode;
+            if (hashCode == 0) {
+                hashCode = super.hashCode();
+                this.hashCode = hashCode;
+            }
+            return hashCode;
+        }
+
         @Override
         public Object getDefaultValue() {
             return null;
@@ -1,6 +1,7 @@
 package net.bytebuddy.instrumentation.method;
 
 import net.bytebuddy.instrumentation.attribute.annotation.AnnotationList;
+import net.bytebuddy.instrumentation.type.PackageDescription;
 import net.bytebuddy.instrumentation.type.TypeDescription;
 import net.bytebuddy.instrumentation.type.TypeList;
 import net.bytebuddy.matcher.ElementMatcher;
@@ -188,9 +189,9 @@ public interface MethodLookupEngine {
         }
 
         /**
-         * Creates a new method description of an overriding method to an overriden method. The overriding method is
-         * considered to be a {@link net.bytebuddy.instrumentation.method.MethodLookupEngine.OverridenClassMethod}
-         * itself and is resolved appropriately.
+         * Creates a new method description of an overriding method to an overriden method. Both methods might be
+         * {@link net.bytebuddy.instrumentation.method.MethodLookupEngine.OverridenClassMethod}s themselves and are
+         * resolved appropriately.
          *
          * @param overridingMethod The most specific method that is overriding another method.
          * @param overriddenMethod The method that is overridden by the {@code overridingMethod}.
@@ -207,7 +208,11 @@ public interface MethodLookupEngine {
                 methodChain = new ArrayList<MethodDescription>(2);
                 methodChain.add(overridingMethod);
             }
-            methodChain.add(overriddenMethod);
+            if (overriddenMethod instanceof OverridenClassMethod) {
+                methodChain.addAll(((OverridenClassMethod) overriddenMethod).methodChain);
+            } else {
+                methodChain.add(overriddenMethod);
+            }
             return new OverridenClassMethod(methodChain);
         }
 
@@ -463,13 +468,29 @@ public interface MethodLookupEngine {
          */
         private final DefaultMethodLookup defaultMethodLookup;
 
+        /**
+         * The cache for the methods that are inherited from a super class hierarchy.
+         */
+        private final HierarchyCache hierarchyCache;
+
         /**
          * Creates a new default method lookup engine.
          *
          * @param defaultMethodLookup Determines if default method lookup is enabled.
          */
         public Default(DefaultMethodLookup defaultMethodLookup) {
+            this(defaultMethodLookup, HierarchyCache.NoOp.INSTANCE);
+        }
+
+        /**
+         * Creates a new default method lookup engine.
+         *
+         * @param defaultMethodLookup Determines if default method lookup is enabled.
+         * @param hierarchyCache      The cache for the methods that are inherited from a super class hierarchy.
+         */
+        public Default(DefaultMethodLookup defaultMethodLookup, HierarchyCache hierarchyCache) {
             this.defaultMethodLookup = defaultMethodLookup;
+            this.hierarchyCache = hierarchyCache;
         }
 
         @Override
@@ -477,9 +498,11 @@ public interface MethodLookupEngine {
             MethodBucket methodBucket = new MethodBucket(typeDescription);
             Set<TypeDescription> interfaces = new HashSet<TypeDescription>();
             TypeList defaultMethodRelevantInterfaces = typeDescription.getInterfaces();
-            while ((typeDescription = typeDescription.getSupertype()) != null) {
-                methodBucket.pushClass(typeDescription);
-                interfaces.addAll(typeDescription.getInterfaces());
+            TypeDescription supertype = typeDescription.getSupertype();
+            if (supertype != null) {
+                Hierarchy hierarchy = hierarchyCache.resolve(supertype, typeDescription);
+                methodBucket.pushHierarchy(hierarchy);
+                interfaces.addAll(hierarchy.getInterfaces());
             }
             Map<TypeDescription, Set<MethodDescription>> defaultMethods = defaultMethodLookup.apply(methodBucket,
                     interfaces,
@@ -493,18 +516,20 @@ public interface MethodLookupEngine {
         @Override
         public boolean equals(Object other) {
             return this == other || !(other == null || getClass() != other.getClass())
-                    && defaultMethodLookup == ((Default) other).defaultMethodLookup;
+                    && defaultMethodLookup == ((Default) other).defaultMethodLookup
+                    && hierarchyCache.equals(((Default) other).hierarchyCache);
         }
 
         @Override
         public int hashCode() {
-            return defaultMethodLookup.hashCode();
+            return 31 * defaultMethodLookup.hashCode() + hierarchyCache.hashCode();
         }
 
         @Override
         public String toString() {
             return "MethodLookupEngine.Default{" +
                     "defaultMethodLookup=" + defaultMethodLookup +
+                    ", hierarchyCache=" + hierarchyCache +
                     '}';
         }
 
@@ -584,6 +609,357 @@ public interface MethodLookupEngine {
             }
         }
 
+        /**
+         * A factory for creating {@link net.bytebuddy.instrumentation.method.MethodLookupEngine.Default} lookup
+         * engines that share a {@link net.bytebuddy.instrumentation.method.MethodLookupEngine.Default.HierarchyCache.Bounded}
+         * cache. This way, the methods that a type inherits from its super class hierarchy are only looked up once
+         * for any number of types that share a super class, for example for several types that subclass the same
+         * base class.
+         */
+        public static class CachingFactory implements MethodLookupEngine.Factory {
+
+            /**
+             * The hierarchy cache that is shared by all created method lookup engines.
+             */
+            private final HierarchyCache hierarchyCache;
+
+            /**
+             * Creates a new caching factory.
+             *
+             * @param maximumSize The maximum number of super class hierarchies that are cached.
+             */
+            public CachingFactory(int maximumSize) {
+                this(new HierarchyCache.Bounded(maximumSize));
+            }
+
+            /**
+             * Creates a new caching factory.
+             *
+             * @param hierarchyCache The hierarchy cache that is shared by all created method lookup engines.
+             */
+            public CachingFactory(HierarchyCache hierarchyCache) {
+                this.hierarchyCache = hierarchyCache;
+            }
+
+            @Override
+            public MethodLookupEngine make(boolean extractDefaultMethods) {
+                return new Default(extractDefaultMethods
+                        ? DefaultMethodLookup.ENABLED
+                        : DefaultMethodLookup.DISABLED, hierarchyCache);
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                return this == other || !(other == null || getClass() != other.getClass())
+                        && hierarchyCache.equals(((CachingFactory) other).hierarchyCache);
+            }
+
+            @Override
+            public int hashCode() {
+                return hierarchyCache.hashCode();
+            }
+
+            @Override
+            public String toString() {
+                return "MethodLookupEngine.Default.CachingFactory{" +
+                        "hierarchyCache=" + hierarchyCache +
+                        '}';
+            }
+        }
+
+        /**
+         * Represents the methods that a type inherits from a super class and from this super class's super classes
+         * together with the interfaces that are implemented by any of these classes. Which methods are inherited
+         * depends on the package of the inheriting type as package-private methods are only inherited by types of
+         * the same package.
+         */
+        public static class Hierarchy {
+
+            /**
+             * The inherited methods by their unique signature where overriding methods are represented by an
+             * {@link net.bytebuddy.instrumentation.method.MethodLookupEngine.OverridenClassMethod}.
+             */
+            private final Map<String, MethodDescription> classMethods;
+
+            /**
+             * All interfaces that are implemented by any class of the hierarchy.
+             */
+            private final Set<TypeDescription> interfaces;
+
+            /**
+             * Creates a new hierarchy.
+             *
+             * @param classMethods The inherited methods by their unique signature where overriding methods are
+             *                     represented by an
+             *                     {@link net.bytebuddy.instrumentation.method.MethodLookupEngine.OverridenClassMethod}.
+             * @param interfaces   All interfaces that are implemented by any class of the hierarchy.
+             */
+            protected Hierarchy(Map<String, MethodDescription> classMethods, Set<TypeDescription> interfaces) {
+                this.classMethods = classMethods;
+                this.interfaces = interfaces;
+            }
+
+            /**
+             * Looks up the methods that a type inherits from a super class hierarchy. Only the methods that are
+             * declared by the given super class are looked up while the hierarchy of the super class's own super
+             * class is resolved from the given cache.
+             *
+             * @param supertype      The super class of the inheriting type.
+             * @param typeOfInterest The inheriting type.
+             * @param hierarchyCache The cache for resolving the hierarchy of the super class's own super class.
+             * @return The hierarchy of the given super class as it is inherited by the given type.
+             */
+            public static Hierarchy of(TypeDescription supertype, TypeDescription typeOfInterest, HierarchyCache hierarchyCache) {
+                Map<String, MethodDescription> classMethods = new HashMap<String, MethodDescription>();
+                for (MethodDescription methodDescription : supertype.getDeclaredMethods().filter(MethodBucket.virtualMethodMatcher(typeOfInterest))) {
+                    classMethods.put(methodDescription.getUniqueSignature(), methodDescription);
+                }
+                Set<TypeDescription> interfaces = new HashSet<TypeDescription>(supertype.getInterfaces());
+                TypeDescription superSupertype = supertype.getSupertype();
+                if (superSupertype != null) {
+                    Hierarchy hierarchy = hierarchyCache.resolve(superSupertype, typeOfInterest);
+                    for (Map.Entry<String, MethodDescription> entry : hierarchy.getClassMethods().entrySet()) {
+                        MethodDescription overridingMethod = classMethods.get(entry.getKey());
+                        classMethods.put(entry.getKey(), overridingMethod == null
+                                ? entry.getValue()
+                                : OverridenClassMethod.of(overridingMethod, entry.getValue()));
+                    }
+                    interfaces.addAll(hierarchy.getInterfaces());
+                }
+                return new Hierarchy(Collections.unmodifiableMap(classMethods), Collections.unmodifiableSet(interfaces));
+            }
+
+            /**
+             * Returns the inherited methods by their unique signature.
+             *
+             * @return The inherited methods by their unique signature.
+             */
+            public Map<String, MethodDescription> getClassMethods() {
+                return classMethods;
+            }
+
+            /**
+             * Returns all interfaces that are implemented by any class of the hierarchy.
+             *
+             * @return All interfaces that are implemented by any class of the hierarchy.
+             */
+            public Set<TypeDescription> getInterfaces() {
+                return interfaces;
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                return this == other || !(other == null || getClass() != other.getClass())
+                        && classMethods.equals(((Hierarchy) other).classMethods)
+                        && interfaces.equals(((Hierarchy) other).interfaces);
+            }
+
+            @Override
+            public int hashCode() {
+                return 31 * classMethods.hashCode() + interfaces.hashCode();
+            }
+
+            @Override
+            public String toString() {
+                return "MethodLookupEngine.Default.Hierarchy{" +
+                        "classMethods=" + classMethods +
+                        ", interfaces=" + interfaces +
+                        '}';
+            }
+        }
+
+        /**
+         * A cache for the {@link net.bytebuddy.instrumentation.method.MethodLookupEngine.Default.Hierarchy} of a
+         * super class.
+         */
+        public interface HierarchyCache {
+
+            /**
+             * Resolves the hierarchy of a super class as it is inherited by a given type.
+             *
+             * @param supertype      The super class of the inheriting type.
+             * @param typeOfInterest The inheriting type.
+             * @return The hierarchy of the given super class as it is inherited by the given type.
+             */
+            Hierarchy resolve(TypeDescription supertype, TypeDescription typeOfInterest);
+
+            /**
+             * A hierarchy cache that does not cache any hierarchy.
+             */
+            enum NoOp implements HierarchyCache {
+
+                /**
+                 * The singleton instance.
+                 */
+                INSTANCE;
+
+                @Override
+                public Hierarchy resolve(TypeDescription supertype, TypeDescription typeOfInterest) {
+                    return Hierarchy.of(supertype, typeOfInterest, this);
+                }
+
+                @Override
+                public String toString() {
+                    return "MethodLookupEngine.Default.HierarchyCache.NoOp." + name();
+                }
+            }
+
+            /**
+             * A thread-safe hierarchy cache that retains a bounded number of hierarchies. When this bound is exceeded,
+             * the hierarchy that was least recently requested is discarded. Hierarchies are cached by their super
+             * class and by the package of the inheriting type. A hierarchy that is not cached is composed of the methods
+             * that are declared by its super class and of the cached hierarchy of this super class's own super class
+             * such that a common base class is only looked up once for any number of its subclasses. Note that types
+             * are considered equal if they are of equal names such that a cache should not be shared for types of
+             * different class loaders that define different types of identical names.
+             */
+            class Bounded implements HierarchyCache {
+
+                /**
+                 * The initial capacity of the underlying map.
+                 */
+                private static final int INITIAL_CAPACITY = 16;
+
+                /**
+                 * The load factor of the underlying map.
+                 */
+                private static final float LOAD_FACTOR = 0.75f;
+
+                /**
+                 * A map containing all cached hierarchies in their access order. Any access to this map must be
+                 * synchronized on the map instance.
+                 */
+                private final Map<Key, Hierarchy> cache;
+
+                /**
+                 * Creates a new bounded hierarchy cache.
+                 *
+                 * @param maximumSize The maximum number of hierarchies to be retained by this cache.
+                 */
+                public Bounded(int maximumSize) {
+                    if (maximumSize < 1) {
+                        throw new IllegalArgumentException("The maximum size of a cache must be positive: " + maximumSize);
+                    }
+                    cache = new EvictingMap(maximumSize);
+                }
+
+                @Override
+                public Hierarchy resolve(TypeDescription supertype, TypeDescription typeOfInterest) {
+                    Key key = new Key(supertype, typeOfInterest.getPackage());
+                    Hierarchy hierarchy;
+                    synchronized (cache) {
+                        hierarchy = cache.get(key);
+                    }
+                    if (hierarchy == null) {
+                        hierarchy = Hierarchy.of(supertype, typeOfInterest, this);
+                        synchronized (cache) {
+                            cache.put(key, hierarchy);
+                        }
+                    }
+                    return hierarchy;
+                }
+
+                /**
+                 * Removes all hierarchies from this cache.
+                 */
+                public void clear() {
+                    synchronized (cache) {
+                        cache.clear();
+                    }
+                }
+
+                @Override
+                public String toString() {
+                    synchronized (cache) {
+                        return "MethodLookupEngine.Default.HierarchyCache.Bounded{cache=" + cache + '}';
+                    }
+                }
+
+                /**
+                 * A key of a cached hierarchy.
+                 */
+                protected static class Key {
+
+                    /**
+                     * The super class of the cached hierarchy.
+                     */
+                    private final TypeDescription supertype;
+
+                    /**
+                     * The package of the inheriting type or {@code null} if the type is defined in the default package.
+                     */
+                    private final PackageDescription packageDescription;
+
+                    /**
+                     * Creates a new key.
+                     *
+                     * @param supertype          The super class of the cached hierarchy.
+                     * @param packageDescription The package of the inheriting type or {@code null} if the type is
+                     *                           defined in the default package.
+                     */
+                    protected Key(TypeDescription supertype, PackageDescription packageDescription) {
+                        this.supertype = supertype;
+                        this.packageDescription = packageDescription;
+                    }
+
+                    @Override
+                    public boolean equals(Object other) {
+                        if (this == other) return true;
+                        if (other == null || getClass() != other.getClass()) return false;
+                        Key key = (Key) other;
+                        return supertype.equals(key.supertype)
+                                && (packageDescription == null
+                                ? key.packageDescription == null
+                                : packageDescription.equals(key.packageDescription));
+                    }
+
+                    @Override
+                    public int hashCode() {
+                        return 31 * supertype.hashCode() + (packageDescription == null ? 0 : packageDescription.hashCode());
+                    }
+
+                    @Override
+                    public String toString() {
+                        return "MethodLookupEngine.Default.HierarchyCache.Bounded.Key{" +
+                                "supertype=" + supertype +
+                                ", packageDescription=" + packageDescription +
+                                '}';
+                    }
+                }
+
+                /**
+                 * A map in access order that discards its eldest entry once a maximum size is exceeded.
+                 */
+                protected static class EvictingMap extends LinkedHashMap<Key, Hierarchy> {
+
+                    /**
+                     * The class's serial version UID.
+                     */
+                    private static final long serialVersionUID = 1L;
+
+                    /**
+                     * The maximum number of entries of this map.
+                     */
+                    private final int maximumSize;
+
+                    /**
+                     * Creates a new evicting map.
+                     *
+                     * @param maximumSize The maximum number of entries of this map.
+                     */
+                    protected EvictingMap(int maximumSize) {
+                        super(INITIAL_CAPACITY, LOAD_FACTOR, true);
+                        this.maximumSize = maximumSize;
+                    }
+
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<Key, Hierarchy> eldest) {
+                        return size() > maximumSize;
+                    }
+                }
+            }
+        }
+
         /**
          * A method bucket is used to identify unique methods of all super types and interfaces of a given type. A
          * method bucket will therefore always filter any declared method of identical signature that was already
@@ -644,20 +1020,35 @@ public interface MethodLookupEngine {
                 classMethods = new HashMap<String, MethodDescription>();
                 interfaceMethods = new HashMap<String, MethodDescription>();
                 processedTypes = new HashSet<TypeDescription>();
-                virtualMethodMatcher = isMethod().<MethodDescription>and(not(isPrivate()
+                virtualMethodMatcher = virtualMethodMatcher(typeOfInterest);
+                pushClass(typeOfInterest, any());
+            }
+
+            /**
+             * Creates a method matcher that matches any method that is inherited by a given type.
+             *
+             * @param typeOfInterest The inheriting type.
+             * @return A method matcher that matches any method that is inherited by the given type.
+             */
+            protected static ElementMatcher<? super MethodDescription> virtualMethodMatcher(TypeDescription typeOfInterest) {
+                return isMethod().<MethodDescription>and(not(isPrivate()
                         .<MethodDescription>or(isStatic())
                         .<MethodDescription>or(isPackagePrivate().and(not(isVisibleTo(typeOfInterest))))));
-                pushClass(typeOfInterest, any());
             }
 
             /**
-             * Pushes a new class into the bucket where all virtual methods relatively to the type of interest are
-             * extracted.
+             * Pushes all methods that are inherited from a super class hierarchy into the bucket. The hierarchy must
+             * be pushed before pushing any interfaces as class methods are dominant over interface methods.
              *
-             * @param typeDescription The class for which all virtual members are to be extracted.
+             * @param hierarchy The hierarchy of the type of interest's super class.
              */
-            private void pushClass(TypeDescription typeDescription) {
-                pushClass(typeDescription, virtualMethodMatcher);
+            private void pushHierarchy(Hierarchy hierarchy) {
+                for (Map.Entry<String, MethodDescription> entry : hierarchy.getClassMethods().entrySet()) {
+                    MethodDescription overridingMethod = classMethods.get(entry.getKey());
+                    classMethods.put(entry.getKey(), overridingMethod == null
+                            ? entry.getValue()
+                            : OverridenClassMethod.of(overridingMethod, entry.getValue()));
+                }
             }
 
             /**
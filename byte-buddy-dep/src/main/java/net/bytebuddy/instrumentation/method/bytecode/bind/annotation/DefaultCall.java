@@ -19,6 +19,9 @@ import static net.bytebuddy.matcher.ElementMatchers.named;
  * A parameter with this annotation is assigned a proxy for invoking a default method that fits the intercepted method.
  * If no suitable default method for the intercepted method can be identified, the target method with the annotated
  * parameter is considered to be unbindable.
+ * <p>&nbsp;</p>
+ * As a default method is invoked on the intercepted instance, a proxy references this instance and the invocation's
+ * arguments such that a new proxy is allocated for each invocation of the intercepted method.
  *
  * @see net.bytebuddy.instrumentation.MethodDelegation
  * @see TargetMethodAnnotationDrivenBinder
@@ -334,7 +334,9 @@ public @interface Morph {
         }
 
         /**
-         * A proxy that implements the installed interface in order to allow for a morphed super method invocation.
+         * A proxy that implements the installed interface in order to allow for a morphed super method invocation. When
+         * morphing a {@code static} method, the proxy does not reference an instance such that a single proxy instance
+         * is cached by the instrumented type instead of creating a new instance for each invocation.
          */
         protected static class RedirectionProxy implements AuxiliaryType, StackManipulation {
 
@@ -428,14 +430,18 @@ public @interface Morph {
             @Override
             public Size apply(MethodVisitor methodVisitor, Instrumentation.Context instrumentationContext) {
                 TypeDescription forwardingType = instrumentationContext.register(this);
-                return new Compound(
+                boolean stateless = specialMethodInvocation.getMethodDescription().isStatic();
+                StackManipulation proxyCreation = new Compound(
                         TypeCreation.forType(forwardingType),
                         Duplication.SINGLE,
-                        specialMethodInvocation.getMethodDescription().isStatic()
+                        stateless
                                 ? LegalTrivial.INSTANCE
                                 : MethodVariableAccess.REFERENCE.loadOffset(0),
                         MethodInvocation.invoke(forwardingType.getDeclaredMethods().filter(isConstructor()).getOnly())
-                ).apply(methodVisitor, instrumentationContext);
+                );
+                return (stateless && !instrumentedType.isInterface()
+                        ? FieldAccess.forField(instrumentationContext.cache(proxyCreation, forwardingType)).getter()
+                        : proxyCreation).apply(methodVisitor, instrumentationContext);
             }
 
             @Override
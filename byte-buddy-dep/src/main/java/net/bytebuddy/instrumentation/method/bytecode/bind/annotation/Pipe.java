@@ -107,18 +107,26 @@ public @interface Pipe {
          */
         private final MethodDescription forwardingMethod;
 
+        /**
+         * The registry that determines if the redirections of this binder are shared among instrumented types.
+         */
+        private final AuxiliaryType.Registry auxiliaryTypeRegistry;
+
         /**
          * Creates a new binder. This constructor is not doing any validation of the forwarding method and its
          * declaring type. Such validation is normally performed by the
          * {@link net.bytebuddy.instrumentation.method.bytecode.bind.annotation.Pipe.Binder#install(Class)}
          * method.
          *
-         * @param forwardingMethod The method which implements the behavior of forwarding a method invocation. This
-         *                         method needs to define a single non-static method with an {@link java.lang.Object}
-         *                         to {@link java.lang.Object} mapping.
+         * @param forwardingMethod      The method which implements the behavior of forwarding a method invocation. This
+         *                              method needs to define a single non-static method with an {@link java.lang.Object}
+         *                              to {@link java.lang.Object} mapping.
+         * @param auxiliaryTypeRegistry The registry that determines if the redirections of this binder are shared
+         *                              among instrumented types.
          */
-        protected Binder(MethodDescription forwardingMethod) {
+        protected Binder(MethodDescription forwardingMethod, AuxiliaryType.Registry auxiliaryTypeRegistry) {
             this.forwardingMethod = forwardingMethod;
+            this.auxiliaryTypeRegistry = auxiliaryTypeRegistry;
         }
 
         /**
@@ -146,7 +154,43 @@ public @interface Pipe {
          * annotation.
          */
         public static TargetMethodAnnotationDrivenBinder.ParameterBinder<Pipe> install(TypeDescription typeDescription) {
-            return new Binder(onlyMethod(nonNull(typeDescription)));
+            return install(typeDescription, AuxiliaryType.Registry.NoOp.INSTANCE);
+        }
+
+        /**
+         * Installs a given type for use on a {@link net.bytebuddy.instrumentation.method.bytecode.bind.annotation.Pipe}
+         * annotation where the redirection types are registered with the given registry. Redirection types do not
+         * depend on the instrumented type such that a
+         * {@link net.bytebuddy.instrumentation.type.auxiliary.AuxiliaryType.Registry.Sharing} registry creates a single
+         * redirection type for intercepting the same method by several instrumented types of the same package.
+         *
+         * @param type                  The type to install.
+         * @param auxiliaryTypeRegistry The registry that determines if redirection types are shared among instrumented
+         *                              types.
+         * @return A binder for the {@link net.bytebuddy.instrumentation.method.bytecode.bind.annotation.Pipe}
+         * annotation.
+         */
+        public static TargetMethodAnnotationDrivenBinder.ParameterBinder<Pipe> install(Class<?> type,
+                                                                                      AuxiliaryType.Registry auxiliaryTypeRegistry) {
+            return install(new TypeDescription.ForLoadedType(nonNull(type)), auxiliaryTypeRegistry);
+        }
+
+        /**
+         * Installs a given type for use on a {@link net.bytebuddy.instrumentation.method.bytecode.bind.annotation.Pipe}
+         * annotation where the redirection types are registered with the given registry. Redirection types do not
+         * depend on the instrumented type such that a
+         * {@link net.bytebuddy.instrumentation.type.auxiliary.AuxiliaryType.Registry.Sharing} registry creates a single
+         * redirection type for intercepting the same method by several instrumented types of the same package.
+         *
+         * @param typeDescription       The type to install.
+         * @param auxiliaryTypeRegistry The registry that determines if redirection types are shared among instrumented
+         *                              types.
+         * @return A binder for the {@link net.bytebuddy.instrumentation.method.bytecode.bind.annotation.Pipe}
+         * annotation.
+         */
+        public static TargetMethodAnnotationDrivenBinder.ParameterBinder<Pipe> install(TypeDescription typeDescription,
+                                                                                      AuxiliaryType.Registry auxiliaryTypeRegistry) {
+            return new Binder(onlyMethod(nonNull(typeDescription)), nonNull(auxiliaryTypeRegistry));
         }
 
         /**
@@ -197,7 +241,9 @@ public @interface Pipe {
                     source,
                     assigner,
                     annotation.loadSilent().serializableProxy(),
-                    this));
+                    this,
+                    auxiliaryTypeRegistry,
+                    source.getParameters().isEmpty() && !instrumentationTarget.getTypeDescription().isInterface()));
         }
 
         @Override
@@ -213,22 +259,30 @@ public @interface Pipe {
         @Override
         public boolean equals(Object other) {
             return this == other || !(other == null || getClass() != other.getClass())
-                    && forwardingMethod.equals(((Binder) other).forwardingMethod);
+                    && forwardingMethod.equals(((Binder) other).forwardingMethod)
+                    && auxiliaryTypeRegistry.equals(((Binder) other).auxiliaryTypeRegistry);
         }
 
         @Override
         public int hashCode() {
-            return forwardingMethod.hashCode();
+            return 31 * forwardingMethod.hashCode() + auxiliaryTypeRegistry.hashCode();
         }
 
         @Override
         public String toString() {
-            return "Pipe.Binder{forwardingMethod=" + forwardingMethod + '}';
+            return "Pipe.Binder{" +
+                    "forwardingMethod=" + forwardingMethod +
+                    ", auxiliaryTypeRegistry=" + auxiliaryTypeRegistry +
+                    '}';
         }
 
         /**
          * An auxiliary type for performing the redirection of a method invocation as requested by the
-         * {@link net.bytebuddy.instrumentation.method.bytecode.bind.annotation.Pipe} annotation.
+         * {@link net.bytebuddy.instrumentation.method.bytecode.bind.annotation.Pipe} annotation. When redirecting a method
+         * without parameters, the redirection does not capture any values such that a single redirection instance is cached
+         * by the instrumented type instead of creating a new instance for each invocation. A redirection type does not
+         * depend on the instrumented type such that it can be shared among instrumented types by an
+         * {@link net.bytebuddy.instrumentation.type.auxiliary.AuxiliaryType.Registry}.
          */
         protected static class Redirection implements AuxiliaryType, StackManipulation {
 
@@ -262,6 +316,17 @@ public @interface Pipe {
              */
             private final Factory methodLookupEngineFactory;
 
+            /**
+             * The registry with which the redirection type is registered.
+             */
+            private final AuxiliaryType.Registry auxiliaryTypeRegistry;
+
+            /**
+             * Determines if a single redirection instance is cached by the instrumented type. This is only possible if
+             * the source method does not declare any parameters and if the instrumented type is not an interface.
+             */
+            private final boolean cached;
+
             /**
              * Creates a new redirection.
              *
@@ -270,17 +335,24 @@ public @interface Pipe {
              * @param assigner                  The assigner to use.
              * @param serializableProxy         Determines if the generated proxy should be {@link java.io.Serializable}.
              * @param methodLookupEngineFactory The method lookup engine factory to register.
+             * @param auxiliaryTypeRegistry     The registry with which the redirection type is registered.
+             * @param cached                    Determines if a single redirection instance is cached by the instrumented
+             *                                  type.
              */
             protected Redirection(TypeDescription forwardingType,
                                   MethodDescription sourceMethod,
                                   Assigner assigner,
                                   boolean serializableProxy,
-                                  Factory methodLookupEngineFactory) {
+                                  Factory methodLookupEngineFactory,
+                                  AuxiliaryType.Registry auxiliaryTypeRegistry,
+                                  boolean cached) {
                 this.forwardingType = forwardingType;
                 this.sourceMethod = sourceMethod;
                 this.assigner = assigner;
                 this.serializableProxy = serializableProxy;
                 this.methodLookupEngineFactory = methodLookupEngineFactory;
+                this.auxiliaryTypeRegistry = auxiliaryTypeRegistry;
+                this.cached = cached;
             }
 
             /**
@@ -338,13 +410,16 @@ public @interface Pipe {
 
             @Override
             public Size apply(MethodVisitor methodVisitor, Instrumentation.Context instrumentationContext) {
-                TypeDescription forwardingType = instrumentationContext.register(this);
-                return new Compound(
+                TypeDescription forwardingType = instrumentationContext.register(auxiliaryTypeRegistry.resolve(this));
+                StackManipulation proxyCreation = new Compound(
                         TypeCreation.forType(forwardingType),
                         Duplication.SINGLE,
                         MethodVariableAccess.loadArguments(sourceMethod),
                         MethodInvocation.invoke(forwardingType.getDeclaredMethods().filter(isConstructor()).getOnly())
-                ).apply(methodVisitor, instrumentationContext);
+                );
+                return (cached
+                        ? FieldAccess.forField(instrumentationContext.cache(proxyCreation, forwardingType)).getter()
+                        : proxyCreation).apply(methodVisitor, instrumentationContext);
             }
 
             @Override
@@ -353,9 +428,11 @@ public @interface Pipe {
                 if (other == null || getClass() != other.getClass()) return false;
                 Redirection that = (Redirection) other;
                 return serializableProxy == that.serializableProxy
+                        && cached == that.cached
                         && assigner.equals(that.assigner)
                         && forwardingType.equals(that.forwardingType)
                         && methodLookupEngineFactory.equals(that.methodLookupEngineFactory)
+                        && auxiliaryTypeRegistry.equals(that.auxiliaryTypeRegistry)
                         && sourceMethod.equals(that.sourceMethod);
             }
 
@@ -365,7 +442,9 @@ public @interface Pipe {
                 result = 31 * result + sourceMethod.hashCode();
                 result = 31 * result + assigner.hashCode();
                 result = 31 * result + methodLookupEngineFactory.hashCode();
+                result = 31 * result + auxiliaryTypeRegistry.hashCode();
                 result = 31 * result + (serializableProxy ? 1 : 0);
+                result = 31 * result + (cached ? 1 : 0);
                 return result;
             }
 
@@ -377,6 +456,8 @@ public @interface Pipe {
                         ", assigner=" + assigner +
                         ", serializableProxy=" + serializableProxy +
                         ", methodLookupEngineFactory=" + methodLookupEngineFactory +
+                        ", auxiliaryTypeRegistry=" + auxiliaryTypeRegistry +
+                        ", cached=" + cached +
                         '}';
             }
 
@@ -20,6 +20,13 @@ import java.util.concurrent.Callable;
  * The proxy will both implement the {@link java.util.concurrent.Callable} and the {@link java.lang.Runnable} interfaces
  * such that the annotated parameter must be assignable to any of those interfaces or be of the {@link java.lang.Object}
  * type.
+ * <p>&nbsp;</p>
+ * A proxy is only created once and shared among all invocations if the intercepted method is static and does not
+ * take any parameters as such a proxy does not capture any state. For any other method, the proxy references the
+ * intercepted instance and the invocation's arguments such that a new proxy is allocated for each invocation of
+ * the intercepted method. If an interceptor of an instance method must not allocate, it can use the
+ * {@link net.bytebuddy.instrumentation.method.bytecode.bind.annotation.Pipe} annotation for methods without
+ * parameters where the proxy is shared and the target instance is supplied on invocation.
  *
  * @see net.bytebuddy.instrumentation.MethodDelegation
  * @see TargetMethodAnnotationDrivenBinder
@@ -0,0 +1,239 @@
+package net.bytebuddy.instrumentation.type;
+
+import net.bytebuddy.instrumentation.field.FieldList;
+import net.bytebuddy.instrumentation.method.MethodList;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p>
+ * A thread-safe cache of the lists of declared fields and of declared methods of loaded types. The Java reflection
+ * API copies the arrays of a type's declared members on every request such that describing the members of a loaded
+ * type repeatedly, as it is common when creating a dynamic type, would otherwise copy these arrays over and over.
+ * By this cache, the reflection API is only queried once per type.
+ * </p>
+ * <p>
+ * Types are only referenced weakly by this cache. As the cached lists reference the members of a type and therefore
+ * the type itself, these lists are referenced weakly, too, such that a cache never prevents the garbage collection of
+ * a type or its class loader. Consequently, a list is only retained for as long as it is referenced elsewhere or until
+ * the next garbage collection. Entries of garbage collected types are removed whenever a list is added to this cache.
+ * </p>
+ */
+public class DeclaredMemberCache {
+
+    /**
+     * The cache that is used by any {@link net.bytebuddy.instrumentation.type.TypeDescription.ForLoadedType}.
+     */
+    public static final DeclaredMemberCache SHARED = new DeclaredMemberCache();
+
+    /**
+     * Indicates that no list is cached for a type.
+     */
+    private static final Reference<?> NO_REFERENCE = null;
+
+    /**
+     * The cached lists of declared fields by their types.
+     */
+    private final ConcurrentMap<Object, Reference<FieldList>> declaredFields;
+
+    /**
+     * The cached lists of declared methods by their types.
+     */
+    private final ConcurrentMap<Object, Reference<MethodList>> declaredMethods;
+
+    /**
+     * The reference queue that is notified when a type is garbage collected.
+     */
+    private final ReferenceQueue<Class<?>> referenceQueue;
+
+    /**
+     * Creates a new, empty cache.
+     */
+    public DeclaredMemberCache() {
+        declaredFields = new ConcurrentHashMap<Object, Reference<FieldList>>();
+        declaredMethods = new ConcurrentHashMap<Object, Reference<MethodList>>();
+        referenceQueue = new ReferenceQueue<Class<?>>();
+    }
+
+    /**
+     * Returns the declared fields of a loaded type.
+     *
+     * @param type The type of interest.
+     * @return A list of the fields that are declared by the given type.
+     */
+    public FieldList getDeclaredFields(Class<?> type) {
+        Reference<FieldList> reference = declaredFields.get(new LookupKey(type));
+        FieldList fieldList = reference == NO_REFERENCE
+                ? null
+                : reference.get();
+        if (fieldList == null) {
+            expungeStaleEntries();
+            fieldList = new FieldList.ForLoadedField(type.getDeclaredFields());
+            declaredFields.put(new StorageKey(type, referenceQueue), new WeakReference<FieldList>(fieldList));
+        }
+        return fieldList;
+    }
+
+    /**
+     * Returns the declared methods and constructors of a loaded type.
+     *
+     * @param type The type of interest.
+     * @return A list of the methods and constructors that are declared by the given type.
+     */
+    public MethodList getDeclaredMethods(Class<?> type) {
+        Reference<MethodList> reference = declaredMethods.get(new LookupKey(type));
+        MethodList methodList = reference == NO_REFERENCE
+                ? null
+                : reference.get();
+        if (methodList == null) {
+            expungeStaleEntries();
+            methodList = new MethodList.ForLoadedType(type);
+            declaredMethods.put(new StorageKey(type, referenceQueue), new WeakReference<MethodList>(methodList));
+        }
+        return methodList;
+    }
+
+    /**
+     * Removes all lists of types that were garbage collected. This method is invoked whenever a list is added to
+     * this cache.
+     */
+    public void expungeStaleEntries() {
+        Reference<? extends Class<?>> reference;
+        while ((reference = referenceQueue.poll()) != null) {
+            declaredFields.remove(reference);
+            declaredMethods.remove(reference);
+        }
+    }
+
+    /**
+     * Returns the number of cached lists, including lists that were already cleared by the garbage collector.
+     *
+     * @return The number of cached lists.
+     */
+    public int size() {
+        return declaredFields.size() + declaredMethods.size();
+    }
+
+    /**
+     * Removes all lists from this cache.
+     */
+    public void clear() {
+        declaredFields.clear();
+        declaredMethods.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "DeclaredMemberCache{" +
+                "declaredFields=" + declaredFields.size() +
+                ", declaredMethods=" + declaredMethods.size() +
+                '}';
+    }
+
+    /**
+     * A key for looking up the lists of a type which references the type strongly. A lookup key is equal to a
+     * {@link net.bytebuddy.instrumentation.type.DeclaredMemberCache.StorageKey} of the same type.
+     */
+    protected static class LookupKey {
+
+        /**
+         * The represented type.
+         */
+        private final Class<?> type;
+
+        /**
+         * The identity hash code of the represented type.
+         */
+        private final int hashCode;
+
+        /**
+         * Creates a new lookup key.
+         *
+         * @param type The represented type.
+         */
+        protected LookupKey(Class<?> type) {
+            this.type = type;
+            hashCode = System.identityHashCode(type);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) return true;
+            if (other instanceof LookupKey) {
+                return type == ((LookupKey) other).type;
+            } else if (other instanceof StorageKey) {
+                StorageKey storageKey = (StorageKey) other;
+                return hashCode == storageKey.hashCode && type == storageKey.get();
+            } else {
+                return false;
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public String toString() {
+            return "DeclaredMemberCache.LookupKey{" +
+                    "type=" + type +
+                    ", hashCode=" + hashCode +
+                    '}';
+        }
+    }
+
+    /**
+     * A key for storing the lists of a type which references the type weakly. A storage key is equal to a
+     * {@link net.bytebuddy.instrumentation.type.DeclaredMemberCache.LookupKey} of the same type.
+     */
+    protected static class StorageKey extends WeakReference<Class<?>> {
+
+        /**
+         * The identity hash code of the represented type.
+         */
+        private final int hashCode;
+
+        /**
+         * Creates a new storage key.
+         *
+         * @param type           The represented type.
+         * @param referenceQueue The reference queue to notify when the type is garbage collected.
+         */
+        protected StorageKey(Class<?> type, ReferenceQueue<? super Class<?>> referenceQueue) {
+            super(type, referenceQueue);
+            hashCode = System.identityHashCode(type);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) return true;
+            if (other instanceof LookupKey) {
+                LookupKey lookupKey = (LookupKey) other;
+                return hashCode == lookupKey.hashCode && get() == lookupKey.type;
+            } else if (other instanceof StorageKey) {
+                StorageKey storageKey = (StorageKey) other;
+                return hashCode == storageKey.hashCode && get() == storageKey.get();
+            } else {
+                return false;
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public String toString() {
+            return "DeclaredMemberCache.StorageKey{" +
+                    "type=" + get() +
+                    ", hashCode=" + hashCode +
+                    '}';
+        }
+    }
+}
@@ -540,7 +540,8 @@ public interface TypeDescription extends ByteCodeElement {
     }
 
     /**
-     * A type description implementation that represents a loaded type.
+     * A type description implementation that represents a loaded type. The internal name and the descriptor of the
+     * represented type are only computed once.
      */
     class ForLoadedType extends AbstractTypeDescription {
 
@@ -549,6 +550,16 @@ public interface TypeDescription extends ByteCodeElement {
          */
         private final Class<?> type;
 
+        /**
+         * The internal name of this type or {@code null} if it was not yet computed.
+         */
+        private String internalName;
+
+        /**
+         * The descriptor of this type or {@code null} if it was not yet computed.
+         */
+        private String descriptor;
+
         /**
          * Creates a new immutable type description for a loaded type.
          *
@@ -677,12 +688,12 @@ public interface TypeDescription extends ByteCodeElement {
 
         @Override
         public FieldList getDeclaredFields() {
-            return new FieldList.ForLoadedField(type.getDeclaredFields());
+            return DeclaredMemberCache.SHARED.getDeclaredFields(type);
         }
 
         @Override
         public MethodList getDeclaredMethods() {
-            return new MethodList.ForLoadedType(type);
+            return DeclaredMemberCache.SHARED.getDeclaredMethods(type);
         }
 
         @Override
@@ -703,9 +714,24 @@ public interface TypeDescription extends ByteCodeElement {
             return type.getName();
         }
 
+        @Override
+        public String getInternalName() {
+            String internalName = this.internalName;
+            if (internalName == null) {
+                internalName = Type.getInternalName(type);
+                this.internalName = internalName;
+            }
+            return internalName;
+        }
+
         @Override
         public String getDescriptor() {
-            return Type.getDescriptor(type);
+            String descriptor = this.descriptor;
+            if (descriptor == null) {
+                descriptor = Type.getDescriptor(type);
+                this.descriptor = descriptor;
+            }
+            return descriptor;
         }
 
         @Override
@@ -9,6 +9,9 @@ import net.bytebuddy.instrumentation.method.MethodDescription;
 import net.bytebuddy.modifier.SyntheticState;
 import org.objectweb.asm.Opcodes;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 /**
  * An auxiliary type that provides services to the instrumentation of another type. Implementations should provide
  * meaningful {@code equals(Object)} and {@code hashCode()} implementations in order to avoid multiple creations
@@ -111,4 +114,247 @@ public interface AuxiliaryType {
             }
         }
     }
+
+    /**
+     * A registry that determines if an auxiliary type is created for each instrumented type that registers it or if
+     * an auxiliary type is shared among several instrumented types. Only auxiliary types that do not depend on the
+     * instrumented type, i.e. auxiliary types that do not register any accessor methods, can be shared.
+     */
+    interface Registry {
+
+        /**
+         * Resolves the auxiliary type that is to be registered with an
+         * {@link net.bytebuddy.instrumentation.Instrumentation.Context} in place of the given auxiliary type.
+         *
+         * @param auxiliaryType The auxiliary type that is required by an instrumentation.
+         * @return The auxiliary type to register.
+         */
+        AuxiliaryType resolve(AuxiliaryType auxiliaryType);
+
+        /**
+         * A registry that does not share any auxiliary types such that each instrumented type creates its own
+         * auxiliary types.
+         */
+        enum NoOp implements Registry {
+
+            /**
+             * The singleton instance.
+             */
+            INSTANCE;
+
+            @Override
+            public AuxiliaryType resolve(AuxiliaryType auxiliaryType) {
+                return auxiliaryType;
+            }
+
+            @Override
+            public String toString() {
+                return "AuxiliaryType.Registry.NoOp." + name();
+            }
+        }
+
+        /**
+         * <p>
+         * A registry that creates an auxiliary type only once for all auxiliary types of an identical shape, i.e.
+         * auxiliary types that are equal to one another, that are registered by instrumented types of the same
+         * package and that are written in the same class file version. Any further instrumented type reuses the
+         * name and the binary representation of the first created auxiliary type.
+         * </p>
+         * <p>
+         * A shared auxiliary type is still added to the auxiliary types of any dynamic type that registers it. When
+         * several such dynamic types are loaded by the same class loader, the shared type is only defined once if
+         * the class loading strategy does not redefine a type that is already loaded, as for example by a
+         * {@link net.bytebuddy.dynamic.loading.ClassLoadingStrategy.Default#INJECTION}. A registry should therefore
+         * be used for the types of a single class loader. Shared auxiliary types are created without a
+         * {@link net.bytebuddy.instrumentation.type.auxiliary.AuxiliaryType.MethodAccessorFactory} such that an
+         * auxiliary type that attempts to register an accessor method cannot be shared.
+         * </p>
+         */
+        class Sharing implements Registry {
+
+            /**
+             * The separator of a package name and a type's simple name.
+             */
+            private static final char PACKAGE_SEPARATOR = '.';
+
+            /**
+             * A map of shapes of auxiliary types to the dynamic types that were created for them.
+             */
+            private final ConcurrentMap<Shape, DynamicType> auxiliaryTypes;
+
+            /**
+             * Creates a new sharing registry.
+             */
+            public Sharing() {
+                auxiliaryTypes = new ConcurrentHashMap<Shape, DynamicType>();
+            }
+
+            @Override
+            public AuxiliaryType resolve(AuxiliaryType auxiliaryType) {
+                return new Shared(auxiliaryType);
+            }
+
+            /**
+             * Returns the dynamic type for the given auxiliary type or creates it if no such type was created before.
+             *
+             * @param auxiliaryType     The shared auxiliary type.
+             * @param auxiliaryTypeName The name of the auxiliary type if it is created by this invocation.
+             * @param classFileVersion  The class file version of the auxiliary type.
+             * @return A dynamic type representing the shared auxiliary type.
+             */
+            protected DynamicType make(AuxiliaryType auxiliaryType, String auxiliaryTypeName, ClassFileVersion classFileVersion) {
+                int packageIndex = auxiliaryTypeName.lastIndexOf(PACKAGE_SEPARATOR);
+                Shape shape = new Shape(auxiliaryType,
+                        packageIndex == -1 ? "" : auxiliaryTypeName.substring(0, packageIndex),
+                        classFileVersion);
+                DynamicType dynamicType = auxiliaryTypes.get(shape);
+                if (dynamicType == null) {
+                    dynamicType = auxiliaryType.make(auxiliaryTypeName, classFileVersion, MethodAccessorFactory.Illegal.INSTANCE);
+                    DynamicType previous = auxiliaryTypes.putIfAbsent(shape, dynamicType);
+                    if (previous != null) {
+                        dynamicType = previous;
+                    }
+                }
+                return dynamicType;
+            }
+
+            /**
+             * Returns the number of auxiliary types that are shared by this registry.
+             *
+             * @return The number of auxiliary types that are shared by this registry.
+             */
+            public int size() {
+                return auxiliaryTypes.size();
+            }
+
+            /**
+             * Removes all shared auxiliary types from this registry.
+             */
+            public void clear() {
+                auxiliaryTypes.clear();
+            }
+
+            @Override
+            public String toString() {
+                return "AuxiliaryType.Registry.Sharing{auxiliaryTypes=" + auxiliaryTypes + '}';
+            }
+
+            /**
+             * The shape of a shared auxiliary type.
+             */
+            protected static class Shape {
+
+                /**
+                 * The shared auxiliary type.
+                 */
+                private final AuxiliaryType auxiliaryType;
+
+                /**
+                 * The name of the package of the shared auxiliary type.
+                 */
+                private final String packageName;
+
+                /**
+                 * The class file version of the shared auxiliary type.
+                 */
+                private final ClassFileVersion classFileVersion;
+
+                /**
+                 * Creates a new shape.
+                 *
+                 * @param auxiliaryType    The shared auxiliary type.
+                 * @param packageName      The name of the package of the shared auxiliary type.
+                 * @param classFileVersion The class file version of the shared auxiliary type.
+                 */
+                protected Shape(AuxiliaryType auxiliaryType, String packageName, ClassFileVersion classFileVersion) {
+                    this.auxiliaryType = auxiliaryType;
+                    this.packageName = packageName;
+                    this.classFileVersion = classFileVersion;
+                }
+
+                @Override
+                public boolean equals(Object other) {
+                    if (this == other) return true;
+                    if (other == null || getClass() != other.getClass()) return false;
+                    Shape shape = (Shape) other;
+                    return auxiliaryType.equals(shape.auxiliaryType)
+                            && packageName.equals(shape.packageName)
+                            && classFileVersion.equals(shape.classFileVersion);
+                }
+
+                @Override
+                public int hashCode() {
+                    int result = auxiliaryType.hashCode();
+                    result = 31 * result + packageName.hashCode();
+                    result = 31 * result + classFileVersion.hashCode();
+                    return result;
+                }
+
+                @Override
+                public String toString() {
+                    return "AuxiliaryType.Registry.Sharing.Shape{" +
+                            "auxiliaryType=" + auxiliaryType +
+                            ", packageName='" + packageName + '\'' +
+                            ", classFileVersion=" + classFileVersion +
+                            '}';
+                }
+            }
+
+            /**
+             * An auxiliary type that is shared by a {@link net.bytebuddy.instrumentation.type.auxiliary.AuxiliaryType.Registry.Sharing}.
+             */
+            protected class Shared implements AuxiliaryType {
+
+                /**
+                 * The shared auxiliary type.
+                 */
+                private final AuxiliaryType auxiliaryType;
+
+                /**
+                 * Creates a new shared auxiliary type.
+                 *
+                 * @param auxiliaryType The shared auxiliary type.
+                 */
+                protected Shared(AuxiliaryType auxiliaryType) {
+                    this.auxiliaryType = auxiliaryType;
+                }
+
+                @Override
+                public DynamicType make(String auxiliaryTypeName,
+                                        ClassFileVersion classFileVersion,
+                                        MethodAccessorFactory methodAccessorFactory) {
+                    return Sharing.this.make(auxiliaryType, auxiliaryTypeName, classFileVersion);
+                }
+
+                /**
+                 * Returns the outer instance.
+                 *
+                 * @return The outer instance.
+                 */
+                private Sharing getOuter() {
+                    return Sharing.this;
+                }
+
+                @Override
+                public boolean equals(Object other) {
+                    return this == other || !(other == null || getClass() != other.getClass())
+                            && auxiliaryType.equals(((Shared) other).auxiliaryType)
+                            && Sharing.this.equals(((Shared) other).getOuter());
+                }
+
+                @Override
+                public int hashCode() {
+                    return 31 * auxiliaryType.hashCode() + Sharing.this.hashCode();
+                }
+
+                @Override
+                public String toString() {
+                    return "AuxiliaryType.Registry.Sharing.Shared{" +
+                            "sharing=" + Sharing.this +
+                            ", auxiliaryType=" + auxiliaryType +
+                            '}';
+                }
+            }
+        }
+    }
 }
@@ -463,7 +463,9 @@ public class MethodCallProxy implements AuxiliaryType {
      * A stack manipulation that creates a {@link net.bytebuddy.instrumentation.type.auxiliary.MethodCallProxy}
      * for a given method an pushes such an object onto the call stack. For this purpose, all arguments of the proxied method
      * are loaded onto the stack what is only possible if this instance is used from a method with an identical signature such
-     * as the target method itself.
+     * as the target method itself. If the proxied method is {@code static} and does not take any arguments, the proxy does
+     * not capture any values such that a single proxy instance is cached by the instrumented type instead of creating a
+     * new instance for each invocation.
      */
     public static class AssignableSignatureCall implements StackManipulation {
 
@@ -497,16 +499,33 @@ public class MethodCallProxy implements AuxiliaryType {
             return true;
         }
 
+        /**
+         * Checks if the proxy does not capture any values such that a single instance can be shared for all
+         * invocations. This is the case for a {@code static} method without parameters that is not declared
+         * by an interface which cannot declare a field for storing the shared instance.
+         *
+         * @return {@code true} if a single instance of the proxy can be shared for all invocations.
+         */
+        private boolean isStateless() {
+            MethodDescription methodDescription = specialMethodInvocation.getMethodDescription();
+            return methodDescription.isStatic()
+                    && methodDescription.getParameters().isEmpty()
+                    && !methodDescription.getDeclaringType().isInterface();
+        }
+
         @Override
         public Size apply(MethodVisitor methodVisitor, Instrumentation.Context instrumentationContext) {
             TypeDescription auxiliaryType = instrumentationContext
                     .register(new MethodCallProxy(specialMethodInvocation, serializable));
-            return new Compound(
+            StackManipulation proxyCreation = new Compound(
                     TypeCreation.forType(auxiliaryType),
                     Duplication.SINGLE,
                     MethodVariableAccess.loadThisReferenceAndArguments(specialMethodInvocation.getMethodDescription()),
                     MethodInvocation.invoke(auxiliaryType.getDeclaredMethods().filter(isConstructor()).getOnly())
-            ).apply(methodVisitor, instrumentationContext);
+            );
+            return (isStateless()
+                    ? FieldAccess.forField(instrumentationContext.cache(proxyCreation, auxiliaryType)).getter()
+                    : proxyCreation).apply(methodVisitor, instrumentationContext);
         }
 
         @Override
@@ -0,0 +1,461 @@
+package net.bytebuddy.matcher;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * <p>
+ * An element matcher that matches a string if any of a list of {@link net.bytebuddy.matcher.StringMatcher}s matches
+ * the string. Instead of applying each string matcher one after another, the string matchers are compiled such that
+ * a string is matched in a single pass for each matching mode:
+ * </p>
+ * <ul>
+ * <li>Values that must equal a string are looked up in a set.</li>
+ * <li>Values that must be a prefix or a suffix of a string are represented by a trie that is traversed once.</li>
+ * <li>Values that must be contained by a string are represented by an Aho-Corasick automaton that consumes each
+ * character of a string only once.</li>
+ * <li>Regular expressions are matched by their precompiled patterns.</li>
+ * </ul>
+ * <p>
+ * Matching modes that ignore casing convert both the values and the matched string to lower case, as the string
+ * matcher's modes do.
+ * </p>
+ */
+public class CompiledStringMatcher extends ElementMatcher.Junction.AbstractBase<String> implements ElementMatcher.Indexable {
+
+    /**
+     * The string matchers that are represented by this compiled matcher.
+     */
+    private final List<StringMatcher> matchers;
+
+    /**
+     * The values that must equal a matched string.
+     */
+    private final Set<String> equal;
+
+    /**
+     * The values that must equal a matched string without respecting casing differences.
+     */
+    private final Set<String> equalIgnoreCase;
+
+    /**
+     * An automaton of the values that must be a prefix of a matched string.
+     */
+    private final Automaton prefixes;
+
+    /**
+     * An automaton of the lower case values that must be a prefix of a lower case matched string.
+     */
+    private final Automaton prefixesIgnoreCase;
+
+    /**
+     * An automaton of the reversed values that must be a suffix of a matched string.
+     */
+    private final Automaton suffixes;
+
+    /**
+     * An automaton of the reversed lower case values that must be a suffix of a lower case matched string.
+     */
+    private final Automaton suffixesIgnoreCase;
+
+    /**
+     * An automaton of the values that must be contained by a matched string.
+     */
+    private final Automaton infixes;
+
+    /**
+     * An automaton of the lower case values that must be contained by a lower case matched string.
+     */
+    private final Automaton infixesIgnoreCase;
+
+    /**
+     * The compiled regular expressions that must match a matched string.
+     */
+    private final List<Pattern> patterns;
+
+    /**
+     * Creates a new compiled string matcher.
+     *
+     * @param matchers The string matchers to represent by this compiled matcher.
+     */
+    public CompiledStringMatcher(List<? extends StringMatcher> matchers) {
+        this.matchers = new ArrayList<StringMatcher>(matchers);
+        equal = new HashSet<String>();
+        equalIgnoreCase = new TreeSet<String>(String.CASE_INSENSITIVE_ORDER);
+        List<String> prefixes = new ArrayList<String>(), prefixesIgnoreCase = new ArrayList<String>();
+        List<String> suffixes = new ArrayList<String>(), suffixesIgnoreCase = new ArrayList<String>();
+        List<String> infixes = new ArrayList<String>(), infixesIgnoreCase = new ArrayList<String>();
+        patterns = new ArrayList<Pattern>();
+        for (StringMatcher matcher : matchers) {
+            String value = matcher.getValue();
+            switch (matcher.getMode()) {
+                case EQUALS_FULLY:
+                    equal.add(value);
+                    break;
+                case EQUALS_FULLY_IGNORE_CASE:
+                    equalIgnoreCase.add(value);
+                    break;
+                case STARTS_WITH:
+                    prefixes.add(value);
+                    break;
+                case STARTS_WITH_IGNORE_CASE:
+                    prefixesIgnoreCase.add(value.toLowerCase());
+                    break;
+                case ENDS_WITH:
+                    suffixes.add(reverse(value));
+                    break;
+                case ENDS_WITH_IGNORE_CASE:
+                    suffixesIgnoreCase.add(reverse(value.toLowerCase()));
+                    break;
+                case CONTAINS:
+                    infixes.add(value);
+                    break;
+                case CONTAINS_IGNORE_CASE:
+                    infixesIgnoreCase.add(value.toLowerCase());
+                    break;
+                case MATCHES:
+                    patterns.add(matcher.getPattern());
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown mode: " + matcher.getMode());
+            }
+        }
+        this.prefixes = Automaton.of(prefixes);
+        this.prefixesIgnoreCase = Automaton.of(prefixesIgnoreCase);
+        this.suffixes = Automaton.of(suffixes);
+        this.suffixesIgnoreCase = Automaton.of(suffixesIgnoreCase);
+        this.infixes = Automaton.of(infixes);
+        this.infixesIgnoreCase = Automaton.of(infixesIgnoreCase);
+    }
+
+    /**
+     * Reverses a string.
+     *
+     * @param value The string to reverse.
+     * @return The reversed string.
+     */
+    private static String reverse(String value) {
+        return new StringBuilder(value).reverse().toString();
+    }
+
+    /**
+     * <p>
+     * Compiles a matcher by merging any {@link net.bytebuddy.matcher.StringMatcher}s of a disjunction into a single
+     * {@link net.bytebuddy.matcher.CompiledStringMatcher}. Also, any {@link net.bytebuddy.matcher.NameMatcher}s of a
+     * disjunction that only apply string matchers are merged into a single name matcher of a compiled string matcher.
+     * Any other matcher of a disjunction is retained as it is.
+     * </p>
+     * <p>
+     * <b>Note</b>: A compiled disjunction does not necessarily consult its matchers in their original order. This
+     * only matters for matchers with side effects.
+     * </p>
+     *
+     * @param matcher The matcher to compile.
+     * @param <T>     The type of the matched object.
+     * @return A matcher that matches the same elements as the given matcher.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ElementMatcher.Junction<T> compile(ElementMatcher<? super T> matcher) {
+        List<ElementMatcher<? super T>> matchers = new ArrayList<ElementMatcher<? super T>>();
+        flatten(matcher, matchers);
+        List<StringMatcher> stringMatchers = new ArrayList<StringMatcher>(), nameMatchers = new ArrayList<StringMatcher>();
+        List<ElementMatcher<? super T>> compiled = new ArrayList<ElementMatcher<? super T>>();
+        for (ElementMatcher<? super T> element : matchers) {
+            if (element instanceof StringMatcher) {
+                stringMatchers.add((StringMatcher) element);
+            } else if (element instanceof CompiledStringMatcher) {
+                stringMatchers.addAll(((CompiledStringMatcher) element).matchers);
+            } else if (!(element instanceof NameMatcher && collect(((NameMatcher<?>) element).getNameMatcher(), nameMatchers))) {
+                compiled.add(element);
+            }
+        }
+        if (!nameMatchers.isEmpty()) {
+            compiled.add(0, (ElementMatcher<? super T>) new NameMatcher(new CompiledStringMatcher(nameMatchers)));
+        }
+        if (!stringMatchers.isEmpty()) {
+            compiled.add(0, (ElementMatcher<? super T>) new CompiledStringMatcher(stringMatchers));
+        }
+        ElementMatcher<? super T> result = compiled.get(compiled.size() - 1);
+        for (int index = compiled.size() - 2; index >= 0; index--) {
+            result = new ElementMatcher.Junction.Disjunction<T>(compiled.get(index), result);
+        }
+        return result instanceof ElementMatcher.Junction
+                ? (ElementMatcher.Junction<T>) result
+                : new ElementMatcher.Junction.Conjunction<T>(result, new BooleanMatcher<T>(true));
+    }
+
+    /**
+     * Adds all matchers of a disjunction tree to a list.
+     *
+     * @param matcher  The matcher to flatten.
+     * @param matchers The list to which all matchers of the disjunction tree are added.
+     * @param <T>      The type of the matched object.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> void flatten(ElementMatcher<? super T> matcher, List<ElementMatcher<? super T>> matchers) {
+        if (matcher instanceof ElementMatcher.Junction.Disjunction) {
+            flatten(((ElementMatcher.Junction.Disjunction<T>) matcher).getLeft(), matchers);
+            flatten(((ElementMatcher.Junction.Disjunction<T>) matcher).getRight(), matchers);
+        } else {
+            matchers.add(matcher);
+        }
+    }
+
+    /**
+     * Adds all string matchers of a matcher's disjunction tree to a list if the tree only consists of string matchers.
+     *
+     * @param matcher        The matcher to resolve.
+     * @param stringMatchers The list to which any string matchers are added.
+     * @return {@code true} if the given matcher only consists of string matchers.
+     */
+    private static boolean collect(ElementMatcher<String> matcher, List<StringMatcher> stringMatchers) {
+        List<ElementMatcher<? super String>> matchers = new ArrayList<ElementMatcher<? super String>>();
+        flatten(matcher, matchers);
+        List<StringMatcher> collected = new ArrayList<StringMatcher>(matchers.size());
+        for (ElementMatcher<? super String> element : matchers) {
+            if (element instanceof StringMatcher) {
+                collected.add((StringMatcher) element);
+            } else if (element instanceof CompiledStringMatcher) {
+                collected.addAll(((CompiledStringMatcher) element).matchers);
+            } else {
+                return false;
+            }
+        }
+        stringMatchers.addAll(collected);
+        return true;
+    }
+
+    @Override
+    public boolean matches(String target) {
+        if (equal.contains(target)
+                || prefixes.matchesPrefix(target, false)
+                || suffixes.matchesPrefix(target, true)
+                || infixes.matchesInfix(target)
+                || equalIgnoreCase.contains(target)) {
+            return true;
+        }
+        if (!prefixesIgnoreCase.isEmpty() || !suffixesIgnoreCase.isEmpty() || !infixesIgnoreCase.isEmpty()) {
+            String lowerCase = target.toLowerCase();
+            if (prefixesIgnoreCase.matchesPrefix(lowerCase, false)
+                    || suffixesIgnoreCase.matchesPrefix(lowerCase, true)
+                    || infixesIgnoreCase.matchesInfix(lowerCase)) {
+                return true;
+            }
+        }
+        for (Pattern pattern : patterns) {
+            if (pattern.matcher(target).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Condition getCondition() {
+        return equal.size() == matchers.size()
+                ? new Condition(Property.VALUE, new HashSet<String>(equal))
+                : null;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || !(other == null || getClass() != other.getClass())
+                && matchers.equals(((CompiledStringMatcher) other).matchers);
+    }
+
+    @Override
+    public int hashCode() {
+        return matchers.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder("compiled(");
+        boolean first = true;
+        for (StringMatcher matcher : matchers) {
+            if (first) {
+                first = false;
+            } else {
+                stringBuilder.append(" or ");
+            }
+            stringBuilder.append(matcher);
+        }
+        return stringBuilder.append(')').toString();
+    }
+
+    /**
+     * An Aho-Corasick automaton over a set of values. Without considering failure transitions, the automaton
+     * represents a trie of the values that can be used for matching prefixes.
+     */
+    protected static class Automaton {
+
+        /**
+         * The initial state of this automaton.
+         */
+        private final State initial;
+
+        /**
+         * {@code true} if this automaton does not represent any values.
+         */
+        private final boolean empty;
+
+        /**
+         * Creates a new automaton.
+         *
+         * @param initial The initial state of this automaton.
+         * @param empty   {@code true} if this automaton does not represent any values.
+         */
+        protected Automaton(State initial, boolean empty) {
+            this.initial = initial;
+            this.empty = empty;
+        }
+
+        /**
+         * Creates an automaton of the given values.
+         *
+         * @param values The values to represent.
+         * @return An automaton of the given values.
+         */
+        protected static Automaton of(Collection<String> values) {
+            State initial = new State();
+            for (String value : values) {
+                State state = initial;
+                for (int index = 0; index < value.length(); index++) {
+                    State next = state.transitions.get(value.charAt(index));
+                    if (next == null) {
+                        next = new State();
+                        state.transitions.put(value.charAt(index), next);
+                    }
+                    state = next;
+                }
+                state.terminal = true;
+                state.output = true;
+            }
+            initial.failure = initial;
+            Queue<State> queue = new LinkedList<State>();
+            for (State state : initial.transitions.values()) {
+                state.failure = initial;
+                queue.add(state);
+            }
+            while (!queue.isEmpty()) {
+                State state = queue.remove();
+                for (Map.Entry<Character, State> entry : state.transitions.entrySet()) {
+                    State failure = state.failure;
+                    while (failure != initial && !failure.transitions.containsKey(entry.getKey())) {
+                        failure = failure.failure;
+                    }
+                    State target = failure.transitions.get(entry.getKey());
+                    entry.getValue().failure = target == null || target == entry.getValue()
+                            ? initial
+                            : target;
+                    entry.getValue().output |= entry.getValue().failure.output;
+                    queue.add(entry.getValue());
+                }
+            }
+            return new Automaton(initial, values.isEmpty());
+        }
+
+        /**
+         * Checks if this automaton does not represent any values.
+         *
+         * @return {@code true} if this automaton does not represent any values.
+         */
+        protected boolean isEmpty() {
+            return empty;
+        }
+
+        /**
+         * Checks if any represented value is a prefix of the given string.
+         *
+         * @param target  The string to match.
+         * @param reverse {@code true} if the string should be read from its end to its beginning.
+         * @return {@code true} if any represented value is a prefix of the string in the given reading direction.
+         */
+        protected boolean matchesPrefix(String target, boolean reverse) {
+            if (empty) {
+                return false;
+            }
+            State state = initial;
+            for (int index = 0; index < target.length() && !state.terminal; index++) {
+                state = state.transitions.get(target.charAt(reverse ? target.length() - index - 1 : index));
+                if (state == null) {
+                    return false;
+                }
+            }
+            return state.terminal;
+        }
+
+        /**
+         * Checks if any represented value is contained by the given string.
+         *
+         * @param target The string to match.
+         * @return {@code true} if any represented value is contained by the given string.
+         */
+        protected boolean matchesInfix(String target) {
+            if (empty) {
+                return false;
+            }
+            State state = initial;
+            for (int index = 0; index < target.length() && !state.output; index++) {
+                State next = state.transitions.get(target.charAt(index));
+                while (next == null && state != initial) {
+                    state = state.failure;
+                    next = state.transitions.get(target.charAt(index));
+                }
+                state = next == null
+                        ? initial
+                        : next;
+            }
+            return state.output;
+        }
+
+        @Override
+        public String toString() {
+            return "CompiledStringMatcher.Automaton{empty=" + empty + '}';
+        }
+
+        /**
+         * A state of an automaton.
+         */
+        protected static class State {
+
+            /**
+             * The transitions of this state by the consumed character.
+             */
+            private final Map<Character, State> transitions;
+
+            /**
+             * The state to continue from if no transition exists for a consumed character.
+             */
+            private State failure;
+
+            /**
+             * {@code true} if a represented value ends in this state.
+             */
+            private boolean terminal;
+
+            /**
+             * {@code true} if a represented value ends in this state or in any state that is reachable by failure
+             * transitions, i.e. if a represented value is a suffix of the characters that were read for reaching
+             * this state.
+             */
+            private boolean output;
+
+            /**
+             * Creates a new state without any transitions.
+             */
+            protected State() {
+                transitions = new HashMap<Character, State>();
+            }
+
+            @Override
+            public String toString() {
+                return "CompiledStringMatcher.Automaton.State{" +
+                        "transitions=" + transitions.keySet() +
+                        ", terminal=" + terminal +
+                        ", output=" + output +
+                        '}';
+            }
+        }
+    }
+}
@@ -9,7 +9,7 @@ import net.bytebuddy.instrumentation.type.TypeDescription;
  *
  * @param <T> The exact type of the element being matched.
  */
-public class DeclaringTypeMatcher<T extends DeclaredInType> extends ElementMatcher.Junction.AbstractBase<T> {
+public class DeclaringTypeMatcher<T extends DeclaredInType> extends ElementMatcher.Junction.AbstractBase<T> implements ElementMatcher.Indexable {
 
     /**
      * The type matcher to be applied if the target element is declared in a type.
@@ -31,6 +31,14 @@ public class DeclaringTypeMatcher<T extends DeclaredInType> extends ElementMatch
         return typeDescription != null && typeMatcher.matches(typeDescription);
     }
 
+    @Override
+    public Condition getCondition() {
+        Condition condition = Condition.of(typeMatcher);
+        return condition == null
+                ? null
+                : condition.onProperty(Property.DECLARING_TYPE);
+    }
+
     @Override
     public boolean equals(Object other) {
         return this == other || !(other == null || getClass() != other.getClass())
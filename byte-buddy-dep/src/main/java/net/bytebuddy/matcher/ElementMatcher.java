@@ -1,5 +1,13 @@
 package net.bytebuddy.matcher;
 
+import net.bytebuddy.instrumentation.NamedElement;
+import net.bytebuddy.instrumentation.method.MethodDescription;
+import net.bytebuddy.instrumentation.type.DeclaredInType;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
 /**
  * An element matcher is used as a predicate for identifying code elements such as types, methods, fields or
  * annotations. They are similar to Java 8's {@code Predicate}s but compatible to Java 6 and Java 7 and represent
@@ -74,7 +82,7 @@ public interface ElementMatcher<T> {
          *
          * @param <W> The type of the object that is being matched.
          */
-        class Conjunction<W> extends AbstractBase<W> {
+        class Conjunction<W> extends AbstractBase<W> implements Indexable {
 
             /**
              * The element matchers that constitute this conjunction.
@@ -98,6 +106,32 @@ public interface ElementMatcher<T> {
                 return left.matches(target) && right.matches(target);
             }
 
+            /**
+             * Returns the first matcher to consult for a match.
+             *
+             * @return The first matcher to consult for a match.
+             */
+            ElementMatcher<? super W> getLeft() {
+                return left;
+            }
+
+            /**
+             * Returns the second matcher to consult for a match.
+             *
+             * @return The second matcher to consult for a match.
+             */
+            ElementMatcher<? super W> getRight() {
+                return right;
+            }
+
+            @Override
+            public Indexable.Condition getCondition() {
+                Indexable.Condition condition = Indexable.Condition.of(left);
+                return condition == null
+                        ? Indexable.Condition.of(right)
+                        : condition;
+            }
+
             @Override
             public boolean equals(Object other) {
                 return this == other || !(other == null || getClass() != other.getClass())
@@ -121,7 +155,7 @@ public interface ElementMatcher<T> {
          *
          * @param <W> The type of the object that is being matched.
          */
-        class Disjunction<W> extends AbstractBase<W> {
+        class Disjunction<W> extends AbstractBase<W> implements Indexable {
 
             /**
              * The element matchers that constitute this disjunction.
@@ -145,6 +179,32 @@ public interface ElementMatcher<T> {
                 return left.matches(target) || right.matches(target);
             }
 
+            /**
+             * Returns the first matcher to consult for a match.
+             *
+             * @return The first matcher to consult for a match.
+             */
+            ElementMatcher<? super W> getLeft() {
+                return left;
+            }
+
+            /**
+             * Returns the second matcher to consult for a match.
+             *
+             * @return The second matcher to consult for a match.
+             */
+            ElementMatcher<? super W> getRight() {
+                return right;
+            }
+
+            @Override
+            public Indexable.Condition getCondition() {
+                Indexable.Condition left = Indexable.Condition.of(this.left), right = Indexable.Condition.of(this.right);
+                return left == null || right == null
+                        ? null
+                        : left.or(right);
+            }
+
             @Override
             public boolean equals(Object other) {
                 return this == other || !(other == null || getClass() != other.getClass())
@@ -163,4 +223,195 @@ public interface ElementMatcher<T> {
             }
         }
     }
+
+    /**
+     * An element matcher that can name a necessary condition for matching an element. Such a condition requires a
+     * property of an element to be equal to one of a known set of values. This allows to look up the matchers that
+     * might match an element by this property's value without applying any matcher.
+     */
+    interface Indexable {
+
+        /**
+         * Returns a condition that is fulfilled by any element that is matched by this matcher.
+         *
+         * @return A condition that is fulfilled by any matched element or {@code null} if no such condition is known.
+         */
+        Condition getCondition();
+
+        /**
+         * A property of an element that is constrained by a {@link net.bytebuddy.matcher.ElementMatcher.Indexable.Condition}.
+         */
+        enum Property {
+
+            /**
+             * The element itself.
+             */
+            VALUE {
+                @Override
+                public Object resolve(Object target) {
+                    return target;
+                }
+            },
+
+            /**
+             * The source code name of a {@link net.bytebuddy.instrumentation.NamedElement}.
+             */
+            NAME {
+                @Override
+                public Object resolve(Object target) {
+                    return ((NamedElement) target).getSourceCodeName();
+                }
+            },
+
+            /**
+             * The declaring type of a {@link net.bytebuddy.instrumentation.type.DeclaredInType}.
+             */
+            DECLARING_TYPE {
+                @Override
+                public Object resolve(Object target) {
+                    return ((DeclaredInType) target).getDeclaringType();
+                }
+            },
+
+            /**
+             * The return type of a {@link net.bytebuddy.instrumentation.method.MethodDescription}.
+             */
+            RETURN_TYPE {
+                @Override
+                public Object resolve(Object target) {
+                    return ((MethodDescription) target).getReturnType();
+                }
+            };
+
+            /**
+             * Resolves the value of this property for a given element.
+             *
+             * @param target The element for which to resolve this property. The element must be of a type that
+             *               defines this property.
+             * @return The value of this property for the given element.
+             */
+            public abstract Object resolve(Object target);
+
+            @Override
+            public String toString() {
+                return "ElementMatcher.Indexable.Property." + name();
+            }
+        }
+
+        /**
+         * A condition that requires a property of an element to be equal to one of a set of values.
+         */
+        class Condition {
+
+            /**
+             * The property that is constrained by this condition.
+             */
+            private final Property property;
+
+            /**
+             * The values of which the constrained property must be equal to one.
+             */
+            private final Set<?> values;
+
+            /**
+             * Creates a new condition.
+             *
+             * @param property The property that is constrained by this condition.
+             * @param values   The values of which the constrained property must be equal to one.
+             */
+            public Condition(Property property, Set<?> values) {
+                this.property = property;
+                this.values = values;
+            }
+
+            /**
+             * Creates a condition that requires an element to be equal to a given value.
+             *
+             * @param value The value to which an element must be equal.
+             * @return A condition that requires an element to be equal to the given value.
+             */
+            public static Condition ofValue(Object value) {
+                return new Condition(Property.VALUE, Collections.singleton(value));
+            }
+
+            /**
+             * Returns the condition of an element matcher if it is {@link net.bytebuddy.matcher.ElementMatcher.Indexable}.
+             *
+             * @param elementMatcher The element matcher for which to resolve a condition.
+             * @return The element matcher's condition or {@code null} if no condition is known.
+             */
+            public static Condition of(ElementMatcher<?> elementMatcher) {
+                return elementMatcher instanceof Indexable
+                        ? ((Indexable) elementMatcher).getCondition()
+                        : null;
+            }
+
+            /**
+             * Returns the property that is constrained by this condition.
+             *
+             * @return The property that is constrained by this condition.
+             */
+            public Property getProperty() {
+                return property;
+            }
+
+            /**
+             * Returns the values of which the constrained property must be equal to one.
+             *
+             * @return The values of which the constrained property must be equal to one.
+             */
+            public Set<?> getValues() {
+                return values;
+            }
+
+            /**
+             * Applies this condition, which must constrain an element's value, to a property of the element.
+             *
+             * @param property The property to which this condition is applied.
+             * @return A condition that constrains the given property or {@code null} if this condition does not
+             * constrain an element's value.
+             */
+            public Condition onProperty(Property property) {
+                return this.property == Property.VALUE
+                        ? new Condition(property, values)
+                        : null;
+            }
+
+            /**
+             * Creates a condition that is fulfilled if either this or another condition is fulfilled.
+             *
+             * @param other The other condition.
+             * @return A condition that is fulfilled if either condition is fulfilled or {@code null} if the conditions
+             * constrain different properties.
+             */
+            public Condition or(Condition other) {
+                if (property != other.property) {
+                    return null;
+                }
+                Set<Object> values = new HashSet<Object>(this.values);
+                values.addAll(other.values);
+                return new Condition(property, values);
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                return this == other || !(other == null || getClass() != other.getClass())
+                        && property == ((Condition) other).property
+                        && values.equals(((Condition) other).values);
+            }
+
+            @Override
+            public int hashCode() {
+                return 31 * property.hashCode() + values.hashCode();
+            }
+
+            @Override
+            public String toString() {
+                return "ElementMatcher.Indexable.Condition{" +
+                        "property=" + property +
+                        ", values=" + values +
+                        '}';
+            }
+        }
+    }
 }
@@ -1072,6 +1072,34 @@ public final class ElementMatchers {
                 .and(takesArguments(new CollectionOneToOneMatcher<TypeDescription>(matchers)));
     }
 
+    /**
+     * Compiles a matcher such that any string matchers of a disjunction, including string matchers that are applied
+     * to an element's name, are matched in a single pass rather than one after another. This is beneficial for long
+     * disjunctions of name matchers, for example for excluding many packages.
+     *
+     * @param matcher The matcher to compile.
+     * @param <T>     The type of the matched object.
+     * @return A matcher that matches the same elements as the given matcher.
+     * @see net.bytebuddy.matcher.CompiledStringMatcher
+     */
+    public static <T> ElementMatcher.Junction<T> compile(ElementMatcher<? super T> matcher) {
+        return CompiledStringMatcher.compile(nonNull(matcher));
+    }
+
+    /**
+     * Checks if a matcher might match an element of the given source code name by only applying the name matchers that
+     * the matcher is composed of by conjunctions and disjunctions. Any other matcher is assumed to match. For a type
+     * that does not represent an array, the source code name is equal to the type's binary name such that a type can
+     * be excluded from a match before it is described.
+     *
+     * @param matcher The matcher to apply.
+     * @param name    The source code name of the element.
+     * @return {@code false} if the given matcher cannot match an element of the given name.
+     */
+    public static boolean isNameCandidate(ElementMatcher<?> matcher, String name) {
+        return NameMatcher.isCandidate(nonNull(matcher), nonNull(name));
+    }
+
     /**
      * Matches any type description that is a subtype of the given type.
      *
@@ -1094,6 +1122,30 @@ public final class ElementMatchers {
         return new SubTypeMatcher<T>(nonNull(typeDescription));
     }
 
+    /**
+     * Matches any type description that is a subtype of the given type by querying the given type hierarchy.
+     *
+     * @param type          The type to be checked being a super type of the matched type.
+     * @param typeHierarchy The type hierarchy to query, for example an index that is shared among several matchers.
+     * @param <T>           The type of the matched object.
+     * @return A matcher that matches any type description that represents a sub type of the given type.
+     */
+    public static <T extends TypeDescription> ElementMatcher.Junction<T> isSubTypeOf(Class<?> type, TypeHierarchy typeHierarchy) {
+        return isSubTypeOf(new TypeDescription.ForLoadedType(nonNull(type)), typeHierarchy);
+    }
+
+    /**
+     * Matches any type description that is a subtype of the given type by querying the given type hierarchy.
+     *
+     * @param typeDescription The type to be checked being a super type of the matched type.
+     * @param typeHierarchy   The type hierarchy to query, for example an index that is shared among several matchers.
+     * @param <T>             The type of the matched object.
+     * @return A matcher that matches any type description that represents a sub type of the given type.
+     */
+    public static <T extends TypeDescription> ElementMatcher.Junction<T> isSubTypeOf(TypeDescription typeDescription, TypeHierarchy typeHierarchy) {
+        return new SubTypeMatcher<T>(nonNull(typeDescription), nonNull(typeHierarchy));
+    }
+
     /**
      * Matches any type description that is a super type of the given type.
      *
@@ -1164,6 +1216,60 @@ public final class ElementMatchers {
         return new InheritedAnnotationMatcher<T>(new CollectionItemMatcher<AnnotationDescription>(nonNull(matcher)));
     }
 
+    /**
+     * Matches any annotations by their type on a type that declared these annotations or inherited them from its
+     * super classes by querying the given type hierarchy.
+     *
+     * @param type          The annotation type to be matched.
+     * @param typeHierarchy The type hierarchy to query, for example an index that is shared among several matchers.
+     * @param <T>           The type of the matched object.
+     * @return A matcher that matches any inherited annotation by their type.
+     */
+    public static <T extends TypeDescription> ElementMatcher.Junction<T> inheritsAnnotation(Class<?> type, TypeHierarchy typeHierarchy) {
+        return inheritsAnnotation(new TypeDescription.ForLoadedType(nonNull(type)), typeHierarchy);
+    }
+
+    /**
+     * Matches any annotations by their type on a type that declared these annotations or inherited them from its
+     * super classes by querying the given type hierarchy.
+     *
+     * @param typeDescription The annotation type to be matched.
+     * @param typeHierarchy   The type hierarchy to query, for example an index that is shared among several matchers.
+     * @param <T>             The type of the matched object.
+     * @return A matcher that matches any inherited annotation by their type.
+     */
+    public static <T extends TypeDescription> ElementMatcher.Junction<T> inheritsAnnotation(TypeDescription typeDescription, TypeHierarchy typeHierarchy) {
+        return inheritsAnnotation(is(typeDescription), typeHierarchy);
+    }
+
+    /**
+     * Matches any annotations by a given matcher on a type that declared these annotations or inherited them from its
+     * super classes by querying the given type hierarchy.
+     *
+     * @param matcher       A matcher to apply onto the inherited annotations.
+     * @param typeHierarchy The type hierarchy to query, for example an index that is shared among several matchers.
+     * @param <T>           The type of the matched object.
+     * @return A matcher that matches any inherited annotation by a given matcher.
+     */
+    public static <T extends TypeDescription> ElementMatcher.Junction<T> inheritsAnnotation(ElementMatcher<? super TypeDescription> matcher,
+                                                                                          TypeHierarchy typeHierarchy) {
+        return hasAnnotation(new AnnotationTypeMatcher<AnnotationDescription>(nonNull(matcher)), typeHierarchy);
+    }
+
+    /**
+     * Matches a list of annotations by a given matcher on a type that declared these annotations or inherited them
+     * from its super classes by querying the given type hierarchy.
+     *
+     * @param matcher       A matcher to apply onto a list of inherited annotations.
+     * @param typeHierarchy The type hierarchy to query, for example an index that is shared among several matchers.
+     * @param <T>           The type of the matched object.
+     * @return A matcher that matches a list of inherited annotation by a given matcher.
+     */
+    public static <T extends TypeDescription> ElementMatcher.Junction<T> hasAnnotation(ElementMatcher<? super AnnotationDescription> matcher,
+                                                                                     TypeHierarchy typeHierarchy) {
+        return new InheritedAnnotationMatcher<T>(new CollectionItemMatcher<AnnotationDescription>(nonNull(matcher)), nonNull(typeHierarchy));
+    }
+
     /**
      * Matches a type by a another matcher that is applied on any of its declared fields.
      *
@@ -5,7 +5,7 @@ package net.bytebuddy.matcher;
  *
  * @param <T> The type of the matched entity.
  */
-public class EqualityMatcher<T> extends ElementMatcher.Junction.AbstractBase<T> {
+public class EqualityMatcher<T> extends ElementMatcher.Junction.AbstractBase<T> implements ElementMatcher.Indexable {
 
     /**
      * The object that is checked to be equal to the matched value.
@@ -26,6 +26,11 @@ public class EqualityMatcher<T> extends ElementMatcher.Junction.AbstractBase<T>
         return value.equals(target);
     }
 
+    @Override
+    public Condition getCondition() {
+        return Condition.ofValue(value);
+    }
+
     @Override
     public boolean equals(Object other) {
         return this == other || !(other == null || getClass() != other.getClass())
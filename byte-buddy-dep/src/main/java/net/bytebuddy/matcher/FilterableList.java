@@ -1,7 +1,7 @@
 package net.bytebuddy.matcher;
 
 import java.util.AbstractList;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -84,17 +84,8 @@ public interface FilterableList<T, S extends FilterableList<T, S>> extends List<
     abstract class AbstractBase<T, S extends FilterableList<T, S>> extends AbstractList<T> implements FilterableList<T, S> {
 
         @Override
-        @SuppressWarnings("unchecked")
         public S filter(ElementMatcher<? super T> elementMatcher) {
-            List<T> filteredElements = new ArrayList<T>(size());
-            for (T value : this) {
-                if (elementMatcher.matches(value)) {
-                    filteredElements.add(value);
-                }
-            }
-            return filteredElements.size() == size() ?
-                    (S) this
-                    : wrap(filteredElements);
+            return wrap(new Filtered<T>(this, elementMatcher));
         }
 
         @Override
@@ -118,5 +109,90 @@ public interface FilterableList<T, S extends FilterableList<T, S>> extends List<
          * @return A wrapped instance of the given {@code values}.
          */
         protected abstract S wrap(List<T> values);
+
+        /**
+         * A lazy view of the elements of a list that are matched by an element matcher. The matcher is only applied
+         * when the view's size or one of its elements is first requested. At this point, all matched elements are
+         * recorded such that the matcher is applied at most once per element and such that any element is only read
+         * once from the underlying list. This way, a view of a list that creates its elements on demand returns the
+         * same instance on each read. Filtering a filtered view only records the elements of the intermediate view
+         * that are matched again. As the elements are only recorded once, the underlying list must not be modified
+         * after the view is created.
+         *
+         * @param <U> The type of the list's elements.
+         */
+        protected static class Filtered<U> extends AbstractList<U> {
+
+            /**
+             * Indicates that the matched elements were not yet recorded.
+             */
+            private static final Object[] UNRESOLVED = null;
+
+            /**
+             * The list of which the matched elements are represented.
+             */
+            private final List<? extends U> values;
+
+            /**
+             * The element matcher to apply to the elements of the underlying list.
+             */
+            private final ElementMatcher<? super U> elementMatcher;
+
+            /**
+             * The matched elements of the underlying list or {@code null} if they were not yet recorded. The field is
+             * volatile such that the elements of the array are visible to any thread that reads a recorded array.
+             */
+            private volatile Object[] matched;
+
+            /**
+             * Creates a new filtered view.
+             *
+             * @param values         The list of which the matched elements are represented.
+             * @param elementMatcher The element matcher to apply to the elements of the underlying list.
+             */
+            protected Filtered(List<? extends U> values, ElementMatcher<? super U> elementMatcher) {
+                this.values = values;
+                this.elementMatcher = elementMatcher;
+            }
+
+            /**
+             * Returns the matched elements of the underlying list and records them if they were not yet recorded.
+             *
+             * @return The matched elements of the underlying list.
+             */
+            private Object[] matched() {
+                Object[] matched = this.matched;
+                if (matched == UNRESOLVED) {
+                    matched = new Object[values.size()];
+                    int size = 0;
+                    for (int index = 0; index < matched.length; index++) {
+                        U value = values.get(index);
+                        if (elementMatcher.matches(value)) {
+                            matched[size++] = value;
+                        }
+                    }
+                    if (size < matched.length) {
+                        matched = Arrays.copyOf(matched, size);
+                    }
+                    this.matched = matched;
+                }
+                return matched;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public U get(int index) {
+                Object[] matched = matched();
+                if (index < 0 || index >= matched.length) {
+                    throw new IndexOutOfBoundsException("index = " + index);
+                }
+                return (U) matched[index];
+            }
+
+            @Override
+            public int size() {
+                return matched().length;
+            }
+        }
     }
 }
@@ -15,29 +15,46 @@ public class InheritedAnnotationMatcher<T extends TypeDescription> extends Eleme
      */
     private final ElementMatcher<? super AnnotationList> annotationMatcher;
 
+    /**
+     * The type hierarchy that is queried for the matched type's inherited annotations.
+     */
+    private final TypeHierarchy typeHierarchy;
+
     /**
      * Creates a new matcher for the inherited annotations of a type description.
      *
      * @param annotationMatcher The matcher to be applied to the provided annotation list.
      */
     public InheritedAnnotationMatcher(ElementMatcher<? super AnnotationList> annotationMatcher) {
+        this(annotationMatcher, TypeHierarchy.Direct.INSTANCE);
+    }
+
+    /**
+     * Creates a new matcher for the inherited annotations of a type description.
+     *
+     * @param annotationMatcher The matcher to be applied to the provided annotation list.
+     * @param typeHierarchy     The type hierarchy that is queried for the matched type's inherited annotations.
+     */
+    public InheritedAnnotationMatcher(ElementMatcher<? super AnnotationList> annotationMatcher, TypeHierarchy typeHierarchy) {
         this.annotationMatcher = annotationMatcher;
+        this.typeHierarchy = typeHierarchy;
     }
 
     @Override
     public boolean matches(T target) {
-        return annotationMatcher.matches(target.getInheritedAnnotations());
+        return annotationMatcher.matches(typeHierarchy.getInheritedAnnotations(target));
     }
 
     @Override
     public boolean equals(Object other) {
         return this == other || !(other == null || getClass() != other.getClass())
-                && annotationMatcher.equals(((InheritedAnnotationMatcher<?>) other).annotationMatcher);
+                && annotationMatcher.equals(((InheritedAnnotationMatcher<?>) other).annotationMatcher)
+                && typeHierarchy.equals(((InheritedAnnotationMatcher<?>) other).typeHierarchy);
     }
 
     @Override
     public int hashCode() {
-        return annotationMatcher.hashCode();
+        return 31 * annotationMatcher.hashCode() + typeHierarchy.hashCode();
     }
 
     @Override
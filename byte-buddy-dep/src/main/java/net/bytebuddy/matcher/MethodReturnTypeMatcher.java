@@ -8,7 +8,7 @@ import net.bytebuddy.instrumentation.type.TypeDescription;
  *
  * @param <T> The type of the matched entity.
  */
-public class MethodReturnTypeMatcher<T extends MethodDescription> extends ElementMatcher.Junction.AbstractBase<T> {
+public class MethodReturnTypeMatcher<T extends MethodDescription> extends ElementMatcher.Junction.AbstractBase<T> implements ElementMatcher.Indexable {
 
     /**
      * The type matcher to apply to the matched element's return type.
@@ -29,6 +29,14 @@ public class MethodReturnTypeMatcher<T extends MethodDescription> extends Elemen
         return typeMatcher.matches(target.getReturnType());
     }
 
+    @Override
+    public Condition getCondition() {
+        Condition condition = Condition.of(typeMatcher);
+        return condition == null
+                ? null
+                : condition.onProperty(Property.RETURN_TYPE);
+    }
+
     @Override
     public boolean equals(Object other) {
         return this == other || !(other == null || getClass() != other.getClass())
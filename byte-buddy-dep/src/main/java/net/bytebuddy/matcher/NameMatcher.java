@@ -14,7 +14,7 @@ import net.bytebuddy.instrumentation.NamedElement;
  *
  * @param <T> The type of the matched entity.
  */
-public class NameMatcher<T extends NamedElement> extends ElementMatcher.Junction.AbstractBase<T> {
+public class NameMatcher<T extends NamedElement> extends ElementMatcher.Junction.AbstractBase<T> implements ElementMatcher.Indexable {
 
     /**
      * The matcher that is applied to a byte code element's source code name.
@@ -35,6 +35,45 @@ public class NameMatcher<T extends NamedElement> extends ElementMatcher.Junction
         return nameMatcher.matches(target.getSourceCodeName());
     }
 
+    /**
+     * Returns the matcher that is applied to a byte code element's source code name.
+     *
+     * @return The matcher that is applied to a byte code element's source code name.
+     */
+    ElementMatcher<String> getNameMatcher() {
+        return nameMatcher;
+    }
+
+    /**
+     * Applies any name matcher that the given matcher is composed of by conjunctions and disjunctions to the given
+     * name. Any other matcher is assumed to match.
+     *
+     * @param matcher The matcher of which the name matchers are applied.
+     * @param name    The source code name of an element.
+     * @return {@code false} if the given matcher cannot match an element of the given name.
+     */
+    static boolean isCandidate(ElementMatcher<?> matcher, String name) {
+        if (matcher instanceof NameMatcher) {
+            return ((NameMatcher<?>) matcher).nameMatcher.matches(name);
+        } else if (matcher instanceof Junction.Conjunction) {
+            return isCandidate(((Junction.Conjunction<?>) matcher).getLeft(), name)
+                    && isCandidate(((Junction.Conjunction<?>) matcher).getRight(), name);
+        } else if (matcher instanceof Junction.Disjunction) {
+            return isCandidate(((Junction.Disjunction<?>) matcher).getLeft(), name)
+                    || isCandidate(((Junction.Disjunction<?>) matcher).getRight(), name);
+        } else {
+            return true;
+        }
+    }
+
+    @Override
+    public Condition getCondition() {
+        Condition condition = Condition.of(nameMatcher);
+        return condition == null
+                ? null
+                : condition.onProperty(Property.NAME);
+    }
+
     @Override
     public boolean equals(Object other) {
         return this == other || !(other == null || getClass() != other.getClass())
@@ -1,10 +1,12 @@
 package net.bytebuddy.matcher;
 
+import java.util.regex.Pattern;
+
 /**
  * An element matcher that compares two strings by a given pattern which is characterized by a
  * {@link net.bytebuddy.matcher.StringMatcher.Mode}.
  */
-public class StringMatcher extends ElementMatcher.Junction.AbstractBase<String> {
+public class StringMatcher extends ElementMatcher.Junction.AbstractBase<String> implements ElementMatcher.Indexable {
 
     /**
      * The text value to match against.
@@ -16,6 +18,12 @@ public class StringMatcher extends ElementMatcher.Junction.AbstractBase<String>
      */
     private final Mode mode;
 
+    /**
+     * The compiled regular expression of this matcher's value if this matcher applies {@link Mode#MATCHES} or
+     * {@code null} for any other mode.
+     */
+    private final Pattern pattern;
+
     /**
      * Creates a new string matcher.
      *
@@ -25,11 +33,51 @@ public class StringMatcher extends ElementMatcher.Junction.AbstractBase<String>
     public StringMatcher(String value, Mode mode) {
         this.value = value;
         this.mode = mode;
+        pattern = mode == Mode.MATCHES
+                ? Pattern.compile(value)
+                : null;
     }
 
     @Override
     public boolean matches(String target) {
-        return mode.matches(value, target);
+        return pattern == null
+                ? mode.matches(value, target)
+                : pattern.matcher(target).matches();
+    }
+
+    /**
+     * Returns the text value to match against.
+     *
+     * @return The text value to match against.
+     */
+    String getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the mode to apply for matching the given value against the matcher's input.
+     *
+     * @return The mode to apply for matching the given value against the matcher's input.
+     */
+    Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Returns the compiled regular expression of this matcher's value.
+     *
+     * @return The compiled regular expression of this matcher's value or {@code null} if this matcher does not
+     * apply {@link Mode#MATCHES}.
+     */
+    Pattern getPattern() {
+        return pattern;
+    }
+
+    @Override
+    public Condition getCondition() {
+        return mode == Mode.EQUALS_FULLY
+                ? Condition.ofValue(value)
+                : null;
     }
 
     @Override
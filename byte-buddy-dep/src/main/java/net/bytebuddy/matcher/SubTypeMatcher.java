@@ -14,29 +14,46 @@ public class SubTypeMatcher<T extends TypeDescription> extends ElementMatcher.Ju
      */
     private final TypeDescription typeDescription;
 
+    /**
+     * The type hierarchy that is queried for the matched type's super types.
+     */
+    private final TypeHierarchy typeHierarchy;
+
     /**
      * Creates a new matcher for matching its input for being a sub type of the given {@code typeDescription}.
      *
      * @param typeDescription The type to be matched being a super type of the matched type.
      */
     public SubTypeMatcher(TypeDescription typeDescription) {
+        this(typeDescription, TypeHierarchy.Direct.INSTANCE);
+    }
+
+    /**
+     * Creates a new matcher for matching its input for being a sub type of the given {@code typeDescription}.
+     *
+     * @param typeDescription The type to be matched being a super type of the matched type.
+     * @param typeHierarchy   The type hierarchy that is queried for the matched type's super types.
+     */
+    public SubTypeMatcher(TypeDescription typeDescription, TypeHierarchy typeHierarchy) {
         this.typeDescription = typeDescription;
+        this.typeHierarchy = typeHierarchy;
     }
 
     @Override
     public boolean matches(T target) {
-        return target.isAssignableTo(typeDescription);
+        return typeHierarchy.isSubTypeOf(target, typeDescription);
     }
 
     @Override
     public boolean equals(Object other) {
         return this == other || !(other == null || getClass() != other.getClass())
-                && typeDescription.equals(((SubTypeMatcher) other).typeDescription);
+                && typeDescription.equals(((SubTypeMatcher) other).typeDescription)
+                && typeHierarchy.equals(((SubTypeMatcher) other).typeHierarchy);
     }
 
     @Override
     public int hashCode() {
-        return typeDescription.hashCode();
+        return 31 * typeDescription.hashCode() + typeHierarchy.hashCode();
     }
 
     @Override
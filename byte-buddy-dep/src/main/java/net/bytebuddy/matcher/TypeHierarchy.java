@@ -0,0 +1,274 @@
+package net.bytebuddy.matcher;
+
+import net.bytebuddy.instrumentation.attribute.annotation.AnnotationDescription;
+import net.bytebuddy.instrumentation.attribute.annotation.AnnotationList;
+import net.bytebuddy.instrumentation.type.TypeDescription;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static net.bytebuddy.utility.ByteBuddyCommons.join;
+
+/**
+ * A type hierarchy answers queries on the super types of a type for the {@link net.bytebuddy.matcher.SubTypeMatcher}
+ * and the {@link net.bytebuddy.matcher.InheritedAnnotationMatcher}.
+ */
+public interface TypeHierarchy {
+
+    /**
+     * Checks if a type is a sub type of another type, i.e. if the sub type is assignable to the super type.
+     *
+     * @param subType   The potential sub type.
+     * @param superType The potential super type.
+     * @return {@code true} if the sub type is assignable to the super type.
+     */
+    boolean isSubTypeOf(TypeDescription subType, TypeDescription superType);
+
+    /**
+     * Returns the annotations that a type declares or inherits from its super classes.
+     *
+     * @param typeDescription The type of interest.
+     * @return The annotations that the type declares or inherits.
+     */
+    AnnotationList getInheritedAnnotations(TypeDescription typeDescription);
+
+    /**
+     * A type hierarchy that queries a type description directly for any request.
+     */
+    enum Direct implements TypeHierarchy {
+
+        /**
+         * The singleton instance.
+         */
+        INSTANCE;
+
+        @Override
+        public boolean isSubTypeOf(TypeDescription subType, TypeDescription superType) {
+            return subType.isAssignableTo(superType);
+        }
+
+        @Override
+        public AnnotationList getInheritedAnnotations(TypeDescription typeDescription) {
+            return typeDescription.getInheritedAnnotations();
+        }
+
+        @Override
+        public String toString() {
+            return "TypeHierarchy.Direct." + name();
+        }
+    }
+
+    /**
+     * <p>
+     * A type hierarchy that incrementally builds an index of the super types of any queried type. Each type name
+     * is assigned a numeric identifier and each type is represented by the sorted set of identifiers of all of its
+     * super types, including itself. A type's set is computed from the sets of its direct super class and interfaces
+     * such that the hierarchy of a super type is only ever resolved once for all of its sub types. Similarly, the
+     * inherited annotations of any super class are only resolved once.
+     * </p>
+     * <p>
+     * An indexed type hierarchy can be shared among many matchers and is safe for concurrent use. As type
+     * descriptions are identified by their names, an index must not be used for types of the same name but of
+     * different hierarchies, for example for types of different class loaders that share a name but not a super
+     * type. In this case, a separate index should be used per class loader.
+     * </p>
+     * <p>
+     * An index only grows while it is in use, including the identifiers that are assigned to type names. A long-lived
+     * index should therefore be {@link net.bytebuddy.matcher.TypeHierarchy.Indexed#clear() cleared} from time to
+     * time. Clearing an index replaces all of its state such that queries that are concurrently answered from the
+     * previous state never affect the new one.
+     * </p>
+     */
+    class Indexed implements TypeHierarchy {
+
+        /**
+         * The current state of this index.
+         */
+        private volatile Index index;
+
+        /**
+         * Creates a new, empty indexed type hierarchy.
+         */
+        public Indexed() {
+            index = new Index();
+        }
+
+        @Override
+        public boolean isSubTypeOf(TypeDescription subType, TypeDescription superType) {
+            if (subType.isArray() || subType.isPrimitive() || superType.isArray() || superType.isPrimitive()) {
+                return subType.isAssignableTo(superType);
+            } else if (superType.represents(Object.class)) {
+                return true;
+            }
+            Index index = this.index;
+            int[] superTypes = index.superTypesOf(subType);
+            Integer identifier = index.identifiers.get(superType.getName());
+            return identifier != null && Arrays.binarySearch(superTypes, identifier) >= 0;
+        }
+
+        @Override
+        public AnnotationList getInheritedAnnotations(TypeDescription typeDescription) {
+            return index.getInheritedAnnotations(typeDescription);
+        }
+
+        /**
+         * Returns the number of types of which the super types are indexed.
+         *
+         * @return The number of types of which the super types are indexed.
+         */
+        public int size() {
+            return index.superTypes.size();
+        }
+
+        /**
+         * Removes all types from this index, including the identifiers that were assigned to type names.
+         */
+        public void clear() {
+            index = new Index();
+        }
+
+        @Override
+        public String toString() {
+            return "TypeHierarchy.Indexed{index=" + index + '}';
+        }
+
+        /**
+         * The state of an indexed type hierarchy.
+         */
+        protected static class Index {
+
+            /**
+             * The identifiers of all indexed types by their names.
+             */
+            private final ConcurrentMap<String, Integer> identifiers;
+
+            /**
+             * The next identifier to assign to an indexed type.
+             */
+            private final AtomicInteger nextIdentifier;
+
+            /**
+             * The sorted identifiers of all super types of an indexed type, mapped by the type's name.
+             */
+            private final ConcurrentMap<String, int[]> superTypes;
+
+            /**
+             * The inherited annotations of all indexed super classes by their names.
+             */
+            private final ConcurrentMap<String, AnnotationList> inheritedAnnotations;
+
+            /**
+             * Creates a new, empty index.
+             */
+            protected Index() {
+                identifiers = new ConcurrentHashMap<String, Integer>();
+                nextIdentifier = new AtomicInteger();
+                superTypes = new ConcurrentHashMap<String, int[]>();
+                inheritedAnnotations = new ConcurrentHashMap<String, AnnotationList>();
+            }
+
+            /**
+             * Returns the sorted identifiers of all super types of a type, including the type itself.
+             *
+             * @param typeDescription The type of interest.
+             * @return The sorted identifiers of all super types of the given type.
+             */
+            protected int[] superTypesOf(TypeDescription typeDescription) {
+                int[] superTypes = this.superTypes.get(typeDescription.getName());
+                if (superTypes == null) {
+                    Set<Integer> identifiers = new HashSet<Integer>();
+                    identifiers.add(identifierOf(typeDescription.getName()));
+                    TypeDescription superType = typeDescription.getSupertype();
+                    if (superType != null) {
+                        add(identifiers, superTypesOf(superType));
+                    }
+                    for (TypeDescription interfaceType : typeDescription.getInterfaces()) {
+                        add(identifiers, superTypesOf(interfaceType));
+                    }
+                    superTypes = new int[identifiers.size()];
+                    int index = 0;
+                    for (Integer identifier : identifiers) {
+                        superTypes[index++] = identifier;
+                    }
+                    Arrays.sort(superTypes);
+                    int[] previous = this.superTypes.putIfAbsent(typeDescription.getName(), superTypes);
+                    if (previous != null) {
+                        superTypes = previous;
+                    }
+                }
+                return superTypes;
+            }
+
+            /**
+             * Adds all given identifiers to a set of identifiers.
+             *
+             * @param identifiers The set of identifiers to add to.
+             * @param superTypes  The identifiers to add.
+             */
+            private static void add(Set<Integer> identifiers, int[] superTypes) {
+                for (int identifier : superTypes) {
+                    identifiers.add(identifier);
+                }
+            }
+
+            /**
+             * Returns the identifier of a type name or assigns a new identifier if the name is not yet indexed.
+             *
+             * @param name The name of the type.
+             * @return The identifier of the type name.
+             */
+            private int identifierOf(String name) {
+                Integer identifier = identifiers.get(name);
+                if (identifier == null) {
+                    identifier = nextIdentifier.getAndIncrement();
+                    Integer previous = identifiers.putIfAbsent(name, identifier);
+                    if (previous != null) {
+                        identifier = previous;
+                    }
+                }
+                return identifier;
+            }
+
+            /**
+             * Returns the annotations that a type declares or inherits from its super classes.
+             *
+             * @param typeDescription The type of interest.
+             * @return The annotations that the type declares or inherits.
+             */
+            protected AnnotationList getInheritedAnnotations(TypeDescription typeDescription) {
+                AnnotationList declaredAnnotations = typeDescription.getDeclaredAnnotations();
+                TypeDescription superType = typeDescription.getSupertype();
+                if (superType == null) {
+                    return declaredAnnotations;
+                }
+                AnnotationList inheritedAnnotations = this.inheritedAnnotations.get(superType.getName());
+                if (inheritedAnnotations == null) {
+                    inheritedAnnotations = getInheritedAnnotations(superType);
+                    AnnotationList previous = this.inheritedAnnotations.putIfAbsent(superType.getName(), inheritedAnnotations);
+                    if (previous != null) {
+                        inheritedAnnotations = previous;
+                    }
+                }
+                Set<TypeDescription> annotationTypes = new HashSet<TypeDescription>(declaredAnnotations.size());
+                for (AnnotationDescription annotationDescription : declaredAnnotations) {
+                    annotationTypes.add(annotationDescription.getAnnotationType());
+                }
+                return new AnnotationList.Explicit(join(declaredAnnotations, inheritedAnnotations.inherited(annotationTypes)));
+            }
+
+            @Override
+            public String toString() {
+                return "TypeHierarchy.Indexed.Index{" +
+                        "identifiers=" + identifiers.size() +
+                        ", nextIdentifier=" + nextIdentifier +
+                        ", superTypes=" + superTypes.size() +
+                        ", inheritedAnnotations=" + inheritedAnnotations.size() +
+                        '}';
+            }
+        }
+    }
+}
@@ -13,17 +13,23 @@ import net.bytebuddy.instrumentation.method.bytecode.stack.StackSize;
 import net.bytebuddy.instrumentation.type.PackageDescription;
 import net.bytebuddy.instrumentation.type.TypeDescription;
 import net.bytebuddy.instrumentation.type.TypeList;
+import net.bytebuddy.matcher.ElementMatcher;
 import net.bytebuddy.matcher.ElementMatchers;
 import net.bytebuddy.matcher.FilterableList;
 import net.bytebuddy.utility.PropertyDispatcher;
 import org.objectweb.asm.*;
 import org.objectweb.asm.Type;
 
-import java.io.IOException;
+import java.io.*;
 import java.lang.annotation.Annotation;
 import java.lang.annotation.AnnotationTypeMismatchException;
 import java.lang.annotation.IncompleteAnnotationException;
 import java.lang.reflect.*;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -271,6 +277,106 @@ public interface TypePool {
                 return "TypePool.CacheProvider.Simple{cache=" + cache + '}';
             }
         }
+
+        /**
+         * A thread-safe type cache that retains a bounded number of resolutions. When this bound is exceeded, the
+         * resolution that was least recently requested is discarded.
+         */
+        class Bounded implements CacheProvider {
+
+            /**
+             * The initial capacity of the underlying map.
+             */
+            private static final int INITIAL_CAPACITY = 16;
+
+            /**
+             * The load factor of the underlying map.
+             */
+            private static final float LOAD_FACTOR = 0.75f;
+
+            /**
+             * A map containing all cached resolutions by their names in their access order. Any access to this map
+             * must be synchronized on the map instance.
+             */
+            private final Map<String, Resolution> cache;
+
+            /**
+             * Creates a new bounded cache.
+             *
+             * @param maximumSize The maximum number of resolutions to be retained by this cache.
+             */
+            public Bounded(int maximumSize) {
+                if (maximumSize < 1) {
+                    throw new IllegalArgumentException("The maximum size of a cache must be positive: " + maximumSize);
+                }
+                cache = new EvictingMap(maximumSize);
+            }
+
+            @Override
+            public Resolution find(String name) {
+                synchronized (cache) {
+                    return cache.get(name);
+                }
+            }
+
+            @Override
+            public Resolution register(String name, Resolution resolution) {
+                synchronized (cache) {
+                    Resolution cached = cache.get(name);
+                    if (cached == NOTHING) {
+                        cache.put(name, resolution);
+                        return resolution;
+                    } else {
+                        return cached;
+                    }
+                }
+            }
+
+            @Override
+            public void clear() {
+                synchronized (cache) {
+                    cache.clear();
+                }
+            }
+
+            @Override
+            public String toString() {
+                synchronized (cache) {
+                    return "TypePool.CacheProvider.Bounded{cache=" + cache + '}';
+                }
+            }
+
+            /**
+             * A map in access order that discards its eldest entry once a maximum size is exceeded.
+             */
+            protected static class EvictingMap extends LinkedHashMap<String, Resolution> {
+
+                /**
+                 * The class's serial version UID.
+                 */
+                private static final long serialVersionUID = 1L;
+
+                /**
+                 * The maximum number of entries of this map.
+                 */
+                private final int maximumSize;
+
+                /**
+                 * Creates a new evicting map.
+                 *
+                 * @param maximumSize The maximum number of entries of this map.
+                 */
+                protected EvictingMap(int maximumSize) {
+                    super(INITIAL_CAPACITY, LOAD_FACTOR, true);
+                    this.maximumSize = maximumSize;
+                }
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Resolution> eldest) {
+                    return size() > maximumSize;
+                }
+            }
+        }
     }
 
     /**
@@ -472,24 +578,37 @@ public interface TypePool {
         private static final int ASM_VERSION = Opcodes.ASM5;
 
         /**
-         * A flag to indicate ASM that no automatic calculations are requested.
+         * The locator to query for finding binary data of a type.
          */
-        private static final int ASM_MANUAL = 0;
+        private final ClassFileLocator classFileLocator;
 
         /**
-         * The locator to query for finding binary data of a type.
+         * The reader mode to apply when parsing a class file.
          */
-        private final ClassFileLocator classFileLocator;
+        private final ReaderMode readerMode;
 
         /**
-         * Creates a new default type pool.
+         * Creates a new default type pool that parses class files in the
+         * {@link net.bytebuddy.pool.TypePool.Default.ReaderMode#EXTENDED} mode.
          *
          * @param cacheProvider    The cache provider to be used.
          * @param classFileLocator The class file locator to be used.
          */
         public Default(CacheProvider cacheProvider, ClassFileLocator classFileLocator) {
+            this(cacheProvider, classFileLocator, ReaderMode.EXTENDED);
+        }
+
+        /**
+         * Creates a new default type pool.
+         *
+         * @param cacheProvider    The cache provider to be used.
+         * @param classFileLocator The class file locator to be used.
+         * @param readerMode       The reader mode to apply when parsing a class file.
+         */
+        public Default(CacheProvider cacheProvider, ClassFileLocator classFileLocator, ReaderMode readerMode) {
             super(cacheProvider);
             this.classFileLocator = classFileLocator;
+            this.readerMode = readerMode;
         }
 
         /**
@@ -514,6 +633,46 @@ public interface TypePool {
             }
         }
 
+        /**
+         * Compacts a list of collected tokens such that a type description does not retain any unused capacity.
+         * Empty and single element lists are represented by immutable lists that do not require a backing array.
+         *
+         * @param list The list to compact.
+         * @param <T>  The type of the list's elements.
+         * @return A list of equal content that does not retain any unused capacity.
+         */
+        private static <T> List<T> compact(List<T> list) {
+            switch (list.size()) {
+                case 0:
+                    return Collections.emptyList();
+                case 1:
+                    return Collections.singletonList(list.get(0));
+                default:
+                    return new ArrayList<T>(list);
+            }
+        }
+
+        /**
+         * Compacts a map of collected values such that a type description does not retain any unused capacity.
+         * Empty and single entry maps are represented by immutable maps that do not require a hash table.
+         *
+         * @param map The map to compact.
+         * @param <K> The type of the map's keys.
+         * @param <V> The type of the map's values.
+         * @return A map of equal content that does not retain any unused capacity.
+         */
+        private static <K, V> Map<K, V> compact(Map<K, V> map) {
+            switch (map.size()) {
+                case 0:
+                    return Collections.emptyMap();
+                case 1:
+                    Map.Entry<K, V> entry = map.entrySet().iterator().next();
+                    return Collections.singletonMap(entry.getKey(), entry.getValue());
+                default:
+                    return map;
+            }
+        }
+
         /**
          * Parses a binary representation and transforms it into a type description.
          *
@@ -523,7 +682,7 @@ public interface TypePool {
         private TypeDescription parse(byte[] binaryRepresentation) {
             ClassReader classReader = new ClassReader(binaryRepresentation);
             TypeExtractor typeExtractor = new TypeExtractor();
-            classReader.accept(typeExtractor, ASM_MANUAL);
+            classReader.accept(typeExtractor, readerMode.getFlags());
             return typeExtractor.toTypeDescription();
         }
 
@@ -531,12 +690,15 @@ public interface TypePool {
         public boolean equals(Object other) {
             return this == other || !(other == null || getClass() != other.getClass())
                     && super.equals(other)
-                    && classFileLocator.equals(((Default) other).classFileLocator);
+                    && classFileLocator.equals(((Default) other).classFileLocator)
+                    && readerMode == ((Default) other).readerMode;
         }
 
         @Override
         public int hashCode() {
-            return 31 * super.hashCode() + classFileLocator.hashCode();
+            int result = 31 * super.hashCode() + classFileLocator.hashCode();
+            result = 31 * result + readerMode.hashCode();
+            return result;
         }
 
         @Override
@@ -544,9 +706,62 @@ public interface TypePool {
             return "TypePool.Default{" +
                     "classFileLocator=" + classFileLocator +
                     ", cacheProvider=" + cacheProvider +
+                    ", readerMode=" + readerMode +
                     '}';
         }
 
+        /**
+         * Determines the granularity of the class file parsing that is conducted by a
+         * {@link net.bytebuddy.pool.TypePool.Default}. A type description only requires a class file's structural
+         * meta data, i.e. its header, its fields and methods, their signatures and their annotations. Method bodies
+         * are only inspected for reading the names of method parameters from a method's debugging information if
+         * these names are not stored explicitly as it is possible for class files of Java 8 or later.
+         */
+        public enum ReaderMode {
+
+            /**
+             * Parses a class file's method bodies in order to extract the names of method parameters from the
+             * debugging information of a method, if available. Stack map frames are never read.
+             */
+            EXTENDED(ClassReader.SKIP_FRAMES),
+
+            /**
+             * Only parses a class file's structural meta data and skips any method bodies, including their stack map
+             * frames and debugging information. Names of method parameters are only available if they are stored
+             * explicitly within a class file. This mode is significantly faster than the extended mode and creates
+             * less garbage as the majority of a class file is never visited.
+             */
+            FAST(ClassReader.SKIP_CODE);
+
+            /**
+             * The flags to provide to a {@link org.objectweb.asm.ClassReader} for parsing a class file.
+             */
+            private final int flags;
+
+            /**
+             * Creates a new reader mode.
+             *
+             * @param flags The flags to provide to a {@link org.objectweb.asm.ClassReader} for parsing a class file.
+             */
+            ReaderMode(int flags) {
+                this.flags = flags;
+            }
+
+            /**
+             * Returns the flags to provide to a {@link org.objectweb.asm.ClassReader} for parsing a class file.
+             *
+             * @return The flags to provide to a {@link org.objectweb.asm.ClassReader} for parsing a class file.
+             */
+            protected int getFlags() {
+                return flags;
+            }
+
+            @Override
+            public String toString() {
+                return "TypePool.Default.ReaderMode." + name();
+            }
+        }
+
         /**
          * An annotation registrant implements a visitor pattern for reading an unknown amount of values of annotations.
          */
@@ -895,9 +1110,9 @@ public interface TypePool {
              */
             protected TypeExtractor() {
                 super(ASM_VERSION);
-                annotationTokens = new LinkedList<LazyTypeDescription.AnnotationToken>();
-                fieldTokens = new LinkedList<LazyTypeDescription.FieldToken>();
-                methodTokens = new LinkedList<LazyTypeDescription.MethodToken>();
+                annotationTokens = new ArrayList<LazyTypeDescription.AnnotationToken>();
+                fieldTokens = new ArrayList<LazyTypeDescription.FieldToken>();
+                methodTokens = new ArrayList<LazyTypeDescription.MethodToken>();
                 anonymousType = false;
                 declarationContext = LazyTypeDescription.DeclarationContext.SelfDeclared.INSTANCE;
             }
@@ -981,9 +1196,9 @@ public interface TypePool {
                         interfaceName,
                         declarationContext,
                         anonymousType,
-                        annotationTokens,
-                        fieldTokens,
-                        methodTokens);
+                        compact(annotationTokens),
+                        compact(fieldTokens),
+                        compact(methodTokens));
             }
 
             @Override
@@ -1035,7 +1250,7 @@ public interface TypePool {
 
                 @Override
                 public void onComplete() {
-                    annotationTokens.add(new LazyTypeDescription.AnnotationToken(descriptor, values));
+                    annotationTokens.add(new LazyTypeDescription.AnnotationToken(descriptor, compact(values)));
                 }
 
                 @Override
@@ -1217,7 +1432,7 @@ public interface TypePool {
                     @Override
                     public void onComplete() {
                         annotationRegistrant.register(name, new LazyTypeDescription.AnnotationValue
-                                .ForAnnotation(new LazyTypeDescription.AnnotationToken(descriptor, values)));
+                                .ForAnnotation(new LazyTypeDescription.AnnotationToken(descriptor, compact(values))));
                     }
 
                     @Override
@@ -1284,7 +1499,7 @@ public interface TypePool {
                     this.internalName = internalName;
                     this.descriptor = descriptor;
                     this.genericSignature = genericSignature;
-                    annotationTokens = new LinkedList<LazyTypeDescription.AnnotationToken>();
+                    annotationTokens = new ArrayList<LazyTypeDescription.AnnotationToken>();
                 }
 
                 @Override
@@ -1299,7 +1514,7 @@ public interface TypePool {
                             internalName,
                             descriptor,
                             genericSignature,
-                            annotationTokens));
+                            compact(annotationTokens)));
                 }
 
                 @Override
@@ -1346,7 +1561,7 @@ public interface TypePool {
 
                     @Override
                     public void onComplete() {
-                        annotationTokens.add(new LazyTypeDescription.AnnotationToken(descriptor, values));
+                        annotationTokens.add(new LazyTypeDescription.AnnotationToken(descriptor, compact(values)));
                     }
 
                     @Override
@@ -1446,12 +1661,9 @@ public interface TypePool {
                     this.descriptor = descriptor;
                     this.genericSignature = genericSignature;
                     this.exceptionName = exceptionName;
-                    annotationTokens = new LinkedList<LazyTypeDescription.AnnotationToken>();
+                    annotationTokens = new ArrayList<LazyTypeDescription.AnnotationToken>();
                     Type[] parameterTypes = Type.getMethodType(descriptor).getArgumentTypes();
-                    parameterAnnotationTokens = new HashMap<Integer, List<LazyTypeDescription.AnnotationToken>>(parameterTypes.length);
-                    for (int i = 0; i < parameterTypes.length; i++) {
-                        parameterAnnotationTokens.put(i, new LinkedList<LazyTypeDescription.AnnotationToken>());
-                    }
+                    parameterAnnotationTokens = new HashMap<Integer, List<LazyTypeDescription.AnnotationToken>>();
                     parameterTokens = new ArrayList<LazyTypeDescription.MethodToken.ParameterToken>(parameterTypes.length);
                     legacyParameterBag = new ParameterBag(parameterTypes);
                 }
@@ -1509,8 +1721,8 @@ public interface TypePool {
                             descriptor,
                             genericSignature,
                             exceptionName,
-                            annotationTokens,
-                            parameterAnnotationTokens,
+                            compact(annotationTokens),
+                            compact(parameterAnnotationTokens),
                             parameterTokens.isEmpty()
                                     ? legacyParameterBag.resolve((modifiers & Opcodes.ACC_STATIC) != 0)
                                     : parameterTokens,
@@ -1536,102 +1748,1407 @@ public interface TypePool {
                 }
 
                 /**
-                 * An annotation registrant for annotations found on the method itself.
+                 * An annotation registrant for annotations found on the method itself.
+                 */
+                protected class OnMethodCollector implements AnnotationRegistrant {
+
+                    /**
+                     * The descriptor of the annotation.
+                     */
+                    private final String descriptor;
+
+                    /**
+                     * A mapping of annotation properties to their values.
+                     */
+                    private final Map<String, LazyTypeDescription.AnnotationValue<?, ?>> values;
+
+                    /**
+                     * Creates a new method annotation registrant.
+                     *
+                     * @param descriptor The descriptor of the annotation.
+                     */
+                    protected OnMethodCollector(String descriptor) {
+                        this.descriptor = descriptor;
+                        values = new HashMap<String, LazyTypeDescription.AnnotationValue<?, ?>>();
+                    }
+
+                    @Override
+                    public void register(String name, LazyTypeDescription.AnnotationValue<?, ?> annotationValue) {
+                        values.put(name, annotationValue);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        annotationTokens.add(new LazyTypeDescription.AnnotationToken(descriptor, compact(values)));
+                    }
+
+                    @Override
+                    public String toString() {
+                        return "TypePool.Default.TypeExtractor.MethodExtractor.OnMethodCollector{" +
+                                "methodExtractor=" + MethodExtractor.this +
+                                ", descriptor='" + descriptor + '\'' +
+                                ", values=" + values +
+                                '}';
+                    }
+                }
+
+                /**
+                 * An annotation registrant that collects annotations that are found on a specific parameter.
+                 */
+                protected class OnMethodParameterCollector implements AnnotationRegistrant {
+
+                    /**
+                     * The descriptor of the annotation.
+                     */
+                    private final String descriptor;
+
+                    /**
+                     * The index of the parameter of this annotation.
+                     */
+                    private final int index;
+
+                    /**
+                     * A mapping of annotation properties to their values.
+                     */
+                    private final Map<String, LazyTypeDescription.AnnotationValue<?, ?>> values;
+
+                    /**
+                     * Creates a new method parameter annotation registrant.
+                     *
+                     * @param descriptor The descriptor of the annotation.
+                     * @param index      The index of the parameter of this annotation.
+                     */
+                    protected OnMethodParameterCollector(String descriptor, int index) {
+                        this.descriptor = descriptor;
+                        this.index = index;
+                        values = new HashMap<String, LazyTypeDescription.AnnotationValue<?, ?>>();
+                    }
+
+                    @Override
+                    public void register(String name, LazyTypeDescription.AnnotationValue<?, ?> annotationValue) {
+                        values.put(name, annotationValue);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        List<LazyTypeDescription.AnnotationToken> tokens = parameterAnnotationTokens.get(index);
+                        if (tokens == null) {
+                            tokens = new ArrayList<LazyTypeDescription.AnnotationToken>(1);
+                            parameterAnnotationTokens.put(index, tokens);
+                        }
+                        tokens.add(new LazyTypeDescription.AnnotationToken(descriptor, compact(values)));
+                    }
+
+                    @Override
+                    public String toString() {
+                        return "TypePool.Default.TypeExtractor.MethodExtractor.OnMethodParameterCollector{" +
+                                "methodExtractor=" + MethodExtractor.this +
+                                ", descriptor='" + descriptor + '\'' +
+                                ", index=" + index +
+                                ", values=" + values +
+                                '}';
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * A type pool that reads type descriptions from a persistent {@link net.bytebuddy.pool.TypePool.Indexed.Index}
+     * before parsing a class file. Any type that is not yet contained in the index is parsed as by a
+     * {@link net.bytebuddy.pool.TypePool.Default} and added to the index which can then be written to disk. This way,
+     * a type pool of a later run on the same class path does not need to parse any class files that did not change.
+     * </p>
+     * <p>
+     * An indexed type is identified by its name and the location of its class file as it is reported by the represented
+     * class loader, i.e. by the path of a jar file or the path of a class file in a folder. A type is only read from the
+     * index if the modification time of this location did not change since the type was indexed. Types that are not
+     * located in a jar file or in a folder are parsed without ever being indexed.
+     * </p>
+     */
+    class Indexed extends Default {
+
+        /**
+         * The protocol of a URL that represents a file.
+         */
+        private static final String FILE_PROTOCOL = "file";
+
+        /**
+         * The protocol of a URL that represents an entry of a jar file.
+         */
+        private static final String JAR_PROTOCOL = "jar";
+
+        /**
+         * The separator of a jar file's location and an entry's name within a jar URL.
+         */
+        private static final String JAR_SEPARATOR = "!/";
+
+        /**
+         * The file extension of a Java class file.
+         */
+        private static final String CLASS_FILE_EXTENSION = ".class";
+
+        /**
+         * The class loader that is queried for the location of a class file or {@code null} for the bootstrap class
+         * loader.
+         */
+        private final ClassLoader classLoader;
+
+        /**
+         * The index to read type descriptions from and to register parsed type descriptions with.
+         */
+        private final Index index;
+
+        /**
+         * A cache of the modification times of jar files which are not expected to change while a type pool is in use.
+         */
+        private final ConcurrentMap<String, Long> jarFileTimestamps;
+
+        /**
+         * Creates a new indexed type pool that parses class files in the index's reader mode.
+         *
+         * @param cacheProvider The cache provider to be used.
+         * @param classLoader   The class loader that is queried for class files or {@code null} for the bootstrap
+         *                      class loader.
+         * @param index         The index to read type descriptions from and to register parsed type descriptions with.
+         */
+        public Indexed(CacheProvider cacheProvider, ClassLoader classLoader, Index index) {
+            super(cacheProvider, ClassFileLocator.ForClassLoader.of(classLoader), index.getReaderMode());
+            this.classLoader = classLoader;
+            this.index = index;
+            jarFileTimestamps = new ConcurrentHashMap<String, Long>();
+        }
+
+        @Override
+        protected Resolution doDescribe(String name) {
+            Index.Stamp stamp = locate(name);
+            if (stamp != null) {
+                TypeDescription typeDescription = index.read(this, name, stamp);
+                if (typeDescription != null) {
+                    return new Resolution.Simple(typeDescription);
+                }
+            }
+            Resolution resolution = super.doDescribe(name);
+            if (stamp != null && resolution.isResolved()) {
+                TypeDescription typeDescription = resolution.resolve();
+                if (typeDescription instanceof LazyTypeDescription) {
+                    index.register(name, stamp, (LazyTypeDescription) typeDescription);
+                }
+            }
+            return resolution;
+        }
+
+        /**
+         * Locates the class file of a given type and returns a stamp that identifies its current version.
+         *
+         * @param name The name of the type to locate.
+         * @return A stamp that identifies the current version of the type's class file or {@code null} if the type's
+         * class file cannot be located in a jar file or in a folder.
+         */
+        protected Index.Stamp locate(String name) {
+            String path = name.replace('.', '/') + CLASS_FILE_EXTENSION;
+            URL url = classLoader == null
+                    ? ClassLoader.getSystemResource(path)
+                    : classLoader.getResource(path);
+            if (url == null) {
+                return null;
+            } else if (url.getProtocol().equals(JAR_PROTOCOL)) {
+                String file = url.getFile();
+                int separator = file.indexOf(JAR_SEPARATOR);
+                if (separator == -1) {
+                    return null;
+                }
+                String location = file.substring(0, separator);
+                Long timestamp = jarFileTimestamps.get(location);
+                if (timestamp == null) {
+                    timestamp = lastModified(location);
+                    if (timestamp == null) {
+                        return null;
+                    }
+                    jarFileTimestamps.putIfAbsent(location, timestamp);
+                }
+                return new Index.Stamp(location, timestamp);
+            } else if (url.getProtocol().equals(FILE_PROTOCOL)) {
+                String location = url.toExternalForm();
+                Long timestamp = lastModified(location);
+                return timestamp == null
+                        ? null
+                        : new Index.Stamp(location, timestamp);
+            } else {
+                return null;
+            }
+        }
+
+        /**
+         * Returns the modification time of a file that is represented by a URL.
+         *
+         * @param location A URL that represents a file.
+         * @return The modification time of the file or {@code null} if the file does not exist.
+         */
+        private static Long lastModified(String location) {
+            try {
+                File file = new File(new URI(location));
+                return file.isFile()
+                        ? file.lastModified()
+                        : null;
+            } catch (URISyntaxException ignored) {
+                return null;
+            } catch (IllegalArgumentException ignored) {
+                return null;
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || !(other == null || getClass() != other.getClass())
+                    && super.equals(other)
+                    && !(classLoader != null ? !classLoader.equals(((Indexed) other).classLoader) : ((Indexed) other).classLoader != null)
+                    && index.equals(((Indexed) other).index);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = super.hashCode();
+            result = 31 * result + (classLoader != null ? classLoader.hashCode() : 0);
+            result = 31 * result + index.hashCode();
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return "TypePool.Indexed{" +
+                    "cacheProvider=" + cacheProvider +
+                    ", classLoader=" + classLoader +
+                    ", index=" + index +
+                    ", jarFileTimestamps=" + jarFileTimestamps +
+                    '}';
+        }
+
+        /**
+         * <p>
+         * A persistent index of type descriptions. An index stores the tokens of a
+         * {@link net.bytebuddy.pool.TypePool.LazyTypeDescription} which can be read without parsing the original
+         * class file. When an index is opened, its file is mapped into memory and a type's data is only decoded when
+         * this type is described by a type pool.
+         * </p>
+         * <p>
+         * Types that are registered with an index are only persisted when the index is explicitly written to disk,
+         * for example when a Java agent's work is completed or when a virtual machine is shut down. An index only
+         * stores type descriptions that were parsed in a single {@link net.bytebuddy.pool.TypePool.Default.ReaderMode}.
+         * </p>
+         */
+        public static class Index {
+
+            /**
+             * A magic number that identifies a type index file.
+             */
+            private static final int MAGIC = 0xB7B0DD1E;
+
+            /**
+             * The version of the file format that is written by this index.
+             */
+            private static final int VERSION = 1;
+
+            /**
+             * The separator between a type's location and its name within an entry key.
+             */
+            private static final char KEY_SEPARATOR = '!';
+
+            /**
+             * Indicates an absent value.
+             */
+            private static final int ABSENT = -1;
+
+            /**
+             * The file that backs this index.
+             */
+            private final File file;
+
+            /**
+             * The reader mode of the type descriptions that are stored by this index.
+             */
+            private final ReaderMode readerMode;
+
+            /**
+             * A mapping of entry keys to entries that were read from the index file.
+             */
+            private final Map<String, Entry> persistedEntries;
+
+            /**
+             * A mapping of entry keys to entries that were registered since the index file was read.
+             */
+            private final ConcurrentMap<String, Entry> registeredEntries;
+
+            /**
+             * Creates a new index.
+             *
+             * @param file             The file that backs this index.
+             * @param readerMode       The reader mode of the type descriptions that are stored by this index.
+             * @param persistedEntries A mapping of entry keys to entries that were read from the index file.
+             */
+            protected Index(File file, ReaderMode readerMode, Map<String, Entry> persistedEntries) {
+                this.file = file;
+                this.readerMode = readerMode;
+                this.persistedEntries = persistedEntries;
+                registeredEntries = new ConcurrentHashMap<String, Entry>();
+            }
+
+            /**
+             * Opens an index that is backed by the given file. If the file does not exist or if it was written by
+             * another version of this index or in another reader mode, an empty index is returned.
+             *
+             * @param file       The file that backs the index.
+             * @param readerMode The reader mode of the type descriptions that are stored by this index.
+             * @return An index that is backed by the given file.
+             * @throws IOException If the index file cannot be read or if it is corrupt.
+             */
+            public static Index open(File file, ReaderMode readerMode) throws IOException {
+                if (!file.isFile()) {
+                    return new Index(file, readerMode, Collections.<String, Entry>emptyMap());
+                }
+                RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+                try {
+                    ByteBuffer byteBuffer = randomAccessFile.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, randomAccessFile.length());
+                    DataInputStream dataInputStream = new DataInputStream(new ByteBufferInputStream(byteBuffer));
+                    if (byteBuffer.remaining() < 16
+                            || dataInputStream.readInt() != MAGIC
+                            || dataInputStream.readInt() != VERSION
+                            || dataInputStream.readInt() != readerMode.ordinal()) {
+                        return new Index(file, readerMode, Collections.<String, Entry>emptyMap());
+                    }
+                    int size = dataInputStream.readInt();
+                    Map<String, Entry> persistedEntries = new HashMap<String, Entry>(size * 2);
+                    for (int index = 0; index < size; index++) {
+                        String key = dataInputStream.readUTF();
+                        long timestamp = dataInputStream.readLong();
+                        int length = dataInputStream.readInt();
+                        if (length < 0 || length > byteBuffer.remaining()) {
+                            throw new IOException("Corrupt type index: " + file);
+                        }
+                        ByteBuffer binaryRepresentation = byteBuffer.slice();
+                        binaryRepresentation.limit(length);
+                        byteBuffer.position(byteBuffer.position() + length);
+                        persistedEntries.put(key, new Entry(timestamp, binaryRepresentation));
+                    }
+                    return new Index(file, readerMode, persistedEntries);
+                } catch (EOFException exception) {
+                    throw new IOException("Corrupt type index: " + file, exception);
+                } finally {
+                    randomAccessFile.close();
+                }
+            }
+
+            /**
+             * Returns the reader mode of the type descriptions that are stored by this index.
+             *
+             * @return The reader mode of the type descriptions that are stored by this index.
+             */
+            public ReaderMode getReaderMode() {
+                return readerMode;
+            }
+
+            /**
+             * Returns the number of types that are contained in this index.
+             *
+             * @return The number of types that are contained in this index.
+             */
+            public int size() {
+                Set<String> keys = new HashSet<String>(persistedEntries.keySet());
+                keys.addAll(registeredEntries.keySet());
+                return keys.size();
+            }
+
+            /**
+             * Reads a type description from this index.
+             *
+             * @param typePool The type pool to be used for looking up linked types.
+             * @param name     The name of the type to read.
+             * @param stamp    A stamp that identifies the current version of the type's class file.
+             * @return A description of the type or {@code null} if the type's current version is not indexed or if its
+             * entry cannot be read such that the type needs to be parsed from its class file.
+             */
+            protected TypeDescription read(TypePool typePool, String name, Stamp stamp) {
+                String key = stamp.toKey(name);
+                Entry entry = registeredEntries.get(key);
+                if (entry == null) {
+                    entry = persistedEntries.get(key);
+                }
+                if (entry == null || entry.getTimestamp() != stamp.getTimestamp()) {
+                    return null;
+                }
+                try {
+                    return readType(typePool, new DataInputStream(new ByteBufferInputStream(entry.getBinaryRepresentation())));
+                } catch (IOException ignored) {
+                    return null;
+                } catch (RuntimeException ignored) {
+                    return null;
+                }
+            }
+
+            /**
+             * Registers a type description with this index. A type description that cannot be represented by this
+             * index, for example because it contains a string constant that exceeds the length of a modified UTF-8
+             * string, is not registered.
+             *
+             * @param name            The name of the type to register.
+             * @param stamp           A stamp that identifies the version of the type's class file.
+             * @param typeDescription The type description to register.
+             */
+            protected void register(String name, Stamp stamp, LazyTypeDescription typeDescription) {
+                ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+                try {
+                    DataOutputStream dataOutputStream = new DataOutputStream(byteArrayOutputStream);
+                    writeType(dataOutputStream, typeDescription);
+                    dataOutputStream.flush();
+                } catch (IOException ignored) {
+                    return;
+                } catch (IllegalArgumentException ignored) {
+                    return;
+                }
+                registeredEntries.put(stamp.toKey(name), new Entry(stamp.getTimestamp(), ByteBuffer.wrap(byteArrayOutputStream.toByteArray())));
+            }
+
+            /**
+             * Writes this index to its backing file. All types that were registered with this index are persisted
+             * together with any type that was read from the index file. The index file is replaced atomically where
+             * this is supported by the file system.
+             *
+             * @throws IOException If the index file cannot be written.
+             */
+            public synchronized void write() throws IOException {
+                Map<String, Entry> entries = new HashMap<String, Entry>(persistedEntries);
+                entries.putAll(registeredEntries);
+                File temporary = new File(file.getPath() + ".tmp");
+                DataOutputStream dataOutputStream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporary)));
+                try {
+                    dataOutputStream.writeInt(MAGIC);
+                    dataOutputStream.writeInt(VERSION);
+                    dataOutputStream.writeInt(readerMode.ordinal());
+                    dataOutputStream.writeInt(entries.size());
+                    byte[] buffer = new byte[1024];
+                    for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+                        ByteBuffer binaryRepresentation = entry.getValue().getBinaryRepresentation();
+                        dataOutputStream.writeUTF(entry.getKey());
+                        dataOutputStream.writeLong(entry.getValue().getTimestamp());
+                        dataOutputStream.writeInt(binaryRepresentation.remaining());
+                        while (binaryRepresentation.hasRemaining()) {
+                            int length = Math.min(buffer.length, binaryRepresentation.remaining());
+                            binaryRepresentation.get(buffer, 0, length);
+                            dataOutputStream.write(buffer, 0, length);
+                        }
+                    }
+                } finally {
+                    dataOutputStream.close();
+                }
+                if (!temporary.renameTo(file) && !(file.delete() && temporary.renameTo(file))) {
+                    throw new IOException("Cannot replace type index " + file);
+                }
+            }
+
+            /**
+             * Writes the tokens of a lazy type description.
+             *
+             * @param dataOutput      The data output to write to.
+             * @param typeDescription The type description to write.
+             * @throws IOException If an I/O error occurs.
+             */
+            private static void writeType(DataOutput dataOutput, LazyTypeDescription typeDescription) throws IOException {
+                dataOutput.writeInt(typeDescription.modifiers);
+                dataOutput.writeUTF(typeDescription.name);
+                writeNullable(dataOutput, typeDescription.superTypeName);
+                writeNullable(dataOutput, typeDescription.genericSignature);
+                writeNullable(dataOutput, typeDescription.interfaceInternalName);
+                if (typeDescription.declarationContext instanceof LazyTypeDescription.DeclarationContext.DeclaredInMethod) {
+                    LazyTypeDescription.DeclarationContext.DeclaredInMethod declarationContext
+                            = (LazyTypeDescription.DeclarationContext.DeclaredInMethod) typeDescription.declarationContext;
+                    dataOutput.writeByte(DeclarationContextSort.DECLARED_IN_METHOD.ordinal());
+                    dataOutput.writeUTF(declarationContext.name);
+                    dataOutput.writeUTF(declarationContext.methodName);
+                    dataOutput.writeUTF(declarationContext.methodDescriptor);
+                } else if (typeDescription.declarationContext instanceof LazyTypeDescription.DeclarationContext.DeclaredInType) {
+                    dataOutput.writeByte(DeclarationContextSort.DECLARED_IN_TYPE.ordinal());
+                    dataOutput.writeUTF(((LazyTypeDescription.DeclarationContext.DeclaredInType) typeDescription.declarationContext).name);
+                } else {
+                    dataOutput.writeByte(DeclarationContextSort.SELF_DECLARED.ordinal());
+                }
+                dataOutput.writeBoolean(typeDescription.anonymousType);
+                writeAnnotations(dataOutput, typeDescription.annotationTokens);
+                dataOutput.writeInt(typeDescription.fieldTokens.size());
+                for (LazyTypeDescription.FieldToken fieldToken : typeDescription.fieldTokens) {
+                    dataOutput.writeInt(fieldToken.getModifiers());
+                    dataOutput.writeUTF(fieldToken.getName());
+                    dataOutput.writeUTF(fieldToken.getDescriptor());
+                    writeNullable(dataOutput, fieldToken.getGenericSignature());
+                    writeAnnotations(dataOutput, fieldToken.getAnnotationTokens());
+                }
+                dataOutput.writeInt(typeDescription.methodTokens.size());
+                for (LazyTypeDescription.MethodToken methodToken : typeDescription.methodTokens) {
+                    dataOutput.writeInt(methodToken.getModifiers());
+                    dataOutput.writeUTF(methodToken.getName());
+                    dataOutput.writeUTF(methodToken.getDescriptor());
+                    writeNullable(dataOutput, methodToken.getGenericSignature());
+                    writeNullable(dataOutput, methodToken.getExceptionName());
+                    writeAnnotations(dataOutput, methodToken.getAnnotationTokens());
+                    dataOutput.writeInt(methodToken.getParameterAnnotationTokens().size());
+                    for (Map.Entry<Integer, List<LazyTypeDescription.AnnotationToken>> entry : methodToken.getParameterAnnotationTokens().entrySet()) {
+                        dataOutput.writeInt(entry.getKey());
+                        writeAnnotations(dataOutput, entry.getValue());
+                    }
+                    dataOutput.writeInt(methodToken.getParameterTokens().size());
+                    for (LazyTypeDescription.MethodToken.ParameterToken parameterToken : methodToken.getParameterTokens()) {
+                        writeNullable(dataOutput, parameterToken.getName());
+                        dataOutput.writeInt(parameterToken.getModifiers() == null ? ABSENT : parameterToken.getModifiers());
+                    }
+                    dataOutput.writeBoolean(methodToken.getDefaultValue() != null);
+                    if (methodToken.getDefaultValue() != null) {
+                        writeAnnotationValue(dataOutput, methodToken.getDefaultValue());
+                    }
+                }
+            }
+
+            /**
+             * Reads the tokens of a lazy type description.
+             *
+             * @param typePool  The type pool to be used for looking up linked types.
+             * @param dataInput The data input to read from.
+             * @return A lazy type description of the read tokens.
+             * @throws IOException If an I/O error occurs.
+             */
+            private static LazyTypeDescription readType(TypePool typePool, DataInput dataInput) throws IOException {
+                int modifiers = dataInput.readInt();
+                String name = dataInput.readUTF();
+                String superTypeName = readNullableString(dataInput);
+                String genericSignature = readNullableString(dataInput);
+                String[] interfaceName = readNullableStrings(dataInput);
+                LazyTypeDescription.DeclarationContext declarationContext;
+                switch (DeclarationContextSort.values()[dataInput.readByte()]) {
+                    case DECLARED_IN_METHOD:
+                        declarationContext = new LazyTypeDescription.DeclarationContext.DeclaredInMethod(dataInput.readUTF(),
+                                dataInput.readUTF(),
+                                dataInput.readUTF());
+                        break;
+                    case DECLARED_IN_TYPE:
+                        declarationContext = new LazyTypeDescription.DeclarationContext.DeclaredInType(dataInput.readUTF());
+                        break;
+                    default:
+                        declarationContext = LazyTypeDescription.DeclarationContext.SelfDeclared.INSTANCE;
+                }
+                boolean anonymousType = dataInput.readBoolean();
+                List<LazyTypeDescription.AnnotationToken> annotationTokens = readAnnotations(typePool, dataInput);
+                int fieldCount = dataInput.readInt();
+                List<LazyTypeDescription.FieldToken> fieldTokens = new ArrayList<LazyTypeDescription.FieldToken>(fieldCount);
+                for (int index = 0; index < fieldCount; index++) {
+                    fieldTokens.add(new LazyTypeDescription.FieldToken(dataInput.readInt(),
+                            dataInput.readUTF(),
+                            dataInput.readUTF(),
+                            readNullableString(dataInput),
+                            readAnnotations(typePool, dataInput)));
+                }
+                int methodCount = dataInput.readInt();
+                List<LazyTypeDescription.MethodToken> methodTokens = new ArrayList<LazyTypeDescription.MethodToken>(methodCount);
+                for (int index = 0; index < methodCount; index++) {
+                    int methodModifiers = dataInput.readInt();
+                    String methodName = dataInput.readUTF();
+                    String methodDescriptor = dataInput.readUTF();
+                    String methodGenericSignature = readNullableString(dataInput);
+                    String[] exceptionName = readNullableStrings(dataInput);
+                    List<LazyTypeDescription.AnnotationToken> methodAnnotationTokens = readAnnotations(typePool, dataInput);
+                    int parameterAnnotationCount = dataInput.readInt();
+                    Map<Integer, List<LazyTypeDescription.AnnotationToken>> parameterAnnotationTokens = parameterAnnotationCount == 0
+                            ? Collections.<Integer, List<LazyTypeDescription.AnnotationToken>>emptyMap()
+                            : new HashMap<Integer, List<LazyTypeDescription.AnnotationToken>>();
+                    for (int parameterIndex = 0; parameterIndex < parameterAnnotationCount; parameterIndex++) {
+                        parameterAnnotationTokens.put(dataInput.readInt(), readAnnotations(typePool, dataInput));
+                    }
+                    int parameterCount = dataInput.readInt();
+                    List<LazyTypeDescription.MethodToken.ParameterToken> parameterTokens = parameterCount == 0
+                            ? Collections.<LazyTypeDescription.MethodToken.ParameterToken>emptyList()
+                            : new ArrayList<LazyTypeDescription.MethodToken.ParameterToken>(parameterCount);
+                    for (int parameterIndex = 0; parameterIndex < parameterCount; parameterIndex++) {
+                        String parameterName = readNullableString(dataInput);
+                        int parameterModifiers = dataInput.readInt();
+                        parameterTokens.add(new LazyTypeDescription.MethodToken.ParameterToken(parameterName, parameterModifiers == ABSENT
+                                ? LazyTypeDescription.MethodToken.ParameterToken.NO_MODIFIERS
+                                : Integer.valueOf(parameterModifiers)));
+                    }
+                    methodTokens.add(new LazyTypeDescription.MethodToken(methodModifiers,
+                            methodName,
+                            methodDescriptor,
+                            methodGenericSignature,
+                            exceptionName,
+                            methodAnnotationTokens,
+                            parameterAnnotationTokens,
+                            parameterTokens,
+                            dataInput.readBoolean() ? readAnnotationValue(typePool, dataInput) : null));
+                }
+                return new LazyTypeDescription(typePool,
+                        modifiers,
+                        name,
+                        superTypeName,
+                        genericSignature,
+                        interfaceName,
+                        declarationContext,
+                        anonymousType,
+                        annotationTokens,
+                        fieldTokens,
+                        methodTokens);
+            }
+
+            /**
+             * Writes a list of annotation tokens.
+             *
+             * @param dataOutput       The data output to write to.
+             * @param annotationTokens The annotation tokens to write.
+             * @throws IOException If an I/O error occurs.
+             */
+            private static void writeAnnotations(DataOutput dataOutput, List<LazyTypeDescription.AnnotationToken> annotationTokens) throws IOException {
+                dataOutput.writeInt(annotationTokens.size());
+                for (LazyTypeDescription.AnnotationToken annotationToken : annotationTokens) {
+                    writeAnnotation(dataOutput, annotationToken);
+                }
+            }
+
+            /**
+             * Reads a list of annotation tokens.
+             *
+             * @param typePool  The type pool to be used for looking up linked types.
+             * @param dataInput The data input to read from.
+             * @return The read list of annotation tokens.
+             * @throws IOException If an I/O error occurs.
+             */
+            private static List<LazyTypeDescription.AnnotationToken> readAnnotations(TypePool typePool, DataInput dataInput) throws IOException {
+                int size = dataInput.readInt();
+                if (size == 0) {
+                    return Collections.emptyList();
+                }
+                List<LazyTypeDescription.AnnotationToken> annotationTokens = new ArrayList<LazyTypeDescription.AnnotationToken>(size);
+                for (int index = 0; index < size; index++) {
+                    annotationTokens.add(readAnnotation(typePool, dataInput));
+                }
+                return annotationTokens;
+            }
+
+            /**
+             * Writes an annotation token.
+             *
+             * @param dataOutput      The data output to write to.
+             * @param annotationToken The annotation token to write.
+             * @throws IOException If an I/O error occurs.
+             */
+            private static void writeAnnotation(DataOutput dataOutput, LazyTypeDescription.AnnotationToken annotationToken) throws IOException {
+                dataOutput.writeUTF(annotationToken.getDescriptor());
+                dataOutput.writeInt(annotationToken.getValues().size());
+                for (Map.Entry<String, LazyTypeDescription.AnnotationValue<?, ?>> entry : annotationToken.getValues().entrySet()) {
+                    dataOutput.writeUTF(entry.getKey());
+                    writeAnnotationValue(dataOutput, entry.getValue());
+                }
+            }
+
+            /**
+             * Reads an annotation token.
+             *
+             * @param typePool  The type pool to be used for looking up linked types.
+             * @param dataInput The data input to read from.
+             * @return The read annotation token.
+             * @throws IOException If an I/O error occurs.
+             */
+            private static LazyTypeDescription.AnnotationToken readAnnotation(TypePool typePool, DataInput dataInput) throws IOException {
+                String descriptor = dataInput.readUTF();
+                int size = dataInput.readInt();
+                Map<String, LazyTypeDescription.AnnotationValue<?, ?>> values = size == 0
+                        ? Collections.<String, LazyTypeDescription.AnnotationValue<?, ?>>emptyMap()
+                        : new LinkedHashMap<String, LazyTypeDescription.AnnotationValue<?, ?>>();
+                for (int index = 0; index < size; index++) {
+                    values.put(dataInput.readUTF(), readAnnotationValue(typePool, dataInput));
+                }
+                return new LazyTypeDescription.AnnotationToken(descriptor, values);
+            }
+
+            /**
+             * Writes an annotation value.
+             *
+             * @param dataOutput      The data output to write to.
+             * @param annotationValue The annotation value to write.
+             * @throws IOException If an I/O error occurs.
+             */
+            private static void writeAnnotationValue(DataOutput dataOutput, LazyTypeDescription.AnnotationValue<?, ?> annotationValue) throws IOException {
+                if (annotationValue instanceof LazyTypeDescription.AnnotationValue.Trivial) {
+                    dataOutput.writeByte(AnnotationValueSort.TRIVIAL.ordinal());
+                    writeConstant(dataOutput, ((LazyTypeDescription.AnnotationValue.Trivial<?>) annotationValue).value);
+                } else if (annotationValue instanceof LazyTypeDescription.AnnotationValue.ForAnnotation) {
+                    dataOutput.writeByte(AnnotationValueSort.ANNOTATION.ordinal());
+                    writeAnnotation(dataOutput, ((LazyTypeDescription.AnnotationValue.ForAnnotation) annotationValue).annotationToken);
+                } else if (annotationValue instanceof LazyTypeDescription.AnnotationValue.ForEnumeration) {
+                    dataOutput.writeByte(AnnotationValueSort.ENUMERATION.ordinal());
+                    dataOutput.writeUTF(((LazyTypeDescription.AnnotationValue.ForEnumeration) annotationValue).descriptor);
+                    dataOutput.writeUTF(((LazyTypeDescription.AnnotationValue.ForEnumeration) annotationValue).value);
+                } else if (annotationValue instanceof LazyTypeDescription.AnnotationValue.ForType) {
+                    String name = ((LazyTypeDescription.AnnotationValue.ForType) annotationValue).name;
+                    TypeDescription primitiveType = PRIMITIVE_TYPES.get(name);
+                    dataOutput.writeByte(AnnotationValueSort.TYPE.ordinal());
+                    dataOutput.writeUTF(primitiveType == null
+                            ? (name.startsWith("[") ? name.replace('.', '/') : "L" + name.replace('.', '/') + ";")
+                            : primitiveType.getDescriptor());
+                } else if (annotationValue instanceof LazyTypeDescription.AnnotationValue.ForComplexArray) {
+                    LazyTypeDescription.AnnotationValue.ForComplexArray complexArray = (LazyTypeDescription.AnnotationValue.ForComplexArray) annotationValue;
+                    dataOutput.writeByte(AnnotationValueSort.COMPLEX_ARRAY.ordinal());
+                    if (complexArray.componentTypeReference instanceof ComponentTypeLocator.ForAnnotationProperty.Bound) {
+                        ComponentTypeLocator.ForAnnotationProperty.Bound bound = (ComponentTypeLocator.ForAnnotationProperty.Bound) complexArray.componentTypeReference;
+                        dataOutput.writeBoolean(true);
+                        dataOutput.writeUTF(bound.getOuter().annotationName);
+                        dataOutput.writeUTF(bound.name);
+                    } else {
+                        dataOutput.writeBoolean(false);
+                        dataOutput.writeUTF(complexArray.componentTypeReference.lookup());
+                    }
+                    dataOutput.writeInt(complexArray.value.size());
+                    for (LazyTypeDescription.AnnotationValue<?, ?> value : complexArray.value) {
+                        writeAnnotationValue(dataOutput, value);
+                    }
+                } else {
+                    throw new IllegalArgumentException("Cannot index annotation value: " + annotationValue);
+                }
+            }
+
+            /**
+             * Reads an annotation value.
+             *
+             * @param typePool  The type pool to be used for looking up linked types.
+             * @param dataInput The data input to read from.
+             * @return The read annotation value.
+             * @throws IOException If an I/O error occurs.
+             */
+            private static LazyTypeDescription.AnnotationValue<?, ?> readAnnotationValue(TypePool typePool, DataInput dataInput) throws IOException {
+                switch (AnnotationValueSort.values()[dataInput.readByte()]) {
+                    case TRIVIAL:
+                        return new LazyTypeDescription.AnnotationValue.Trivial<Object>(readConstant(dataInput));
+                    case ANNOTATION:
+                        return new LazyTypeDescription.AnnotationValue.ForAnnotation(readAnnotation(typePool, dataInput));
+                    case ENUMERATION:
+                        return new LazyTypeDescription.AnnotationValue.ForEnumeration(dataInput.readUTF(), dataInput.readUTF());
+                    case TYPE:
+                        return new LazyTypeDescription.AnnotationValue.ForType(Type.getType(dataInput.readUTF()));
+                    case COMPLEX_ARRAY:
+                        LazyTypeDescription.AnnotationValue.ForComplexArray.ComponentTypeReference componentTypeReference = dataInput.readBoolean()
+                                ? new ComponentTypeLocator.ForAnnotationProperty(typePool, "L" + dataInput.readUTF().replace('.', '/') + ";").bind(dataInput.readUTF())
+                                : new ComponentTypeLocator.ForArrayType("()[L" + dataInput.readUTF().replace('.', '/') + ";");
+                        int size = dataInput.readInt();
+                        List<LazyTypeDescription.AnnotationValue<?, ?>> values = new ArrayList<LazyTypeDescription.AnnotationValue<?, ?>>(size);
+                        for (int index = 0; index < size; index++) {
+                            values.add(readAnnotationValue(typePool, dataInput));
+                        }
+                        return new LazyTypeDescription.AnnotationValue.ForComplexArray(componentTypeReference, values);
+                    default:
+                        throw new IOException("Unexpected annotation value");
+                }
+            }
+
+            /**
+             * Writes a constant annotation value, i.e. a primitive value, a string or an array of such values.
+             *
+             * @param dataOutput The data output to write to.
+             * @param value      The value to write.
+             * @throws IOException If an I/O error occurs.
+             */
+            private static void writeConstant(DataOutput dataOutput, Object value) throws IOException {
+                ConstantSort constantSort = ConstantSort.of(value.getClass());
+                dataOutput.writeByte(constantSort.ordinal());
+                if (value.getClass().isArray()) {
+                    int length = Array.getLength(value);
+                    dataOutput.writeInt(length);
+                    for (int index = 0; index < length; index++) {
+                        constantSort.write(dataOutput, Array.get(value, index));
+                    }
+                } else {
+                    constantSort.write(dataOutput, value);
+                }
+            }
+
+            /**
+             * Reads a constant annotation value, i.e. a primitive value, a string or an array of such values.
+             *
+             * @param dataInput The data input to read from.
+             * @return The read value.
+             * @throws IOException If an I/O error occurs.
+             */
+            private static Object readConstant(DataInput dataInput) throws IOException {
+                ConstantSort constantSort = ConstantSort.values()[dataInput.readByte()];
+                if (constantSort.isArray()) {
+                    int length = dataInput.readInt();
+                    Object array = Array.newInstance(constantSort.getType().getComponentType(), length);
+                    for (int index = 0; index < length; index++) {
+                        Array.set(array, index, constantSort.read(dataInput));
+                    }
+                    return array;
+                } else {
+                    return constantSort.read(dataInput);
+                }
+            }
+
+            /**
+             * Writes a string that might be {@code null}.
+             *
+             * @param dataOutput The data output to write to.
+             * @param value      The value to write or {@code null}.
+             * @throws IOException If an I/O error occurs.
+             */
+            private static void writeNullable(DataOutput dataOutput, String value) throws IOException {
+                dataOutput.writeBoolean(value != null);
+                if (value != null) {
+                    dataOutput.writeUTF(value);
+                }
+            }
+
+            /**
+             * Writes an array of strings that might be {@code null}.
+             *
+             * @param dataOutput The data output to write to.
+             * @param value      The values to write or {@code null}.
+             * @throws IOException If an I/O error occurs.
+             */
+            private static void writeNullable(DataOutput dataOutput, String[] value) throws IOException {
+                dataOutput.writeInt(value == null ? ABSENT : value.length);
+                if (value != null) {
+                    for (String aValue : value) {
+                        dataOutput.writeUTF(aValue);
+                    }
+                }
+            }
+
+            /**
+             * Reads a string that might be {@code null}.
+             *
+             * @param dataInput The data input to read from.
+             * @return The read string or {@code null}.
+             * @throws IOException If an I/O error occurs.
+             */
+            private static String readNullableString(DataInput dataInput) throws IOException {
+                return dataInput.readBoolean()
+                        ? dataInput.readUTF()
+                        : null;
+            }
+
+            /**
+             * Reads an array of strings that might be {@code null}.
+             *
+             * @param dataInput The data input to read from.
+             * @return The read strings or {@code null}.
+             * @throws IOException If an I/O error occurs.
+             */
+            private static String[] readNullableStrings(DataInput dataInput) throws IOException {
+                int length = dataInput.readInt();
+                if (length == ABSENT) {
+                    return null;
+                }
+                String[] value = new String[length];
+                for (int index = 0; index < length; index++) {
+                    value[index] = dataInput.readUTF();
+                }
+                return value;
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                return this == other || !(other == null || getClass() != other.getClass())
+                        && file.equals(((Index) other).file)
+                        && readerMode == ((Index) other).readerMode;
+            }
+
+            @Override
+            public int hashCode() {
+                return 31 * file.hashCode() + readerMode.hashCode();
+            }
+
+            @Override
+            public String toString() {
+                return "TypePool.Indexed.Index{" +
+                        "file=" + file +
+                        ", readerMode=" + readerMode +
+                        ", persistedEntries=" + persistedEntries.size() +
+                        ", registeredEntries=" + registeredEntries.size() +
+                        '}';
+            }
+
+            /**
+             * Identifies the version of a class file by its location and this location's modification time.
+             */
+            protected static class Stamp {
+
+                /**
+                 * The location of the class file, i.e. the URL of a jar file or of a class file.
+                 */
+                private final String location;
+
+                /**
+                 * The modification time of the location.
+                 */
+                private final long timestamp;
+
+                /**
+                 * Creates a new stamp.
+                 *
+                 * @param location  The location of the class file, i.e. the URL of a jar file or of a class file.
+                 * @param timestamp The modification time of the location.
+                 */
+                protected Stamp(String location, long timestamp) {
+                    this.location = location;
+                    this.timestamp = timestamp;
+                }
+
+                /**
+                 * Returns the modification time of the location.
+                 *
+                 * @return The modification time of the location.
+                 */
+                protected long getTimestamp() {
+                    return timestamp;
+                }
+
+                /**
+                 * Returns the key of an index entry for a type at this stamp's location.
+                 *
+                 * @param name The name of the type.
+                 * @return The key of the index entry for the type.
+                 */
+                protected String toKey(String name) {
+                    return location + KEY_SEPARATOR + name;
+                }
+
+                @Override
+                public boolean equals(Object other) {
+                    return this == other || !(other == null || getClass() != other.getClass())
+                            && timestamp == ((Stamp) other).timestamp
+                            && location.equals(((Stamp) other).location);
+                }
+
+                @Override
+                public int hashCode() {
+                    return 31 * location.hashCode() + (int) (timestamp ^ (timestamp >>> 32));
+                }
+
+                @Override
+                public String toString() {
+                    return "TypePool.Indexed.Index.Stamp{" +
+                            "location='" + location + '\'' +
+                            ", timestamp=" + timestamp +
+                            '}';
+                }
+            }
+
+            /**
+             * An entry of an index that contains the binary representation of a type's tokens.
+             */
+            protected static class Entry {
+
+                /**
+                 * The modification time of the location of the type's class file when the type was indexed.
+                 */
+                private final long timestamp;
+
+                /**
+                 * The binary representation of the type's tokens.
+                 */
+                private final ByteBuffer binaryRepresentation;
+
+                /**
+                 * Creates a new entry.
+                 *
+                 * @param timestamp            The modification time of the location of the type's class file when
+                 *                             the type was indexed.
+                 * @param binaryRepresentation The binary representation of the type's tokens.
+                 */
+                protected Entry(long timestamp, ByteBuffer binaryRepresentation) {
+                    this.timestamp = timestamp;
+                    this.binaryRepresentation = binaryRepresentation;
+                }
+
+                /**
+                 * Returns the modification time of the location of the type's class file when the type was indexed.
+                 *
+                 * @return The modification time of the location of the type's class file when the type was indexed.
+                 */
+                protected long getTimestamp() {
+                    return timestamp;
+                }
+
+                /**
+                 * Returns a view of the binary representation of the type's tokens with an independent position.
+                 *
+                 * @return A view of the binary representation of the type's tokens.
+                 */
+                protected ByteBuffer getBinaryRepresentation() {
+                    return binaryRepresentation.duplicate();
+                }
+
+                @Override
+                public boolean equals(Object other) {
+                    return this == other || !(other == null || getClass() != other.getClass())
+                            && timestamp == ((Entry) other).timestamp
+                            && binaryRepresentation.equals(((Entry) other).binaryRepresentation);
+                }
+
+                @Override
+                public int hashCode() {
+                    return 31 * binaryRepresentation.hashCode() + (int) (timestamp ^ (timestamp >>> 32));
+                }
+
+                @Override
+                public String toString() {
+                    return "TypePool.Indexed.Index.Entry{" +
+                            "timestamp=" + timestamp +
+                            ", binaryRepresentation=" + binaryRepresentation +
+                            '}';
+                }
+            }
+
+            /**
+             * An input stream that reads from a byte buffer.
+             */
+            protected static class ByteBufferInputStream extends InputStream {
+
+                /**
+                 * The byte buffer to read from.
+                 */
+                private final ByteBuffer byteBuffer;
+
+                /**
+                 * Creates a new input stream for a byte buffer.
+                 *
+                 * @param byteBuffer The byte buffer to read from.
+                 */
+                protected ByteBufferInputStream(ByteBuffer byteBuffer) {
+                    this.byteBuffer = byteBuffer;
+                }
+
+                @Override
+                public int read() {
+                    return byteBuffer.hasRemaining()
+                            ? byteBuffer.get() & 0xFF
+                            : -1;
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    if (length == 0) {
+                        return 0;
+                    } else if (!byteBuffer.hasRemaining()) {
+                        return -1;
+                    }
+                    length = Math.min(length, byteBuffer.remaining());
+                    byteBuffer.get(buffer, offset, length);
+                    return length;
+                }
+
+                @Override
+                public int available() {
+                    return byteBuffer.remaining();
+                }
+
+                @Override
+                public String toString() {
+                    return "TypePool.Indexed.Index.ByteBufferInputStream{" +
+                            "byteBuffer=" + byteBuffer +
+                            '}';
+                }
+            }
+
+            /**
+             * Describes the sort of a type's declaration context within an index.
+             */
+            protected enum DeclarationContextSort {
+
+                /**
+                 * Represents a {@link net.bytebuddy.pool.TypePool.LazyTypeDescription.DeclarationContext.SelfDeclared}
+                 * context.
+                 */
+                SELF_DECLARED,
+
+                /**
+                 * Represents a {@link net.bytebuddy.pool.TypePool.LazyTypeDescription.DeclarationContext.DeclaredInType}
+                 * context.
+                 */
+                DECLARED_IN_TYPE,
+
+                /**
+                 * Represents a {@link net.bytebuddy.pool.TypePool.LazyTypeDescription.DeclarationContext.DeclaredInMethod}
+                 * context.
+                 */
+                DECLARED_IN_METHOD;
+
+                @Override
+                public String toString() {
+                    return "TypePool.Indexed.Index.DeclarationContextSort." + name();
+                }
+            }
+
+            /**
+             * Describes the sort of an annotation value within an index.
+             */
+            protected enum AnnotationValueSort {
+
+                /**
+                 * Represents a {@link net.bytebuddy.pool.TypePool.LazyTypeDescription.AnnotationValue.Trivial} value.
+                 */
+                TRIVIAL,
+
+                /**
+                 * Represents a {@link net.bytebuddy.pool.TypePool.LazyTypeDescription.AnnotationValue.ForAnnotation} value.
+                 */
+                ANNOTATION,
+
+                /**
+                 * Represents a {@link net.bytebuddy.pool.TypePool.LazyTypeDescription.AnnotationValue.ForEnumeration} value.
+                 */
+                ENUMERATION,
+
+                /**
+                 * Represents a {@link net.bytebuddy.pool.TypePool.LazyTypeDescription.AnnotationValue.ForType} value.
+                 */
+                TYPE,
+
+                /**
+                 * Represents a {@link net.bytebuddy.pool.TypePool.LazyTypeDescription.AnnotationValue.ForComplexArray} value.
+                 */
+                COMPLEX_ARRAY;
+
+                @Override
+                public String toString() {
+                    return "TypePool.Indexed.Index.AnnotationValueSort." + name();
+                }
+            }
+
+            /**
+             * Describes the sort of a constant annotation value within an index and is responsible for writing and
+             * reading such values.
+             */
+            protected enum ConstantSort {
+
+                /**
+                 * Represents a {@code boolean} value.
+                 */
+                BOOLEAN(Boolean.class),
+
+                /**
+                 * Represents a {@code byte} value.
+                 */
+                BYTE(Byte.class),
+
+                /**
+                 * Represents a {@code short} value.
+                 */
+                SHORT(Short.class),
+
+                /**
+                 * Represents a {@code char} value.
+                 */
+                CHARACTER(Character.class),
+
+                /**
+                 * Represents an {@code int} value.
+                 */
+                INTEGER(Integer.class),
+
+                /**
+                 * Represents a {@code long} value.
+                 */
+                LONG(Long.class),
+
+                /**
+                 * Represents a {@code float} value.
+                 */
+                FLOAT(Float.class),
+
+                /**
+                 * Represents a {@code double} value.
+                 */
+                DOUBLE(Double.class),
+
+                /**
+                 * Represents a {@link java.lang.String} value.
                  */
-                protected class OnMethodCollector implements AnnotationRegistrant {
+                STRING(String.class),
 
-                    /**
-                     * The descriptor of the annotation.
-                     */
-                    private final String descriptor;
+                /**
+                 * Represents a {@code boolean} array.
+                 */
+                BOOLEAN_ARRAY(boolean[].class),
 
-                    /**
-                     * A mapping of annotation properties to their values.
-                     */
-                    private final Map<String, LazyTypeDescription.AnnotationValue<?, ?>> values;
+                /**
+                 * Represents a {@code byte} array.
+                 */
+                BYTE_ARRAY(byte[].class),
 
-                    /**
-                     * Creates a new method annotation registrant.
-                     *
-                     * @param descriptor The descriptor of the annotation.
-                     */
-                    protected OnMethodCollector(String descriptor) {
-                        this.descriptor = descriptor;
-                        values = new HashMap<String, LazyTypeDescription.AnnotationValue<?, ?>>();
-                    }
+                /**
+                 * Represents a {@code short} array.
+                 */
+                SHORT_ARRAY(short[].class),
 
-                    @Override
-                    public void register(String name, LazyTypeDescription.AnnotationValue<?, ?> annotationValue) {
-                        values.put(name, annotationValue);
-                    }
+                /**
+                 * Represents a {@code char} array.
+                 */
+                CHARACTER_ARRAY(char[].class),
 
-                    @Override
-                    public void onComplete() {
-                        annotationTokens.add(new LazyTypeDescription.AnnotationToken(descriptor, values));
-                    }
+                /**
+                 * Represents an {@code int} array.
+                 */
+                INTEGER_ARRAY(int[].class),
 
-                    @Override
-                    public String toString() {
-                        return "TypePool.Default.TypeExtractor.MethodExtractor.OnMethodCollector{" +
-                                "methodExtractor=" + MethodExtractor.this +
-                                ", descriptor='" + descriptor + '\'' +
-                                ", values=" + values +
-                                '}';
-                    }
-                }
+                /**
+                 * Represents a {@code long} array.
+                 */
+                LONG_ARRAY(long[].class),
 
                 /**
-                 * An annotation registrant that collects annotations that are found on a specific parameter.
+                 * Represents a {@code float} array.
                  */
-                protected class OnMethodParameterCollector implements AnnotationRegistrant {
+                FLOAT_ARRAY(float[].class),
 
-                    /**
-                     * The descriptor of the annotation.
-                     */
-                    private final String descriptor;
+                /**
+                 * Represents a {@code double} array.
+                 */
+                DOUBLE_ARRAY(double[].class),
 
-                    /**
-                     * The index of the parameter of this annotation.
-                     */
-                    private final int index;
+                /**
+                 * Represents a {@link java.lang.String} array.
+                 */
+                STRING_ARRAY(String[].class);
 
-                    /**
-                     * A mapping of annotation properties to their values.
-                     */
-                    private final Map<String, LazyTypeDescription.AnnotationValue<?, ?>> values;
+                /**
+                 * The type of the represented value.
+                 */
+                private final Class<?> type;
 
-                    /**
-                     * Creates a new method parameter annotation registrant.
-                     *
-                     * @param descriptor The descriptor of the annotation.
-                     * @param index      The index of the parameter of this annotation.
-                     */
-                    protected OnMethodParameterCollector(String descriptor, int index) {
-                        this.descriptor = descriptor;
-                        this.index = index;
-                        values = new HashMap<String, LazyTypeDescription.AnnotationValue<?, ?>>();
-                    }
+                /**
+                 * Creates a new constant sort.
+                 *
+                 * @param type The type of the represented value.
+                 */
+                ConstantSort(Class<?> type) {
+                    this.type = type;
+                }
 
-                    @Override
-                    public void register(String name, LazyTypeDescription.AnnotationValue<?, ?> annotationValue) {
-                        values.put(name, annotationValue);
+                /**
+                 * Locates the constant sort for a given type.
+                 *
+                 * @param type The type of a constant value.
+                 * @return The constant sort that represents the given type.
+                 */
+                protected static ConstantSort of(Class<?> type) {
+                    for (ConstantSort constantSort : values()) {
+                        if (constantSort.type == type) {
+                            return constantSort;
+                        }
                     }
+                    throw new IllegalArgumentException("Cannot index constant of type " + type);
+                }
 
-                    @Override
-                    public void onComplete() {
-                        parameterAnnotationTokens.get(index).add(new LazyTypeDescription.AnnotationToken(descriptor, values));
+                /**
+                 * Returns the type of the represented value.
+                 *
+                 * @return The type of the represented value.
+                 */
+                protected Class<?> getType() {
+                    return type;
+                }
+
+                /**
+                 * Returns {@code true} if this sort represents an array.
+                 *
+                 * @return {@code true} if this sort represents an array.
+                 */
+                protected boolean isArray() {
+                    return type.isArray();
+                }
+
+                /**
+                 * Writes a single value or array element of this sort.
+                 *
+                 * @param dataOutput The data output to write to.
+                 * @param value      The value to write.
+                 * @throws IOException If an I/O error occurs.
+                 */
+                protected void write(DataOutput dataOutput, Object value) throws IOException {
+                    switch (this) {
+                        case BOOLEAN:
+                        case BOOLEAN_ARRAY:
+                            dataOutput.writeBoolean((Boolean) value);
+                            break;
+                        case BYTE:
+                        case BYTE_ARRAY:
+                            dataOutput.writeByte((Byte) value);
+                            break;
+                        case SHORT:
+                        case SHORT_ARRAY:
+                            dataOutput.writeShort((Short) value);
+                            break;
+                        case CHARACTER:
+                        case CHARACTER_ARRAY:
+                            dataOutput.writeChar((Character) value);
+                            break;
+                        case INTEGER:
+                        case INTEGER_ARRAY:
+                            dataOutput.writeInt((Integer) value);
+                            break;
+                        case LONG:
+                        case LONG_ARRAY:
+                            dataOutput.writeLong((Long) value);
+                            break;
+                        case FLOAT:
+                        case FLOAT_ARRAY:
+                            dataOutput.writeFloat((Float) value);
+                            break;
+                        case DOUBLE:
+                        case DOUBLE_ARRAY:
+                            dataOutput.writeDouble((Double) value);
+                            break;
+                        default:
+                            dataOutput.writeUTF((String) value);
                     }
+                }
 
-                    @Override
-                    public String toString() {
-                        return "TypePool.Default.TypeExtractor.MethodExtractor.OnMethodParameterCollector{" +
-                                "methodExtractor=" + MethodExtractor.this +
-                                ", descriptor='" + descriptor + '\'' +
-                                ", index=" + index +
-                                ", values=" + values +
-                                '}';
+                /**
+                 * Reads a single value or array element of this sort.
+                 *
+                 * @param dataInput The data input to read from.
+                 * @return The read value.
+                 * @throws IOException If an I/O error occurs.
+                 */
+                protected Object read(DataInput dataInput) throws IOException {
+                    switch (this) {
+                        case BOOLEAN:
+                        case BOOLEAN_ARRAY:
+                            return dataInput.readBoolean();
+                        case BYTE:
+                        case BYTE_ARRAY:
+                            return dataInput.readByte();
+                        case SHORT:
+                        case SHORT_ARRAY:
+                            return dataInput.readShort();
+                        case CHARACTER:
+                        case CHARACTER_ARRAY:
+                            return dataInput.readChar();
+                        case INTEGER:
+                        case INTEGER_ARRAY:
+                            return dataInput.readInt();
+                        case LONG:
+                        case LONG_ARRAY:
+                            return dataInput.readLong();
+                        case FLOAT:
+                        case FLOAT_ARRAY:
+                            return dataInput.readFloat();
+                        case DOUBLE:
+                        case DOUBLE_ARRAY:
+                            return dataInput.readDouble();
+                        default:
+                            return dataInput.readUTF();
                     }
                 }
+
+                @Override
+                public String toString() {
+                    return "TypePool.Indexed.Index.ConstantSort." + name();
+                }
             }
         }
     }
@@ -1639,7 +3156,9 @@ public interface TypePool {
     /**
      * A type description that looks up any referenced {@link net.bytebuddy.instrumentation.ByteCodeElement}s or
      * {@link net.bytebuddy.instrumentation.attribute.annotation.AnnotationDescription}s by querying a type pool
-     * at lookup time.
+     * at lookup time. In order to keep the memory footprint of a long-lived type pool small, a lazy type description
+     * only retains the tokens that were collected when parsing a class file where names and descriptors are interned.
+     * Field, method, parameter and annotation descriptions are only created from these tokens when they are requested.
      */
     class LazyTypeDescription extends TypeDescription.AbstractTypeDescription.OfSimpleType {
 
@@ -1658,6 +3177,16 @@ public interface TypePool {
          */
         private final String name;
 
+        /**
+         * The internal name of this type.
+         */
+        private final String internalName;
+
+        /**
+         * The descriptor of this type or {@code null} if it was not yet computed.
+         */
+        private String descriptor;
+
         /**
          * The binary name of the super type of this type or {@code null} if no such type exists.
          */
@@ -1680,19 +3209,19 @@ public interface TypePool {
         private final boolean anonymousType;
 
         /**
-         * A list of annotation descriptions that are declared by this type.
+         * A list of annotation tokens representing the annotations that are declared by this type.
          */
-        private final List<AnnotationDescription> declaredAnnotations;
+        private final List<AnnotationToken> annotationTokens;
 
         /**
-         * A list of field descriptions that are declared by this type.
+         * A list of field tokens representing the fields that are declared by this type.
          */
-        private final List<FieldDescription> declaredFields;
+        private final List<FieldToken> fieldTokens;
 
         /**
-         * A list of method descriptions that are declared by this type.
+         * A list of method tokens representing the methods that are declared by this type.
          */
-        private final List<MethodDescription> declaredMethods;
+        private final List<MethodToken> methodTokens;
 
         /**
          * The generic signature of the type or {@code null} if the code is not generic.
@@ -1730,23 +3259,39 @@ public interface TypePool {
             this.typePool = typePool;
             this.modifiers = modifiers;
             this.name = name.replace('/', '.');
-            this.superTypeName = superTypeName == null ? null : superTypeName.replace('/', '.');
+            internalName = name;
+            this.superTypeName = superTypeName == null ? null : superTypeName.replace('/', '.').intern();
+            if (interfaceName != null) {
+                for (int index = 0; index < interfaceName.length; index++) {
+                    interfaceName[index] = interfaceName[index].intern();
+                }
+            }
             this.interfaceInternalName = interfaceName;
             this.declarationContext = declarationContext;
             this.anonymousType = anonymousType;
-            declaredAnnotations = new ArrayList<AnnotationDescription>(annotationTokens.size());
-            for (AnnotationToken annotationToken : annotationTokens) {
-                declaredAnnotations.add(annotationToken.toAnnotationDescription(typePool));
-            }
-            declaredFields = new ArrayList<FieldDescription>(fieldTokens.size());
-            for (FieldToken fieldToken : fieldTokens) {
-                declaredFields.add(fieldToken.toFieldDescription(this));
+            this.annotationTokens = annotationTokens;
+            this.fieldTokens = fieldTokens;
+            this.methodTokens = methodTokens;
+            this.genericSignature = genericSignature;
+        }
+
+        /**
+         * Transforms a list of annotation tokens into a list of annotation descriptions. The annotation descriptions
+         * are only created when this method is invoked such that a type description does not need to retain them.
+         *
+         * @param typePool         The type pool to be used for looking up linked types.
+         * @param annotationTokens The annotation tokens to represent as annotation descriptions.
+         * @return A list of annotation descriptions representing the given tokens.
+         */
+        private static AnnotationList asAnnotationList(TypePool typePool, List<AnnotationToken> annotationTokens) {
+            if (annotationTokens == null || annotationTokens.isEmpty()) {
+                return new AnnotationList.Empty();
             }
-            declaredMethods = new ArrayList<MethodDescription>(methodTokens.size());
-            for (MethodToken methodToken : methodTokens) {
-                declaredMethods.add(methodToken.toMethodDescription(this));
+            List<AnnotationDescription> annotationDescriptions = new ArrayList<AnnotationDescription>(annotationTokens.size());
+            for (AnnotationToken annotationToken : annotationTokens) {
+                annotationDescriptions.add(annotationToken.toAnnotationDescription(typePool));
             }
-            this.genericSignature = genericSignature;
+            return new AnnotationList.Explicit(annotationDescriptions);
         }
 
         @Override
@@ -1795,12 +3340,12 @@ public interface TypePool {
 
         @Override
         public FieldList getDeclaredFields() {
-            return new FieldList.Explicit(declaredFields);
+            return new LazyFieldList();
         }
 
         @Override
         public MethodList getDeclaredMethods() {
-            return new MethodList.Explicit(declaredMethods);
+            return new LazyMethodList();
         }
 
         @Override
@@ -1816,6 +3361,21 @@ public interface TypePool {
             return name;
         }
 
+        @Override
+        public String getInternalName() {
+            return internalName;
+        }
+
+        @Override
+        public String getDescriptor() {
+            String descriptor = this.descriptor;
+            if (descriptor == null) {
+                descriptor = super.getDescriptor();
+                this.descriptor = descriptor;
+            }
+            return descriptor;
+        }
+
         @Override
         public TypeDescription getDeclaringType() {
             return declarationContext.isDeclaredInType()
@@ -1830,7 +3390,7 @@ public interface TypePool {
 
         @Override
         public AnnotationList getDeclaredAnnotations() {
-            return new AnnotationList.Explicit(declaredAnnotations);
+            return asAnnotationList(typePool, annotationTokens);
         }
 
         @Override
@@ -1941,7 +3501,7 @@ public interface TypePool {
                  * @param internalName The internal name of the declaring type.
                  */
                 public DeclaredInType(String internalName) {
-                    name = internalName.replace('/', '.');
+                    name = internalName.replace('/', '.').intern();
                 }
 
                 @Override
@@ -2016,7 +3576,7 @@ public interface TypePool {
                  * @param methodDescriptor The descriptor of the method that is declaring a type.
                  */
                 public DeclaredInMethod(String internalName, String methodName, String methodDescriptor) {
-                    name = internalName.replace('/', '.');
+                    name = internalName.replace('/', '.').intern();
                     this.methodName = methodName;
                     this.methodDescriptor = methodDescriptor;
                 }
@@ -3336,7 +4896,7 @@ public interface TypePool {
              * @param values     A map of annotation value names to their value representations.
              */
             protected AnnotationToken(String descriptor, Map<String, AnnotationValue<?, ?>> values) {
-                this.descriptor = descriptor;
+                this.descriptor = descriptor.intern();
                 this.values = values;
             }
 
@@ -3439,8 +4999,8 @@ public interface TypePool {
                                  String genericSignature,
                                  List<AnnotationToken> annotationTokens) {
                 this.modifiers = modifiers;
-                this.name = name;
-                this.descriptor = descriptor;
+                this.name = name.intern();
+                this.descriptor = descriptor.intern();
                 this.genericSignature = genericSignature;
                 this.annotationTokens = annotationTokens;
             }
@@ -3614,8 +5174,8 @@ public interface TypePool {
                                   List<ParameterToken> parameterTokens,
                                   AnnotationValue<?, ?> defaultValue) {
                 this.modifiers = modifiers;
-                this.name = name;
-                this.descriptor = descriptor;
+                this.name = name.intern();
+                this.descriptor = descriptor.intern();
                 this.genericSignature = genericSignature;
                 this.exceptionName = exceptionName;
                 this.annotationTokens = annotationTokens;
@@ -4056,9 +5616,9 @@ public interface TypePool {
             private final String name;
 
             /**
-             * The binary name of the field's type.
+             * The descriptor of the field's type.
              */
-            private final String fieldTypeName;
+            private final String descriptor;
 
             /**
              * The generic signature of the method or {@code null} if it is not generic.
@@ -4066,9 +5626,9 @@ public interface TypePool {
             private final String genericSignature;
 
             /**
-             * A list of annotation descriptions of this field.
+             * A list of annotation tokens representing the annotations that are declared by this field.
              */
-            private final List<AnnotationDescription> declaredAnnotations;
+            private final List<AnnotationToken> annotationTokens;
 
             /**
              * Creaes a lazy field description.
@@ -4086,25 +5646,27 @@ public interface TypePool {
                                          List<AnnotationToken> annotationTokens) {
                 this.modifiers = modifiers;
                 this.name = name;
-                Type fieldType = Type.getType(descriptor);
-                fieldTypeName = fieldType.getSort() == Type.ARRAY
-                        ? fieldType.getInternalName().replace('/', '.')
-                        : fieldType.getClassName();
+                this.descriptor = descriptor;
                 this.genericSignature = genericSignature;
-                declaredAnnotations = new ArrayList<AnnotationDescription>(annotationTokens.size());
-                for (AnnotationToken annotationToken : annotationTokens) {
-                    declaredAnnotations.add(annotationToken.toAnnotationDescription(typePool));
-                }
+                this.annotationTokens = annotationTokens;
             }
 
             @Override
             public TypeDescription getFieldType() {
-                return typePool.describe(fieldTypeName).resolve();
+                Type fieldType = Type.getType(descriptor);
+                return typePool.describe(fieldType.getSort() == Type.ARRAY
+                        ? fieldType.getInternalName().replace('/', '.')
+                        : fieldType.getClassName()).resolve();
+            }
+
+            @Override
+            public String getDescriptor() {
+                return descriptor;
             }
 
             @Override
             public AnnotationList getDeclaredAnnotations() {
-                return new AnnotationList.Explicit(declaredAnnotations);
+                return asAnnotationList(typePool, annotationTokens);
             }
 
             @Override
@@ -4144,9 +5706,9 @@ public interface TypePool {
             private final String internalName;
 
             /**
-             * The binary name of the return type of this method.
+             * The descriptor of this method.
              */
-            private final String returnTypeName;
+            private final String methodDescriptor;
 
             /**
              * The generic signature of the method or {@code null} if it is not generic.
@@ -4154,40 +5716,42 @@ public interface TypePool {
             private final String genericSignature;
 
             /**
-             * A list of parameter type of this method.
+             * An array of internal names of the exceptions that are declared by this method or {@code null} if no
+             * exceptions are declared by this method.
              */
-            private final TypeList parameterTypes;
+            private final String[] exceptionInternalName;
 
             /**
-             * A list of exception types of this method.
+             * A list of annotation tokens representing the annotations that are declared by this method.
              */
-            private final TypeList exceptionTypes;
+            private final List<AnnotationToken> annotationTokens;
 
             /**
-             * A list of annotation descriptions that are declared by this method.
+             * A mapping of parameter indices to annotation tokens representing the annotations that are declared by
+             * the parameters of this method. A parameter without annotations might not be contained in this map.
              */
-            private final List<AnnotationDescription> declaredAnnotations;
+            private final Map<Integer, List<AnnotationToken>> parameterAnnotationTokens;
 
             /**
-             * A nested list of annotation descriptions that are declard by the parameters of this
-             * method in their oder.
+             * A list of parameter tokens which might be empty or even out of sync with the actual parameters if the
+             * debugging information found in a class was corrupt.
              */
-            private final List<List<AnnotationDescription>> declaredParameterAnnotations;
+            private final List<MethodToken.ParameterToken> parameterTokens;
 
             /**
-             * An array of parameter names which may be {@code null} if no explicit name is known for a parameter.
+             * The default value of this method or {@code null} if no such value exists.
              */
-            private final String[] parameterNames;
+            private final AnnotationValue<?, ?> defaultValue;
 
             /**
-             * An array of parameter modifiers which may be {@code null} if no modifiers is known.
+             * The unique signature of this method or {@code null} if it was not yet computed.
              */
-            private final Integer[] parameterModifiers;
+            private String uniqueSignature;
 
             /**
-             * The default value of this method or {@code null} if no such value exists.
+             * The hash code of this method or {@code 0} if it was not yet computed.
              */
-            private final AnnotationValue<?, ?> defaultValue;
+            private int hashCode;
 
             /**
              * Creates a new lazy method description.
@@ -4201,8 +5765,8 @@ public interface TypePool {
              *                                  method.
              * @param annotationTokens          A list of annotation tokens representing annotations that are declared
              *                                  by this method.
-             * @param parameterAnnotationTokens A nested list of annotation tokens representing annotations that are
-             *                                  declared by the fields of this method.
+             * @param parameterAnnotationTokens A mapping of parameter indices to annotation tokens representing
+             *                                  annotations that are declared by the parameters of this method.
              * @param parameterTokens           A list of parameter tokens which might be empty or even out of sync
              *                                  with the actual parameters if the debugging information found in a
              *                                  class was corrupt.
@@ -4220,60 +5784,63 @@ public interface TypePool {
                                           AnnotationValue<?, ?> defaultValue) {
                 this.modifiers = modifiers;
                 this.internalName = internalName;
-                Type returnType = Type.getReturnType(methodDescriptor);
-                returnTypeName = returnType.getSort() == Type.ARRAY
-                        ? returnType.getDescriptor().replace('/', '.')
-                        : returnType.getClassName();
-                parameterTypes = new LazyTypeList(methodDescriptor);
+                this.methodDescriptor = methodDescriptor;
                 this.genericSignature = genericSignature;
-                exceptionTypes = exceptionInternalName == null
-                        ? new TypeList.Empty()
-                        : new LazyTypeList(exceptionInternalName);
-                declaredAnnotations = new ArrayList<AnnotationDescription>(annotationTokens.size());
-                for (AnnotationToken annotationToken : annotationTokens) {
-                    declaredAnnotations.add(annotationToken.toAnnotationDescription(typePool));
-                }
-                declaredParameterAnnotations = new ArrayList<List<AnnotationDescription>>(parameterTypes.size());
-                for (int index = 0; index < parameterTypes.size(); index++) {
-                    List<AnnotationToken> tokens = parameterAnnotationTokens.get(index);
-                    List<AnnotationDescription> annotationDescriptions;
-                    annotationDescriptions = new ArrayList<AnnotationDescription>(tokens.size());
-                    for (AnnotationToken annotationToken : tokens) {
-                        annotationDescriptions.add(annotationToken.toAnnotationDescription(typePool));
-                    }
-                    declaredParameterAnnotations.add(annotationDescriptions);
-                }
-                parameterNames = new String[parameterTypes.size()];
-                parameterModifiers = new Integer[parameterTypes.size()];
-                if (parameterTokens.size() == parameterTypes.size()) {
-                    int index = 0;
-                    for (MethodToken.ParameterToken parameterToken : parameterTokens) {
-                        parameterNames[index] = parameterToken.getName();
-                        parameterModifiers[index] = parameterToken.getModifiers();
-                        index++;
-                    }
-                }
+                this.exceptionInternalName = exceptionInternalName;
+                this.annotationTokens = annotationTokens;
+                this.parameterAnnotationTokens = parameterAnnotationTokens;
+                this.parameterTokens = parameterTokens;
                 this.defaultValue = defaultValue;
             }
 
             @Override
             public TypeDescription getReturnType() {
-                return typePool.describe(returnTypeName).resolve();
+                Type returnType = Type.getReturnType(methodDescriptor);
+                return typePool.describe(returnType.getSort() == Type.ARRAY
+                        ? returnType.getDescriptor().replace('/', '.')
+                        : returnType.getClassName()).resolve();
             }
 
             @Override
             public TypeList getExceptionTypes() {
-                return exceptionTypes;
+                return exceptionInternalName == null
+                        ? new TypeList.Empty()
+                        : new LazyTypeList(exceptionInternalName);
             }
 
             @Override
             public ParameterList getParameters() {
-                return new LazyParameterList();
+                return new LazyParameterList(new LazyTypeList(methodDescriptor));
+            }
+
+            @Override
+            public String getDescriptor() {
+                return methodDescriptor;
+            }
+
+            @Override
+            public String getUniqueSignature() {
+                String uniqueSignature = this.uniqueSignature;
+                if (uniqueSignature == null) {
+                    uniqueSignature = super.getUniqueSignature();
+                    this.uniqueSignature = uniqueSignature;
+                }
+                return uniqueSignature;
+            }
+
+            @Override
+            public int hashCode() {
+                int hashCode = this.hashCode;
+                if (hashCode == 0) {
+                    hashCode = super.hashCode();
+                    this.hashCode = hashCode;
+                }
+                return hashCode;
             }
 
             @Override
             public AnnotationList getDeclaredAnnotations() {
-                return new AnnotationList.Explicit(declaredAnnotations);
+                return asAnnotationList(typePool, annotationTokens);
             }
 
             @Override
@@ -4308,6 +5875,20 @@ public interface TypePool {
              */
             private class LazyParameterList extends FilterableList.AbstractBase<ParameterDescription, ParameterList> implements ParameterList {
 
+                /**
+                 * The parameter types of the enclosing method.
+                 */
+                private final TypeList parameterTypes;
+
+                /**
+                 * Creates a new lazy parameter list.
+                 *
+                 * @param parameterTypes The parameter types of the enclosing method.
+                 */
+                protected LazyParameterList(TypeList parameterTypes) {
+                    this.parameterTypes = parameterTypes;
+                }
+
                 @Override
                 protected ParameterList wrap(List<ParameterDescription> values) {
                     return new Explicit(values);
@@ -4315,13 +5896,18 @@ public interface TypePool {
 
                 @Override
                 public ParameterDescription get(int index) {
-                    return new LazyParameterDescription(index);
+                    return new LazyParameterDescription(index,
+                            parameterTypes,
+                            parameterTokens.size() == size() ? parameterTokens.get(index) : null);
                 }
 
                 @Override
                 public boolean hasExplicitMetaData() {
-                    for (int i = 0; i < size(); i++) {
-                        if (parameterNames[i] == null || parameterModifiers[i] == null) {
+                    if (parameterTokens.size() != size()) {
+                        return false;
+                    }
+                    for (MethodToken.ParameterToken parameterToken : parameterTokens) {
+                        if (parameterToken.getName() == null || parameterToken.getModifiers() == null) {
                             return false;
                         }
                     }
@@ -4349,13 +5935,30 @@ public interface TypePool {
                  */
                 private final int index;
 
+                /**
+                 * The parameter types of the enclosing method.
+                 */
+                private final TypeList parameterTypes;
+
+                /**
+                 * The parameter token describing this parameter's meta data or {@code null} if no such token is known.
+                 */
+                private final MethodToken.ParameterToken parameterToken;
+
                 /**
                  * Creates a new description for a given parameter of the enclosing method.
                  *
-                 * @param index The index of the described parameter.
+                 * @param index          The index of the described parameter.
+                 * @param parameterTypes The parameter types of the enclosing method.
+                 * @param parameterToken The parameter token describing this parameter's meta data or {@code null} if
+                 *                       no such token is known.
                  */
-                protected LazyParameterDescription(int index) {
+                protected LazyParameterDescription(int index,
+                                                   TypeList parameterTypes,
+                                                   MethodToken.ParameterToken parameterToken) {
                     this.index = index;
+                    this.parameterTypes = parameterTypes;
+                    this.parameterToken = parameterToken;
                 }
 
                 @Override
@@ -4375,35 +5978,91 @@ public interface TypePool {
 
                 @Override
                 public boolean isNamed() {
-                    return parameterNames[index] != null;
+                    return parameterToken != null && parameterToken.getName() != null;
                 }
 
                 @Override
                 public boolean hasModifiers() {
-                    return parameterModifiers[index] != null;
+                    return parameterToken != null && parameterToken.getModifiers() != null;
                 }
 
                 @Override
                 public String getName() {
                     return isNamed()
-                            ? parameterNames[index]
+                            ? parameterToken.getName()
                             : super.getName();
                 }
 
                 @Override
                 public int getModifiers() {
                     return hasModifiers()
-                            ? parameterModifiers[index]
+                            ? parameterToken.getModifiers()
                             : super.getModifiers();
                 }
 
                 @Override
                 public AnnotationList getDeclaredAnnotations() {
-                    return new AnnotationList.Explicit(declaredParameterAnnotations.get(index));
+                    return asAnnotationList(typePool, parameterAnnotationTokens.get(index));
                 }
             }
         }
 
+        /**
+         * A list of field descriptions that are created from this type's field tokens on demand. As a description is
+         * created on each request of an element, all descriptions are created once when this list is filtered such
+         * that the filtered list neither applies the matcher to nor returns descriptions that are created repeatedly.
+         */
+        private class LazyFieldList extends FilterableList.AbstractBase<FieldDescription, FieldList> implements FieldList {
+
+            @Override
+            public FieldDescription get(int index) {
+                return fieldTokens.get(index).toFieldDescription(LazyTypeDescription.this);
+            }
+
+            @Override
+            public int size() {
+                return fieldTokens.size();
+            }
+
+            @Override
+            public FieldList filter(ElementMatcher<? super FieldDescription> elementMatcher) {
+                return new FieldList.Explicit(new ArrayList<FieldDescription>(this)).filter(elementMatcher);
+            }
+
+            @Override
+            protected FieldList wrap(List<FieldDescription> values) {
+                return new FieldList.Explicit(values);
+            }
+        }
+
+        /**
+         * A list of method descriptions that are created from this type's method tokens on demand. As a description is
+         * created on each request of an element, all descriptions are created once when this list is filtered such
+         * that the filtered list neither applies the matcher to nor returns descriptions that are created repeatedly.
+         */
+        private class LazyMethodList extends FilterableList.AbstractBase<MethodDescription, MethodList> implements MethodList {
+
+            @Override
+            public MethodDescription get(int index) {
+                return methodTokens.get(index).toMethodDescription(LazyTypeDescription.this);
+            }
+
+            @Override
+            public int size() {
+                return methodTokens.size();
+            }
+
+            @Override
+            public MethodList filter(ElementMatcher<? super MethodDescription> elementMatcher) {
+                return new MethodList.Explicit(new ArrayList<MethodDescription>(this)).filter(elementMatcher);
+            }
+
+            @Override
+            protected MethodList wrap(List<MethodDescription> values) {
+                return new MethodList.Explicit(values);
+            }
+        }
+
         /**
          * A list that is constructing {@link net.bytebuddy.pool.TypePool.LazyTypeDescription}s.
          */
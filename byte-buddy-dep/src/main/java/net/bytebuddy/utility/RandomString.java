@@ -17,6 +17,11 @@ public class RandomString {
      */
     private static final char[] SYMBOL;
 
+    /**
+     * The number of bits of a value that are represented by a single character of a hash string.
+     */
+    private static final int KEY_BITS = 5;
+
     /*
      * Creates the symbol array.
      */
@@ -58,11 +63,39 @@ public class RandomString {
      * @param length The length of the random {@link String}.
      */
     public RandomString(int length) {
+        this(length, new Random());
+    }
+
+    /**
+     * Creates a random {@link java.lang.String} provider where each value is of the given length and where random
+     * values are provided by the given source.
+     *
+     * @param length The length of the random {@link String}.
+     * @param random The provider of random values to use.
+     */
+    public RandomString(int length, Random random) {
         if (length <= 0) {
             throw new IllegalArgumentException("A random string's length cannot be zero or negative");
         }
         this.length = length;
-        random = new Random();
+        this.random = random;
+    }
+
+    /**
+     * Represents an integer value as a {@link java.lang.String} of the same symbols as a random string. The value is
+     * not random but a fixed representation of the given value where different values are always represented by
+     * different strings. Unlike a random string, a hash string does not require any shared state and is reproducible
+     * for an identical value.
+     *
+     * @param value The value to represent.
+     * @return A string representation of the given value.
+     */
+    public static String hashOf(int value) {
+        char[] buffer = new char[(Integer.SIZE + KEY_BITS - 1) / KEY_BITS];
+        for (int index = 0; index < buffer.length; index++) {
+            buffer[index] = SYMBOL[(value >>> index * KEY_BITS) & ((1 << KEY_BITS) - 1)];
+        }
+        return new String(buffer);
     }
 
     /**
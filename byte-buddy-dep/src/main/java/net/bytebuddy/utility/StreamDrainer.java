@@ -2,8 +2,7 @@ package net.bytebuddy.utility;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.Arrays;
 
 /**
  * A utility for draining the contents of an {@link java.io.InputStream} into a {@code byte} array.
@@ -21,12 +20,12 @@ public class StreamDrainer {
     private static final int END_OF_STREAM = -1;
 
     /**
-     * A convenience constant referring to the value representing the start of a stream.
+     * A convenience constant referring to an unknown size of a stream's content.
      */
-    private static final int FROM_BEGINNING = 0;
+    private static final long UNKNOWN_SIZE = -1L;
 
     /**
-     * The buffer size for reading from a given stream.
+     * The minimal buffer size for reading from a given stream of unknown size.
      */
     private final int bufferSize;
 
@@ -40,40 +39,58 @@ public class StreamDrainer {
     /**
      * Creates a stream drainer with the given buffer size.
      *
-     * @param bufferSize The buffer size for reading from a given stream.
+     * @param bufferSize The minimal buffer size for reading from a given stream of unknown size.
      */
     public StreamDrainer(int bufferSize) {
         this.bufferSize = bufferSize;
     }
 
     /**
-     * Drains an input stream into a byte array. The given input stream is not closed.
+     * Drains an input stream into a byte array. The given input stream is not closed. The number of bytes that
+     * are {@link java.io.InputStream#available() available} from the stream is used as an estimate of its size such
+     * that a single array is allocated for streams that report their remaining size.
      *
      * @param inputStream The input stream to drain.
      * @return A byte array containing the content of the input stream.
      * @throws IOException If the stream reading causes an error.
      */
     public byte[] drain(InputStream inputStream) throws IOException {
-        List<byte[]> previousBytes = new LinkedList<byte[]>();
-        byte[] currentArray = new byte[bufferSize];
+        return drain(inputStream, UNKNOWN_SIZE);
+    }
+
+    /**
+     * Drains an input stream into a byte array. The given input stream is not closed. If the size of the stream's
+     * content is known, the content is read into a single array of this size. If the size is unknown or if the stream
+     * contains more bytes than expected, the content is read into an array that grows as required.
+     *
+     * @param inputStream The input stream to drain.
+     * @param size        The expected number of bytes of the stream's content or a negative number if this
+     *                    number is unknown.
+     * @return A byte array containing the content of the input stream.
+     * @throws IOException If the stream reading causes an error.
+     */
+    public byte[] drain(InputStream inputStream, long size) throws IOException {
+        byte[] buffer = new byte[size < 0L || size > Integer.MAX_VALUE
+                ? Math.max(inputStream.available(), bufferSize)
+                : (int) size];
         int currentIndex = 0;
-        int currentRead;
-        do {
-            currentRead = inputStream.read(currentArray, currentIndex, bufferSize - currentIndex);
-            currentIndex += currentRead > 0 ? currentRead : 0;
-            if (currentIndex == bufferSize) {
-                previousBytes.add(currentArray);
-                currentArray = new byte[bufferSize];
-                currentIndex = 0;
+        while (true) {
+            while (currentIndex < buffer.length) {
+                int currentRead = inputStream.read(buffer, currentIndex, buffer.length - currentIndex);
+                if (currentRead == END_OF_STREAM) {
+                    return currentIndex == buffer.length
+                            ? buffer
+                            : Arrays.copyOf(buffer, currentIndex);
+                }
+                currentIndex += currentRead;
+            }
+            int nextByte = inputStream.read();
+            if (nextByte == END_OF_STREAM) {
+                return buffer;
             }
-        } while (currentRead != END_OF_STREAM);
-        byte[] result = new byte[previousBytes.size() * bufferSize + currentIndex];
-        int arrayIndex = 0;
-        for (byte[] previousByte : previousBytes) {
-            System.arraycopy(previousByte, FROM_BEGINNING, result, arrayIndex++ * bufferSize, bufferSize);
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, Math.max(bufferSize, 1)));
+            buffer[currentIndex++] = (byte) nextByte;
         }
-        System.arraycopy(currentArray, FROM_BEGINNING, result, arrayIndex * bufferSize, currentIndex);
-        return result;
     }
 
     @Override
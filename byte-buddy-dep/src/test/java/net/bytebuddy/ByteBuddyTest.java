@@ -64,6 +64,9 @@ public class ByteBuddyTest {
     @Mock
     private MethodLookupEngine.Factory methodLookupEngineFactory;
 
+    @Mock
+    private Instrumentation.Context.Factory instrumentationContextFactory;
+
     @Mock
     private ModifierContributor.ForType modifierContributorForType;
 
@@ -92,6 +95,7 @@ public class ByteBuddyTest {
                 .withIgnoredMethods(methodMatcher)
                 .withImplementing(typeDescription)
                 .withMethodLookupEngine(methodLookupEngineFactory)
+                .withInstrumentationContext(instrumentationContextFactory)
                 .withModifiers(modifierContributorForType)
                 .withNamingStrategy(namingStrategy));
     }
@@ -108,6 +112,7 @@ public class ByteBuddyTest {
                 .withIgnoredMethods(methodMatcher)
                 .withImplementing(typeDescription)
                 .withMethodLookupEngine(methodLookupEngineFactory)
+                .withInstrumentationContext(instrumentationContextFactory)
                 .withModifiers(modifierContributorForType)
                 .withNamingStrategy(namingStrategy)
                 .method(methodMatcher).intercept(instrumentation));
@@ -124,6 +129,7 @@ public class ByteBuddyTest {
         assertThat(byteBuddy.getInterfaceTypes().size(), is(1));
         assertThat(byteBuddy.getInterfaceTypes(), hasItem(typeDescription));
         assertThat(byteBuddy.getMethodLookupEngineFactory(), is(methodLookupEngineFactory));
+        assertThat(byteBuddy.getInstrumentationContextFactory(), is(instrumentationContextFactory));
         assertThat(byteBuddy.getModifiers().isDefined(), is(true));
         assertThat(byteBuddy.getModifiers().resolve(0), is(MASK));
         assertThat(byteBuddy.getNamingStrategy(), is(namingStrategy));
@@ -15,7 +15,7 @@ import static org.mockito.Mockito.*;
 
 public class NamingStrategyTest {
 
-    private static final String FOO = "foo", BAR = "bar", JAVA_QUX = "java.qux";
+    private static final String FOO = "foo", BAR = "bar", QUX = "qux", JAVA_QUX = "java.qux";
 
     @Rule
     public TestRule mockitoRule = new MockitoRule(this);
@@ -66,6 +66,35 @@ public class NamingStrategyTest {
         ObjectPropertyAssertion.of(NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue.class).apply();
     }
 
+    @Test
+    public void testSuffixingSequence() throws Exception {
+        when(baseNameResolver.resolve(unnamedType)).thenReturn(FOO, FOO, BAR, FOO);
+        NamingStrategy namingStrategy = new NamingStrategy.SuffixingSequence(QUX, baseNameResolver);
+        assertThat(namingStrategy.name(unnamedType), is(FOO + "$" + QUX + "$0"));
+        assertThat(namingStrategy.name(unnamedType), is(FOO + "$" + QUX + "$1"));
+        assertThat(namingStrategy.name(unnamedType), is(BAR + "$" + QUX + "$0"));
+        assertThat(namingStrategy.name(unnamedType), is(FOO + "$" + QUX + "$2"));
+    }
+
+    @Test
+    public void testSuffixingSequenceIsDeterministic() throws Exception {
+        when(baseNameResolver.resolve(unnamedType)).thenReturn(FOO);
+        assertThat(new NamingStrategy.SuffixingSequence(QUX, baseNameResolver).name(unnamedType),
+                is(new NamingStrategy.SuffixingSequence(QUX, baseNameResolver).name(unnamedType)));
+    }
+
+    @Test
+    public void testSuffixingSequenceConflictingPackage() throws Exception {
+        when(baseNameResolver.resolve(unnamedType)).thenReturn(JAVA_QUX);
+        NamingStrategy namingStrategy = new NamingStrategy.SuffixingSequence(FOO, baseNameResolver, BAR);
+        assertThat(namingStrategy.name(unnamedType), is(BAR + "." + JAVA_QUX + "$" + FOO + "$0"));
+    }
+
+    @Test
+    public void testSuffixingSequenceObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(NamingStrategy.SuffixingSequence.class).apply();
+    }
+
     @Test
     public void testFixed() throws Exception {
         NamingStrategy namingStrategy = new NamingStrategy.Fixed(FOO);
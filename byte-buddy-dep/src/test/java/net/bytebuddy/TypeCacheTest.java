@@ -0,0 +1,125 @@
+package net.bytebuddy;
+
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.Test;
+
+import java.io.Serializable;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class TypeCacheTest {
+
+    private static final String FOO = "foo", BAR = "bar";
+
+    private static final ClassLoader BOOTSTRAP_CLASS_LOADER = null;
+
+    @Test
+    public void testFindAndInsert() throws Exception {
+        TypeCache<String> typeCache = new TypeCache<String>(TypeCache.Sort.WEAK);
+        ClassLoader classLoader = new URLClassLoader(new URL[0]);
+        assertThat(typeCache.find(classLoader, FOO), nullValue(Class.class));
+        assertThat(typeCache.insert(classLoader, FOO, Object.class), is((Object) Object.class));
+        assertThat(typeCache.find(classLoader, FOO), is((Object) Object.class));
+        assertThat(typeCache.find(classLoader, BAR), nullValue(Class.class));
+        assertThat(typeCache.find(new URLClassLoader(new URL[0]), FOO), nullValue(Class.class));
+        assertThat(typeCache.find(BOOTSTRAP_CLASS_LOADER, FOO), nullValue(Class.class));
+        assertThat(typeCache.size(), is(1));
+    }
+
+    @Test
+    public void testInsertDoesNotReplace() throws Exception {
+        TypeCache<String> typeCache = new TypeCache<String>(TypeCache.Sort.SOFT);
+        assertThat(typeCache.insert(BOOTSTRAP_CLASS_LOADER, FOO, Object.class), is((Object) Object.class));
+        assertThat(typeCache.insert(BOOTSTRAP_CLASS_LOADER, FOO, Void.class), is((Object) Object.class));
+        assertThat(typeCache.find(BOOTSTRAP_CLASS_LOADER, FOO), is((Object) Object.class));
+        assertThat(typeCache.size(), is(1));
+    }
+
+    @Test
+    public void testClear() throws Exception {
+        TypeCache<String> typeCache = new TypeCache<String>(TypeCache.Sort.WEAK);
+        typeCache.insert(BOOTSTRAP_CLASS_LOADER, FOO, Object.class);
+        typeCache.clear();
+        assertThat(typeCache.find(BOOTSTRAP_CLASS_LOADER, FOO), nullValue(Class.class));
+        assertThat(typeCache.size(), is(0));
+    }
+
+    @Test
+    public void testFindOrInsertCreatesOnce() throws Exception {
+        final TypeCache<String> typeCache = new TypeCache<String>(TypeCache.Sort.WEAK, 1);
+        final ClassLoader classLoader = new URLClassLoader(new URL[0]);
+        final AtomicInteger invocations = new AtomicInteger();
+        final CountDownLatch latch = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            Callable<Class<?>> lookup = new Callable<Class<?>>() {
+                @Override
+                public Class<?> call() throws Exception {
+                    latch.await();
+                    return typeCache.findOrInsert(classLoader, FOO, new Callable<Class<?>>() {
+                        @Override
+                        public Class<?> call() throws Exception {
+                            invocations.incrementAndGet();
+                            return Object.class;
+                        }
+                    });
+                }
+            };
+            Future<?>[] future = new Future<?>[8];
+            for (int index = 0; index < future.length; index++) {
+                future[index] = executorService.submit(lookup);
+            }
+            latch.countDown();
+            for (Future<?> aFuture : future) {
+                assertThat(aFuture.get(), is((Object) Object.class));
+            }
+        } finally {
+            executorService.shutdown();
+        }
+        assertThat(invocations.get(), is(1));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testFindOrInsertWrapsCheckedException() throws Exception {
+        new TypeCache<String>(TypeCache.Sort.WEAK).findOrInsert(BOOTSTRAP_CLASS_LOADER, FOO, new Callable<Class<?>>() {
+            @Override
+            public Class<?> call() throws Exception {
+                throw new Exception();
+            }
+        });
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testFindOrInsertPropagatesRuntimeException() throws Exception {
+        new TypeCache<String>(TypeCache.Sort.WEAK).findOrInsert(BOOTSTRAP_CLASS_LOADER, FOO, new Callable<Class<?>>() {
+            @Override
+            public Class<?> call() throws Exception {
+                throw new UnsupportedOperationException();
+            }
+        });
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalLockStripes() throws Exception {
+        new TypeCache<String>(TypeCache.Sort.WEAK, 0);
+    }
+
+    @Test
+    public void testSimpleKey() throws Exception {
+        assertThat(new TypeCache.SimpleKey(Object.class, Serializable.class, Runnable.class),
+                is(new TypeCache.SimpleKey(Object.class, Runnable.class, Serializable.class)));
+        assertThat(new TypeCache.SimpleKey(Object.class, Serializable.class).hashCode(),
+                is(new TypeCache.SimpleKey(Object.class, Serializable.class).hashCode()));
+        assertThat(new TypeCache.SimpleKey(Object.class), not(new TypeCache.SimpleKey(Object.class, Serializable.class)));
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(TypeCache.Sort.class).apply();
+    }
+}
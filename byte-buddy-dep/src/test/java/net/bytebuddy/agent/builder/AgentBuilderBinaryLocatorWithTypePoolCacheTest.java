@@ -0,0 +1,86 @@
+package net.bytebuddy.agent.builder;
+
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.pool.TypePool;
+import net.bytebuddy.test.utility.MockitoRule;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.mockito.Mock;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.*;
+
+public class AgentBuilderBinaryLocatorWithTypePoolCacheTest {
+
+    private static final String FOO = "foo", BAR = "bar";
+
+    private static final byte[] QUX = new byte[]{1, 2, 3};
+
+    @Rule
+    public TestRule mockitoRule = new MockitoRule(this);
+
+    @Mock
+    private ClassLoader classLoader;
+
+    @Mock
+    private TypePool typePool;
+
+    @Mock
+    private TypePool.Resolution resolution;
+
+    @Test
+    public void testTypePool() throws Exception {
+        assertThat(new AgentBuilder.BinaryLocator.WithTypePoolCache().initialize(FOO, QUX, classLoader).getTypePool(),
+                notNullValue(TypePool.class));
+    }
+
+    @Test
+    public void testClassFileLocator() throws Exception {
+        assertThat(new AgentBuilder.BinaryLocator.WithTypePoolCache().initialize(FOO, QUX, classLoader).getClassFileLocator(),
+                notNullValue(ClassFileLocator.class));
+    }
+
+    @Test
+    public void testTypePoolIsSharedPerClassLoader() throws Exception {
+        AgentBuilder.BinaryLocator.WithTypePoolCache binaryLocator = new AgentBuilder.BinaryLocator.WithTypePoolCache();
+        assertThat(binaryLocator.locate(classLoader), sameInstance(binaryLocator.locate(classLoader)));
+        assertThat(binaryLocator.locate(null), sameInstance(binaryLocator.locate(null)));
+        assertThat(binaryLocator.locate(classLoader), not(sameInstance(binaryLocator.locate(null))));
+        TypePool typePool = binaryLocator.locate(classLoader);
+        binaryLocator.clear();
+        assertThat(binaryLocator.locate(classLoader), not(sameInstance(typePool)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalMaximumSize() throws Exception {
+        new AgentBuilder.BinaryLocator.WithTypePoolCache(0);
+    }
+
+    @Test
+    public void testCacheProviderDelegatesToSharedTypePool() throws Exception {
+        when(typePool.describe(BAR)).thenReturn(resolution);
+        TypePool.CacheProvider cacheProvider = new AgentBuilder.BinaryLocator.WithTypePoolCache.CacheProvider(FOO, typePool);
+        assertThat(cacheProvider.find(BAR), is(resolution));
+        verify(typePool).describe(BAR);
+        verifyNoMoreInteractions(typePool);
+    }
+
+    @Test
+    public void testCacheProviderDoesNotCacheInstrumentedType() throws Exception {
+        TypePool.CacheProvider cacheProvider = new AgentBuilder.BinaryLocator.WithTypePoolCache.CacheProvider(FOO, typePool);
+        assertThat(cacheProvider.find(FOO), nullValue(TypePool.Resolution.class));
+        assertThat(cacheProvider.register(FOO, resolution), is(resolution));
+        assertThat(cacheProvider.find(FOO), nullValue(TypePool.Resolution.class));
+        cacheProvider.clear();
+        verifyZeroInteractions(typePool);
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(AgentBuilder.BinaryLocator.WithTypePoolCache.class).ignoreFields("typePools").apply();
+        ObjectPropertyAssertion.of(AgentBuilder.BinaryLocator.WithTypePoolCache.CacheProvider.class).apply();
+    }
+}
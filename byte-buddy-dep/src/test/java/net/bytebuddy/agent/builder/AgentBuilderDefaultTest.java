@@ -3,12 +3,14 @@ package net.bytebuddy.agent.builder;
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.dynamic.ClassFileLocator;
 import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassInjector;
 import net.bytebuddy.dynamic.scaffold.inline.MethodRebaseResolver;
 import net.bytebuddy.instrumentation.LoadedTypeInitializer;
 import net.bytebuddy.instrumentation.type.TypeDescription;
 import net.bytebuddy.pool.TypePool;
 import net.bytebuddy.test.utility.MockitoRule;
 import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import net.bytebuddy.utility.RandomString;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -17,12 +19,14 @@ import org.mockito.Mock;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 
+import java.io.File;
 import java.lang.instrument.ClassFileTransformer;
 import java.lang.instrument.Instrumentation;
 import java.security.ProtectionDomain;
 import java.util.*;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.*;
@@ -190,6 +194,130 @@ public class AgentBuilderDefaultTest {
         verifyNoMoreInteractions(instrumentation);
     }
 
+    @Test
+    public void testIgnoredByPrefilter() throws Exception {
+        AgentBuilder.RawMatcher.Prefiltering rawMatcher = mock(AgentBuilder.RawMatcher.Prefiltering.class);
+        when(rawMatcher.isCandidate(FOO, classLoader, REDEFINED, protectionDomain)).thenReturn(false);
+        ClassFileTransformer classFileTransformer = new AgentBuilder.Default(byteBuddy)
+                .disableSelfInitialization()
+                .withBinaryLocator(binaryLocator)
+                .withListener(listener)
+                .rebase(rawMatcher).transform(transformer)
+                .installOn(instrumentation);
+        assertThat(instrumentations.size(), is(1));
+        assertThat(instrumentations.get(0).transform(classLoader, FOO, REDEFINED, protectionDomain, QUX), nullValue(byte[].class));
+        verify(rawMatcher).isCandidate(FOO, classLoader, REDEFINED, protectionDomain);
+        verifyNoMoreInteractions(rawMatcher);
+        verifyZeroInteractions(binaryLocator);
+        verify(listener).onIgnored(FOO);
+        verify(listener).onComplete(FOO);
+        verifyNoMoreInteractions(listener);
+        verify(instrumentation).addTransformer(classFileTransformer, false);
+        verifyNoMoreInteractions(instrumentation);
+    }
+
+    @Test
+    public void testSuccessfulWithPrefilter() throws Exception {
+        AgentBuilder.RawMatcher.Prefiltering rawMatcher = mock(AgentBuilder.RawMatcher.Prefiltering.class);
+        when(unloaded.getBytes()).thenReturn(BAZ);
+        when(resolution.resolve()).thenReturn(typeDescription);
+        when(rawMatcher.isCandidate(FOO, classLoader, REDEFINED, protectionDomain)).thenReturn(true);
+        when(rawMatcher.matches(typeDescription, classLoader, REDEFINED, protectionDomain)).thenReturn(true);
+        ClassFileTransformer classFileTransformer = new AgentBuilder.Default(byteBuddy)
+                .disableSelfInitialization()
+                .withBinaryLocator(binaryLocator)
+                .withListener(listener)
+                .rebase(rawMatcher).transform(transformer)
+                .installOn(instrumentation);
+        assertThat(instrumentations.size(), is(1));
+        assertThat(instrumentations.get(0).transform(classLoader, FOO, REDEFINED, protectionDomain, QUX), is(BAZ));
+        verify(rawMatcher).isCandidate(FOO, classLoader, REDEFINED, protectionDomain);
+        verify(rawMatcher).matches(typeDescription, classLoader, REDEFINED, protectionDomain);
+        verifyNoMoreInteractions(rawMatcher);
+        verify(listener).onTransformation(typeDescription, unloaded);
+        verify(listener).onComplete(FOO);
+        verifyNoMoreInteractions(listener);
+        verify(instrumentation).addTransformer(classFileTransformer, false);
+        verifyNoMoreInteractions(instrumentation);
+    }
+
+    @Test
+    public void testSuccessfulWithMonitor() throws Exception {
+        AgentBuilder.Monitor monitor = mock(AgentBuilder.Monitor.class);
+        when(monitor.isEnabled()).thenReturn(true);
+        when(unloaded.getBytes()).thenReturn(BAZ);
+        when(resolution.resolve()).thenReturn(typeDescription);
+        when(rawMatcher.matches(typeDescription, classLoader, REDEFINED, protectionDomain)).thenReturn(true);
+        new AgentBuilder.Default(byteBuddy)
+                .disableSelfInitialization()
+                .withBinaryLocator(binaryLocator)
+                .withMonitor(monitor)
+                .rebase(rawMatcher).transform(transformer)
+                .installOn(instrumentation);
+        assertThat(instrumentations.size(), is(1));
+        assertThat(instrumentations.get(0).transform(classLoader, FOO, REDEFINED, protectionDomain, QUX), is(BAZ));
+        verify(monitor).isEnabled();
+        verify(monitor).onPhase(eq(FOO), eq(AgentBuilder.Monitor.Phase.PREFILTERING), anyLong());
+        verify(monitor).onPhase(eq(FOO), eq(AgentBuilder.Monitor.Phase.RESOLUTION), anyLong());
+        verify(monitor).onPhase(eq(FOO), eq(AgentBuilder.Monitor.Phase.MATCHING), anyLong());
+        verify(monitor).onPhase(eq(FOO), eq(AgentBuilder.Monitor.Phase.GENERATION), anyLong());
+        verify(monitor).onPhase(eq(FOO), eq(AgentBuilder.Monitor.Phase.REGISTRATION), anyLong());
+        verify(monitor).onMatch(FOO);
+        verify(monitor).onComplete(FOO, AgentBuilder.Monitor.Outcome.TRANSFORMED, BAZ.length);
+        verifyNoMoreInteractions(monitor);
+    }
+
+    @Test
+    public void testDisabledMonitorIsNotNotified() throws Exception {
+        AgentBuilder.Monitor monitor = mock(AgentBuilder.Monitor.class);
+        when(resolution.resolve()).thenReturn(typeDescription);
+        new AgentBuilder.Default(byteBuddy)
+                .disableSelfInitialization()
+                .withBinaryLocator(binaryLocator)
+                .withMonitor(monitor)
+                .rebase(rawMatcher).transform(transformer)
+                .installOn(instrumentation);
+        assertThat(instrumentations.get(0).transform(classLoader, FOO, REDEFINED, protectionDomain, QUX), nullValue(byte[].class));
+        verify(monitor).isEnabled();
+        verifyNoMoreInteractions(monitor);
+    }
+
+    @Test
+    public void testSuccessfulWithUnsafeBootstrapInjection() throws Exception {
+        DynamicType auxiliaryType = new ByteBuddy().subclass(Object.class).name(FOO + "." + FOO + RandomString.make()).make();
+        Map<TypeDescription, LoadedTypeInitializer> loadedTypeInitializers = new HashMap<TypeDescription, LoadedTypeInitializer>();
+        loadedTypeInitializers.put(typeDescription, loadedTypeInitializer);
+        loadedTypeInitializers.put(auxiliaryType.getTypeDescription(), loadedTypeInitializer);
+        when(unloaded.getLoadedTypeInitializers()).thenReturn(loadedTypeInitializers);
+        when(unloaded.getRawAuxiliaryTypes()).thenReturn(Collections.singletonMap(auxiliaryType.getTypeDescription(), auxiliaryType.getBytes()));
+        when(unloaded.getBytes()).thenReturn(BAZ);
+        when(binaryLocator.initialize(FOO, QUX, null)).thenReturn(initialized);
+        when(resolution.resolve()).thenReturn(typeDescription);
+        when(rawMatcher.matches(typeDescription, null, REDEFINED, protectionDomain)).thenReturn(true);
+        ClassFileTransformer classFileTransformer = new AgentBuilder.Default(byteBuddy)
+                .disableSelfInitialization()
+                .enableUnsafeBootstrapInjection()
+                .withBinaryLocator(binaryLocator)
+                .rebase(rawMatcher).transform(transformer)
+                .installOn(instrumentation);
+        assertThat(instrumentations.size(), is(1));
+        assertThat(instrumentations.get(0).transform(null, FOO, REDEFINED, protectionDomain, QUX), is(BAZ));
+        Class<?> type = Class.forName(auxiliaryType.getTypeDescription().getName(), false, null);
+        assertThat(type.getClassLoader(), nullValue(ClassLoader.class));
+        assertThat(type.getProtectionDomain(), not(protectionDomain));
+        verify(instrumentation).addTransformer(classFileTransformer, false);
+        verifyNoMoreInteractions(instrumentation);
+    }
+
+    @Test
+    public void testBootstrapInjectionStrategies() throws Exception {
+        File folder = new File(FOO);
+        assertThat(new AgentBuilder.Default.BootstrapInjectionStrategy.Enabled(folder, instrumentation).make(protectionDomain),
+                is((ClassInjector) new ClassInjector.UsingInstrumentation(folder, ClassInjector.UsingInstrumentation.Target.BOOTSTRAP, instrumentation)));
+        assertThat(AgentBuilder.Default.BootstrapInjectionStrategy.UsingUnsafe.INSTANCE.make(protectionDomain),
+                is((ClassInjector) new ClassInjector.UsingUnsafe(null, ClassInjector.DEFAULT_PROTECTION_DOMAIN)));
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testEmptyPrefixThrowsException() throws Exception {
         new AgentBuilder.Default(byteBuddy).withNativeMethodPrefix("");
@@ -202,6 +330,7 @@ public class AgentBuilderDefaultTest {
         ObjectPropertyAssertion.of(AgentBuilder.Default.Transformation.class).apply();
         ObjectPropertyAssertion.of(AgentBuilder.Default.BootstrapInjectionStrategy.Enabled.class).apply();
         ObjectPropertyAssertion.of(AgentBuilder.Default.BootstrapInjectionStrategy.Disabled.class).apply();
+        ObjectPropertyAssertion.of(AgentBuilder.Default.BootstrapInjectionStrategy.UsingUnsafe.class).apply();
         ObjectPropertyAssertion.of(AgentBuilder.Default.ExecutingTransformer.class).applyMutable();
         final Iterator<Class<?>> iterator = Arrays.<Class<?>>asList(Object.class, AgentBuilderDefaultTest.class).iterator();
         ObjectPropertyAssertion.of(AgentBuilder.Default.InitializationStrategy.SelfInjection.Nexus.class).create(new ObjectPropertyAssertion.Creator<Class<?>>() {
@@ -0,0 +1,74 @@
+package net.bytebuddy.agent.builder;
+
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class AgentBuilderMonitorTest {
+
+    private static final String FOO = "foo", BAR = "net.bytebuddy:type=Monitor";
+
+    @Test
+    public void testDisabled() throws Exception {
+        assertThat(AgentBuilder.Monitor.Disabled.INSTANCE.isEnabled(), is(false));
+        AgentBuilder.Monitor.Disabled.INSTANCE.onPhase(FOO, AgentBuilder.Monitor.Phase.RESOLUTION, 1L);
+        AgentBuilder.Monitor.Disabled.INSTANCE.onMatch(FOO);
+        AgentBuilder.Monitor.Disabled.INSTANCE.onComplete(FOO, AgentBuilder.Monitor.Outcome.TRANSFORMED, 1);
+    }
+
+    @Test
+    public void testStatistics() throws Exception {
+        AgentBuilder.Monitor.Statistics statistics = new AgentBuilder.Monitor.Statistics();
+        assertThat(statistics.isEnabled(), is(true));
+        statistics.onPhase(FOO, AgentBuilder.Monitor.Phase.RESOLUTION, 5L);
+        statistics.onPhase(FOO, AgentBuilder.Monitor.Phase.RESOLUTION, 6L);
+        statistics.onPhase(FOO, AgentBuilder.Monitor.Phase.GENERATION, 1L);
+        statistics.onMatch(FOO);
+        statistics.onComplete(FOO, AgentBuilder.Monitor.Outcome.TRANSFORMED, 42);
+        statistics.onComplete(FOO, AgentBuilder.Monitor.Outcome.FAILED, 0);
+        statistics.onComplete(FOO, AgentBuilder.Monitor.Outcome.IGNORED, 0);
+        assertThat(statistics.getTypesSeen(), is(3L));
+        assertThat(statistics.getTypesMatched(), is(1L));
+        assertThat(statistics.getTypesTransformed(), is(1L));
+        assertThat(statistics.getTypesFailed(), is(1L));
+        assertThat(statistics.getBytesProduced(), is(42L));
+        assertThat(statistics.getResolutionTime(), is(11L));
+        assertThat(statistics.getGenerationTime(), is(1L));
+        assertThat(statistics.getMatchingTime(), is(0L));
+        assertThat(statistics.getHistogram(AgentBuilder.Monitor.Phase.RESOLUTION)[3], is(2L));
+        assertThat(statistics.histogram(AgentBuilder.Monitor.Phase.GENERATION.name())[1], is(1L));
+        statistics.reset();
+        assertThat(statistics.getTypesSeen(), is(0L));
+        assertThat(statistics.getResolutionTime(), is(0L));
+        assertThat(statistics.getHistogram(AgentBuilder.Monitor.Phase.RESOLUTION)[3], is(0L));
+    }
+
+    @Test
+    public void testStatisticsMBean() throws Exception {
+        MBeanServer mBeanServer = MBeanServerFactory.newMBeanServer();
+        AgentBuilder.Monitor.Statistics statistics = new AgentBuilder.Monitor.Statistics();
+        statistics.registerOn(mBeanServer, BAR);
+        statistics.onComplete(FOO, AgentBuilder.Monitor.Outcome.TRANSFORMED, 42);
+        assertThat(mBeanServer.getAttribute(new ObjectName(BAR), "BytesProduced"), is((Object) 42L));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testStatisticsMBeanDuplicate() throws Exception {
+        MBeanServer mBeanServer = MBeanServerFactory.newMBeanServer();
+        new AgentBuilder.Monitor.Statistics().registerOn(mBeanServer, BAR);
+        new AgentBuilder.Monitor.Statistics().registerOn(mBeanServer, BAR);
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(AgentBuilder.Monitor.Disabled.class).apply();
+        ObjectPropertyAssertion.of(AgentBuilder.Monitor.Phase.class).apply();
+        ObjectPropertyAssertion.of(AgentBuilder.Monitor.Outcome.class).apply();
+    }
+}
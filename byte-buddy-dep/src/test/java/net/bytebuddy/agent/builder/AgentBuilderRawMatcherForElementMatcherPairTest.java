@@ -2,6 +2,7 @@ package net.bytebuddy.agent.builder;
 
 import net.bytebuddy.instrumentation.type.TypeDescription;
 import net.bytebuddy.matcher.ElementMatcher;
+import net.bytebuddy.matcher.ElementMatchers;
 import net.bytebuddy.test.utility.MockitoRule;
 import net.bytebuddy.test.utility.ObjectPropertyAssertion;
 import org.junit.Rule;
@@ -17,6 +18,8 @@ import static org.mockito.Mockito.*;
 
 public class AgentBuilderRawMatcherForElementMatcherPairTest {
 
+    private static final String FOO = "foo", BAR = "bar";
+
     @Rule
     public TestRule mockitoRule = new MockitoRule(this);
 
@@ -77,6 +80,26 @@ public class AgentBuilderRawMatcherForElementMatcherPairTest {
         verifyNoMoreInteractions(typeMatcher);
     }
 
+    @Test
+    public void testPrefilterAppliesClassLoaderMatcher() throws Exception {
+        when(classLoaderMatcher.matches(classLoader)).thenReturn(true);
+        assertThat(new AgentBuilder.RawMatcher.ForElementMatcherPair(typeMatcher, classLoaderMatcher)
+                .isCandidate(FOO, classLoader, Object.class, protectionDomain), is(true));
+        assertThat(new AgentBuilder.RawMatcher.ForElementMatcherPair(typeMatcher, classLoaderMatcher)
+                .isCandidate(FOO, mock(ClassLoader.class), Object.class, protectionDomain), is(false));
+        verifyZeroInteractions(typeMatcher);
+    }
+
+    @Test
+    public void testPrefilterAppliesNameMatcher() throws Exception {
+        when(classLoaderMatcher.matches(classLoader)).thenReturn(true);
+        assertThat(new AgentBuilder.RawMatcher.ForElementMatcherPair(ElementMatchers.<TypeDescription>named(FOO).and(typeMatcher), classLoaderMatcher)
+                .isCandidate(FOO, classLoader, Object.class, protectionDomain), is(true));
+        assertThat(new AgentBuilder.RawMatcher.ForElementMatcherPair(ElementMatchers.<TypeDescription>named(FOO).and(typeMatcher), classLoaderMatcher)
+                .isCandidate(BAR, classLoader, Object.class, protectionDomain), is(false));
+        verifyZeroInteractions(typeMatcher);
+    }
+
     @Test
     public void testObjectProperties() throws Exception {
         ObjectPropertyAssertion.of(AgentBuilder.RawMatcher.ForElementMatcherPair.class).apply();
@@ -0,0 +1,94 @@
+package net.bytebuddy.agent.builder;
+
+import net.bytebuddy.instrumentation.type.TypeDescription;
+import net.bytebuddy.matcher.ElementMatcher;
+import net.bytebuddy.test.utility.MockitoRule;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.mockito.Mock;
+
+import java.security.ProtectionDomain;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.*;
+
+public class AgentBuilderRawMatcherForNameAndClassLoaderTest {
+
+    private static final String FOO = "foo";
+
+    @Rule
+    public TestRule mockitoRule = new MockitoRule(this);
+
+    @Mock
+    private ElementMatcher<String> nameMatcher;
+
+    @Mock
+    private ElementMatcher<ClassLoader> classLoaderMatcher;
+
+    @Mock
+    private AgentBuilder.RawMatcher.Prefiltering rawMatcher;
+
+    @Mock
+    private TypeDescription typeDescription;
+
+    @Mock
+    private ClassLoader classLoader;
+
+    @Mock
+    private ProtectionDomain protectionDomain;
+
+    @Before
+    public void setUp() throws Exception {
+        when(typeDescription.getName()).thenReturn(FOO);
+    }
+
+    @Test
+    public void testClassLoaderDoesNotMatch() throws Exception {
+        when(nameMatcher.matches(FOO)).thenReturn(true);
+        AgentBuilder.RawMatcher.Prefiltering matcher = new AgentBuilder.RawMatcher.ForNameAndClassLoader(nameMatcher, classLoaderMatcher, rawMatcher);
+        assertThat(matcher.isCandidate(FOO, classLoader, Object.class, protectionDomain), is(false));
+        verifyZeroInteractions(nameMatcher);
+        verifyZeroInteractions(rawMatcher);
+    }
+
+    @Test
+    public void testNameDoesNotMatch() throws Exception {
+        when(classLoaderMatcher.matches(classLoader)).thenReturn(true);
+        AgentBuilder.RawMatcher.Prefiltering matcher = new AgentBuilder.RawMatcher.ForNameAndClassLoader(nameMatcher, classLoaderMatcher, rawMatcher);
+        assertThat(matcher.isCandidate(FOO, classLoader, Object.class, protectionDomain), is(false));
+        assertThat(matcher.matches(typeDescription, classLoader, Object.class, protectionDomain), is(false));
+        verifyZeroInteractions(rawMatcher);
+    }
+
+    @Test
+    public void testDelegatePrefilter() throws Exception {
+        when(classLoaderMatcher.matches(classLoader)).thenReturn(true);
+        when(nameMatcher.matches(FOO)).thenReturn(true);
+        AgentBuilder.RawMatcher.Prefiltering matcher = new AgentBuilder.RawMatcher.ForNameAndClassLoader(nameMatcher, classLoaderMatcher, rawMatcher);
+        assertThat(matcher.isCandidate(FOO, classLoader, Object.class, protectionDomain), is(false));
+        when(rawMatcher.isCandidate(FOO, classLoader, Object.class, protectionDomain)).thenReturn(true);
+        assertThat(matcher.isCandidate(FOO, classLoader, Object.class, protectionDomain), is(true));
+        verify(rawMatcher, times(2)).isCandidate(FOO, classLoader, Object.class, protectionDomain);
+        verifyNoMoreInteractions(rawMatcher);
+    }
+
+    @Test
+    public void testMatches() throws Exception {
+        when(classLoaderMatcher.matches(classLoader)).thenReturn(true);
+        when(nameMatcher.matches(FOO)).thenReturn(true);
+        when(rawMatcher.matches(typeDescription, classLoader, Object.class, protectionDomain)).thenReturn(true);
+        assertThat(new AgentBuilder.RawMatcher.ForNameAndClassLoader(nameMatcher, classLoaderMatcher, rawMatcher)
+                .matches(typeDescription, classLoader, Object.class, protectionDomain), is(true));
+        assertThat(new AgentBuilder.RawMatcher.ForNameAndClassLoader(nameMatcher, classLoaderMatcher)
+                .matches(typeDescription, classLoader, Object.class, protectionDomain), is(true));
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(AgentBuilder.RawMatcher.ForNameAndClassLoader.class).apply();
+    }
+}
@@ -0,0 +1,135 @@
+package net.bytebuddy.dynamic;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.instrumentation.FixedValue;
+import net.bytebuddy.test.utility.MockitoRule;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import net.bytebuddy.utility.RandomString;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.mockito.Mock;
+
+import java.io.File;
+import java.util.concurrent.Callable;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.*;
+
+public class ClassFileCacheTest {
+
+    private static final String FOO = "foo", BAR = "bar", TEMP = "tmp";
+
+    @Rule
+    public TestRule mockitoRule = new MockitoRule(this);
+
+    @Mock
+    private DynamicType.Builder<?> builder;
+
+    @Mock
+    private DynamicType.Unloaded<?> dynamicType, storedType;
+
+    @Mock
+    private ClassFileCache.Storage storage;
+
+    private File folder;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        when(builder.make()).thenReturn((DynamicType.Unloaded) dynamicType);
+        File file = File.createTempFile(TEMP, TEMP);
+        try {
+            folder = new File(file.getParentFile(), TEMP + RandomString.make());
+        } finally {
+            assertThat(file.delete(), is(true));
+        }
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        File[] files = folder.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                assertThat(file.delete(), is(true));
+            }
+            assertThat(folder.delete(), is(true));
+        }
+    }
+
+    @Test
+    public void testMemoryCache() throws Exception {
+        ClassFileCache classFileCache = new ClassFileCache();
+        assertThat(classFileCache.make(builder), is((Object) dynamicType));
+        assertThat(classFileCache.make(builder), is((Object) dynamicType));
+        assertThat(classFileCache.size(), is(1));
+        verify(builder).make();
+        classFileCache.clear();
+        assertThat(classFileCache.size(), is(0));
+    }
+
+    @Test
+    public void testStorageIsWritten() throws Exception {
+        ClassFileCache classFileCache = new ClassFileCache(storage);
+        assertThat(classFileCache.make(builder, FOO), is((Object) dynamicType));
+        assertThat(classFileCache.make(builder, FOO), is((Object) dynamicType));
+        verify(builder).make();
+        verify(storage).read(FOO);
+        verify(storage).write(FOO, dynamicType);
+        verifyNoMoreInteractions(storage);
+    }
+
+    @Test
+    public void testStorageIsNotWrittenForAliveInitializers() throws Exception {
+        when(dynamicType.hasAliveLoadedTypeInitializers()).thenReturn(true);
+        ClassFileCache classFileCache = new ClassFileCache(storage);
+        assertThat(classFileCache.make(builder, FOO), is((Object) dynamicType));
+        verify(storage).read(FOO);
+        verifyNoMoreInteractions(storage);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testStorageIsRead() throws Exception {
+        when(storage.read(FOO)).thenReturn((DynamicType.Unloaded) storedType);
+        ClassFileCache classFileCache = new ClassFileCache(storage);
+        assertThat(classFileCache.make(builder, FOO), is((Object) storedType));
+        verify(builder, never()).make();
+    }
+
+    @Test
+    public void testNoOpStorage() throws Exception {
+        ClassFileCache.Storage.NoOp.INSTANCE.write(FOO, dynamicType);
+        assertThat(ClassFileCache.Storage.NoOp.INSTANCE.read(FOO), nullValue(DynamicType.Unloaded.class));
+    }
+
+    @Test
+    public void testFolderStorage() throws Exception {
+        DynamicType.Unloaded<?> dynamicType = new ByteBuddy()
+                .subclass(Callable.class)
+                .method(named("call")).intercept(FixedValue.value(FOO))
+                .make();
+        ClassFileCache.Storage storage = new ClassFileCache.Storage.ForFolder(folder);
+        assertThat(storage.read(FOO), nullValue(DynamicType.Unloaded.class));
+        storage.write(FOO, dynamicType);
+        assertThat(storage.read(BAR), nullValue(DynamicType.Unloaded.class));
+        DynamicType.Unloaded<?> storedType = storage.read(FOO);
+        assertThat(storedType, notNullValue(DynamicType.Unloaded.class));
+        assertThat(storedType.getTypeDescription(), is(dynamicType.getTypeDescription()));
+        assertThat(storedType.getBytes(), is(dynamicType.getBytes()));
+        assertThat(storedType.getRawAuxiliaryTypes().size(), is(0));
+        Class<?> type = storedType.load(getClass().getClassLoader(), ClassLoadingStrategy.Default.WRAPPER).getLoaded();
+        assertThat(((Callable<?>) type.newInstance()).call(), is((Object) FOO));
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(ClassFileCache.Storage.NoOp.class).apply();
+        ObjectPropertyAssertion.of(ClassFileCache.Storage.ForFolder.class).apply();
+    }
+}
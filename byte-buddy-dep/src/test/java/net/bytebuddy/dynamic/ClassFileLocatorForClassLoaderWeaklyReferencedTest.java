@@ -0,0 +1,64 @@
+package net.bytebuddy.dynamic;
+
+import net.bytebuddy.test.utility.MockitoRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.mockito.Mock;
+
+import java.io.ByteArrayInputStream;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.*;
+
+public class ClassFileLocatorForClassLoaderWeaklyReferencedTest {
+
+    private static final String FOOBAR = "foo/bar";
+
+    @Rule
+    public TestRule mockitoRule = new MockitoRule(this);
+
+    @Mock
+    private ClassLoader classLoader;
+
+    @Test
+    public void testCreation() throws Exception {
+        assertThat(ClassFileLocator.ForClassLoader.WeaklyReferenced.of(classLoader),
+                is((ClassFileLocator) new ClassFileLocator.ForClassLoader.WeaklyReferenced(classLoader)));
+        assertThat(ClassFileLocator.ForClassLoader.WeaklyReferenced.of(null),
+                is(ClassFileLocator.ForClassLoader.of(null)));
+        assertThat(ClassFileLocator.ForClassLoader.WeaklyReferenced.of(ClassLoader.getSystemClassLoader()),
+                is(ClassFileLocator.ForClassLoader.of(ClassLoader.getSystemClassLoader())));
+    }
+
+    @Test
+    public void testLocatable() throws Exception {
+        ByteArrayInputStream inputStream = new ByteArrayInputStream(new byte[]{1, 2, 3});
+        when(classLoader.getResourceAsStream(FOOBAR + ".class")).thenReturn(inputStream);
+        ClassFileLocator.Resolution resolution = new ClassFileLocator.ForClassLoader.WeaklyReferenced(classLoader)
+                .locate(FOOBAR);
+        assertThat(resolution.isResolved(), is(true));
+        assertThat(resolution.resolve(), is(new byte[]{1, 2, 3}));
+        verify(classLoader).getResourceAsStream(FOOBAR + ".class");
+        verifyNoMoreInteractions(classLoader);
+    }
+
+    @Test
+    public void testNonLocatable() throws Exception {
+        ClassFileLocator.Resolution resolution = new ClassFileLocator.ForClassLoader.WeaklyReferenced(classLoader)
+                .locate(FOOBAR);
+        assertThat(resolution.isResolved(), is(false));
+        verify(classLoader).getResourceAsStream(FOOBAR + ".class");
+        verifyNoMoreInteractions(classLoader);
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ClassFileLocator classFileLocator = new ClassFileLocator.ForClassLoader.WeaklyReferenced(classLoader);
+        assertThat(classFileLocator.hashCode(), is(classLoader.hashCode()));
+        assertThat(classFileLocator, is((ClassFileLocator) new ClassFileLocator.ForClassLoader.WeaklyReferenced(classLoader)));
+        assertThat(classFileLocator, not((ClassFileLocator) new ClassFileLocator.ForClassLoader.WeaklyReferenced(mock(ClassLoader.class))));
+        assertThat(classFileLocator.toString(), containsString(classLoader.toString()));
+    }
+}
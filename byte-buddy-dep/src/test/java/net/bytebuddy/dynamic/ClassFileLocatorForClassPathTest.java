@@ -0,0 +1,156 @@
+package net.bytebuddy.dynamic;
+
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ClassFileLocatorForClassPathTest {
+
+    private static final String FOO = "foo", BAR = "bar", MODULE_INFO = "module-info";
+
+    private static final byte[] QUX = new byte[]{1, 2, 3}, BAZ = new byte[]{4, 5, 6, 7};
+
+    private File folder, jarFile;
+
+    @Before
+    public void setUp() throws Exception {
+        folder = File.createTempFile(FOO, BAR);
+        assertThat(folder.delete(), is(true));
+        assertThat(new File(folder, FOO).mkdirs(), is(true));
+        write(new File(folder, FOO + File.separatorChar + BAR + ".class"), QUX);
+        write(new File(folder, MODULE_INFO + ".class"), QUX);
+        jarFile = File.createTempFile(BAR, ".jar");
+        JarOutputStream jarOutputStream = new JarOutputStream(new FileOutputStream(jarFile));
+        try {
+            jarOutputStream.putNextEntry(new JarEntry(FOO + "/" + BAR + ".class"));
+            jarOutputStream.write(BAZ);
+            jarOutputStream.closeEntry();
+            jarOutputStream.putNextEntry(new JarEntry(BAR + ".class"));
+            jarOutputStream.write(BAZ);
+            jarOutputStream.closeEntry();
+            jarOutputStream.putNextEntry(new JarEntry(FOO + ".txt"));
+            jarOutputStream.write(QUX);
+            jarOutputStream.closeEntry();
+            jarOutputStream.putNextEntry(new JarEntry(MODULE_INFO + ".class"));
+            jarOutputStream.write(QUX);
+            jarOutputStream.closeEntry();
+            jarOutputStream.putNextEntry(new JarEntry("META-INF/versions/9/" + FOO + "/" + BAR + ".class"));
+            jarOutputStream.write(QUX);
+            jarOutputStream.closeEntry();
+        } finally {
+            jarOutputStream.close();
+        }
+    }
+
+    private static void write(File file, byte[] binaryRepresentation) throws Exception {
+        OutputStream outputStream = new FileOutputStream(file);
+        try {
+            outputStream.write(binaryRepresentation);
+        } finally {
+            outputStream.close();
+        }
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        assertThat(new File(folder, FOO + File.separatorChar + BAR + ".class").delete(), is(true));
+        assertThat(new File(folder, FOO).delete(), is(true));
+        assertThat(new File(folder, MODULE_INFO + ".class").delete(), is(true));
+        assertThat(folder.delete(), is(true));
+        assertThat(jarFile.delete(), is(true));
+    }
+
+    @Test
+    public void testFolderAndJarFile() throws Exception {
+        ClassFileLocator.ForClassPath classFileLocator = ClassFileLocator.ForClassPath.of(folder, jarFile);
+        try {
+            assertThat(classFileLocator.size(), is(2));
+            assertThat(classFileLocator.locate(FOO + "." + BAR).isResolved(), is(true));
+            assertThat(classFileLocator.locate(FOO + "." + BAR).resolve(), is(QUX));
+            assertThat(classFileLocator.locate(BAR).isResolved(), is(true));
+            assertThat(classFileLocator.locate(BAR).resolve(), is(BAZ));
+            assertThat(classFileLocator.locate(FOO).isResolved(), is(false));
+        } finally {
+            classFileLocator.close();
+        }
+    }
+
+    @Test
+    public void testFirstElementTakesPrecedence() throws Exception {
+        ClassFileLocator.ForClassPath classFileLocator = ClassFileLocator.ForClassPath.of(jarFile, folder);
+        try {
+            assertThat(classFileLocator.locate(FOO + "." + BAR).resolve(), is(BAZ));
+        } finally {
+            classFileLocator.close();
+        }
+    }
+
+    @Test
+    public void testClassPath() throws Exception {
+        ClassFileLocator.ForClassPath classFileLocator = ClassFileLocator.ForClassPath.ofClassPath();
+        try {
+            assertThat(classFileLocator.locate(getClass().getName()).resolve(),
+                    is(ClassFileLocator.ForClassLoader.ofClassPath().locate(getClass().getName()).resolve()));
+        } finally {
+            classFileLocator.close();
+        }
+    }
+
+    @Test
+    public void testModuleInfoAndVersionedClassFilesAreNotIndexed() throws Exception {
+        ClassFileLocator.ForClassPath classFileLocator = ClassFileLocator.ForClassPath.of(jarFile, folder);
+        try {
+            assertThat(classFileLocator.size(), is(2));
+            assertThat(classFileLocator.locate(MODULE_INFO).isResolved(), is(false));
+            assertThat(classFileLocator.locate(FOO + "." + BAR).resolve(), is(BAZ));
+        } finally {
+            classFileLocator.close();
+        }
+    }
+
+    @Test(expected = java.io.IOException.class)
+    public void testIllegalElement() throws Exception {
+        ClassFileLocator.ForClassPath.of(new File(folder, BAR));
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(ClassFileLocator.ForClassPath.Element.ForFolder.class).apply();
+        ObjectPropertyAssertion.of(ClassFileLocator.ForClassPath.Element.ForJarFile.class).create(new ObjectPropertyAssertion.Creator<ZipFile>() {
+            @Override
+            public ZipFile create() {
+                ZipFile zipFile = mock(ZipFile.class);
+                when(zipFile.getName()).thenReturn(FOO + Math.random());
+                return zipFile;
+            }
+        }).apply();
+        ObjectPropertyAssertion.of(ClassFileLocator.ForClassPath.Element.ForFolder.Entry.class).apply();
+        ObjectPropertyAssertion.of(ClassFileLocator.ForClassPath.Element.ForJarFile.Entry.class).create(new ObjectPropertyAssertion.Creator<ZipFile>() {
+            @Override
+            public ZipFile create() {
+                ZipFile zipFile = mock(ZipFile.class);
+                when(zipFile.getName()).thenReturn(FOO + Math.random());
+                return zipFile;
+            }
+        }).create(new ObjectPropertyAssertion.Creator<ZipEntry>() {
+            @Override
+            public ZipEntry create() {
+                return new ZipEntry(FOO + Math.random());
+            }
+        }).apply();
+    }
+}
@@ -0,0 +1,63 @@
+package net.bytebuddy.dynamic;
+
+import net.bytebuddy.instrumentation.type.TypeDescription;
+import net.bytebuddy.test.utility.MockitoRule;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.mockito.Mock;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.when;
+
+public class ClassFileLocatorSimpleTest {
+
+    private static final String FOO = "foo", BAR = "bar";
+
+    private static final byte[] BINARY_FIRST = new byte[]{1, 2, 3}, BINARY_SECOND = new byte[]{4, 5, 6};
+
+    @Rule
+    public TestRule mockitoRule = new MockitoRule(this);
+
+    @Mock
+    private DynamicType dynamicType;
+
+    @Mock
+    private TypeDescription typeDescription, auxiliaryTypeDescription;
+
+    @Test
+    public void testLocatable() throws Exception {
+        ClassFileLocator.Resolution resolution = new ClassFileLocator.Simple(Collections.singletonMap(FOO, BINARY_FIRST)).locate(FOO);
+        assertThat(resolution.isResolved(), is(true));
+        assertThat(resolution.resolve(), is(BINARY_FIRST));
+    }
+
+    @Test
+    public void testNonLocatable() throws Exception {
+        assertThat(new ClassFileLocator.Simple(Collections.singletonMap(FOO, BINARY_FIRST)).locate(BAR).isResolved(), is(false));
+    }
+
+    @Test
+    public void testDynamicType() throws Exception {
+        when(typeDescription.getName()).thenReturn(FOO);
+        when(auxiliaryTypeDescription.getName()).thenReturn(BAR);
+        Map<TypeDescription, byte[]> allTypes = new HashMap<TypeDescription, byte[]>();
+        allTypes.put(typeDescription, BINARY_FIRST);
+        allTypes.put(auxiliaryTypeDescription, BINARY_SECOND);
+        when(dynamicType.getAllTypes()).thenReturn(allTypes);
+        ClassFileLocator classFileLocator = ClassFileLocator.Simple.of(dynamicType);
+        assertThat(classFileLocator.locate(FOO).resolve(), is(BINARY_FIRST));
+        assertThat(classFileLocator.locate(BAR).resolve(), is(BINARY_SECOND));
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(ClassFileLocator.Simple.class).apply();
+    }
+}
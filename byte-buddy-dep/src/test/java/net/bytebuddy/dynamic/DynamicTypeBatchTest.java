@@ -0,0 +1,156 @@
+package net.bytebuddy.dynamic;
+
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.instrumentation.LoadedTypeInitializer;
+import net.bytebuddy.instrumentation.type.TypeDescription;
+import net.bytebuddy.instrumentation.type.TypeList;
+import net.bytebuddy.test.utility.MockitoRule;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyMapOf;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
+
+public class DynamicTypeBatchTest {
+
+    private static final String FOO = "foo", BAR = "bar", QUX = "qux";
+
+    private static final byte[] BINARY_FIRST = new byte[]{1, 2, 3}, BINARY_SECOND = new byte[]{4, 5, 6};
+
+    @Rule
+    public TestRule mockitoRule = new MockitoRule(this);
+
+    @Mock
+    private DynamicType.Builder<?> builder, otherBuilder;
+
+    @Mock
+    private DynamicType.Unloaded<?> dynamicType, otherDynamicType;
+
+    @Mock
+    private TypeDescription typeDescription, otherTypeDescription, superType;
+
+    @Mock
+    private LoadedTypeInitializer loadedTypeInitializer, otherLoadedTypeInitializer;
+
+    @Mock
+    private ClassLoadingStrategy classLoadingStrategy;
+
+    @Mock
+    private ClassLoader classLoader;
+
+    @Captor
+    private ArgumentCaptor<Map<TypeDescription, byte[]>> types;
+
+    private ExecutorService executorService;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        executorService = Executors.newSingleThreadExecutor();
+        when(builder.make()).thenReturn((DynamicType.Unloaded) dynamicType);
+        when(otherBuilder.make()).thenReturn((DynamicType.Unloaded) otherDynamicType);
+        when(typeDescription.getName()).thenReturn(FOO);
+        when(typeDescription.getSupertype()).thenReturn(otherTypeDescription);
+        when(typeDescription.getInterfaces()).thenReturn(new TypeList.Empty());
+        when(otherTypeDescription.getName()).thenReturn(BAR);
+        when(otherTypeDescription.getSupertype()).thenReturn(superType);
+        when(otherTypeDescription.getInterfaces()).thenReturn(new TypeList.Empty());
+        when(superType.getName()).thenReturn(QUX);
+        when(dynamicType.getAllTypes()).thenReturn(Collections.singletonMap(typeDescription, BINARY_FIRST));
+        when(dynamicType.getLoadedTypeInitializers()).thenReturn(Collections.singletonMap(typeDescription, loadedTypeInitializer));
+        when(otherDynamicType.getAllTypes()).thenReturn(Collections.singletonMap(otherTypeDescription, BINARY_SECOND));
+        when(otherDynamicType.getLoadedTypeInitializers()).thenReturn(Collections.singletonMap(otherTypeDescription, otherLoadedTypeInitializer));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        executorService.shutdown();
+    }
+
+    @Test
+    public void testMake() throws Exception {
+        List<DynamicType.Unloaded<?>> dynamicTypes = new DynamicTypeBatch(executorService).make(Arrays.<DynamicType.Builder<?>>asList(builder, otherBuilder));
+        assertThat(dynamicTypes, is(Arrays.<DynamicType.Unloaded<?>>asList(dynamicType, otherDynamicType)));
+        verify(builder).make();
+        verify(otherBuilder).make();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMakeRethrowsException() throws Exception {
+        when(otherBuilder.make()).thenThrow(new IllegalArgumentException());
+        new DynamicTypeBatch(executorService).make(Arrays.<DynamicType.Builder<?>>asList(builder, otherBuilder));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMakeDoesNotCancelOnSuccess() throws Exception {
+        ExecutorService executorService = mock(ExecutorService.class);
+        Future<DynamicType.Unloaded<?>> future = mock(Future.class);
+        when(executorService.submit(any(DynamicTypeBatch.Creation.class))).thenReturn((Future) future);
+        when(future.get()).thenReturn((DynamicType.Unloaded) dynamicType);
+        assertThat(new DynamicTypeBatch(executorService).make(Collections.<DynamicType.Builder<?>>singletonList(builder)),
+                is(Collections.<DynamicType.Unloaded<?>>singletonList(dynamicType)));
+        verify(future).get();
+        verifyNoMoreInteractions(future);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMakeCancelsOnFailure() throws Exception {
+        ExecutorService executorService = mock(ExecutorService.class);
+        Future<DynamicType.Unloaded<?>> future = mock(Future.class), otherFuture = mock(Future.class);
+        when(executorService.submit(any(DynamicTypeBatch.Creation.class))).thenReturn((Future) future, otherFuture);
+        when(future.get()).thenThrow(new ExecutionException(new IllegalArgumentException()));
+        try {
+            new DynamicTypeBatch(executorService).make(Arrays.<DynamicType.Builder<?>>asList(builder, otherBuilder));
+            fail();
+        } catch (IllegalArgumentException ignored) {
+            // expected
+        }
+        verify(future).cancel(true);
+        verify(otherFuture).cancel(true);
+        verify(otherFuture, never()).get();
+    }
+
+    @Test
+    public void testLoadInDependencyOrder() throws Exception {
+        Map<TypeDescription, Class<?>> loadedTypes = new HashMap<TypeDescription, Class<?>>();
+        loadedTypes.put(typeDescription, Object.class);
+        loadedTypes.put(otherTypeDescription, Void.class);
+        when(classLoadingStrategy.load(any(ClassLoader.class), anyMapOf(TypeDescription.class, byte[].class))).thenReturn(loadedTypes);
+        assertThat(new DynamicTypeBatch(executorService).load(Arrays.<DynamicType>asList(dynamicType, otherDynamicType),
+                classLoader,
+                classLoadingStrategy), is(loadedTypes));
+        verify(classLoadingStrategy).load(eq(classLoader), types.capture());
+        verifyNoMoreInteractions(classLoadingStrategy);
+        assertThat(new ArrayList<TypeDescription>(types.getValue().keySet()), is(Arrays.asList(otherTypeDescription, typeDescription)));
+        assertThat(types.getValue().get(typeDescription), is(BINARY_FIRST));
+        assertThat(types.getValue().get(otherTypeDescription), is(BINARY_SECOND));
+        verify(loadedTypeInitializer).onLoad(Object.class);
+        verify(otherLoadedTypeInitializer).onLoad(Void.class);
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(DynamicTypeBatch.class).apply();
+        ObjectPropertyAssertion.of(DynamicTypeBatch.Creation.class).apply();
+    }
+}
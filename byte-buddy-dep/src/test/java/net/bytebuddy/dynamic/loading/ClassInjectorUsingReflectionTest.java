@@ -16,6 +16,7 @@ import java.net.URLClassLoader;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.Map;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
@@ -56,6 +57,37 @@ public class ClassInjectorUsingReflectionTest {
         assertThat(classLoader.loadClass(Foo.class.getName()).getClassLoader(), is(classLoader));
     }
 
+    @Test
+    public void testInjectionWithClassLoadingLock() throws Exception {
+        new ClassInjector.UsingReflection(classLoader, ClassInjector.DEFAULT_PROTECTION_DOMAIN, ClassInjector.UsingReflection.Synchronization.CLASS_LOADING_LOCK)
+                .inject(Collections.<TypeDescription, byte[]>singletonMap(new TypeDescription.ForLoadedType(Foo.class), ClassFileExtraction.extract(Foo.class)));
+        assertThat(classLoader.loadClass(Foo.class.getName()).getClassLoader(), is(classLoader));
+    }
+
+    @Test
+    public void testInjectionOfLoadedClassReturnsLoadedClass() throws Exception {
+        for (ClassInjector.UsingReflection.Synchronization synchronization : ClassInjector.UsingReflection.Synchronization.values()) {
+            Map<TypeDescription, Class<?>> loaded = new ClassInjector.UsingReflection(classLoader, ClassInjector.DEFAULT_PROTECTION_DOMAIN, synchronization)
+                    .inject(Collections.<TypeDescription, byte[]>singletonMap(new TypeDescription.ForLoadedType(Foo.class), ClassFileExtraction.extract(Foo.class)));
+            assertThat(loaded.get(new TypeDescription.ForLoadedType(Foo.class)), is((Object) classLoader.loadClass(Foo.class.getName())));
+        }
+    }
+
+    @Test
+    public void testNonParallelCapableClassLoaderIsLockedByMonitor() throws Exception {
+        ClassLoader classLoader = new ClassLoader(null) {
+            /* empty */
+        };
+        new ClassInjector.UsingReflection(classLoader, ClassInjector.DEFAULT_PROTECTION_DOMAIN, ClassInjector.UsingReflection.Synchronization.CLASS_LOADING_LOCK)
+                .inject(Collections.<TypeDescription, byte[]>singletonMap(new TypeDescription.ForLoadedType(Foo.class), ClassFileExtraction.extract(Foo.class)));
+        assertThat(classLoader.loadClass(Foo.class.getName()).getClassLoader(), is(classLoader));
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testFaultyReflectionStoreClassLoadingLock() throws Exception {
+        new ClassInjector.UsingReflection.ReflectionStore.Faulty(new Exception()).getClassLoadingLock(classLoader, FOO);
+    }
+
     @Test(expected = RuntimeException.class)
     public void testFaultyReflectionStoreClassMethod() throws Exception {
         new ClassInjector.UsingReflection.ReflectionStore.Faulty(new Exception()).getFindLoadedClassMethod();
@@ -79,7 +111,15 @@ public class ClassInjectorUsingReflectionTest {
                 return iterator.next();
             }
         }).apply();
+        final Iterator<Method> otherIterator = Arrays.asList(Object.class.getDeclaredMethods()).iterator();
+        ObjectPropertyAssertion.of(ClassInjector.UsingReflection.ReflectionStore.Resolved.WithClassLoadingLock.class).create(new ObjectPropertyAssertion.Creator<Method>() {
+            @Override
+            public Method create() {
+                return otherIterator.next();
+            }
+        }).apply();
         ObjectPropertyAssertion.of(ClassInjector.UsingReflection.ReflectionStore.Faulty.class).apply();
+        ObjectPropertyAssertion.of(ClassInjector.UsingReflection.Synchronization.class).apply();
     }
 
     private static class Foo {
@@ -0,0 +1,106 @@
+package net.bytebuddy.dynamic.loading;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.instrumentation.type.TypeDescription;
+import net.bytebuddy.test.utility.ClassFileExtraction;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import net.bytebuddy.utility.RandomString;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ClassInjectorUsingUnsafeTest {
+
+    private static final String FOO = "foo";
+
+    private ClassLoader classLoader;
+
+    @Before
+    public void setUp() throws Exception {
+        classLoader = new URLClassLoader(new URL[0], null /* null represents the bootstrap class loader */);
+    }
+
+    @Test
+    public void testAvailability() throws Exception {
+        assertThat(ClassInjector.UsingUnsafe.isAvailable(), is(true));
+    }
+
+    @Test
+    public void testInjection() throws Exception {
+        new ClassInjector.UsingUnsafe(classLoader).inject(Collections.<TypeDescription, byte[]>singletonMap(new TypeDescription.ForLoadedType(Foo.class),
+                ClassFileExtraction.extract(Foo.class)));
+        assertThat(classLoader.loadClass(Foo.class.getName()).getClassLoader(), is(classLoader));
+    }
+
+    @Test
+    public void testInjectionOfLoadedClassReturnsLoadedClass() throws Exception {
+        ClassInjector classInjector = new ClassInjector.UsingUnsafe(classLoader);
+        Map<TypeDescription, byte[]> types = Collections.<TypeDescription, byte[]>singletonMap(new TypeDescription.ForLoadedType(Foo.class),
+                ClassFileExtraction.extract(Foo.class));
+        Class<?> type = classInjector.inject(types).get(new TypeDescription.ForLoadedType(Foo.class));
+        assertThat(classInjector.inject(types).get(new TypeDescription.ForLoadedType(Foo.class)), is((Object) type));
+    }
+
+    @Test
+    public void testInjectionDoesNotResolveParentClass() throws Exception {
+        ClassLoader classLoader = new URLClassLoader(new URL[0], Foo.class.getClassLoader());
+        Class<?> type = new ClassInjector.UsingUnsafe(classLoader).inject(Collections.<TypeDescription, byte[]>singletonMap(new TypeDescription.ForLoadedType(Foo.class),
+                ClassFileExtraction.extract(Foo.class))).get(new TypeDescription.ForLoadedType(Foo.class));
+        assertThat(type.getClassLoader(), is(classLoader));
+    }
+
+    @Test
+    public void testBootstrapInjection() throws Exception {
+        String name = FOO + RandomString.make();
+        DynamicType dynamicType = new ByteBuddy().subclass(Object.class).name(name).make();
+        Map<TypeDescription, Class<?>> types = new ClassInjector.UsingUnsafe(null)
+                .inject(Collections.singletonMap(dynamicType.getTypeDescription(), dynamicType.getBytes()));
+        assertThat(types.size(), is(1));
+        assertThat(types.get(dynamicType.getTypeDescription()).getName(), is(name));
+        assertThat(types.get(dynamicType.getTypeDescription()).getClassLoader(), nullValue(ClassLoader.class));
+    }
+
+    @Test
+    public void testFaultyDispatcherIsNotAvailable() throws Exception {
+        assertThat(new ClassInjector.UsingUnsafe.Dispatcher.Faulty(new Exception()).isAvailable(), is(false));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testFaultyDispatcherThrowsException() throws Exception {
+        new ClassInjector.UsingUnsafe.Dispatcher.Faulty(new Exception()).defineClass(classLoader, FOO, new byte[0], ClassInjector.DEFAULT_PROTECTION_DOMAIN);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testFaultyDispatcherCannotFindLoadedClass() throws Exception {
+        new ClassInjector.UsingUnsafe.Dispatcher.Faulty(new Exception()).findLoadedClass(classLoader, FOO);
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(ClassInjector.UsingUnsafe.class).apply();
+        final Iterator<Method> iterator = Arrays.asList(Object.class.getDeclaredMethods()).iterator();
+        ObjectPropertyAssertion.of(ClassInjector.UsingUnsafe.Dispatcher.Resolved.class).create(new ObjectPropertyAssertion.Creator<Method>() {
+            @Override
+            public Method create() {
+                return iterator.next();
+            }
+        }).apply();
+        ObjectPropertyAssertion.of(ClassInjector.UsingUnsafe.Dispatcher.Faulty.class).apply();
+    }
+
+    private static class Foo {
+        /* Note: Foo is know to the system class loader but not to the bootstrap class loader */
+    }
+}
@@ -22,6 +22,7 @@ import org.mockito.stubbing.Answer;
 
 import java.lang.reflect.Field;
 
+import static net.bytebuddy.matcher.ElementMatchers.named;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -31,6 +32,8 @@ public class MethodRegistryDefaultTest {
 
     private static final int BASIC_SIZE = 1, EXTENDED_SIZE = 2;
 
+    private static final String FOO = "foo", BAR = "bar";
+
     @Rule
     public TestRule mockitoRule = new MockitoRule(this);
 
@@ -56,7 +59,7 @@ public class MethodRegistryDefaultTest {
     private MethodRegistry.Compiled.Entry fallback;
 
     @Mock
-    private MethodRegistry.LatentMethodMatcher latentMatchesKnownMethod;
+    private MethodRegistry.LatentMethodMatcher latentMatchesKnownMethod, latentMatchesNamedMethod;
 
     @Mock
     private ElementMatcher<? super MethodDescription> matchesKnownMethod;
@@ -91,6 +94,9 @@ public class MethodRegistryDefaultTest {
         when(fallbackFactory.compile(any(Instrumentation.Target.class))).thenReturn(fallback);
         when(latentMatchesKnownMethod.manifest(any(TypeDescription.class))).thenReturn((ElementMatcher) matchesKnownMethod);
         when(matchesKnownMethod.matches(knownMethod)).thenReturn(true);
+        when(latentMatchesNamedMethod.manifest(any(TypeDescription.class))).thenReturn((ElementMatcher) named(FOO));
+        when(knownMethod.getSourceCodeName()).thenReturn(FOO);
+        when(unknownMethod.getSourceCodeName()).thenReturn(BAR);
         when(basicInstrumentedType.getDeclaredMethods()).thenReturn(basicMethodList);
         when(basicMethodList.size()).thenReturn(BASIC_SIZE);
         when(basicFinding.getInvokableMethods()).thenReturn(basicMethodList);
@@ -229,6 +235,30 @@ public class MethodRegistryDefaultTest {
         verifyNoMoreInteractions(fallbackFactory);
     }
 
+    @Test
+    public void testIndexedEntryIsOnlyAppliedToIndexedMethods() throws Exception {
+        MethodRegistry.Compiled compiled = new MethodRegistry.Default()
+                .append(latentMatchesNamedMethod, simpleInstrumentation, simpleAttributeAppenderFactory)
+                .append(latentMatchesKnownMethod, otherInstrumentation, otherAttributeAppenderFactory)
+                .prepare(basicInstrumentedType)
+                .compile(instrumentationTargetFactory, methodLookupEngine, fallbackFactory);
+        assertThat(compiled.target(knownMethod).getByteCodeAppender(), is(simpleByteCodeAppender));
+        assertThat(compiled.target(unknownMethod), is(fallback));
+        verify(matchesKnownMethod).matches(unknownMethod);
+        verify(matchesKnownMethod, never()).matches(knownMethod);
+    }
+
+    @Test
+    public void testIndexedEntryRetainsRegistrationOrder() throws Exception {
+        MethodRegistry.Compiled compiled = new MethodRegistry.Default()
+                .append(latentMatchesKnownMethod, otherInstrumentation, otherAttributeAppenderFactory)
+                .append(latentMatchesNamedMethod, simpleInstrumentation, simpleAttributeAppenderFactory)
+                .prepare(basicInstrumentedType)
+                .compile(instrumentationTargetFactory, methodLookupEngine, fallbackFactory);
+        assertThat(compiled.target(knownMethod).getByteCodeAppender(), is(otherByteCodeAppender));
+        assertThat(compiled.target(unknownMethod), is(fallback));
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void testAppendedMethodsAreHandledByAppendingInstrumentation() throws Exception {
@@ -260,7 +290,7 @@ public class MethodRegistryDefaultTest {
         ObjectPropertyAssertion.of(MethodRegistry.Default.class).apply();
         ObjectPropertyAssertion.of(MethodRegistry.Default.Entry.class).apply();
         ObjectPropertyAssertion.of(MethodRegistry.Default.Prepared.class).apply();
-        ObjectPropertyAssertion.of(MethodRegistry.Default.Compiled.class).apply();
+        ObjectPropertyAssertion.of(MethodRegistry.Default.Compiled.class).ignoreFields("index").apply();
         ObjectPropertyAssertion.of(MethodRegistry.Default.Compiled.Entry.class).apply();
     }
 
@@ -20,6 +20,7 @@ import java.util.List;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class TypeWriterDefaultTest {
@@ -47,6 +48,12 @@ public class TypeWriterDefaultTest {
     @Mock
     private DynamicType firstAuxiliary, secondAuxiliary;
 
+    @Mock
+    private Instrumentation.Context.Factory instrumentationContextFactory;
+
+    @Mock
+    private Instrumentation.Context.ExtractableView instrumentationContext;
+
     private List<DynamicType> explicitAuxiliaryTypes;
 
     @Before
@@ -55,6 +62,7 @@ public class TypeWriterDefaultTest {
         when(engine.create(any(Instrumentation.Context.ExtractableView.class))).thenReturn(MAIN);
         when(firstAuxiliary.getTypeDescription()).thenReturn(otherAuxiliaryDescription);
         when(firstAuxiliary.getBytes()).thenReturn(FIRST);
+        when(instrumentationContextFactory.make(instrumentedType, typeInitializer, classFileVersion)).thenReturn(instrumentationContext);
     }
 
     @Test
@@ -64,12 +72,15 @@ public class TypeWriterDefaultTest {
                 typeInitializer,
                 explicitAuxiliaryTypes,
                 classFileVersion,
-                engine).make();
+                engine,
+                instrumentationContextFactory).make();
         assertThat(dynamicType.getBytes(), is(MAIN));
         assertThat(dynamicType.getTypeDescription(), is(instrumentedType));
         assertThat(dynamicType.getLoadedTypeInitializers().get(instrumentedType), is(loadedTypeInitializer));
         assertThat(dynamicType.getRawAuxiliaryTypes().size(), is(1));
         assertThat(dynamicType.getRawAuxiliaryTypes().get(otherAuxiliaryDescription), is(FIRST));
+        verify(instrumentationContextFactory).make(instrumentedType, typeInitializer, classFileVersion);
+        verify(engine).create(instrumentationContext);
     }
 
     @Test
@@ -165,6 +165,7 @@ public class InlineDynamicTypeBuilderTest {
                 new FieldRegistry.Default(),
                 new MethodRegistry.Default(),
                 MethodLookupEngine.Default.Factory.INSTANCE,
+                Instrumentation.Context.Default.Factory.SUFFIXING_RANDOM,
                 FieldAttributeAppender.NoOp.INSTANCE,
                 MethodAttributeAppender.NoOp.INSTANCE,
                 ClassFileLocator.ForClassLoader.ofClassPath(),
@@ -208,6 +209,7 @@ public class InlineDynamicTypeBuilderTest {
                 new FieldRegistry.Default(),
                 new MethodRegistry.Default(),
                 MethodLookupEngine.Default.Factory.INSTANCE,
+                Instrumentation.Context.Default.Factory.SUFFIXING_RANDOM,
                 FieldAttributeAppender.NoOp.INSTANCE,
                 MethodAttributeAppender.NoOp.INSTANCE,
                 ClassFileLocator.ForClassLoader.ofClassPath(),
@@ -247,6 +249,7 @@ public class InlineDynamicTypeBuilderTest {
                 new FieldRegistry.Default(),
                 new MethodRegistry.Default(),
                 MethodLookupEngine.Default.Factory.INSTANCE,
+                Instrumentation.Context.Default.Factory.SUFFIXING_RANDOM,
                 FieldAttributeAppender.NoOp.INSTANCE,
                 MethodAttributeAppender.NoOp.INSTANCE,
                 ClassFileLocator.ForClassLoader.ofClassPath(),
@@ -293,6 +296,7 @@ public class InlineDynamicTypeBuilderTest {
                 new FieldRegistry.Default(),
                 new MethodRegistry.Default(),
                 MethodLookupEngine.Default.Factory.INSTANCE,
+                Instrumentation.Context.Default.Factory.SUFFIXING_RANDOM,
                 FieldAttributeAppender.NoOp.INSTANCE,
                 MethodAttributeAppender.NoOp.INSTANCE,
                 ClassFileLocator.ForClassLoader.ofClassPath(),
@@ -335,6 +339,7 @@ public class InlineDynamicTypeBuilderTest {
                 new FieldRegistry.Default(),
                 new MethodRegistry.Default(),
                 MethodLookupEngine.Default.Factory.INSTANCE,
+                Instrumentation.Context.Default.Factory.SUFFIXING_RANDOM,
                 FieldAttributeAppender.NoOp.INSTANCE,
                 MethodAttributeAppender.NoOp.INSTANCE,
                 ClassFileLocator.ForClassLoader.ofClassPath(),
@@ -385,6 +390,7 @@ public class InlineDynamicTypeBuilderTest {
                 new FieldRegistry.Default(),
                 new MethodRegistry.Default(),
                 MethodLookupEngine.Default.Factory.INSTANCE,
+                Instrumentation.Context.Default.Factory.SUFFIXING_RANDOM,
                 FieldAttributeAppender.NoOp.INSTANCE,
                 MethodAttributeAppender.NoOp.INSTANCE,
                 ClassFileLocator.ForClassLoader.ofClassPath(),
@@ -431,6 +437,7 @@ public class InlineDynamicTypeBuilderTest {
                 new FieldRegistry.Default(),
                 new MethodRegistry.Default(),
                 MethodLookupEngine.Default.Factory.INSTANCE,
+                Instrumentation.Context.Default.Factory.SUFFIXING_RANDOM,
                 FieldAttributeAppender.NoOp.INSTANCE,
                 MethodAttributeAppender.NoOp.INSTANCE,
                 ClassFileLocator.ForClassLoader.ofClassPath(),
@@ -482,6 +489,7 @@ public class InlineDynamicTypeBuilderTest {
                 new FieldRegistry.Default(),
                 new MethodRegistry.Default(),
                 MethodLookupEngine.Default.Factory.INSTANCE,
+                Instrumentation.Context.Default.Factory.SUFFIXING_RANDOM,
                 FieldAttributeAppender.NoOp.INSTANCE,
                 MethodAttributeAppender.NoOp.INSTANCE,
                 ClassFileLocator.ForClassLoader.ofClassPath(),
@@ -210,6 +210,7 @@ public class SubclassDynamicTypeBuilderTest {
                 new FieldRegistry.Default(),
                 new MethodRegistry.Default(),
                 MethodLookupEngine.Default.Factory.INSTANCE,
+                Instrumentation.Context.Default.Factory.SUFFIXING_RANDOM,
                 FieldAttributeAppender.NoOp.INSTANCE,
                 MethodAttributeAppender.NoOp.INSTANCE,
                 ConstructorStrategy.Default.IMITATE_SUPER_TYPE)
@@ -243,6 +244,7 @@ public class SubclassDynamicTypeBuilderTest {
                 new FieldRegistry.Default(),
                 new MethodRegistry.Default(),
                 MethodLookupEngine.Default.Factory.INSTANCE,
+                Instrumentation.Context.Default.Factory.SUFFIXING_RANDOM,
                 FieldAttributeAppender.NoOp.INSTANCE,
                 MethodAttributeAppender.NoOp.INSTANCE,
                 ConstructorStrategy.Default.IMITATE_SUPER_TYPE)
@@ -282,6 +284,7 @@ public class SubclassDynamicTypeBuilderTest {
                 new FieldRegistry.Default(),
                 new MethodRegistry.Default(),
                 MethodLookupEngine.Default.Factory.INSTANCE,
+                Instrumentation.Context.Default.Factory.SUFFIXING_RANDOM,
                 FieldAttributeAppender.NoOp.INSTANCE,
                 MethodAttributeAppender.NoOp.INSTANCE,
                 ConstructorStrategy.Default.IMITATE_SUPER_TYPE)
@@ -328,6 +331,7 @@ public class SubclassDynamicTypeBuilderTest {
                 new FieldRegistry.Default(),
                 new MethodRegistry.Default(),
                 MethodLookupEngine.Default.Factory.INSTANCE,
+                Instrumentation.Context.Default.Factory.SUFFIXING_RANDOM,
                 FieldAttributeAppender.NoOp.INSTANCE,
                 MethodAttributeAppender.NoOp.INSTANCE,
                 ConstructorStrategy.Default.IMITATE_SUPER_TYPE)
@@ -370,6 +374,7 @@ public class SubclassDynamicTypeBuilderTest {
                 new FieldRegistry.Default(),
                 new MethodRegistry.Default(),
                 MethodLookupEngine.Default.Factory.INSTANCE,
+                Instrumentation.Context.Default.Factory.SUFFIXING_RANDOM,
                 FieldAttributeAppender.NoOp.INSTANCE,
                 MethodAttributeAppender.NoOp.INSTANCE,
                 ConstructorStrategy.Default.NO_CONSTRUCTORS)
@@ -410,6 +415,7 @@ public class SubclassDynamicTypeBuilderTest {
                 new FieldRegistry.Default(),
                 new MethodRegistry.Default(),
                 MethodLookupEngine.Default.Factory.INSTANCE,
+                Instrumentation.Context.Default.Factory.SUFFIXING_RANDOM,
                 FieldAttributeAppender.NoOp.INSTANCE,
                 MethodAttributeAppender.NoOp.INSTANCE,
                 ConstructorStrategy.Default.IMITATE_SUPER_TYPE)
@@ -463,6 +469,7 @@ public class SubclassDynamicTypeBuilderTest {
                 new FieldRegistry.Default(),
                 new MethodRegistry.Default(),
                 MethodLookupEngine.Default.Factory.INSTANCE,
+                Instrumentation.Context.Default.Factory.SUFFIXING_RANDOM,
                 FieldAttributeAppender.NoOp.INSTANCE,
                 MethodAttributeAppender.NoOp.INSTANCE,
                 ConstructorStrategy.Default.IMITATE_SUPER_TYPE)
@@ -525,6 +532,7 @@ public class SubclassDynamicTypeBuilderTest {
                 new FieldRegistry.Default(),
                 new MethodRegistry.Default(),
                 MethodLookupEngine.Default.Factory.INSTANCE,
+                Instrumentation.Context.Default.Factory.SUFFIXING_RANDOM,
                 FieldAttributeAppender.NoOp.INSTANCE,
                 MethodAttributeAppender.NoOp.INSTANCE,
                 ConstructorStrategy.Default.IMITATE_SUPER_TYPE)
@@ -546,6 +554,7 @@ public class SubclassDynamicTypeBuilderTest {
                 new FieldRegistry.Default(),
                 new MethodRegistry.Default(),
                 MethodLookupEngine.Default.Factory.INSTANCE,
+                Instrumentation.Context.Default.Factory.SUFFIXING_RANDOM,
                 FieldAttributeAppender.NoOp.INSTANCE,
                 MethodAttributeAppender.NoOp.INSTANCE,
                 ConstructorStrategy.Default.IMITATE_SUPER_TYPE)
@@ -571,6 +580,7 @@ public class SubclassDynamicTypeBuilderTest {
                 new FieldRegistry.Default(),
                 new MethodRegistry.Default(),
                 MethodLookupEngine.Default.Factory.INSTANCE,
+                Instrumentation.Context.Default.Factory.SUFFIXING_RANDOM,
                 FieldAttributeAppender.NoOp.INSTANCE,
                 MethodAttributeAppender.NoOp.INSTANCE,
                 ConstructorStrategy.Default.IMITATE_SUPER_TYPE)
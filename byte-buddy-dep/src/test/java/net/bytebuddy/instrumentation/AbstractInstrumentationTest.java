@@ -59,6 +59,7 @@ public abstract class AbstractInstrumentationTest {
                 new FieldRegistry.Default(),
                 new MethodRegistry.Default(),
                 MethodLookupEngine.Default.Factory.INSTANCE,
+                Instrumentation.Context.Default.Factory.SUFFIXING_RANDOM,
                 FieldAttributeAppender.NoOp.INSTANCE,
                 MethodAttributeAppender.NoOp.INSTANCE,
                 ConstructorStrategy.Default.IMITATE_SUPER_TYPE)
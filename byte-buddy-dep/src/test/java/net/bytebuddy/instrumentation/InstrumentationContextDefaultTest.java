@@ -21,6 +21,7 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TestRule;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Matchers;
 import org.mockito.Mock;
 import org.objectweb.asm.ClassVisitor;
@@ -31,6 +32,7 @@ import org.objectweb.asm.Opcodes;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.startsWith;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.AdditionalMatchers.aryEq;
@@ -111,6 +113,7 @@ public class InstrumentationContextDefaultTest {
         firstSpecialExceptionTypes = new TypeList.Explicit(Collections.singletonList(firstSpecialExceptionType));
         secondSpecialExceptionTypes = new TypeList.Explicit(Collections.singletonList(secondSpecialExceptionType));
         when(instrumentedType.getInternalName()).thenReturn(BAZ);
+        when(instrumentedType.getName()).thenReturn(BAZ);
         when(methodPool.target(any(MethodDescription.class))).thenReturn(entry);
         when(auxiliaryType.make(any(String.class), any(ClassFileVersion.class), any(AuxiliaryType.MethodAccessorFactory.class)))
                 .thenReturn(firstDynamicType);
@@ -609,13 +612,67 @@ public class InstrumentationContextDefaultTest {
         verify(methodVisitor).visitEnd();
     }
 
+    @Test
+    public void testNamesAreDeterministic() throws Exception {
+        Instrumentation.Context.ExtractableView instrumentationContext = new Instrumentation.Context.Default(instrumentedType,
+                typeInitializer,
+                classFileVersion);
+        Instrumentation.Context.ExtractableView otherInstrumentationContext = new Instrumentation.Context.Default(instrumentedType,
+                typeInitializer,
+                classFileVersion);
+        assertThat(instrumentationContext.cache(firstFieldValue, firstFieldType).getName(),
+                is(otherInstrumentationContext.cache(firstFieldValue, firstFieldType).getName()));
+        assertThat(instrumentationContext.cache(secondFieldValue, secondFieldType).getName(),
+                is(otherInstrumentationContext.cache(secondFieldValue, secondFieldType).getName()));
+        assertThat(instrumentationContext.cache(firstFieldValue, firstFieldType).getName(),
+                not(instrumentationContext.cache(secondFieldValue, secondFieldType).getName()));
+    }
+
+    @Test
+    public void testAuxiliaryTypeNamesAreRandomByDefault() throws Exception {
+        new Instrumentation.Context.Default(instrumentedType, typeInitializer, classFileVersion).register(auxiliaryType);
+        new Instrumentation.Context.Default(instrumentedType, typeInitializer, classFileVersion).register(auxiliaryType);
+        ArgumentCaptor<String> name = ArgumentCaptor.forClass(String.class);
+        verify(auxiliaryType, times(2)).make(name.capture(), eq(classFileVersion), any(AuxiliaryType.MethodAccessorFactory.class));
+        assertThat(name.getAllValues().get(0), startsWith(BAZ + "$accessor$"));
+        assertThat(name.getAllValues().get(0), not(name.getAllValues().get(1)));
+    }
+
+    @Test
+    public void testEnumeratingAuxiliaryTypeNamingStrategy() throws Exception {
+        Instrumentation.Context.Default.AuxiliaryTypeNamingStrategy namingStrategy =
+                new Instrumentation.Context.Default.AuxiliaryTypeNamingStrategy.Enumerating(FOO);
+        assertThat(namingStrategy.name(auxiliaryType, instrumentedType), is(BAZ + "$" + FOO + "$0"));
+        assertThat(namingStrategy.name(otherAuxiliaryType, instrumentedType), is(BAZ + "$" + FOO + "$1"));
+    }
+
+    @Test
+    public void testEnumeratingFactoryNamesAuxiliaryTypesDeterministically() throws Exception {
+        Instrumentation.Context.Default.Factory.ENUMERATING.make(instrumentedType, typeInitializer, classFileVersion).register(auxiliaryType);
+        Instrumentation.Context.Default.Factory.ENUMERATING.make(instrumentedType, typeInitializer, classFileVersion).register(auxiliaryType);
+        ArgumentCaptor<String> name = ArgumentCaptor.forClass(String.class);
+        verify(auxiliaryType, times(2)).make(name.capture(), eq(classFileVersion), any(AuxiliaryType.MethodAccessorFactory.class));
+        assertThat(name.getAllValues().get(0), is(BAZ + "$accessor$0"));
+        assertThat(name.getAllValues().get(1), is(BAZ + "$accessor$0"));
+    }
+
+    @Test
+    public void testSuffixingRandomFactoryNamesAuxiliaryTypesRandomly() throws Exception {
+        Instrumentation.Context.Default.Factory.SUFFIXING_RANDOM.make(instrumentedType, typeInitializer, classFileVersion).register(auxiliaryType);
+        ArgumentCaptor<String> name = ArgumentCaptor.forClass(String.class);
+        verify(auxiliaryType).make(name.capture(), eq(classFileVersion), any(AuxiliaryType.MethodAccessorFactory.class));
+        assertThat(name.getValue(), startsWith(BAZ + "$accessor$"));
+    }
+
     @Test
     public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(Instrumentation.Context.Default.Factory.class).apply();
         ObjectPropertyAssertion.of(Instrumentation.Context.Default.class).applyMutable();
         ObjectPropertyAssertion.of(Instrumentation.Context.Default.FieldCacheAppender.class).apply();
         ObjectPropertyAssertion.of(Instrumentation.Context.Default.FieldCacheEntry.class).apply();
         ObjectPropertyAssertion.of(Instrumentation.Context.Default.AccessorMethodDelegation.class).apply();
         ObjectPropertyAssertion.of(Instrumentation.Context.Default.FieldSetter.class).apply();
         ObjectPropertyAssertion.of(Instrumentation.Context.Default.FieldGetter.class).apply();
+        ObjectPropertyAssertion.of(Instrumentation.Context.Default.AuxiliaryTypeNamingStrategy.Enumerating.class).apply();
     }
 }
@@ -3,10 +3,13 @@ package net.bytebuddy.instrumentation;
 import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.instrumentation.method.bytecode.bind.annotation.Pipe;
 import net.bytebuddy.instrumentation.method.bytecode.bind.annotation.RuntimeType;
+import net.bytebuddy.instrumentation.type.auxiliary.AuxiliaryType;
 import net.bytebuddy.test.utility.CallTraceable;
 import org.junit.Test;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Callable;
 
 import static org.hamcrest.CoreMatchers.*;
@@ -44,6 +47,52 @@ public class MethodDelegationPipeTest extends AbstractInstrumentationTest {
         instance.assertZeroCalls();
     }
 
+    @Test
+    public void testPipeWithoutArgumentsIsShared() throws Exception {
+        CollectingForwardingInterceptor interceptor = new CollectingForwardingInterceptor(new Quux());
+        DynamicType.Loaded<Quux> loaded = instrument(Quux.class, MethodDelegation.to(interceptor)
+                .defineParameterBinder(Pipe.Binder.install(ForwardingType.class)));
+        Quux instance = loaded.getLoaded().newInstance();
+        assertThat(instance.foo(), is(FOO));
+        assertThat(instance.foo(), is(FOO));
+        assertThat(interceptor.pipes.size(), is(2));
+        assertThat(interceptor.pipes.get(0), sameInstance(interceptor.pipes.get(1)));
+    }
+
+    @Test
+    public void testPipeWithArgumentsIsNotShared() throws Exception {
+        CollectingForwardingInterceptor interceptor = new CollectingForwardingInterceptor(new Foo(FOO));
+        DynamicType.Loaded<Foo> loaded = instrument(Foo.class, MethodDelegation.to(interceptor)
+                .defineParameterBinder(Pipe.Binder.install(ForwardingType.class)));
+        Foo instance = loaded.getLoaded().newInstance();
+        assertThat(instance.foo(QUX), is(FOO + QUX));
+        assertThat(instance.foo(QUX), is(FOO + QUX));
+        assertThat(interceptor.pipes.size(), is(2));
+        assertThat(interceptor.pipes.get(0), not(sameInstance(interceptor.pipes.get(1))));
+    }
+
+    @Test
+    public void testPipeTypeIsSharedByRegistry() throws Exception {
+        CollectingForwardingInterceptor interceptor = new CollectingForwardingInterceptor(new Quux());
+        Instrumentation instrumentation = MethodDelegation.to(interceptor)
+                .defineParameterBinder(Pipe.Binder.install(ForwardingType.class, new AuxiliaryType.Registry.Sharing()));
+        assertThat(instrument(Quux.class, instrumentation).getLoaded().newInstance().foo(), is(FOO));
+        assertThat(instrument(Quux.class, instrumentation).getLoaded().newInstance().foo(), is(FOO));
+        assertThat(interceptor.pipes.size(), is(2));
+        assertThat(interceptor.pipes.get(0).getClass().getName(), is(interceptor.pipes.get(1).getClass().getName()));
+    }
+
+    @Test
+    public void testPipeTypeIsNotSharedByDefault() throws Exception {
+        CollectingForwardingInterceptor interceptor = new CollectingForwardingInterceptor(new Quux());
+        Instrumentation instrumentation = MethodDelegation.to(interceptor)
+                .defineParameterBinder(Pipe.Binder.install(ForwardingType.class));
+        assertThat(instrument(Quux.class, instrumentation).getLoaded().newInstance().foo(), is(FOO));
+        assertThat(instrument(Quux.class, instrumentation).getLoaded().newInstance().foo(), is(FOO));
+        assertThat(interceptor.pipes.size(), is(2));
+        assertThat(interceptor.pipes.get(0).getClass().getName(), not(interceptor.pipes.get(1).getClass().getName()));
+    }
+
     @Test
     public void testPipeToSubtype() throws Exception {
         DynamicType.Loaded<Foo> loaded = instrument(Foo.class, MethodDelegation.to(new ForwardingInterceptor(new Bar(FOO)))
@@ -154,6 +203,30 @@ public class MethodDelegationPipeTest extends AbstractInstrumentationTest {
         }
     }
 
+    public static class Quux {
+
+        public String foo() {
+            return FOO;
+        }
+    }
+
+    public static class CollectingForwardingInterceptor {
+
+        private final Object target;
+
+        private final List<ForwardingType<Object, String>> pipes;
+
+        public CollectingForwardingInterceptor(Object target) {
+            this.target = target;
+            pipes = new ArrayList<ForwardingType<Object, String>>();
+        }
+
+        public String intercept(@Pipe ForwardingType<Object, String> pipe) {
+            pipes.add(pipe);
+            return pipe.doPipe(target);
+        }
+    }
+
     public static class Bar extends Foo {
 
         public Bar(String prefix) {
@@ -1,8 +1,10 @@
 package net.bytebuddy.instrumentation;
 
+import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.instrumentation.method.bytecode.bind.annotation.RuntimeType;
 import net.bytebuddy.instrumentation.method.bytecode.bind.annotation.SuperCall;
+import net.bytebuddy.instrumentation.type.TypeDescription;
 import net.bytebuddy.test.utility.CallTraceable;
 import net.bytebuddy.test.utility.JavaVersionRule;
 import net.bytebuddy.test.utility.PrecompiledTypeClassLoader;
@@ -14,6 +16,8 @@ import org.junit.rules.MethodRule;
 
 import java.io.Serializable;
 import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.Callable;
 
 import static net.bytebuddy.matcher.ElementMatchers.*;
@@ -55,6 +59,38 @@ public class MethodDelegationSuperCallTest extends AbstractInstrumentationTest {
         assertThat(instance.bar(), is(FOO));
     }
 
+    @Test
+    public void testEnumeratedSuperCallIsReproducible() throws Exception {
+        DynamicType.Builder<Bar> builder = new ByteBuddy()
+                .withInstrumentationContext(Instrumentation.Context.Default.Factory.ENUMERATING)
+                .subclass(Bar.class)
+                .name(Bar.class.getName() + "$" + FOO)
+                .method(isDeclaredBy(Bar.class)).intercept(MethodDelegation.to(CallableClass.class));
+        Map<String, byte[]> first = binaryRepresentations(builder.make()), second = binaryRepresentations(builder.make());
+        assertThat(first.size(), is(2));
+        assertThat(first.keySet(), is(second.keySet()));
+        for (Map.Entry<String, byte[]> entry : first.entrySet()) {
+            assertThat(entry.getValue(), is(second.get(entry.getKey())));
+        }
+    }
+
+    @Test
+    public void testRandomSuperCallIsNotReproducible() throws Exception {
+        DynamicType.Builder<Bar> builder = new ByteBuddy()
+                .subclass(Bar.class)
+                .name(Bar.class.getName() + "$" + FOO)
+                .method(isDeclaredBy(Bar.class)).intercept(MethodDelegation.to(CallableClass.class));
+        assertThat(binaryRepresentations(builder.make()).keySet(), CoreMatchers.not(binaryRepresentations(builder.make()).keySet()));
+    }
+
+    private static Map<String, byte[]> binaryRepresentations(DynamicType dynamicType) {
+        Map<String, byte[]> binaryRepresentations = new HashMap<String, byte[]>();
+        for (Map.Entry<TypeDescription, byte[]> entry : dynamicType.getAllTypes().entrySet()) {
+            binaryRepresentations.put(entry.getKey().getName(), entry.getValue());
+        }
+        return binaryRepresentations;
+    }
+
     @Test
     public void testVoidToNonVoidSuperCall() throws Exception {
         DynamicType.Loaded<VoidTest> loaded = instrument(VoidTest.class, MethodDelegation.to(NonVoidTarget.class));
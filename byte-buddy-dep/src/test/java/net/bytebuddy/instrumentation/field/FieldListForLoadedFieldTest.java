@@ -6,6 +6,7 @@ import org.junit.Test;
 import static net.bytebuddy.matcher.ElementMatchers.named;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
 
 public class FieldListForLoadedFieldTest {
 
@@ -32,6 +33,12 @@ public class FieldListForLoadedFieldTest {
         assertThat(fieldList.getOnly(), is((FieldDescription) new FieldDescription.ForLoadedField(Foo.class.getDeclaredField(FOO))));
     }
 
+    @Test
+    public void testFilteredFieldIsReadOnce() throws Exception {
+        fieldList = fieldList.filter(named(BAR));
+        assertThat(fieldList.getOnly(), sameInstance(fieldList.getOnly()));
+    }
+
     @Test(expected = IllegalStateException.class)
     public void testGetOnly() throws Exception {
         fieldList.getOnly();
@@ -1,10 +1,13 @@
 package net.bytebuddy.instrumentation.method;
 
+import net.bytebuddy.instrumentation.type.TypeDescription;
+import net.bytebuddy.instrumentation.type.TypeList;
 import org.junit.Test;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -26,6 +29,37 @@ public class MethodDescriptionForLoadedTest extends AbstractMethodDescriptionTes
         assertThat(new MethodDescription.ForLoadedMethod(method).getLoadedMethod(), sameInstance(method));
     }
 
+    @Test
+    public void testMethodPropertiesAreMemoized() throws Exception {
+        MethodDescription methodDescription = describe(Object.class.getDeclaredMethod("equals", Object.class));
+        assertThat(methodDescription.getDescriptor(), is("(Ljava/lang/Object;)Z"));
+        assertThat(methodDescription.getDescriptor(), sameInstance(methodDescription.getDescriptor()));
+        assertThat(methodDescription.getUniqueSignature(), is("equals(Ljava/lang/Object;)Z"));
+        assertThat(methodDescription.getUniqueSignature(), sameInstance(methodDescription.getUniqueSignature()));
+        int hashCode = hashCode(Object.class, "equals", boolean.class, Object.class);
+        assertThat(methodDescription.hashCode(), is(hashCode));
+        assertThat(methodDescription.hashCode(), is(hashCode));
+    }
+
+    @Test
+    public void testConstructorPropertiesAreMemoized() throws Exception {
+        MethodDescription methodDescription = describe(Object.class.getDeclaredConstructor());
+        assertThat(methodDescription.getDescriptor(), is("()V"));
+        assertThat(methodDescription.getDescriptor(), sameInstance(methodDescription.getDescriptor()));
+        assertThat(methodDescription.getUniqueSignature(), is("<init>()V"));
+        assertThat(methodDescription.getUniqueSignature(), sameInstance(methodDescription.getUniqueSignature()));
+        int hashCode = hashCode(Object.class, MethodDescription.CONSTRUCTOR_INTERNAL_NAME, void.class);
+        assertThat(methodDescription.hashCode(), is(hashCode));
+        assertThat(methodDescription.hashCode(), is(hashCode));
+    }
+
+    private static int hashCode(Class<?> declaringType, String internalName, Class<?> returnType, Class<?>... parameterType) {
+        int hashCode = new TypeDescription.ForLoadedType(declaringType).hashCode();
+        hashCode = 31 * hashCode + internalName.hashCode();
+        hashCode = 31 * hashCode + new TypeDescription.ForLoadedType(returnType).hashCode();
+        return 31 * hashCode + new TypeList.ForLoadedType(parameterType).hashCode();
+    }
+
     @Override
     protected boolean canReadDebugInformation() {
         return false;
@@ -9,6 +9,7 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
 
@@ -62,6 +63,16 @@ public class MethodDescriptionLatentTest extends AbstractMethodDescriptionTest {
         assertThat(typeInitializer.getModifiers(), is(MethodDescription.TYPE_INITIALIZER_MODIFIER));
     }
 
+    @Test
+    public void testPropertiesAreMemoized() throws Exception {
+        MethodDescription methodDescription = describe(Object.class.getDeclaredMethod("equals", Object.class));
+        assertThat(methodDescription.getDescriptor(), is("(Ljava/lang/Object;)Z"));
+        assertThat(methodDescription.getDescriptor(), sameInstance(methodDescription.getDescriptor()));
+        assertThat(methodDescription.getUniqueSignature(), is("equals(Ljava/lang/Object;)Z"));
+        assertThat(methodDescription.getUniqueSignature(), sameInstance(methodDescription.getUniqueSignature()));
+        assertThat(methodDescription.hashCode(), is(describe(Object.class.getDeclaredMethod("equals", Object.class)).hashCode()));
+    }
+
     @Override
     public void testParameterNameAndModifiers() throws Exception {
         assertThat(describe(Object.class.getDeclaredMethod("equals", Object.class)).getParameters().getOnly().getName(), is("arg0"));
@@ -11,6 +11,7 @@ import java.lang.reflect.Method;
 import static net.bytebuddy.matcher.ElementMatchers.isMethod;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
 
 public class MethodListForLoadedTypeTest {
 
@@ -43,6 +44,13 @@ public class MethodListForLoadedTypeTest {
         }
     }
 
+    @Test
+    public void testFilteredMethodIsReadOnce() throws Exception {
+        methodList = methodList.filter(isMethod());
+        assertThat(methodList.get(0), sameInstance(methodList.get(0)));
+        assertThat(methodList.filter(isMethod()).get(0), sameInstance(methodList.get(0)));
+    }
+
     @Test(expected = IllegalStateException.class)
     public void testGetOnly() throws Exception {
         methodList.getOnly();
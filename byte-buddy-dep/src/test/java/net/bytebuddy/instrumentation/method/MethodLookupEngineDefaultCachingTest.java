@@ -0,0 +1,168 @@
+package net.bytebuddy.instrumentation.method;
+
+import net.bytebuddy.instrumentation.type.TypeDescription;
+import net.bytebuddy.test.utility.MockitoRule;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.mockito.Mock;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.*;
+
+public class MethodLookupEngineDefaultCachingTest {
+
+    private static final String TO_STRING = "toString", FOO = "foo";
+
+    @Rule
+    public TestRule mockitoRule = new MockitoRule(this);
+
+    @Mock
+    private MethodLookupEngine.Default.HierarchyCache hierarchyCache;
+
+    private MethodLookupEngine.Default.HierarchyCache.Bounded boundedCache;
+
+    private MethodLookupEngine methodLookupEngine;
+
+    @Before
+    public void setUp() throws Exception {
+        boundedCache = new MethodLookupEngine.Default.HierarchyCache.Bounded(2);
+        methodLookupEngine = new MethodLookupEngine.Default.CachingFactory(boundedCache).make(true);
+    }
+
+    @Test
+    public void testCachedLookupEqualsUncachedLookup() throws Exception {
+        MethodLookupEngine defaultMethodLookupEngine = MethodLookupEngine.Default.Factory.INSTANCE.make(true);
+        for (Class<?> type : new Class<?>[]{Object.class, Base.class, Sub.class, OtherSub.class, SubSub.class}) {
+            TypeDescription typeDescription = new TypeDescription.ForLoadedType(type);
+            MethodLookupEngine.Finding cached = methodLookupEngine.process(typeDescription);
+            MethodLookupEngine.Finding uncached = defaultMethodLookupEngine.process(typeDescription);
+            assertThat(cached.getTypeDescription(), is(typeDescription));
+            assertThat(cached.getInvokableMethods().size(), is(uncached.getInvokableMethods().size()));
+            assertThat(cached.getInvokableMethods().containsAll(uncached.getInvokableMethods()), is(true));
+            assertThat(cached.getInvokableDefaultMethods(), is(uncached.getInvokableDefaultMethods()));
+        }
+    }
+
+    @Test
+    public void testOverrideIsResolvedAcrossCachedHierarchy() throws Exception {
+        TypeDescription base = new TypeDescription.ForLoadedType(Base.class);
+        TypeDescription sub = new TypeDescription.ForLoadedType(Sub.class);
+        TypeDescription subSub = new TypeDescription.ForLoadedType(SubSub.class);
+        methodLookupEngine.process(sub);
+        MethodDescription toString = methodLookupEngine.process(subSub).getInvokableMethods().filter(named(TO_STRING)).getOnly();
+        assertThat(toString.isSpecializableFor(subSub), is(true));
+        assertThat(toString.isSpecializableFor(new TypeDescription.ForLoadedType(Object.class)), is(true));
+        MethodDescription foo = methodLookupEngine.process(subSub).getInvokableMethods().filter(named(FOO)).getOnly();
+        assertThat(foo.isSpecializableFor(sub), is(true));
+        assertThat(foo.isSpecializableFor(base), is(true));
+    }
+
+    @Test
+    public void testHierarchyIsSharedBySubtypes() throws Exception {
+        TypeDescription base = new TypeDescription.ForLoadedType(Base.class);
+        TypeDescription sub = new TypeDescription.ForLoadedType(Sub.class);
+        TypeDescription otherSub = new TypeDescription.ForLoadedType(OtherSub.class);
+        assertThat(boundedCache.resolve(base, sub), sameInstance(boundedCache.resolve(base, otherSub)));
+    }
+
+    @Test
+    public void testBaseHierarchyIsResolvedOnceForSubclasses() throws Exception {
+        TypeDescription base = spy(new TypeDescription.ForLoadedType(Base.class));
+        TypeDescription sub = spy(new TypeDescription.ForLoadedType(Sub.class));
+        TypeDescription otherSub = spy(new TypeDescription.ForLoadedType(OtherSub.class));
+        doReturn(base).when(sub).getSupertype();
+        doReturn(base).when(otherSub).getSupertype();
+        TypeDescription typeOfInterest = new TypeDescription.ForLoadedType(SubSub.class);
+        MethodLookupEngine.Default.HierarchyCache.Bounded boundedCache = new MethodLookupEngine.Default.HierarchyCache.Bounded(3);
+        MethodDescription foo = boundedCache.resolve(sub, typeOfInterest).getClassMethods().get(FOO + "()V");
+        assertThat(foo.isSpecializableFor(sub), is(true));
+        assertThat(foo.isSpecializableFor(base), is(true));
+        assertThat(boundedCache.resolve(otherSub, typeOfInterest).getClassMethods().get(FOO + "()V").getDeclaringType(), is(base));
+        verify(base).getDeclaredMethods();
+        verify(sub).getDeclaredMethods();
+        verify(otherSub).getDeclaredMethods();
+    }
+
+    @Test
+    public void testHierarchyIsEvicted() throws Exception {
+        TypeDescription objectType = new TypeDescription.ForLoadedType(Object.class);
+        TypeDescription base = new TypeDescription.ForLoadedType(Base.class);
+        TypeDescription sub = new TypeDescription.ForLoadedType(Sub.class);
+        TypeDescription subSub = new TypeDescription.ForLoadedType(SubSub.class);
+        MethodLookupEngine.Default.Hierarchy hierarchy = boundedCache.resolve(objectType, base);
+        boundedCache.resolve(base, sub);
+        boundedCache.resolve(sub, subSub);
+        assertThat(boundedCache.resolve(objectType, base), not(sameInstance(hierarchy)));
+        assertThat(boundedCache.resolve(objectType, base), is(hierarchy));
+    }
+
+    @Test
+    public void testHierarchyIsClearable() throws Exception {
+        TypeDescription objectType = new TypeDescription.ForLoadedType(Object.class);
+        TypeDescription base = new TypeDescription.ForLoadedType(Base.class);
+        MethodLookupEngine.Default.Hierarchy hierarchy = boundedCache.resolve(objectType, base);
+        boundedCache.clear();
+        assertThat(boundedCache.resolve(objectType, base), not(sameInstance(hierarchy)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonPositiveCacheSizeThrowsException() throws Exception {
+        new MethodLookupEngine.Default.HierarchyCache.Bounded(0);
+    }
+
+    @Test
+    public void testHierarchyCacheIsQueriedForSupertype() throws Exception {
+        TypeDescription base = new TypeDescription.ForLoadedType(Base.class);
+        TypeDescription sub = new TypeDescription.ForLoadedType(Sub.class);
+        when(hierarchyCache.resolve(base, sub)).thenReturn(MethodLookupEngine.Default.Hierarchy.of(base, sub, MethodLookupEngine.Default.HierarchyCache.NoOp.INSTANCE));
+        new MethodLookupEngine.Default(MethodLookupEngine.Default.DefaultMethodLookup.ENABLED, hierarchyCache).process(sub);
+        verify(hierarchyCache).resolve(base, sub);
+        verifyNoMoreInteractions(hierarchyCache);
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(MethodLookupEngine.Default.CachingFactory.class).applyMutable();
+        ObjectPropertyAssertion.of(MethodLookupEngine.Default.Hierarchy.class).apply();
+        ObjectPropertyAssertion.of(MethodLookupEngine.Default.HierarchyCache.NoOp.class).apply();
+        ObjectPropertyAssertion.of(MethodLookupEngine.Default.HierarchyCache.Bounded.Key.class).apply();
+    }
+
+    public static class Base {
+
+        public void foo() {
+            /* empty */
+        }
+    }
+
+    public static class Sub extends Base {
+
+        @Override
+        public void foo() {
+            /* empty */
+        }
+
+        @Override
+        public String toString() {
+            return super.toString();
+        }
+    }
+
+    public static class OtherSub extends Base {
+
+        /* empty */
+    }
+
+    public static class SubSub extends Sub {
+
+        @Override
+        public String toString() {
+            return super.toString();
+        }
+    }
+}
@@ -9,6 +9,7 @@ import java.lang.annotation.RetentionPolicy;
 import static net.bytebuddy.matcher.ElementMatchers.isAnnotatedWith;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
 
 public class ParameterListForLoadedExecutableTest {
 
@@ -38,6 +39,26 @@ public class ParameterListForLoadedExecutableTest {
         assertThat(parameterList.size(), is(1));
     }
 
+    @Test
+    public void testFilteredParameterIsReadOnce() throws Exception {
+        parameterList = parameterList.filter(isAnnotatedWith(Bar.class));
+        assertThat(parameterList.getOnly(), sameInstance(parameterList.getOnly()));
+    }
+
+    @Test
+    public void testFilteredLegacyMethodParameterIsReadOnce() throws Exception {
+        parameterList = new ParameterList.ForLoadedExecutable.OfLegacyVmMethod(Foo.class.getDeclaredMethod(FOO, Void.class, Void.class))
+                .filter(isAnnotatedWith(Bar.class));
+        assertThat(parameterList.getOnly(), sameInstance(parameterList.getOnly()));
+    }
+
+    @Test
+    public void testFilteredLegacyConstructorParameterIsReadOnce() throws Exception {
+        parameterList = new ParameterList.ForLoadedExecutable.OfLegacyVmConstructor(Foo.class.getDeclaredConstructor(Void.class, Void.class))
+                .filter(isAnnotatedWith(Bar.class));
+        assertThat(parameterList.getOnly(), sameInstance(parameterList.getOnly()));
+    }
+
     @Test(expected = IllegalStateException.class)
     public void testGetOnly() throws Exception {
         parameterList.getOnly();
@@ -55,6 +76,10 @@ public class ParameterListForLoadedExecutableTest {
 
     private static class Foo {
 
+        private Foo(@Bar Void first, Void second) {
+            /* empty */
+        }
+
         private void foo(@Bar Void first, Void second) {
             /* empty */
         }
@@ -5,6 +5,7 @@ import net.bytebuddy.instrumentation.method.MethodLookupEngine;
 import net.bytebuddy.instrumentation.method.bytecode.bind.MethodDelegationBinder;
 import net.bytebuddy.instrumentation.method.bytecode.stack.assign.Assigner;
 import net.bytebuddy.instrumentation.type.TypeDescription;
+import net.bytebuddy.instrumentation.type.auxiliary.AuxiliaryType;
 import net.bytebuddy.test.utility.ObjectPropertyAssertion;
 import org.junit.Before;
 import org.junit.Test;
@@ -35,7 +36,7 @@ public class PipeBinderTest extends AbstractAnnotationBinderTest<Pipe> {
     public void setUp() throws Exception {
         super.setUp();
         when(targetMethod.getDeclaringType()).thenReturn(targetMethodType);
-        binder = new Pipe.Binder(targetMethod);
+        binder = new Pipe.Binder(targetMethod, AuxiliaryType.Registry.NoOp.INSTANCE);
     }
 
     @Override
@@ -88,32 +89,43 @@ public class PipeBinderTest extends AbstractAnnotationBinderTest<Pipe> {
     @Test
     public void testRedirectionHashCodeEquals() throws Exception {
         MethodDescription sourceMethod = mock(MethodDescription.class);
+        AuxiliaryType.Registry registry = mock(AuxiliaryType.Registry.class);
         Assigner assigner = mock(Assigner.class);
         MethodLookupEngine.Factory factory = mock(MethodLookupEngine.Factory.class);
         Pipe.Binder.Redirection redirection = new Pipe.Binder.Redirection(targetMethodType,
                 sourceMethod,
                 assigner,
                 false,
-                factory);
+                factory,
+                registry,
+                false);
         assertThat(redirection.hashCode(), is(new Pipe.Binder.Redirection(targetMethodType,
                 sourceMethod,
                 assigner,
                 false,
-                factory).hashCode()));
+                factory,
+                registry,
+                false).hashCode()));
         assertThat(redirection, is(new Pipe.Binder.Redirection(targetMethodType,
                 sourceMethod,
                 assigner,
                 false,
-                factory)));
+                factory,
+                registry,
+                false)));
         assertThat(redirection.hashCode(), not(is(new Pipe.Binder.Redirection(targetMethodType,
                 sourceMethod,
                 assigner,
                 true,
-                factory).hashCode())));
+                factory,
+                registry,
+                false).hashCode())));
         assertThat(redirection, not(is(new Pipe.Binder.Redirection(targetMethodType,
                 sourceMethod,
                 assigner,
                 true,
-                factory))));
+                factory,
+                registry,
+                false))));
     }
 }
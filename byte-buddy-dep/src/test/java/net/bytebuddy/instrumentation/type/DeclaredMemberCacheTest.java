@@ -0,0 +1,87 @@
+package net.bytebuddy.instrumentation.type;
+
+import net.bytebuddy.dynamic.loading.ByteArrayClassLoader;
+import net.bytebuddy.instrumentation.field.FieldList;
+import net.bytebuddy.instrumentation.method.MethodList;
+import net.bytebuddy.test.utility.ClassFileExtraction;
+import org.junit.Test;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class DeclaredMemberCacheTest {
+
+    @Test
+    public void testDeclaredFields() throws Exception {
+        DeclaredMemberCache declaredMemberCache = new DeclaredMemberCache();
+        FieldList fieldList = declaredMemberCache.getDeclaredFields(Foo.class);
+        assertThat(fieldList, is((FieldList) new FieldList.ForLoadedField(Foo.class.getDeclaredFields())));
+        assertThat(declaredMemberCache.getDeclaredFields(Foo.class), sameInstance(fieldList));
+        assertThat(declaredMemberCache.size(), is(1));
+    }
+
+    @Test
+    public void testDeclaredMethods() throws Exception {
+        DeclaredMemberCache declaredMemberCache = new DeclaredMemberCache();
+        MethodList methodList = declaredMemberCache.getDeclaredMethods(Foo.class);
+        assertThat(methodList, is((MethodList) new MethodList.ForLoadedType(Foo.class)));
+        assertThat(declaredMemberCache.getDeclaredMethods(Foo.class), sameInstance(methodList));
+        assertThat(declaredMemberCache.getDeclaredMethods(Object.class), not(methodList));
+        assertThat(declaredMemberCache.size(), is(2));
+    }
+
+    @Test
+    public void testClear() throws Exception {
+        DeclaredMemberCache declaredMemberCache = new DeclaredMemberCache();
+        MethodList methodList = declaredMemberCache.getDeclaredMethods(Foo.class);
+        declaredMemberCache.getDeclaredFields(Foo.class);
+        declaredMemberCache.clear();
+        assertThat(declaredMemberCache.size(), is(0));
+        assertThat(declaredMemberCache.getDeclaredMethods(Foo.class), not(sameInstance(methodList)));
+    }
+
+    @Test
+    public void testLoadedTypeUsesSharedCache() throws Exception {
+        assertThat(new TypeDescription.ForLoadedType(Foo.class).getDeclaredMethods(),
+                sameInstance(DeclaredMemberCache.SHARED.getDeclaredMethods(Foo.class)));
+        assertThat(new TypeDescription.ForLoadedType(Foo.class).getDeclaredFields(),
+                sameInstance(DeclaredMemberCache.SHARED.getDeclaredFields(Foo.class)));
+    }
+
+    @Test
+    public void testTypeIsNotRetained() throws Exception {
+        DeclaredMemberCache declaredMemberCache = new DeclaredMemberCache();
+        ClassLoader classLoader = new ByteArrayClassLoader(null,
+                Collections.singletonMap(Foo.class.getName(), ClassFileExtraction.extract(Foo.class)),
+                null,
+                ByteArrayClassLoader.PersistenceHandler.MANIFEST);
+        Class<?> type = classLoader.loadClass(Foo.class.getName());
+        declaredMemberCache.getDeclaredFields(type);
+        declaredMemberCache.getDeclaredMethods(type);
+        Reference<ClassLoader> reference = new WeakReference<ClassLoader>(classLoader);
+        classLoader = null;
+        type = null;
+        for (int index = 0; index < 10 && reference.get() != null; index++) {
+            System.gc();
+            Thread.sleep(10L);
+        }
+        assertThat(reference.get(), nullValue(ClassLoader.class));
+    }
+
+    @SuppressWarnings("unused")
+    private static class Foo {
+
+        private Object foo;
+
+        private void foo() {
+            /* empty */
+        }
+    }
+}
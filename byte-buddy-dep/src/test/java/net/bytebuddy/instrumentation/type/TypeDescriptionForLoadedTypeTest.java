@@ -1,9 +1,24 @@
 package net.bytebuddy.instrumentation.type;
 
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
 public class TypeDescriptionForLoadedTypeTest extends AbstractTypeDescriptionTest {
 
     @Override
     protected TypeDescription describe(Class<?> type) {
         return new TypeDescription.ForLoadedType(type);
     }
+
+    @Test
+    public void testNamesAreMemoized() throws Exception {
+        TypeDescription typeDescription = describe(Object.class);
+        assertThat(typeDescription.getInternalName(), is("java/lang/Object"));
+        assertThat(typeDescription.getInternalName(), sameInstance(typeDescription.getInternalName()));
+        assertThat(typeDescription.getDescriptor(), is("Ljava/lang/Object;"));
+        assertThat(typeDescription.getDescriptor(), sameInstance(typeDescription.getDescriptor()));
+    }
 }
@@ -9,6 +9,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsEqual.equalTo;
 import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.IsSame.sameInstance;
 
 public class TypeListForLoadedTypeTest {
 
@@ -43,6 +44,12 @@ public class TypeListForLoadedTypeTest {
         assertThat(typeList.getOnly(), is((TypeDescription) new TypeDescription.ForLoadedType(Object.class)));
     }
 
+    @Test
+    public void testFilteredTypeIsReadOnce() throws Exception {
+        typeList = typeList.filter(ElementMatchers.is(Integer.class));
+        assertThat(typeList.getOnly(), sameInstance(typeList.getOnly()));
+    }
+
     @Test(expected = IllegalStateException.class)
     public void testGetOnly() throws Exception {
         typeList.getOnly();
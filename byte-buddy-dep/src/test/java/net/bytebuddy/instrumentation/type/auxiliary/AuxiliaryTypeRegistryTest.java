@@ -0,0 +1,98 @@
+package net.bytebuddy.instrumentation.type.auxiliary;
+
+import net.bytebuddy.ClassFileVersion;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.test.utility.MockitoRule;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.mockito.Mock;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class AuxiliaryTypeRegistryTest {
+
+    private static final String FOO = "foo.Foo", BAR = "foo.Bar", QUX = "qux.Qux";
+
+    @Rule
+    public TestRule mockitoRule = new MockitoRule(this);
+
+    @Mock
+    private AuxiliaryType auxiliaryType;
+
+    @Mock
+    private ClassFileVersion classFileVersion;
+
+    @Mock
+    private AuxiliaryType.MethodAccessorFactory methodAccessorFactory;
+
+    @Mock
+    private DynamicType first, second;
+
+    @Before
+    public void setUp() throws Exception {
+        when(auxiliaryType.make(anyString(), any(ClassFileVersion.class), any(AuxiliaryType.MethodAccessorFactory.class)))
+                .thenReturn(first, second);
+    }
+
+    @Test
+    public void testNoOpDoesNotShare() throws Exception {
+        assertThat(AuxiliaryType.Registry.NoOp.INSTANCE.resolve(auxiliaryType), is(auxiliaryType));
+    }
+
+    @Test
+    public void testSharingWithinPackage() throws Exception {
+        AuxiliaryType.Registry.Sharing sharing = new AuxiliaryType.Registry.Sharing();
+        assertThat(sharing.resolve(auxiliaryType).make(FOO, classFileVersion, methodAccessorFactory), is(first));
+        assertThat(sharing.resolve(auxiliaryType).make(BAR, classFileVersion, methodAccessorFactory), is(first));
+        assertThat(sharing.size(), is(1));
+        verify(auxiliaryType).make(FOO, classFileVersion, AuxiliaryType.MethodAccessorFactory.Illegal.INSTANCE);
+        verifyNoMoreInteractions(auxiliaryType);
+        verifyZeroInteractions(methodAccessorFactory);
+    }
+
+    @Test
+    public void testNoSharingAmongPackages() throws Exception {
+        AuxiliaryType.Registry.Sharing sharing = new AuxiliaryType.Registry.Sharing();
+        assertThat(sharing.resolve(auxiliaryType).make(FOO, classFileVersion, methodAccessorFactory), is(first));
+        assertThat(sharing.resolve(auxiliaryType).make(QUX, classFileVersion, methodAccessorFactory), is(second));
+        assertThat(sharing.size(), is(2));
+    }
+
+    @Test
+    public void testNoSharingAmongClassFileVersions() throws Exception {
+        AuxiliaryType.Registry.Sharing sharing = new AuxiliaryType.Registry.Sharing();
+        assertThat(sharing.resolve(auxiliaryType).make(FOO, classFileVersion, methodAccessorFactory), is(first));
+        assertThat(sharing.resolve(auxiliaryType).make(BAR, mock(ClassFileVersion.class), methodAccessorFactory), is(second));
+    }
+
+    @Test
+    public void testClear() throws Exception {
+        AuxiliaryType.Registry.Sharing sharing = new AuxiliaryType.Registry.Sharing();
+        assertThat(sharing.resolve(auxiliaryType).make(FOO, classFileVersion, methodAccessorFactory), is(first));
+        sharing.clear();
+        assertThat(sharing.size(), is(0));
+        assertThat(sharing.resolve(auxiliaryType).make(FOO, classFileVersion, methodAccessorFactory), is(second));
+    }
+
+    @Test
+    public void testSharedTypesOfDifferentRegistriesAreNotEqual() throws Exception {
+        assertThat(new AuxiliaryType.Registry.Sharing().resolve(auxiliaryType),
+                not(is(new AuxiliaryType.Registry.Sharing().resolve(auxiliaryType))));
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(AuxiliaryType.Registry.NoOp.class).apply();
+        ObjectPropertyAssertion.of(AuxiliaryType.Registry.Sharing.class).applyMutable();
+        ObjectPropertyAssertion.of(AuxiliaryType.Registry.Sharing.Shape.class).apply();
+        ObjectPropertyAssertion.of(AuxiliaryType.Registry.Sharing.Shared.class).apply();
+    }
+}
@@ -0,0 +1,108 @@
+package net.bytebuddy.matcher;
+
+import net.bytebuddy.instrumentation.type.TypeDescription;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static net.bytebuddy.matcher.ElementMatchers.nameStartsWith;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.when;
+
+public class CompiledStringMatcherTest extends AbstractElementMatcherTest<CompiledStringMatcher> {
+
+    private static final String FOO = "foo", BAR = "bar", QUX = "qux";
+
+    @Mock
+    private TypeDescription typeDescription;
+
+    @Mock
+    private ElementMatcher<TypeDescription> elementMatcher;
+
+    private int index;
+
+    public CompiledStringMatcherTest() {
+        super(CompiledStringMatcher.class, "compiled");
+    }
+
+    @Test
+    public void testModes() throws Exception {
+        for (StringMatcher.Mode mode : StringMatcher.Mode.values()) {
+            for (String value : Arrays.asList("", "f", "o", "fo", "oo", "foo", "fooo", "FO", "OO", "bar", "[a-z]+")) {
+                StringMatcher stringMatcher = new StringMatcher(value, mode);
+                CompiledStringMatcher compiledStringMatcher = new CompiledStringMatcher(Collections.singletonList(stringMatcher));
+                for (String target : Arrays.asList("", FOO, "FOO", "foobar", "barfoo", "bfoob")) {
+                    assertThat(mode + " " + value + " " + target, compiledStringMatcher.matches(target), is(stringMatcher.matches(target)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testPrefixesAreNotMatchedAsInfixes() throws Exception {
+        CompiledStringMatcher compiledStringMatcher = new CompiledStringMatcher(Arrays.asList(new StringMatcher("baa", StringMatcher.Mode.STARTS_WITH),
+                new StringMatcher("a", StringMatcher.Mode.STARTS_WITH)));
+        assertThat(compiledStringMatcher.matches("ba"), is(false));
+        assertThat(compiledStringMatcher.matches("baab"), is(true));
+        assertThat(compiledStringMatcher.matches("ab"), is(true));
+    }
+
+    @Test
+    public void testInfixesOverlap() throws Exception {
+        CompiledStringMatcher compiledStringMatcher = new CompiledStringMatcher(Arrays.asList(new StringMatcher("abcd", StringMatcher.Mode.CONTAINS),
+                new StringMatcher("bce", StringMatcher.Mode.CONTAINS)));
+        assertThat(compiledStringMatcher.matches("xabcex"), is(true));
+        assertThat(compiledStringMatcher.matches("xabcdx"), is(true));
+        assertThat(compiledStringMatcher.matches("xabcx"), is(false));
+    }
+
+    @Test
+    public void testCompileDisjunctionOfStringMatchers() throws Exception {
+        ElementMatcher.Junction<String> matcher = ElementMatchers.compile(new StringMatcher(FOO, StringMatcher.Mode.STARTS_WITH)
+                .or(new StringMatcher(BAR, StringMatcher.Mode.ENDS_WITH)));
+        assertThat(matcher, is((ElementMatcher<String>) new CompiledStringMatcher(Arrays.asList(new StringMatcher(FOO, StringMatcher.Mode.STARTS_WITH),
+                new StringMatcher(BAR, StringMatcher.Mode.ENDS_WITH)))));
+        assertThat(matcher.matches(FOO + QUX), is(true));
+        assertThat(matcher.matches(QUX + BAR), is(true));
+        assertThat(matcher.matches(QUX), is(false));
+    }
+
+    @Test
+    public void testCompileDisjunctionOfNameMatchers() throws Exception {
+        ElementMatcher.Junction<TypeDescription> matcher = ElementMatchers.compile(ElementMatchers.<TypeDescription>named(FOO)
+                .or(nameStartsWith(BAR))
+                .or(elementMatcher));
+        assertThat(matcher, is((ElementMatcher<TypeDescription>) new ElementMatcher.Junction.Disjunction<TypeDescription>(
+                new NameMatcher<TypeDescription>(new CompiledStringMatcher(Arrays.asList(new StringMatcher(FOO, StringMatcher.Mode.EQUALS_FULLY),
+                        new StringMatcher(BAR, StringMatcher.Mode.STARTS_WITH)))),
+                elementMatcher)));
+        when(typeDescription.getSourceCodeName()).thenReturn(BAR + QUX);
+        assertThat(matcher.matches(typeDescription), is(true));
+    }
+
+    @Test
+    public void testCondition() throws Exception {
+        assertThat(new CompiledStringMatcher(Arrays.asList(new StringMatcher(FOO, StringMatcher.Mode.EQUALS_FULLY),
+                new StringMatcher(BAR, StringMatcher.Mode.EQUALS_FULLY))).getCondition(),
+                is(new ElementMatcher.Indexable.Condition(ElementMatcher.Indexable.Property.VALUE, Collections.singleton(FOO))
+                        .or(ElementMatcher.Indexable.Condition.ofValue(BAR))));
+        assertThat(new CompiledStringMatcher(Arrays.asList(new StringMatcher(FOO, StringMatcher.Mode.EQUALS_FULLY),
+                new StringMatcher(BAR, StringMatcher.Mode.STARTS_WITH))).getCondition(), nullValue(ElementMatcher.Indexable.Condition.class));
+    }
+
+    @Override
+    protected <S> ObjectPropertyAssertion<S> modify(ObjectPropertyAssertion<S> propertyAssertion) {
+        return propertyAssertion.create(new ObjectPropertyAssertion.Creator<List<?>>() {
+            @Override
+            public List<?> create() {
+                return Collections.singletonList(new StringMatcher(FOO + index++, StringMatcher.Mode.STARTS_WITH));
+            }
+        });
+    }
+}
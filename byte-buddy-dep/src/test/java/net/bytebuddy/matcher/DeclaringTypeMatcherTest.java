@@ -5,6 +5,8 @@ import net.bytebuddy.instrumentation.type.TypeDescription;
 import org.junit.Test;
 import org.mockito.Mock;
 
+import java.util.Collections;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.*;
@@ -54,4 +56,11 @@ public class DeclaringTypeMatcherTest extends AbstractElementMatcherTest<Declari
         verify(declaredInType).getDeclaringType();
         verifyNoMoreInteractions(declaredInType);
     }
+
+    @Test
+    public void testCondition() throws Exception {
+        assertThat(new DeclaringTypeMatcher<DeclaredInType>(new EqualityMatcher<TypeDescription>(typeDescription)).getCondition(),
+                is(new ElementMatcher.Indexable.Condition(ElementMatcher.Indexable.Property.DECLARING_TYPE, Collections.singleton(typeDescription))));
+        assertThat(new DeclaringTypeMatcher<DeclaredInType>(typeMatcher).getCondition(), nullValue(ElementMatcher.Indexable.Condition.class));
+    }
 }
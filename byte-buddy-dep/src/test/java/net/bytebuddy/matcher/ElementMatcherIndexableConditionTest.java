@@ -0,0 +1,72 @@
+package net.bytebuddy.matcher;
+
+import net.bytebuddy.instrumentation.method.MethodDescription;
+import net.bytebuddy.instrumentation.type.TypeDescription;
+import net.bytebuddy.test.utility.MockitoRule;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.mockito.Mock;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.when;
+
+public class ElementMatcherIndexableConditionTest {
+
+    private static final String FOO = "foo", BAR = "bar";
+
+    @Rule
+    public TestRule mockitoRule = new MockitoRule(this);
+
+    @Mock
+    private MethodDescription methodDescription;
+
+    @Mock
+    private TypeDescription declaringType, returnType;
+
+    @Test
+    public void testOnProperty() throws Exception {
+        assertThat(ElementMatcher.Indexable.Condition.ofValue(FOO).onProperty(ElementMatcher.Indexable.Property.NAME),
+                is(new ElementMatcher.Indexable.Condition(ElementMatcher.Indexable.Property.NAME, Collections.singleton(FOO))));
+        assertThat(new ElementMatcher.Indexable.Condition(ElementMatcher.Indexable.Property.NAME, Collections.singleton(FOO))
+                .onProperty(ElementMatcher.Indexable.Property.RETURN_TYPE), nullValue(ElementMatcher.Indexable.Condition.class));
+    }
+
+    @Test
+    public void testDisjunction() throws Exception {
+        assertThat(ElementMatcher.Indexable.Condition.ofValue(FOO).or(ElementMatcher.Indexable.Condition.ofValue(BAR)),
+                is(new ElementMatcher.Indexable.Condition(ElementMatcher.Indexable.Property.VALUE, new HashSet<Object>(Arrays.asList(FOO, BAR)))));
+        assertThat(ElementMatcher.Indexable.Condition.ofValue(FOO).or(new ElementMatcher.Indexable.Condition(ElementMatcher.Indexable.Property.NAME,
+                Collections.singleton(BAR))), nullValue(ElementMatcher.Indexable.Condition.class));
+    }
+
+    @Test
+    public void testConditionOfMatcher() throws Exception {
+        assertThat(ElementMatcher.Indexable.Condition.of(new EqualityMatcher<Object>(FOO)), is(ElementMatcher.Indexable.Condition.ofValue(FOO)));
+        assertThat(ElementMatcher.Indexable.Condition.of(new NullMatcher<Object>()), nullValue(ElementMatcher.Indexable.Condition.class));
+    }
+
+    @Test
+    public void testPropertyResolution() throws Exception {
+        when(methodDescription.getSourceCodeName()).thenReturn(FOO);
+        when(methodDescription.getDeclaringType()).thenReturn(declaringType);
+        when(methodDescription.getReturnType()).thenReturn(returnType);
+        assertThat(ElementMatcher.Indexable.Property.VALUE.resolve(methodDescription), is((Object) methodDescription));
+        assertThat(ElementMatcher.Indexable.Property.NAME.resolve(methodDescription), is((Object) FOO));
+        assertThat(ElementMatcher.Indexable.Property.DECLARING_TYPE.resolve(methodDescription), is((Object) declaringType));
+        assertThat(ElementMatcher.Indexable.Property.RETURN_TYPE.resolve(methodDescription), is((Object) returnType));
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(ElementMatcher.Indexable.Condition.class).apply();
+        ObjectPropertyAssertion.of(ElementMatcher.Indexable.Property.class).apply();
+    }
+}
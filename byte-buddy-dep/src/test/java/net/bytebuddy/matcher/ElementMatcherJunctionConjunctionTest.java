@@ -3,6 +3,7 @@ package net.bytebuddy.matcher;
 import org.junit.Test;
 import org.mockito.Mock;
 
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.*;
@@ -55,4 +56,15 @@ public class ElementMatcherJunctionConjunctionTest extends AbstractElementMatche
     protected String makeRegex(String startsWith) {
         return "^(.* and .*)$";
     }
+
+    @Test
+    public void testCondition() throws Exception {
+        Object value = new Object();
+        assertThat(new ElementMatcher.Junction.Conjunction<Object>(first, new EqualityMatcher<Object>(value)).getCondition(),
+                is(ElementMatcher.Indexable.Condition.ofValue(value)));
+        assertThat(new ElementMatcher.Junction.Conjunction<Object>(new EqualityMatcher<Object>(value), second).getCondition(),
+                is(ElementMatcher.Indexable.Condition.ofValue(value)));
+        assertThat(new ElementMatcher.Junction.Conjunction<Object>(first, second).getCondition(),
+                nullValue(ElementMatcher.Indexable.Condition.class));
+    }
 }
@@ -3,6 +3,10 @@ package net.bytebuddy.matcher;
 import org.junit.Test;
 import org.mockito.Mock;
 
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.*;
@@ -55,4 +59,15 @@ public class ElementMatcherJunctionDisjunctionTest extends AbstractElementMatche
     protected String makeRegex(String startsWith) {
         return "^(.* or .*)$";
     }
+
+    @Test
+    public void testCondition() throws Exception {
+        Object value = new Object(), other = new Object();
+        assertThat(new ElementMatcher.Junction.Disjunction<Object>(new EqualityMatcher<Object>(value), new EqualityMatcher<Object>(other)).getCondition(),
+                is(new ElementMatcher.Indexable.Condition(ElementMatcher.Indexable.Property.VALUE, new HashSet<Object>(Arrays.asList(value, other)))));
+        assertThat(new ElementMatcher.Junction.Disjunction<Object>(first, new EqualityMatcher<Object>(value)).getCondition(),
+                nullValue(ElementMatcher.Indexable.Condition.class));
+        assertThat(new ElementMatcher.Junction.Disjunction<Object>(new EqualityMatcher<Object>(value), second).getCondition(),
+                nullValue(ElementMatcher.Indexable.Condition.class));
+    }
 }
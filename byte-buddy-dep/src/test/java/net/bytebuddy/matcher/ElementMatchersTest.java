@@ -33,7 +33,7 @@ import static org.mockito.Mockito.*;
 
 public class ElementMatchersTest {
 
-    private static final String FOO = "foo", BAR = "bar";
+    private static final String FOO = "foo", BAR = "bar", QUX = "qux";
 
     private static final String SINGLE_DEFAULT_METHOD = "net.bytebuddy.test.precompiled.SingleDefaultMethodInterface";
 
@@ -819,6 +819,20 @@ public class ElementMatchersTest {
         assertThat(ElementMatchers.isParentOf(mock(ClassLoader.class)).matches(null), is(true));
     }
 
+    @Test
+    public void testIsNameCandidate() throws Exception {
+        assertThat(ElementMatchers.isNameCandidate(ElementMatchers.named(FOO), FOO), is(true));
+        assertThat(ElementMatchers.isNameCandidate(ElementMatchers.named(FOO), BAR), is(false));
+        assertThat(ElementMatchers.isNameCandidate(ElementMatchers.<TypeDescription>named(FOO).and(ElementMatchers.<TypeDescription>isPublic()), BAR), is(false));
+        assertThat(ElementMatchers.isNameCandidate(ElementMatchers.<TypeDescription>isPublic().and(ElementMatchers.named(FOO)), FOO), is(true));
+        assertThat(ElementMatchers.isNameCandidate(ElementMatchers.named(FOO).or(ElementMatchers.nameStartsWith(BAR)), BAR + FOO), is(true));
+        assertThat(ElementMatchers.isNameCandidate(ElementMatchers.named(FOO).or(ElementMatchers.nameStartsWith(BAR)), FOO + BAR), is(false));
+        assertThat(ElementMatchers.isNameCandidate(ElementMatchers.<TypeDescription>named(FOO).or(ElementMatchers.<TypeDescription>isPublic()), BAR), is(true));
+        assertThat(ElementMatchers.isNameCandidate(ElementMatchers.not(ElementMatchers.named(FOO)), FOO), is(true));
+        assertThat(ElementMatchers.isNameCandidate(ElementMatchers.compile(ElementMatchers.named(FOO).or(ElementMatchers.named(BAR))), BAR), is(true));
+        assertThat(ElementMatchers.isNameCandidate(ElementMatchers.compile(ElementMatchers.named(FOO).or(ElementMatchers.named(BAR))), QUX), is(false));
+    }
+
     @Test(expected = UnsupportedOperationException.class)
     public void testConstructorIsHidden() throws Exception {
         assertThat(Modifier.isPrivate(ElementMatchers.class.getDeclaredConstructor().getModifiers()), is(true));
@@ -22,4 +22,10 @@ public class EqualityMatcherTest extends AbstractElementMatcherTest<EqualityMatc
     public void testNoMatch() throws Exception {
         assertThat(new EqualityMatcher<Object>(new Object()).matches(new Object()), is(false));
     }
+
+    @Test
+    public void testCondition() throws Exception {
+        Object target = new Object();
+        assertThat(new EqualityMatcher<Object>(target).getCondition(), is(ElementMatcher.Indexable.Condition.ofValue(target)));
+    }
 }
@@ -0,0 +1,96 @@
+package net.bytebuddy.matcher;
+
+import net.bytebuddy.instrumentation.method.MethodDescription;
+import net.bytebuddy.instrumentation.method.MethodList;
+import net.bytebuddy.test.utility.MockitoRule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.mockito.Mock;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.*;
+
+public class FilterableListAbstractBaseTest {
+
+    @Rule
+    public TestRule mockitoRule = new MockitoRule(this);
+
+    @Mock
+    private MethodDescription first, second, third;
+
+    @Mock
+    private ElementMatcher<? super MethodDescription> matcher, otherMatcher;
+
+    private MethodList methodList;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        methodList = new MethodList.Explicit(Arrays.asList(first, second, third));
+        when(matcher.matches(first)).thenReturn(true);
+        when(matcher.matches(third)).thenReturn(true);
+        when(otherMatcher.matches(third)).thenReturn(true);
+    }
+
+    @Test
+    public void testFilterIsLazy() throws Exception {
+        MethodList filtered = methodList.filter(matcher);
+        verifyZeroInteractions(matcher);
+        assertThat(filtered.size(), is(2));
+        assertThat(filtered.get(0), is(first));
+        assertThat(filtered.get(1), is(third));
+        verify(matcher).matches(first);
+        verify(matcher).matches(second);
+        verify(matcher).matches(third);
+        verifyNoMoreInteractions(matcher);
+    }
+
+    @Test
+    public void testFilterIsComposed() throws Exception {
+        MethodList filtered = methodList.filter(matcher).filter(otherMatcher);
+        verifyZeroInteractions(matcher);
+        verifyZeroInteractions(otherMatcher);
+        assertThat(filtered.getOnly(), is(third));
+        verify(otherMatcher).matches(first);
+        verify(otherMatcher).matches(third);
+        verifyNoMoreInteractions(otherMatcher);
+    }
+
+    @Test
+    public void testFilterIsComposedInReverseOrder() throws Exception {
+        assertThat(methodList.filter(otherMatcher).filter(matcher).getOnly(), is(third));
+    }
+
+    @Test
+    public void testFilterNoneMatched() throws Exception {
+        assertThat(methodList.filter(ElementMatchers.none()).isEmpty(), is(true));
+    }
+
+    @Test
+    public void testFilterReadsEachElementOnce() throws Exception {
+        MethodList methodList = spy(this.methodList);
+        MethodList filtered = methodList.filter(matcher);
+        assertThat(filtered.get(0), is(first));
+        assertThat(filtered.get(0), is(first));
+        assertThat(filtered.get(1), is(third));
+        verify(methodList).get(0);
+        verify(methodList).get(1);
+        verify(methodList).get(2);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testFilterIndexOutOfBounds() throws Exception {
+        methodList.filter(matcher).get(2);
+    }
+
+    @Test
+    public void testFilterEquality() throws Exception {
+        assertThat(methodList.filter(matcher), is((MethodList) new MethodList.Explicit(Arrays.asList(first, third))));
+        assertThat(methodList.filter(matcher).hashCode(), is(new MethodList.Explicit(Arrays.asList(first, third)).hashCode()));
+    }
+}
@@ -20,6 +20,9 @@ public class InheritedAnnotationMatcherTest extends AbstractElementMatcherTest<I
     @Mock
     private AnnotationList annotationList;
 
+    @Mock
+    private TypeHierarchy typeHierarchy;
+
     @SuppressWarnings("unchecked")
     public InheritedAnnotationMatcherTest() {
         super((Class<InheritedAnnotationMatcher<?>>) (Object) InheritedAnnotationMatcher.class, "inheritsAnnotations");
@@ -46,4 +49,16 @@ public class InheritedAnnotationMatcherTest extends AbstractElementMatcherTest<I
         verify(typeDescription).getInheritedAnnotations();
         verifyNoMoreInteractions(typeDescription);
     }
+
+    @Test
+    public void testMatchByTypeHierarchy() throws Exception {
+        when(typeHierarchy.getInheritedAnnotations(typeDescription)).thenReturn(annotationList);
+        when(annotationMatcher.matches(annotationList)).thenReturn(true);
+        assertThat(new InheritedAnnotationMatcher<TypeDescription>(annotationMatcher, typeHierarchy).matches(typeDescription), is(true));
+        verify(annotationMatcher).matches(annotationList);
+        verifyNoMoreInteractions(annotationMatcher);
+        verify(typeHierarchy).getInheritedAnnotations(typeDescription);
+        verifyNoMoreInteractions(typeHierarchy);
+        verifyZeroInteractions(typeDescription);
+    }
 }
@@ -6,6 +6,8 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 
+import java.util.Collections;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.*;
@@ -46,4 +48,11 @@ public class MethodReturnTypeMatcherTest extends AbstractElementMatcherTest<Meth
         verify(typeMatcher).matches(returnType);
         verifyNoMoreInteractions(typeMatcher);
     }
+
+    @Test
+    public void testCondition() throws Exception {
+        assertThat(new MethodReturnTypeMatcher<MethodDescription>(new EqualityMatcher<TypeDescription>(returnType)).getCondition(),
+                is(new ElementMatcher.Indexable.Condition(ElementMatcher.Indexable.Property.RETURN_TYPE, Collections.singleton(returnType))));
+        assertThat(new MethodReturnTypeMatcher<MethodDescription>(typeMatcher).getCondition(), nullValue(ElementMatcher.Indexable.Condition.class));
+    }
 }
@@ -5,6 +5,8 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 
+import java.util.Collections;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.*;
@@ -44,4 +46,11 @@ public class NameMatcherTest extends AbstractElementMatcherTest<NameMatcher<?>>
         verify(nameMatcher).matches(FOO);
         verifyNoMoreInteractions(nameMatcher);
     }
+
+    @Test
+    public void testCondition() throws Exception {
+        assertThat(new NameMatcher<NamedElement>(new StringMatcher(FOO, StringMatcher.Mode.EQUALS_FULLY)).getCondition(),
+                is(new ElementMatcher.Indexable.Condition(ElementMatcher.Indexable.Property.NAME, Collections.singleton(FOO))));
+        assertThat(new NameMatcher<NamedElement>(nameMatcher).getCondition(), nullValue(ElementMatcher.Indexable.Condition.class));
+    }
 }
@@ -10,6 +10,7 @@ import org.mockito.Mock;
 import java.util.Arrays;
 import java.util.Collection;
 
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.startsWith;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -67,4 +68,11 @@ public class StringMatcherTest extends AbstractElementMatcherTest<StringMatcher>
     public void testToString() throws Exception {
         assertThat(new StringMatcher(FOO, mode).toString(), startsWith(mode.getDescription()));
     }
+
+    @Test
+    public void testCondition() throws Exception {
+        assertThat(new StringMatcher(FOO, mode).getCondition(), mode == StringMatcher.Mode.EQUALS_FULLY
+                ? is(ElementMatcher.Indexable.Condition.ofValue(FOO))
+                : nullValue(ElementMatcher.Indexable.Condition.class));
+    }
 }
@@ -13,6 +13,9 @@ public class SubTypeMatcherTest extends AbstractElementMatcherTest<SubTypeMatche
     @Mock
     private TypeDescription typeDescription, otherType;
 
+    @Mock
+    private TypeHierarchy typeHierarchy;
+
     @SuppressWarnings("unchecked")
     public SubTypeMatcherTest() {
         super((Class<? extends SubTypeMatcher<?>>) (Object) SubTypeMatcher.class, "isSubTypeOf");
@@ -35,4 +38,14 @@ public class SubTypeMatcherTest extends AbstractElementMatcherTest<SubTypeMatche
         verifyNoMoreInteractions(otherType);
         verifyZeroInteractions(typeDescription);
     }
+
+    @Test
+    public void testMatchByTypeHierarchy() throws Exception {
+        when(typeHierarchy.isSubTypeOf(otherType, typeDescription)).thenReturn(true);
+        assertThat(new SubTypeMatcher<TypeDescription>(typeDescription, typeHierarchy).matches(otherType), is(true));
+        verify(typeHierarchy).isSubTypeOf(otherType, typeDescription);
+        verifyNoMoreInteractions(typeHierarchy);
+        verifyZeroInteractions(otherType);
+        verifyZeroInteractions(typeDescription);
+    }
 }
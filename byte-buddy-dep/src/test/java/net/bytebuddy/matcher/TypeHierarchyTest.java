@@ -0,0 +1,124 @@
+package net.bytebuddy.matcher;
+
+import net.bytebuddy.instrumentation.type.TypeDescription;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.Test;
+
+import java.io.Serializable;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.*;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class TypeHierarchyTest {
+
+    private static final Class<?>[] TYPES = new Class<?>[]{Object.class,
+            String.class,
+            CharSequence.class,
+            Comparable.class,
+            Serializable.class,
+            ArrayList.class,
+            AbstractList.class,
+            List.class,
+            Collection.class,
+            Iterable.class,
+            RandomAccess.class,
+            Cloneable.class,
+            Foo.class,
+            Bar.class,
+            Qux.class,
+            int.class,
+            int[].class,
+            Object[].class,
+            String[].class};
+
+    @Test
+    public void testDirectSubType() throws Exception {
+        assertMatchesClassAssignability(TypeHierarchy.Direct.INSTANCE);
+    }
+
+    @Test
+    public void testIndexedSubType() throws Exception {
+        TypeHierarchy.Indexed typeHierarchy = new TypeHierarchy.Indexed();
+        assertMatchesClassAssignability(typeHierarchy);
+        assertThat(typeHierarchy.size() > 0, is(true));
+        typeHierarchy.clear();
+        assertThat(typeHierarchy.size(), is(0));
+        assertThat(typeHierarchy.toString(), containsString("identifiers=0"));
+        assertMatchesClassAssignability(typeHierarchy);
+    }
+
+    @Test
+    public void testIndexedSuperTypesAreShared() throws Exception {
+        TypeHierarchy.Indexed typeHierarchy = new TypeHierarchy.Indexed();
+        assertThat(typeHierarchy.isSubTypeOf(new TypeDescription.ForLoadedType(Qux.class), new TypeDescription.ForLoadedType(Foo.class)), is(true));
+        int size = typeHierarchy.size();
+        assertThat(typeHierarchy.isSubTypeOf(new TypeDescription.ForLoadedType(Bar.class), new TypeDescription.ForLoadedType(Foo.class)), is(true));
+        assertThat(typeHierarchy.size(), is(size));
+    }
+
+    @Test
+    public void testDirectInheritedAnnotations() throws Exception {
+        assertInheritedAnnotations(TypeHierarchy.Direct.INSTANCE);
+    }
+
+    @Test
+    public void testIndexedInheritedAnnotations() throws Exception {
+        TypeHierarchy.Indexed typeHierarchy = new TypeHierarchy.Indexed();
+        assertInheritedAnnotations(typeHierarchy);
+        assertInheritedAnnotations(typeHierarchy);
+    }
+
+    private static void assertMatchesClassAssignability(TypeHierarchy typeHierarchy) {
+        for (Class<?> subType : TYPES) {
+            for (Class<?> superType : TYPES) {
+                assertThat(subType + " to " + superType, typeHierarchy.isSubTypeOf(new TypeDescription.ForLoadedType(subType),
+                        new TypeDescription.ForLoadedType(superType)), is(superType.isAssignableFrom(subType)));
+            }
+        }
+    }
+
+    private static void assertInheritedAnnotations(TypeHierarchy typeHierarchy) {
+        assertThat(typeHierarchy.getInheritedAnnotations(new TypeDescription.ForLoadedType(Foo.class)).size(), is(1));
+        assertThat(typeHierarchy.getInheritedAnnotations(new TypeDescription.ForLoadedType(Bar.class)).size(), is(1));
+        assertThat(typeHierarchy.getInheritedAnnotations(new TypeDescription.ForLoadedType(Qux.class)).size(), is(2));
+        assertThat(typeHierarchy.getInheritedAnnotations(new TypeDescription.ForLoadedType(Qux.class))
+                .isAnnotationPresent(Baz.class), is(true));
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(TypeHierarchy.Direct.class).apply();
+        ObjectPropertyAssertion.of(TypeHierarchy.Indexed.class).applyMutable();
+        ObjectPropertyAssertion.of(TypeHierarchy.Indexed.Index.class).applyMutable();
+    }
+
+    @Inherited
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Baz {
+        /* empty */
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Quux {
+        /* empty */
+    }
+
+    @Baz
+    public static class Foo implements Serializable {
+        /* empty */
+    }
+
+    public static class Bar extends Foo implements RandomAccess {
+        /* empty */
+    }
+
+    @Quux
+    public static class Qux extends Bar {
+        /* empty */
+    }
+}
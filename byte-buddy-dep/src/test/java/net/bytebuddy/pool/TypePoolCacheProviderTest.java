@@ -14,7 +14,7 @@ import static org.mockito.Mockito.mock;
 
 public class TypePoolCacheProviderTest {
 
-    private static final String FOO = "foo";
+    private static final String FOO = "foo", BAR = "bar", QUX = "qux";
 
     @Rule
     public TestRule mockitoRule = new MockitoRule(this);
@@ -45,9 +45,41 @@ public class TypePoolCacheProviderTest {
         assertThat(simple.find(FOO), sameInstance(resolution));
     }
 
+    @Test
+    public void testBounded() throws Exception {
+        TypePool.CacheProvider bounded = new TypePool.CacheProvider.Bounded(2);
+        assertThat(bounded.find(FOO), nullValue(TypePool.Resolution.class));
+        assertThat(bounded.register(FOO, resolution), sameInstance(resolution));
+        assertThat(bounded.find(FOO), sameInstance(resolution));
+        TypePool.Resolution resolution = mock(TypePool.Resolution.class);
+        assertThat(bounded.register(FOO, resolution), sameInstance(this.resolution));
+        assertThat(bounded.find(FOO), sameInstance(this.resolution));
+        bounded.clear();
+        assertThat(bounded.find(FOO), nullValue(TypePool.Resolution.class));
+    }
+
+    @Test
+    public void testBoundedEvictsLeastRecentlyUsed() throws Exception {
+        TypePool.CacheProvider bounded = new TypePool.CacheProvider.Bounded(2);
+        TypePool.Resolution first = mock(TypePool.Resolution.class), second = mock(TypePool.Resolution.class);
+        bounded.register(BAR, first);
+        bounded.register(QUX, second);
+        assertThat(bounded.find(BAR), sameInstance(first));
+        bounded.register(FOO, resolution);
+        assertThat(bounded.find(QUX), nullValue(TypePool.Resolution.class));
+        assertThat(bounded.find(BAR), sameInstance(first));
+        assertThat(bounded.find(FOO), sameInstance(resolution));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBoundedIllegalSize() throws Exception {
+        new TypePool.CacheProvider.Bounded(0);
+    }
+
     @Test
     public void testSimpleObjectProperties() throws Exception {
         ObjectPropertyAssertion.of(TypePool.CacheProvider.NoOp.class).apply();
         ObjectPropertyAssertion.of(TypePool.CacheProvider.Simple.class).applyMutable();
+        ObjectPropertyAssertion.of(TypePool.CacheProvider.Bounded.class).applyMutable();
     }
 }
@@ -1,11 +1,16 @@
 package net.bytebuddy.pool;
 
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.instrumentation.type.TypeDescription;
 import net.bytebuddy.test.utility.ObjectPropertyAssertion;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.objectweb.asm.ClassReader;
 
+import static net.bytebuddy.matcher.ElementMatchers.named;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.fail;
 
@@ -36,8 +41,45 @@ public class TypePoolDefaultTest {
         fail();
     }
 
+    @Test
+    public void testFastReaderModeDescribesStructure() throws Exception {
+        TypePool typePool = new TypePool.Default(TypePool.CacheProvider.NoOp.INSTANCE,
+                ClassFileLocator.ForClassLoader.ofClassPath(),
+                TypePool.Default.ReaderMode.FAST);
+        TypeDescription typeDescription = typePool.describe(Sample.class.getName()).resolve();
+        assertThat(typeDescription, is((TypeDescription) new TypeDescription.ForLoadedType(Sample.class)));
+        assertThat(typeDescription.getDeclaredMethods(), is(new TypeDescription.ForLoadedType(Sample.class).getDeclaredMethods()));
+        assertThat(typeDescription.getDeclaredFields(), is(new TypeDescription.ForLoadedType(Sample.class).getDeclaredFields()));
+        assertThat(typeDescription.getDeclaredAnnotations(), is(new TypeDescription.ForLoadedType(Sample.class).getDeclaredAnnotations()));
+    }
+
+    @Test
+    public void testDescriptorsAreInterned() throws Exception {
+        TypeDescription typeDescription = typePool.describe(Sample.class.getName()).resolve();
+        assertThat(typeDescription.getDeclaredFields().getOnly().getDescriptor(), sameInstance("Ljava/lang/Object;".intern()));
+        assertThat(typeDescription.getDeclaredMethods().filter(named("bar")).getOnly().getDescriptor(),
+                sameInstance("(ILjava/lang/Object;)Ljava/lang/Object;".intern()));
+    }
+
+    @Test
+    public void testReaderModeFlags() throws Exception {
+        assertThat(TypePool.Default.ReaderMode.EXTENDED.getFlags(), is(ClassReader.SKIP_FRAMES));
+        assertThat(TypePool.Default.ReaderMode.FAST.getFlags(), is(ClassReader.SKIP_CODE));
+    }
+
     @Test
     public void testObjectProperties() throws Exception {
         ObjectPropertyAssertion.of(TypePool.Default.class).apply();
+        ObjectPropertyAssertion.of(TypePool.Default.ReaderMode.class).apply();
+    }
+
+    @Deprecated
+    public static class Sample {
+
+        protected Object foo;
+
+        public Object bar(int qux, Object baz) {
+            return baz;
+        }
     }
 }
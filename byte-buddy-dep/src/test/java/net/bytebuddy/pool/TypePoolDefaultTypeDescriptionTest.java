@@ -4,6 +4,12 @@ import net.bytebuddy.instrumentation.type.AbstractTypeDescriptionTest;
 import net.bytebuddy.instrumentation.type.TypeDescription;
 import org.junit.After;
 import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
 
 public class TypePoolDefaultTypeDescriptionTest extends AbstractTypeDescriptionTest {
 
@@ -23,4 +29,13 @@ public class TypePoolDefaultTypeDescriptionTest extends AbstractTypeDescriptionT
     protected TypeDescription describe(Class<?> type) {
         return typePool.describe(type.getName()).resolve();
     }
+
+    @Test
+    public void testNamesAreMemoized() throws Exception {
+        TypeDescription typeDescription = describe(Object.class);
+        assertThat(typeDescription, instanceOf(TypePool.LazyTypeDescription.class));
+        assertThat(typeDescription.getInternalName(), is("java/lang/Object"));
+        assertThat(typeDescription.getDescriptor(), is("Ljava/lang/Object;"));
+        assertThat(typeDescription.getDescriptor(), sameInstance(typeDescription.getDescriptor()));
+    }
 }
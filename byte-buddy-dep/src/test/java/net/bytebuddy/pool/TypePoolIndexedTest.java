@@ -0,0 +1,198 @@
+package net.bytebuddy.pool;
+
+import net.bytebuddy.instrumentation.method.MethodDescription;
+import net.bytebuddy.instrumentation.type.TypeDescription;
+import net.bytebuddy.matcher.ElementMatchers;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.objectweb.asm.Opcodes;
+
+import java.io.File;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class TypePoolIndexedTest {
+
+    private static final String FOO = "foo", BAR = "bar";
+
+    private File file;
+
+    @Before
+    public void setUp() throws Exception {
+        file = File.createTempFile(FOO, BAR);
+        assertThat(file.delete(), is(true));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        assertThat(!file.exists() || file.delete(), is(true));
+    }
+
+    @Test
+    public void testIndexIsPersisted() throws Exception {
+        TypePool.Indexed.Index index = TypePool.Indexed.Index.open(file, TypePool.Default.ReaderMode.EXTENDED);
+        assertThat(index.size(), is(0));
+        TypePool typePool = new TypePool.Indexed(new TypePool.CacheProvider.Simple(), getClass().getClassLoader(), index);
+        assertThat(typePool.describe(Sample.class.getName()).resolve(), is((TypeDescription) new TypeDescription.ForLoadedType(Sample.class)));
+        assertThat(index.size(), is(1));
+        index.write();
+        TypePool.Indexed.Index persistedIndex = TypePool.Indexed.Index.open(file, TypePool.Default.ReaderMode.EXTENDED);
+        assertThat(persistedIndex.size(), is(1));
+        assertThat(persistedIndex, is(index));
+        TypeDescription typeDescription = new TypePool.Indexed(new TypePool.CacheProvider.Simple(), getClass().getClassLoader(), persistedIndex)
+                .describe(Sample.class.getName())
+                .resolve();
+        TypeDescription loadedType = new TypeDescription.ForLoadedType(Sample.class);
+        assertThat(typeDescription, is(loadedType));
+        assertThat(typeDescription.getModifiers(), is(loadedType.getModifiers()));
+        assertThat(typeDescription.isMemberClass(), is(true));
+        assertThat(typeDescription.getDeclaringType(), is((TypeDescription) new TypeDescription.ForLoadedType(TypePoolIndexedTest.class)));
+        assertThat(typeDescription.getInterfaces(), is(loadedType.getInterfaces()));
+        assertThat(typeDescription.getDeclaredAnnotations(), is(loadedType.getDeclaredAnnotations()));
+        assertThat(typeDescription.getDeclaredFields().getOnly(), is(loadedType.getDeclaredFields().getOnly()));
+        assertThat(typeDescription.getDeclaredFields().getOnly().getDeclaredAnnotations(),
+                is(loadedType.getDeclaredFields().getOnly().getDeclaredAnnotations()));
+        Method method = Sample.class.getDeclaredMethod(BAR, int.class, Object.class);
+        MethodDescription methodDescription = typeDescription.getDeclaredMethods().filter(ElementMatchers.is(method)).getOnly();
+        assertThat(methodDescription.getDeclaredAnnotations(), is(new MethodDescription.ForLoadedMethod(method).getDeclaredAnnotations()));
+        assertThat(methodDescription.getExceptionTypes(), is(new MethodDescription.ForLoadedMethod(method).getExceptionTypes()));
+        assertThat(methodDescription.getParameters().get(0).getDeclaredAnnotations(),
+                is(new MethodDescription.ForLoadedMethod(method).getParameters().get(0).getDeclaredAnnotations()));
+        assertThat(methodDescription.getParameters().get(1).getDeclaredAnnotations().size(), is(0));
+    }
+
+    @Test
+    public void testDefaultValuesArePersisted() throws Exception {
+        TypePool.Indexed.Index index = TypePool.Indexed.Index.open(file, TypePool.Default.ReaderMode.FAST);
+        new TypePool.Indexed(new TypePool.CacheProvider.Simple(), getClass().getClassLoader(), index).describe(SampleAnnotation.class.getName());
+        index.write();
+        TypeDescription typeDescription = new TypePool.Indexed(new TypePool.CacheProvider.Simple(),
+                getClass().getClassLoader(),
+                TypePool.Indexed.Index.open(file, TypePool.Default.ReaderMode.FAST)).describe(SampleAnnotation.class.getName()).resolve();
+        for (Method method : SampleAnnotation.class.getDeclaredMethods()) {
+            assertThat(typeDescription.getDeclaredMethods().filter(ElementMatchers.is(method)).getOnly().getDefaultValue(),
+                    is(new MethodDescription.ForLoadedMethod(method).getDefaultValue()));
+        }
+    }
+
+    @Test
+    public void testOtherReaderModeIsIgnored() throws Exception {
+        TypePool.Indexed.Index index = TypePool.Indexed.Index.open(file, TypePool.Default.ReaderMode.EXTENDED);
+        new TypePool.Indexed(new TypePool.CacheProvider.Simple(), getClass().getClassLoader(), index).describe(Sample.class.getName());
+        index.write();
+        assertThat(TypePool.Indexed.Index.open(file, TypePool.Default.ReaderMode.EXTENDED).size(), is(1));
+        assertThat(TypePool.Indexed.Index.open(file, TypePool.Default.ReaderMode.FAST).size(), is(0));
+    }
+
+    @Test
+    public void testChangedTimestampIsIgnored() throws Exception {
+        TypePool.Indexed.Index index = TypePool.Indexed.Index.open(file, TypePool.Default.ReaderMode.EXTENDED);
+        TypePool typePool = new TypePool.Indexed(new TypePool.CacheProvider.Simple(), getClass().getClassLoader(), index);
+        index.register(FOO, new TypePool.Indexed.Index.Stamp(BAR, 1L), (TypePool.LazyTypeDescription) typePool.describe(Sample.class.getName()).resolve());
+        assertThat(index.read(typePool, FOO, new TypePool.Indexed.Index.Stamp(BAR, 1L)), is((TypeDescription) new TypeDescription.ForLoadedType(Sample.class)));
+        assertThat(index.read(typePool, FOO, new TypePool.Indexed.Index.Stamp(BAR, 2L)), nullValue(TypeDescription.class));
+        assertThat(index.read(typePool, FOO, new TypePool.Indexed.Index.Stamp(FOO, 1L)), nullValue(TypeDescription.class));
+    }
+
+    @Test
+    public void testCorruptEntryIsReparsed() throws Exception {
+        TypePool.Indexed.Index index = TypePool.Indexed.Index.open(file, TypePool.Default.ReaderMode.EXTENDED);
+        TypePool.Indexed typePool = new TypePool.Indexed(new TypePool.CacheProvider.Simple(), getClass().getClassLoader(), index);
+        TypePool.Indexed.Index.Stamp stamp = typePool.locate(Sample.class.getName());
+        TypePool.Indexed.Index corruptIndex = new TypePool.Indexed.Index(file,
+                TypePool.Default.ReaderMode.EXTENDED,
+                Collections.singletonMap(stamp.toKey(Sample.class.getName()),
+                        new TypePool.Indexed.Index.Entry(stamp.getTimestamp(), ByteBuffer.wrap(new byte[]{1, 2, 3}))));
+        TypePool corruptTypePool = new TypePool.Indexed(new TypePool.CacheProvider.Simple(), getClass().getClassLoader(), corruptIndex);
+        assertThat(corruptIndex.read(corruptTypePool, Sample.class.getName(), stamp), nullValue(TypeDescription.class));
+        assertThat(corruptTypePool.describe(Sample.class.getName()).resolve(), is((TypeDescription) new TypeDescription.ForLoadedType(Sample.class)));
+        assertThat(corruptIndex.read(corruptTypePool, Sample.class.getName(), stamp), is((TypeDescription) new TypeDescription.ForLoadedType(Sample.class)));
+    }
+
+    @Test
+    public void testUnrepresentableTypeIsNotRegistered() throws Exception {
+        TypePool.Indexed.Index index = TypePool.Indexed.Index.open(file, TypePool.Default.ReaderMode.EXTENDED);
+        TypePool typePool = new TypePool.Indexed(new TypePool.CacheProvider.Simple(), getClass().getClassLoader(), index);
+        char[] name = new char[1 << 16];
+        Arrays.fill(name, 'a');
+        index.register(FOO, new TypePool.Indexed.Index.Stamp(BAR, 1L), new TypePool.LazyTypeDescription(typePool,
+                Opcodes.ACC_PUBLIC,
+                new String(name),
+                null,
+                null,
+                null,
+                TypePool.LazyTypeDescription.DeclarationContext.SelfDeclared.INSTANCE,
+                false,
+                Collections.<TypePool.LazyTypeDescription.AnnotationToken>emptyList(),
+                Collections.<TypePool.LazyTypeDescription.FieldToken>emptyList(),
+                Collections.<TypePool.LazyTypeDescription.MethodToken>emptyList()));
+        assertThat(index.size(), is(0));
+        assertThat(index.read(typePool, FOO, new TypePool.Indexed.Index.Stamp(BAR, 1L)), nullValue(TypeDescription.class));
+    }
+
+    @Test
+    public void testStampOfClassFile() throws Exception {
+        TypePool.Indexed typePool = new TypePool.Indexed(new TypePool.CacheProvider.Simple(),
+                getClass().getClassLoader(),
+                TypePool.Indexed.Index.open(file, TypePool.Default.ReaderMode.EXTENDED));
+        assertThat(typePool.locate(Sample.class.getName()), notNullValue(TypePool.Indexed.Index.Stamp.class));
+        assertThat(typePool.locate(FOO), nullValue(TypePool.Indexed.Index.Stamp.class));
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(TypePool.Indexed.Index.Stamp.class).apply();
+        ObjectPropertyAssertion.of(TypePool.Indexed.Index.DeclarationContextSort.class).apply();
+        ObjectPropertyAssertion.of(TypePool.Indexed.Index.AnnotationValueSort.class).apply();
+        ObjectPropertyAssertion.of(TypePool.Indexed.Index.ConstantSort.class).apply();
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface SampleAnnotation {
+
+        int foo() default 42;
+
+        int[] bar() default {1, 2};
+
+        String qux() default FOO;
+
+        String[] baz() default {FOO, BAR};
+
+        ElementType type() default ElementType.TYPE;
+
+        ElementType[] types() default {ElementType.TYPE, ElementType.FIELD};
+
+        Class<?> value() default Object.class;
+
+        Class<?>[] values() default {int.class, Object[].class};
+
+        Retention retention() default @Retention(RetentionPolicy.CLASS);
+    }
+
+    @SampleAnnotation(foo = 1, bar = {3}, qux = BAR, baz = {}, type = ElementType.METHOD, values = {void.class})
+    public static class Sample implements Runnable {
+
+        @SampleAnnotation(retention = @Retention(RetentionPolicy.SOURCE))
+        protected Object foo;
+
+        @Deprecated
+        public Object bar(@SampleAnnotation int qux, Object baz) throws Exception {
+            return baz;
+        }
+
+        @Override
+        public void run() {
+            /* empty */
+        }
+    }
+}
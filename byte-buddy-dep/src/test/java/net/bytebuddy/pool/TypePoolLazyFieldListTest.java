@@ -11,6 +11,7 @@ import java.util.Collections;
 import static net.bytebuddy.matcher.ElementMatchers.named;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
 
 public class TypePoolLazyFieldListTest {
 
@@ -42,6 +43,12 @@ public class TypePoolLazyFieldListTest {
         assertThat(fieldDescription, is(is((FieldDescription) new FieldDescription.ForLoadedField(Sample.class.getDeclaredField("first")))));
     }
 
+    @Test
+    public void testFilteredFieldListRetainsDescriptions() throws Exception {
+        FieldList filteredFieldList = fieldList.filter(named("first"));
+        assertThat(filteredFieldList.getOnly(), sameInstance(filteredFieldList.getOnly()));
+    }
+
     @Test(expected = IllegalStateException.class)
     public void testNamedIllegal() throws Exception {
         fieldList.filter(named("foo")).getOnly();
@@ -9,8 +9,10 @@ import org.junit.Test;
 
 import java.util.Collections;
 
+import static net.bytebuddy.matcher.ElementMatchers.named;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -49,6 +51,12 @@ public class TypePoolLazyMethodListTest {
         assertThat(methodList.getOnly(), is(methodList.get(0)));
     }
 
+    @Test
+    public void testFilteredMethodListRetainsDescriptions() throws Exception {
+        MethodList filteredMethodList = methodList.filter(named("first"));
+        assertThat(filteredMethodList.getOnly(), sameInstance(filteredMethodList.getOnly()));
+    }
+
     @Test(expected = IllegalStateException.class)
     public void testGetOnly() throws Exception {
         methodList.getOnly();
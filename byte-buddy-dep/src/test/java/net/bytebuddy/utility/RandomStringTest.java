@@ -2,6 +2,8 @@ package net.bytebuddy.utility;
 
 import org.junit.Test;
 
+import java.util.Random;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -24,8 +26,26 @@ public class RandomStringTest {
         assertThat(randomString.nextString(), not(randomString.nextString()));
     }
 
+    @Test
+    public void testSeededRandomStringIsReproducible() throws Exception {
+        assertThat(new RandomString(LENGTH, new Random(42L)).nextString(), is(new RandomString(LENGTH, new Random(42L)).nextString()));
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testNegativeLengthThrowsException() throws Exception {
         new RandomString(-1);
     }
+
+    @Test
+    public void testHashValueIsFixed() throws Exception {
+        assertThat(RandomString.hashOf(42), is(RandomString.hashOf(42)));
+        assertThat(RandomString.hashOf(42).length(), is(RandomString.hashOf(-1).length()));
+    }
+
+    @Test
+    public void testHashValueIsDistinct() throws Exception {
+        assertThat(RandomString.hashOf(0), not(RandomString.hashOf(1)));
+        assertThat(RandomString.hashOf(1), not(RandomString.hashOf(1 << 31)));
+        assertThat(RandomString.hashOf(-1), not(RandomString.hashOf(Integer.MAX_VALUE)));
+    }
 }
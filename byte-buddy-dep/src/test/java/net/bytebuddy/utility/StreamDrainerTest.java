@@ -16,8 +16,52 @@ public class StreamDrainerTest {
         assertThat(new StreamDrainer(1).drain(new ByteArrayInputStream(input)), is(input));
     }
 
+    @Test
+    public void testDrainageWithKnownSize() throws Exception {
+        byte[] input = new byte[]{1, 2, 3, 4};
+        assertThat(new StreamDrainer().drain(new ByteArrayInputStream(input), input.length), is(input));
+    }
+
+    @Test
+    public void testDrainageWithUnderestimatedSize() throws Exception {
+        byte[] input = new byte[]{1, 2, 3, 4};
+        assertThat(new StreamDrainer().drain(new ByteArrayInputStream(input), 1), is(input));
+        assertThat(new StreamDrainer().drain(new ByteArrayInputStream(input), 0), is(input));
+    }
+
+    @Test
+    public void testDrainageWithOverestimatedSize() throws Exception {
+        byte[] input = new byte[]{1, 2, 3, 4};
+        assertThat(new StreamDrainer().drain(new ByteArrayInputStream(input), 10), is(input));
+    }
+
+    @Test
+    public void testDrainageWithoutAvailableBytes() throws Exception {
+        byte[] input = new byte[]{1, 2, 3, 4, 5};
+        assertThat(new StreamDrainer(2).drain(new UnavailableInputStream(input)), is(input));
+        assertThat(new StreamDrainer(0).drain(new UnavailableInputStream(input)), is(input));
+    }
+
+    @Test
+    public void testDrainageOfEmptyStream() throws Exception {
+        assertThat(new StreamDrainer().drain(new ByteArrayInputStream(new byte[0])), is(new byte[0]));
+        assertThat(new StreamDrainer(0).drain(new UnavailableInputStream(new byte[0])), is(new byte[0]));
+    }
+
     @Test
     public void testObjectProperties() throws Exception {
         ObjectPropertyAssertion.of(StreamDrainer.class).apply();
     }
+
+    private static class UnavailableInputStream extends ByteArrayInputStream {
+
+        private UnavailableInputStream(byte[] binaryRepresentation) {
+            super(binaryRepresentation);
+        }
+
+        @Override
+        public synchronized int available() {
+            return 0;
+        }
+    }
 }